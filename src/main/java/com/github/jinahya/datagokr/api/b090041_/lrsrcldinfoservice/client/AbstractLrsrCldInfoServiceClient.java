@@ -1,6 +1,9 @@
 package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
 
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar.CalendarData;
 import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.adapter.Format02dIntegerAdapter;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
@@ -8,16 +11,22 @@ import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
 
+import javax.validation.constraints.NotNull;
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.time.LocalDate;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
 
-import static java.lang.String.format;
-import static java.util.Optional.ofNullable;
+import static java.util.Objects.requireNonNull;
 
 /**
  * An abstract parent class for client classes.
@@ -118,6 +127,28 @@ public abstract class AbstractLrsrCldInfoServiceClient {
      */
     public static final String QUERY_PARAM_NAME_PAGE_NO = "pageNo";
 
+    /**
+     * A query parameter name for the number of rows per page. The value is {@value}.
+     */
+    public static final String QUERY_PARAM_NAME_NUM_OF_ROWS = "numOfRows";
+
+    /**
+     * The default value of {@link #QUERY_PARAM_NAME_NUM_OF_ROWS ?numOfRows} of the service. The value is {@value}.
+     */
+    static final int QUERY_PARAM_VALUE_NUM_OF_ROWS_DEFAULT = 10;
+
+    /**
+     * A query parameter name for the representation of responses. The value is {@value}.
+     *
+     * @see #QUERY_PARAM_VALUE_TYPE_JSON
+     */
+    public static final String QUERY_PARAM_NAME_TYPE = "_type";
+
+    /**
+     * A value of {@link #QUERY_PARAM_NAME_TYPE ?_type} for the JSON representation. The value is {@value}.
+     */
+    public static final String QUERY_PARAM_VALUE_TYPE_JSON = "json";
+
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
@@ -147,9 +178,19 @@ public abstract class AbstractLrsrCldInfoServiceClient {
      * @return a formatted string.
      */
     static String format02d(final Integer parsed) {
-        return ofNullable(parsed).map(v -> format("%1$02d", v)).orElse(null);
+        return parsed == null ? null : Format02dIntegerAdapter.format02d(parsed);
     }
 
+    /**
+     * A flag indicates whether a JAXB implementation is available, in which case the bare instances of clients read
+     * responses with pooled unmarshallers.
+     *
+     * @see LrsrCldInfoServiceJaxbMessageConverter
+     * @see LrsrCldInfoServiceJaxbDecoder
+     */
+    static final boolean JAXB_PRESENT
+            = ClassUtils.isPresent("javax.xml.bind.Binder", AbstractLrsrCldInfoServiceClient.class.getClassLoader());
+
     // -------------------------------------------------------------------------------------------- injection qualifiers
 
     /**
@@ -165,6 +206,181 @@ public abstract class AbstractLrsrCldInfoServiceClient {
 
     }
 
+    /**
+     * An injection qualifier for the {@link LrsrCldInfoServiceWireFormat representation} in which responses are
+     * requested.
+     *
+     * @see AbstractLrsrCldInfoServiceClient#setWireFormat(LrsrCldInfoServiceWireFormat)
+     */
+    @Qualifier
+    @Documented
+    @Target({ElementType.FIELD, ElementType.METHOD, ElementType.TYPE, ElementType.PARAMETER})
+    @Retention(RetentionPolicy.RUNTIME)
+    public @interface LrsrCldInfoServiceWireFormatQualifier {
+
+    }
+
+    // ---------------------------------------------------------------------------------------------------- date ranges
+
+    /**
+     * A part of a range of solar dates which is read with a single query to {@code /getLunCalInfo}.
+     */
+    static final class SolarSegment {
+
+        private SolarSegment(final YearMonth month, final Integer day, final LocalDate from, final LocalDate to) {
+            super();
+            this.month = month;
+            this.day = day;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * Indicates whether specified item, of this segment's query, is in the range of this segment.
+         *
+         * @param item the item.
+         * @return {@code true} if {@code item} is in the range; {@code false} otherwise.
+         */
+        boolean contains(final Item item) {
+            final LocalDate solarDate = item.getSolarDate();
+            return !solarDate.isBefore(from) && !solarDate.isAfter(to);
+        }
+
+        /**
+         * The solar year-month of this segment.
+         */
+        final YearMonth month;
+
+        /**
+         * The solar day of this segment; {@code null} for a whole, or a part of, {@link #month}.
+         */
+        final Integer day;
+
+        /**
+         * The first solar date of this segment.
+         */
+        final LocalDate from;
+
+        /**
+         * The last solar date of this segment.
+         */
+        final LocalDate to;
+    }
+
+    /**
+     * Splits specified range of solar dates into segments, in solar order, each of which is read with a single query.
+     * A part of a month is read with queries for each day when it is cheaper than reading all pages of the month.
+     *
+     * @param from the first solar date, inclusive.
+     * @param to   the last solar date, inclusive.
+     * @return a list of segments.
+     */
+    List<SolarSegment> solarSegments(@NotNull final LocalDate from, @NotNull final LocalDate to) {
+        requireNonNull(from, "from is null");
+        requireNonNull(to, "to is null");
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("to(" + to + ") is before from(" + from + ")");
+        }
+        final List<SolarSegment> segments = new ArrayList<>();
+        for (YearMonth month = YearMonth.from(from); !month.isAfter(YearMonth.from(to)); month = month.plusMonths(1L)) {
+            final LocalDate first = month.equals(YearMonth.from(from)) ? from : month.atDay(1);
+            final LocalDate last = month.equals(YearMonth.from(to)) ? to : month.atEndOfMonth();
+            final int days = last.getDayOfMonth() - first.getDayOfMonth() + 1;
+            if (days < monthlyPages(month)) {
+                for (LocalDate date = first; !date.isAfter(last); date = date.plusDays(1L)) {
+                    segments.add(new SolarSegment(month, date.getDayOfMonth(), date, date));
+                }
+                continue;
+            }
+            segments.add(new SolarSegment(month, null, first, last));
+        }
+        return segments;
+    }
+
+    /**
+     * Returns the number of queries for reading all items of specified solar month.
+     *
+     * @param month the solar month.
+     * @return the number of queries for {@code month}; {@code 1} if the month is covered by the {@link #itemCache()
+     * item cache}.
+     */
+    private int monthlyPages(final YearMonth month) {
+        final LrsrCldInfoServiceItemCache itemCache = itemCache();
+        if (itemCache != null && itemCache.covers(month)) {
+            return 1;
+        }
+        final LrsrCldInfoServicePageSize pageSize = pageSize();
+        final int numOfRows = pageSize == null ? QUERY_PARAM_VALUE_NUM_OF_ROWS_DEFAULT : pageSize.numOfRows();
+        return (month.lengthOfMonth() + numOfRows - 1) / numOfRows;
+    }
+
+    /**
+     * Answers specified request from local data while the {@link #circuitBreaker() circuit breaker} is open. The
+     * {@link #responseCache() response cache}, regardless of expirations, the {@link #itemCache() item cache}, and the
+     * {@link #fallbackCalendarData() calendar dataset} are consulted in that order.
+     *
+     * @param request the request.
+     * @return a response {@link Response#isFallback() flagged as a fallback}; {@code null} if no local data answers the
+     * {@code request}.
+     */
+    protected @Nullable Response fallback(@NotNull final LrsrCldInfoServiceRequest request) {
+        requireNonNull(request, "request is null");
+        final Response answered = answer(request);
+        if (answered == null) {
+            return null;
+        }
+        final Response response = new Response(); // cached responses are shared
+        response.setHeader(answered.getHeader());
+        response.setBody(answered.getBody());
+        response.setFallback(true);
+        return response;
+    }
+
+    private Response answer(final LrsrCldInfoServiceRequest request) {
+        final LrsrCldInfoServiceResponseCache responseCache = responseCache();
+        if (responseCache != null) {
+            final Response stale = responseCache.getStale(request);
+            if (stale != null) {
+                return stale;
+            }
+        }
+        final LrsrCldInfoServiceItemCache itemCache = itemCache();
+        if (itemCache != null && PATH_SEGMENT_GET_LUN_CAL_INFO.equals(request.pathSegment())) {
+            final YearMonth month = YearMonth.of(request.year(), request.month());
+            final List<Item> items = itemCache.get(
+                    month, request.day() == LrsrCldInfoServiceRequest.ABSENT ? null : request.day());
+            if (items != null) {
+                return LrsrCldInfoServiceLocalResponses.response(items, request);
+            }
+        }
+        final CalendarData calendarData = fallbackCalendarData();
+        if (calendarData != null) {
+            return LrsrCldInfoServiceLocalResponses.response(calendarData, request);
+        }
+        return null;
+    }
+
+    /**
+     * Indicates whether responses are requested in the {@link LrsrCldInfoServiceWireFormat#JSON JSON} representation.
+     *
+     * @return {@code true} if the {@link #wireFormat() wire format} is JSON; {@code false} otherwise.
+     * @see #QUERY_PARAM_NAME_TYPE
+     */
+    protected boolean isJson() {
+        return wireFormat() == LrsrCldInfoServiceWireFormat.JSON;
+    }
+
+    /**
+     * Replaces the representation in which responses are requested, e.g., for choosing it for this client only, or
+     * outside of spring. Should be invoked before this client is used.
+     *
+     * @param wireFormat the new wire format; {@code null} for {@link LrsrCldInfoServiceWireFormat#XML XML}.
+     * @see LrsrCldInfoServiceWireFormatQualifier
+     */
+    public void setWireFormat(@Nullable final LrsrCldInfoServiceWireFormat wireFormat) {
+        this.wireFormat = wireFormat;
+    }
+
     // ---------------------------------------------------------------------------------------------------- constructors
 
     /**
@@ -185,4 +401,115 @@ public abstract class AbstractLrsrCldInfoServiceClient {
     @Setter(AccessLevel.NONE)
     @Getter(value = AccessLevel.PROTECTED)
     private String serviceKey;
+
+    /**
+     * An optional cache of items for solar dates; {@code null} for no caching.
+     */
+    @Autowired(required = false)
+    @Accessors(fluent = true)
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.PROTECTED)
+    private LrsrCldInfoServiceItemCache itemCache;
+
+    /**
+     * An optional cache of responses; {@code null} for no caching.
+     */
+    @Autowired(required = false)
+    @Accessors(fluent = true)
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.PROTECTED)
+    private LrsrCldInfoServiceResponseCache responseCache;
+
+    /**
+     * An optional registry of in-flight requests; {@code null} for no coalescing.
+     */
+    @Autowired(required = false)
+    @Accessors(fluent = true)
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.PROTECTED)
+    private LrsrCldInfoServiceSingleFlight singleFlight;
+
+    /**
+     * An optional batcher of single-day lookups; {@code null} for no batching.
+     */
+    @Autowired(required = false)
+    @Accessors(fluent = true)
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.PROTECTED)
+    private LrsrCldInfoServiceBatcher batcher;
+
+    /**
+     * An optional source of {@link #QUERY_PARAM_NAME_NUM_OF_ROWS ?numOfRows}; {@code null} for the service's default.
+     */
+    @Autowired(required = false)
+    @Accessors(fluent = true)
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.PROTECTED)
+    private LrsrCldInfoServicePageSize pageSize;
+
+    /**
+     * An optional rate limiter for outgoing requests; {@code null} for no limiting.
+     */
+    @Autowired(required = false)
+    @Accessors(fluent = true)
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.PROTECTED)
+    private LrsrCldInfoServiceRateLimiter rateLimiter;
+
+    /**
+     * An optional adaptive limiter of concurrent requests; {@code null} for no limiting.
+     */
+    @Autowired(required = false)
+    @Accessors(fluent = true)
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.PROTECTED)
+    private LrsrCldInfoServiceConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * An optional policy for retrying failed exchanges; {@code null} for no retries.
+     */
+    @Autowired(required = false)
+    @Accessors(fluent = true)
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.PROTECTED)
+    private LrsrCldInfoServiceRetryPolicy retryPolicy;
+
+    /**
+     * An optional policy for hedging slow exchanges; {@code null} for no hedges.
+     */
+    @Autowired(required = false)
+    @Accessors(fluent = true)
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.PROTECTED)
+    private LrsrCldInfoServiceHedgePolicy hedgePolicy;
+
+    /**
+     * An optional circuit breaker for exchanges; {@code null} for no breaking.
+     */
+    @Autowired(required = false)
+    @Accessors(fluent = true)
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.PROTECTED)
+    private LrsrCldInfoServiceCircuitBreaker circuitBreaker;
+
+    /**
+     * An optional calendar dataset from which requests are answered while the {@link #circuitBreaker() circuit breaker}
+     * is open; {@code null} for no such dataset.
+     */
+    @Autowired(required = false)
+    @Accessors(fluent = true)
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.PROTECTED)
+    private CalendarData fallbackCalendarData;
+
+    /**
+     * An optional representation in which responses are requested; {@code null} for {@link
+     * LrsrCldInfoServiceWireFormat#XML XML}.
+     */
+    @LrsrCldInfoServiceWireFormatQualifier
+    @Autowired(required = false)
+    @Accessors(fluent = true)
+    @Setter(AccessLevel.NONE)
+    @Getter(AccessLevel.PROTECTED)
+    private LrsrCldInfoServiceWireFormat wireFormat;
 }
@@ -0,0 +1,243 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A batcher which collects lookups of single days, over a short window, into a single read of the whole month. An
+ * instance can be shared by {@link LrsrCldInfoServiceClient} and {@link LrsrCldInfoServiceReactiveClient}.
+ * <p>
+ * Lookups are grouped by requests for whole months, e.g., by {@code (solYear, solMonth)} for {@code /getLunCalInfo},
+ * or by {@code (lunYear, lunMonth)} for {@code /getSolCalInfo}. The first lookup of a group waits for the window, or
+ * until the maximum number of lookups joined, and then reads the whole month on behalf of all lookups joined, each of
+ * which selects its own items from the result. Lookups arrived while the month is being read join the read in flight.
+ * Results are shared among lookups and should not be modified.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see AbstractLrsrCldInfoServiceClient#batcher()
+ */
+@Slf4j
+public class LrsrCldInfoServiceBatcher {
+
+    /**
+     * The default window for collecting lookups.
+     */
+    public static final Duration DEFAULT_WINDOW = Duration.ofMillis(5L);
+
+    /**
+     * The default maximum number of lookups in a batch, after which the month is read without waiting for the rest of
+     * the window. The value is {@value}.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 32;
+
+    private final class Pending {
+
+        private void join() {
+            if (size.incrementAndGet() == maxBatchSize) {
+                full.countDown();
+            }
+        }
+
+        private final CompletableFuture<List<Item>> future = new CompletableFuture<>();
+
+        private final CountDownLatch full = new CountDownLatch(1);
+
+        private final AtomicInteger size = new AtomicInteger(1);
+    }
+
+    private final class Shared {
+
+        private Shared(final LrsrCldInfoServiceRequest request,
+                       final Supplier<? extends Mono<List<Item>>> loader) {
+            super();
+            mono = Mono.first(Mono.delay(window).then(), Mono.fromFuture(full))
+                    .then(Mono.defer(loader))
+                    .doOnSubscribe(s -> executed.increment())
+                    .doFinally(s -> shareds.remove(request, this))
+                    .flux()
+                    .share()
+                    .next();
+        }
+
+        private void join() {
+            if (size.incrementAndGet() == maxBatchSize) {
+                full.complete(null);
+            }
+        }
+
+        // not a sink, which is not available before reactor 3.4
+        private final CompletableFuture<Void> full = new CompletableFuture<>();
+
+        private final AtomicInteger size = new AtomicInteger(1);
+
+        private final Mono<List<Item>> mono;
+    }
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance with {@link #DEFAULT_WINDOW} and {@link #DEFAULT_MAX_BATCH_SIZE}.
+     */
+    public LrsrCldInfoServiceBatcher() {
+        this(DEFAULT_WINDOW, DEFAULT_MAX_BATCH_SIZE);
+    }
+
+    /**
+     * Creates a new instance with specified arguments.
+     *
+     * @param window       the window for collecting lookups.
+     * @param maxBatchSize the maximum number of lookups in a batch.
+     */
+    public LrsrCldInfoServiceBatcher(@NotNull final Duration window, @Positive final int maxBatchSize) {
+        super();
+        requireNonNull(window, "window is null");
+        if (window.isNegative()) {
+            throw new IllegalArgumentException("window(" + window + ") is negative");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize(" + maxBatchSize + ") is not positive");
+        }
+        this.window = window;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads a whole month with specified loader on behalf of all lookups of the same month, or joins a batch of the
+     * same month which is either collecting or in flight.
+     *
+     * @param request a request for the whole month; the key of the batch.
+     * @param loader  a supplier reads all items of the month.
+     * @return all items of the month.
+     */
+    public @NotNull List<Item> execute(@NotNull final LrsrCldInfoServiceRequest request,
+                                       @NotNull final Supplier<? extends List<Item>> loader) {
+        requireNonNull(request, "request is null");
+        requireNonNull(loader, "loader is null");
+        final Pending created = new Pending();
+        final Pending existing = pendings.putIfAbsent(request, created);
+        if (existing != null) {
+            batched.increment();
+            existing.join();
+            try {
+                return existing.future.get();
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("interrupted while waiting for a batch", ie);
+            } catch (final ExecutionException ee) {
+                throw LrsrCldInfoServiceFutures.unchecked(ee);
+            }
+        }
+        executed.increment();
+        boolean interrupted = false;
+        try {
+            if (!window.isZero()) {
+                created.full.await(window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        } catch (final InterruptedException ie) {
+            // read now, with the flag cleared, rather than leaving the joined lookups; the flag is restored afterwards
+            interrupted = true;
+        }
+        try {
+            final List<Item> items = loader.get();
+            created.future.complete(items);
+            return items;
+        } catch (final RuntimeException | Error e) {
+            created.future.completeExceptionally(e);
+            throw e;
+        } finally {
+            pendings.remove(request, created);
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Returns a mono which reads a whole month with a mono supplied by specified loader on behalf of all lookups of the
+     * same month, or which joins a batch of the same month which is either collecting or in flight.
+     *
+     * @param request a request for the whole month; the key of the batch.
+     * @param loader  a supplier of a mono reads all items of the month.
+     * @return a mono of all items of the month.
+     */
+    public @NotNull Mono<List<Item>> share(@NotNull final LrsrCldInfoServiceRequest request,
+                                           @NotNull final Supplier<? extends Mono<List<Item>>> loader) {
+        requireNonNull(request, "request is null");
+        requireNonNull(loader, "loader is null");
+        return Mono.defer(() -> {
+            final Shared created = new Shared(request, loader);
+            final Shared existing = shareds.putIfAbsent(request, created);
+            if (existing != null) {
+                batched.increment();
+                existing.join();
+                return existing.mono;
+            }
+            return created.mono;
+        });
+    }
+
+    // ------------------------------------------------------------------------------------------------------- statistics
+
+    /**
+     * Returns the number of months actually read.
+     *
+     * @return the number of batches executed.
+     */
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * Returns the number of lookups which joined a batch of another lookup.
+     *
+     * @return the number of lookups batched.
+     */
+    public long batchedCount() {
+        return batched.sum();
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+
+    /**
+     * The window for collecting lookups.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final Duration window;
+
+    /**
+     * The maximum number of lookups in a batch.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int maxBatchSize;
+
+    private final ConcurrentMap<LrsrCldInfoServiceRequest, Pending> pendings = new ConcurrentHashMap<>();
+
+    private final ConcurrentMap<LrsrCldInfoServiceRequest, Shared> shareds = new ConcurrentHashMap<>();
+
+    private final LongAdder executed = new LongAdder();
+
+    private final LongAdder batched = new LongAdder();
+}
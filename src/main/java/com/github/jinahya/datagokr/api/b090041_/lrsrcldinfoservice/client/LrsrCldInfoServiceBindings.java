@@ -0,0 +1,156 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Body;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.adapter.Format02dIntegerAdapter;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.adapter.LeapBooleanAdapter;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.adapter.MmMonthAdapter;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.adapter.SolWeekWeekAdapter;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.adapter.UuuuYearAdapter;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.xml.bind.annotation.adapters.CollapsedStringAdapter;
+import javax.xml.bind.annotation.adapters.XmlAdapter;
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.time.Year;
+
+/**
+ * A utility class for binding textual values of named properties, of either wire format, to messages with the same
+ * adapters as of the message classes.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LrsrCldInfoServiceXmlParser
+ * @see LrsrCldInfoServiceJsonParser
+ */
+@Slf4j
+final class LrsrCldInfoServiceBindings {
+
+    private static final XmlAdapter<String, Year> YEAR_ADAPTER = new UuuuYearAdapter();
+
+    private static final XmlAdapter<String, Month> MONTH_ADAPTER = new MmMonthAdapter();
+
+    private static final XmlAdapter<String, Integer> DAY_ADAPTER = new Format02dIntegerAdapter();
+
+    private static final XmlAdapter<String, Boolean> LEAP_ADAPTER = new LeapBooleanAdapter();
+
+    private static final XmlAdapter<String, DayOfWeek> WEEK_ADAPTER = new SolWeekWeekAdapter();
+
+    private static final XmlAdapter<String, String> COLLAPSED_ADAPTER = new CollapsedStringAdapter();
+
+    /**
+     * Binds specified value of specified property to specified header.
+     *
+     * @param header the header.
+     * @param name   the name of the property.
+     * @param text   the textual value of the property.
+     */
+    static void bind(final Header header, final String name, final String text) {
+        switch (name) {
+            case "resultCode":
+                header.setResultCode(text.trim());
+                break;
+            case "resultMsg":
+                header.setResultMsg(text.trim());
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Binds specified value of specified property to specified body; items are not bound.
+     *
+     * @param body the body.
+     * @param name the name of the property.
+     * @param text the textual value of the property.
+     * @throws IllegalArgumentException if the {@code text} is not valid.
+     */
+    static void bind(final Body body, final String name, final String text) {
+        switch (name) {
+            case "numOfRows":
+                body.setNumOfRows(Integer.parseInt(text.trim()));
+                break;
+            case "pageNo":
+                body.setPageNo(Integer.parseInt(text.trim()));
+                break;
+            case "totalCount":
+                body.setTotalCount(Integer.parseInt(text.trim()));
+                break;
+            default:
+                break;
+        }
+    }
+
+    /**
+     * Binds specified value of specified property to specified item.
+     *
+     * @param item the item.
+     * @param name the name of the property.
+     * @param text the textual value of the property.
+     * @throws IllegalArgumentException if the {@code text} is not valid.
+     */
+    static void bind(final Item item, final String name, final String text) {
+        final String value = text.trim();
+        switch (name) {
+            case "lunYear":
+                item.setLunYear(unmarshal(YEAR_ADAPTER, name, value));
+                break;
+            case "lunMonth":
+                item.setLunMonth(unmarshal(MONTH_ADAPTER, name, value));
+                break;
+            case "lunDay":
+                item.setLunDay(unmarshal(DAY_ADAPTER, name, value));
+                break;
+            case "lunLeapmonth":
+                item.setLunLeapmonth(unmarshal(LEAP_ADAPTER, name, value));
+                break;
+            case "lunNday":
+                item.setLunNday(Integer.valueOf(value));
+                break;
+            case "lunSecha":
+                item.setLunSecha(unmarshal(COLLAPSED_ADAPTER, name, value));
+                break;
+            case "lunWolgeon":
+                item.setLunWolgeon(value.isEmpty() ? null : unmarshal(COLLAPSED_ADAPTER, name, value));
+                break;
+            case "lunIljin":
+                item.setLunIljin(unmarshal(COLLAPSED_ADAPTER, name, value));
+                break;
+            case "solYear":
+                item.setSolYear(unmarshal(YEAR_ADAPTER, name, value));
+                break;
+            case "solMonth":
+                item.setSolMonth(unmarshal(MONTH_ADAPTER, name, value));
+                break;
+            case "solDay":
+                item.setSolDay(unmarshal(DAY_ADAPTER, name, value));
+                break;
+            case "solLeapyear":
+                item.setSolLeapyear(unmarshal(LEAP_ADAPTER, name, value));
+                break;
+            case "solWeek":
+                item.setSolWeek(unmarshal(WEEK_ADAPTER, name, value));
+                break;
+            case "solJd":
+                item.setSolJd(Long.valueOf(value));
+                break;
+            default:
+                log.debug("unknown property of an item: {}", name);
+                break;
+        }
+    }
+
+    private static <T> T unmarshal(final XmlAdapter<String, T> adapter, final String name, final String value) {
+        try {
+            return adapter.unmarshal(value);
+        } catch (final Exception e) {
+            throw new IllegalArgumentException("failed to unmarshal " + name + "(" + value + ")", e);
+        }
+    }
+
+    private LrsrCldInfoServiceBindings() {
+        throw new AssertionError("instantiation is not allowed");
+    }
+}
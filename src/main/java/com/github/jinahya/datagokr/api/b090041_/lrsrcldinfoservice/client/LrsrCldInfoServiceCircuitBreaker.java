@@ -0,0 +1,383 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A circuit breaker, for exchanges with the service, which can be shared by {@link LrsrCldInfoServiceClient} and
+ * {@link LrsrCldInfoServiceReactiveClient}.
+ * <p>
+ * While {@link State#CLOSED closed}, the outcomes of recent exchanges are recorded in a sliding window, and the circuit
+ * opens when the rate of failures, such as server errors, I/O errors, timeouts, and {@link
+ * LrsrCldInfoServiceRetryPolicy#RETRYABLE_RESULT_CODES busy result codes}, reaches the threshold. While {@link
+ * State#OPEN open}, exchanges fail fast, or are answered from local data, without reaching the service. After the
+ * open duration, the circuit turns {@link State#HALF_OPEN half-open} and lets a few probing exchanges through; it
+ * closes when all of them succeed and opens again when any of them fails.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see AbstractLrsrCldInfoServiceClient#circuitBreaker()
+ * @see AbstractLrsrCldInfoServiceClient#fallback(LrsrCldInfoServiceRequest)
+ */
+@Slf4j
+public class LrsrCldInfoServiceCircuitBreaker {
+
+    /**
+     * Constants for states of circuit breakers.
+     */
+    public enum State {
+
+        /**
+         * A state in which exchanges are permitted and their outcomes are recorded.
+         */
+        CLOSED,
+
+        /**
+         * A state in which exchanges are not permitted.
+         */
+        OPEN,
+
+        /**
+         * A state in which a limited number of probing exchanges are permitted.
+         */
+        HALF_OPEN
+    }
+
+    /**
+     * The default rate of failures at which the circuit opens. The value is {@value}.
+     */
+    public static final double DEFAULT_FAILURE_RATE_THRESHOLD = .5d;
+
+    /**
+     * The default number of recent outcomes recorded. The value is {@value}.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 20;
+
+    /**
+     * The default minimum number of outcomes recorded before the rate of failures is evaluated. The value is
+     * {@value}.
+     */
+    public static final int DEFAULT_MINIMUM_CALLS = 10;
+
+    /**
+     * The default duration for which the circuit stays open.
+     */
+    public static final Duration DEFAULT_OPEN_DURATION = Duration.ofSeconds(30L);
+
+    /**
+     * The default number of probing exchanges permitted while half-open. The value is {@value}.
+     */
+    public static final int DEFAULT_PROBES = 3;
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance with default values.
+     */
+    public LrsrCldInfoServiceCircuitBreaker() {
+        this(DEFAULT_FAILURE_RATE_THRESHOLD, DEFAULT_WINDOW_SIZE, DEFAULT_MINIMUM_CALLS, DEFAULT_OPEN_DURATION,
+             DEFAULT_PROBES);
+    }
+
+    /**
+     * Creates a new instance with specified arguments.
+     *
+     * @param failureRateThreshold the rate of failures, in {@code (0, 1]}, at which the circuit opens.
+     * @param windowSize           the number of recent outcomes recorded.
+     * @param minimumCalls         the minimum number of outcomes recorded before the rate of failures is evaluated.
+     * @param openDuration         the duration for which the circuit stays open.
+     * @param probes               the number of probing exchanges permitted while half-open.
+     */
+    public LrsrCldInfoServiceCircuitBreaker(final double failureRateThreshold, @Positive final int windowSize,
+                                            @Positive final int minimumCalls, @NotNull final Duration openDuration,
+                                            @Positive final int probes) {
+        this(failureRateThreshold, windowSize, minimumCalls, openDuration, probes, System::nanoTime);
+    }
+
+    /**
+     * Creates a new instance with specified arguments.
+     *
+     * @param failureRateThreshold the rate of failures, in {@code (0, 1]}, at which the circuit opens.
+     * @param windowSize           the number of recent outcomes recorded.
+     * @param minimumCalls         the minimum number of outcomes recorded before the rate of failures is evaluated.
+     * @param openDuration         the duration for which the circuit stays open.
+     * @param probes               the number of probing exchanges permitted while half-open.
+     * @param ticker               a source of nanoseconds for evaluating the open duration.
+     */
+    LrsrCldInfoServiceCircuitBreaker(final double failureRateThreshold, final int windowSize, final int minimumCalls,
+                                     final Duration openDuration, final int probes, final LongSupplier ticker) {
+        super();
+        if (!(failureRateThreshold > 0.0d && failureRateThreshold <= 1.0d)) {
+            throw new IllegalArgumentException(
+                    "failureRateThreshold(" + failureRateThreshold + ") is not in (0, 1]");
+        }
+        if (windowSize <= 0) {
+            throw new IllegalArgumentException("windowSize(" + windowSize + ") is not positive");
+        }
+        if (minimumCalls <= 0 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException(
+                    "minimumCalls(" + minimumCalls + ") is not in [1, " + windowSize + "]");
+        }
+        requireNonNull(openDuration, "openDuration is null");
+        if (openDuration.isNegative()) {
+            throw new IllegalArgumentException("openDuration(" + openDuration + ") is negative");
+        }
+        if (probes <= 0) {
+            throw new IllegalArgumentException("probes(" + probes + ") is not positive");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.openDuration = openDuration;
+        this.probes = probes;
+        this.ticker = requireNonNull(ticker, "ticker is null");
+        outcomes = new boolean[windowSize];
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Indicates whether specified result code reports a failure of the service.
+     *
+     * @param resultCode the result code.
+     * @return {@code true} if {@code resultCode} is one of {@link LrsrCldInfoServiceRetryPolicy#RETRYABLE_RESULT_CODES};
+     * {@code false} otherwise.
+     * @see Header#getResultCode()
+     */
+    public boolean isFailureResultCode(@Nullable final String resultCode) {
+        return resultCode != null && LrsrCldInfoServiceRetryPolicy.RETRYABLE_RESULT_CODES.contains(resultCode);
+    }
+
+    /**
+     * Indicates whether specified HTTP status code reports a failure of the service.
+     *
+     * @param statusCode the HTTP status code.
+     * @return {@code true} if {@code statusCode} is {@code 408} or a {@code 5xx}; {@code false} otherwise.
+     */
+    public boolean isFailureStatus(final int statusCode) {
+        return statusCode == 408 || (statusCode >= 500 && statusCode < 600);
+    }
+
+    /**
+     * Checks whether an exchange is permitted. Each permitted exchange should be followed by exactly one of {@link
+     * #onSuccess()}, {@link #onFailure()}, or {@link #onIgnore()}.
+     *
+     * @return {@code true} if an exchange is permitted; {@code false} otherwise.
+     */
+    public boolean tryAcquire() {
+        synchronized (outcomes) {
+            if (state == State.OPEN) {
+                if (ticker.getAsLong() - openedAt < openDuration.toNanos()) {
+                    rejected.increment();
+                    return false;
+                }
+                transition(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                if (probing >= probes) {
+                    rejected.increment();
+                    return false;
+                }
+                probing++;
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Notifies that a permitted exchange succeeded.
+     */
+    public void onSuccess() {
+        synchronized (outcomes) {
+            switch (state) {
+                case CLOSED:
+                    record(false);
+                    break;
+                case HALF_OPEN:
+                    probing = Math.max(0, probing - 1);
+                    if (++probed >= probes) {
+                        transition(State.CLOSED);
+                    }
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Notifies that a permitted exchange failed.
+     */
+    public void onFailure() {
+        synchronized (outcomes) {
+            switch (state) {
+                case CLOSED:
+                    record(true);
+                    if (recorded >= minimumCalls && failures >= failureRateThreshold * recorded) {
+                        transition(State.OPEN);
+                    }
+                    break;
+                case HALF_OPEN:
+                    transition(State.OPEN);
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Notifies that a permitted exchange ended without an outcome regarding the service; e.g., when the exchange has
+     * been cancelled, or has been rejected locally.
+     */
+    public void onIgnore() {
+        synchronized (outcomes) {
+            if (state == State.HALF_OPEN) {
+                probing = Math.max(0, probing - 1);
+            }
+        }
+    }
+
+    // guarded by outcomes
+    private void record(final boolean failure) {
+        if (recorded == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    // guarded by outcomes
+    private void transition(final State state) {
+        log.info("circuit {} -> {}", this.state, state);
+        this.state = state;
+        switch (state) {
+            case OPEN:
+                openedAt = ticker.getAsLong();
+                opened.increment();
+                break;
+            case HALF_OPEN:
+                probing = 0;
+                probed = 0;
+                break;
+            default:
+                recorded = 0;
+                failures = 0;
+                next = 0;
+                break;
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------------------- statistics
+
+    /**
+     * Returns the current state.
+     *
+     * @return the current state.
+     */
+    public @NotNull State state() {
+        synchronized (outcomes) {
+            return state;
+        }
+    }
+
+    /**
+     * Returns the rate of failures in the current window.
+     *
+     * @return the rate of failures; {@code 0.0d} if no outcome is recorded.
+     */
+    public double failureRate() {
+        synchronized (outcomes) {
+            return recorded == 0 ? 0.0d : (double) failures / recorded;
+        }
+    }
+
+    /**
+     * Returns the number of times the circuit opened.
+     *
+     * @return the number of times opened.
+     */
+    public long openedCount() {
+        return opened.sum();
+    }
+
+    /**
+     * Returns the number of exchanges not permitted.
+     *
+     * @return the number of rejected exchanges.
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+
+    /**
+     * The rate of failures at which the circuit opens.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final double failureRateThreshold;
+
+    /**
+     * The minimum number of outcomes recorded before the rate of failures is evaluated.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int minimumCalls;
+
+    /**
+     * The duration for which the circuit stays open.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final Duration openDuration;
+
+    /**
+     * The number of probing exchanges permitted while half-open.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int probes;
+
+    private final LongSupplier ticker;
+
+    /**
+     * A ring of recent outcomes, {@code true} for failures; also guards the state below.
+     */
+    private final boolean[] outcomes;
+
+    private int next;
+
+    private int recorded;
+
+    private int failures;
+
+    private State state = State.CLOSED;
+
+    private long openedAt;
+
+    private int probing;
+
+    private int probed;
+
+    private final LongAdder opened = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+}
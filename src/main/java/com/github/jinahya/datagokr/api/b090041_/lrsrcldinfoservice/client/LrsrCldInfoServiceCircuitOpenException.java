@@ -0,0 +1,22 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+/**
+ * An exception thrown when an exchange is not permitted by an open {@link LrsrCldInfoServiceCircuitBreaker} and no
+ * local data can answer the request.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LrsrCldInfoServiceCircuitBreaker#tryAcquire()
+ */
+public class LrsrCldInfoServiceCircuitOpenException extends RuntimeException {
+
+    private static final long serialVersionUID = 6013538562945212839L;
+
+    /**
+     * Creates a new instance with specified message.
+     *
+     * @param message the message.
+     */
+    public LrsrCldInfoServiceCircuitOpenException(final String message) {
+        super(message);
+    }
+}
@@ -1,5 +1,6 @@
 package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
 
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
 import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
 import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
 import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Responses;
@@ -16,6 +17,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -34,23 +37,45 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 import java.net.URI;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.Month;
-import java.time.MonthDay;
 import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item.MAX_DAY_OF_MONTH_LUNAR;
 import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item.MAX_DAY_OF_MONTH_SOLAR;
 import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item.MIN_DAY_OF_MONTH_LUNAR;
 import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item.MIN_DAY_OF_MONTH_SOLAR;
 import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Responses.requireResultSuccessful;
-import static java.util.Optional.ofNullable;
+import static java.util.concurrent.CompletableFuture.runAsync;
 import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.stream.Collectors.toList;
 
@@ -90,6 +115,35 @@ public class LrsrCldInfoServiceClient extends AbstractLrsrCldInfoServiceClient {
 
     }
 
+    /**
+     * An exception thrown when a response has an unsuccessful result code.
+     */
+    public static class UnsuccessfulResultException extends RestClientException {
+
+        private static final long serialVersionUID = 7302581395425186530L;
+
+        /**
+         * Creates a new instance with specified header.
+         *
+         * @param header the header of the response.
+         */
+        public UnsuccessfulResultException(final Header header) {
+            super("unsuccessful result: " + header);
+            this.header = header;
+        }
+
+        /**
+         * Returns the header of the response.
+         *
+         * @return the header of the response.
+         */
+        public Header getHeader() {
+            return header;
+        }
+
+        private final Header header;
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
@@ -108,7 +162,318 @@ public class LrsrCldInfoServiceClient extends AbstractLrsrCldInfoServiceClient {
         if (response == null) {
             throw new RestClientException("no entity body received");
         }
-        return requireResultSuccessful(response, h -> new RestClientException("unsuccessful result: " + h));
+        return requireResultSuccessful(response, UnsuccessfulResultException::new);
+    }
+
+    /**
+     * Reads all pages using specified function. The first page is read in the current thread and remaining pages, if
+     * any, are read concurrently in specified executor.
+     *
+     * @param page        a function for reading a page of a page number.
+     * @param concurrency the maximum number of pages read concurrently.
+     * @param executor    an executor for reading remaining pages.
+     * @return a list of all pages in page order.
+     * @see Responses#lastPageNo(Response)
+     */
+    static @NotNull List<Response> allPages(@NotNull final IntFunction<? extends Response> page,
+                                            @Positive final int concurrency, @NotNull final Executor executor) {
+        Objects.requireNonNull(page, "page is null");
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency(" + concurrency + ") is not positive");
+        }
+        Objects.requireNonNull(executor, "executor is null");
+        final Response first = page.apply(1);
+        final int lastPageNo = Responses.lastPageNo(first);
+        final Response[] responses = new Response[lastPageNo];
+        responses[0] = first;
+        final AtomicInteger next = new AtomicInteger(2);
+        final CompletableFuture<?>[] workers = new CompletableFuture<?>[Math.min(concurrency, lastPageNo - 1)];
+        for (int i = 0; i < workers.length; i++) {
+            workers[i] = runAsync(() -> {
+                for (int pageNo; (pageNo = next.getAndIncrement()) <= lastPageNo; ) {
+                    try {
+                        responses[pageNo - 1] = page.apply(pageNo);
+                    } catch (final RuntimeException re) {
+                        next.set(lastPageNo + 1); // stops other workers
+                        throw re;
+                    }
+                }
+            }, executor);
+        }
+        try {
+            CompletableFuture.allOf(workers).get();
+        } catch (final InterruptedException ie) {
+            next.set(lastPageNo + 1);
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ie);
+        } catch (final ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+        return Arrays.asList(responses);
+    }
+
+    /**
+     * A spliterator of items which reads a page only when all items of the previous page are consumed.
+     */
+    private static final class PagedItemSpliterator implements Spliterator<Item> {
+
+        private PagedItemSpliterator(final IntFunction<? extends Response> page) {
+            super();
+            this.page = page;
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Item> action) {
+            Objects.requireNonNull(action, "action is null");
+            while (items == null || index == items.size()) {
+                if (last) {
+                    items = null;
+                    return false;
+                }
+                final Response response = page.apply(++pageNo);
+                items = response.getBody().getItems(); // releases the previous page
+                index = 0;
+                last = Responses.isLastPage(response) || items.isEmpty();
+            }
+            action.accept(items.get(index++));
+            return true;
+        }
+
+        @Override
+        public Spliterator<Item> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+
+        private final IntFunction<? extends Response> page;
+
+        private int pageNo;
+
+        private List<Item> items;
+
+        private int index;
+
+        private boolean last;
+    }
+
+    /**
+     * Returns a lazy stream of items of all pages read using specified function. A page is read only when all items of
+     * the previous page are consumed.
+     *
+     * @param page a function for reading a page of a page number.
+     * @return a stream of items.
+     */
+    static @NotNull Stream<Item> items(@NotNull final IntFunction<? extends Response> page) {
+        Objects.requireNonNull(page, "page is null");
+        return StreamSupport.stream(new PagedItemSpliterator(page), false);
+    }
+
+    /**
+     * A spliterator of items which reads, in an executor, a bounded number of parts ahead of the part being consumed.
+     *
+     * @param <T> part type parameter
+     */
+    private static final class PrefetchingItemSpliterator<T> implements Spliterator<Item> {
+
+        private PrefetchingItemSpliterator(final Iterator<? extends T> parts,
+                                           final Function<? super T, ? extends List<Item>> reader,
+                                           final int concurrency, final Executor executor) {
+            super();
+            this.parts = parts;
+            this.reader = reader;
+            this.concurrency = concurrency;
+            this.executor = executor;
+            window = new ArrayDeque<>(concurrency);
+        }
+
+        @Override
+        public boolean tryAdvance(final Consumer<? super Item> action) {
+            Objects.requireNonNull(action, "action is null");
+            while (items == null || !items.hasNext()) {
+                while (window.size() < concurrency && parts.hasNext()) {
+                    final T part = parts.next();
+                    window.add(supplyAsync(() -> reader.apply(part), executor));
+                }
+                final CompletableFuture<? extends List<Item>> head = window.poll();
+                if (head == null) {
+                    items = null;
+                    return false;
+                }
+                try {
+                    items = head.get().iterator();
+                } catch (final InterruptedException ie) {
+                    cancel();
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException(ie);
+                } catch (final ExecutionException ee) {
+                    cancel();
+                    final Throwable cause = ee.getCause();
+                    if (cause instanceof RuntimeException) {
+                        throw (RuntimeException) cause;
+                    }
+                    throw new RuntimeException(cause);
+                }
+            }
+            action.accept(items.next());
+            return true;
+        }
+
+        @Override
+        public Spliterator<Item> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return Long.MAX_VALUE;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | NONNULL;
+        }
+
+        /**
+         * Cancels all parts not yet consumed.
+         */
+        private void cancel() {
+            for (CompletableFuture<?> future; (future = window.poll()) != null; ) {
+                future.cancel(false);
+            }
+        }
+
+        private final Iterator<? extends T> parts;
+
+        private final Function<? super T, ? extends List<Item>> reader;
+
+        private final int concurrency;
+
+        private final Executor executor;
+
+        private final Deque<CompletableFuture<? extends List<Item>>> window;
+
+        private Iterator<Item> items;
+    }
+
+    /**
+     * Returns a stream of items of specified parts, in order, each of which is read using specified function. At most
+     * {@code concurrency} parts are read ahead, concurrently, so that only a bounded number of parts are kept in
+     * memory.
+     *
+     * @param parts       the parts.
+     * @param reader      a function reads items of a part.
+     * @param concurrency the maximum number of parts read ahead.
+     * @param executor    an executor for reading parts.
+     * @param <T>         part type parameter
+     * @return a stream of items.
+     */
+    static <T> @NotNull Stream<Item> items(@NotNull final Iterable<? extends T> parts,
+                                           @NotNull final Function<? super T, ? extends List<Item>> reader,
+                                           @Positive final int concurrency, @NotNull final Executor executor) {
+        Objects.requireNonNull(parts, "parts is null");
+        Objects.requireNonNull(reader, "reader is null");
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency(" + concurrency + ") is not positive");
+        }
+        Objects.requireNonNull(executor, "executor is null");
+        final PrefetchingItemSpliterator<T> spliterator
+                = new PrefetchingItemSpliterator<>(parts.iterator(), reader, concurrency, executor);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::cancel);
+    }
+
+    /**
+     * Reads all pages, asynchronously, using specified function. Once the first page is read, remaining pages are read
+     * concurrently.
+     *
+     * @param page a function for reading a page of a page number.
+     * @return a future of all items of all pages in page order.
+     */
+    static @NotNull CompletableFuture<List<Item>> itemsAsync(
+            @NotNull final IntFunction<? extends CompletableFuture<Response>> page) {
+        Objects.requireNonNull(page, "page is null");
+        return page.apply(1).thenCompose(first -> {
+            final int lastPageNo = Responses.lastPageNo(first);
+            final List<CompletableFuture<Response>> pages = new ArrayList<>(lastPageNo);
+            pages.add(CompletableFuture.completedFuture(first));
+            for (int pageNo = 2; pageNo <= lastPageNo; pageNo++) {
+                pages.add(page.apply(pageNo));
+            }
+            return CompletableFuture.allOf(pages.toArray(new CompletableFuture<?>[0]))
+                    .thenApply(v -> pages.stream()
+                            .flatMap(f -> f.join().getBody().getItems().stream())
+                            .collect(toList()));
+        });
+    }
+
+    /**
+     * Reads all months of specified year, asynchronously, using specified function.
+     *
+     * @param year    the year.
+     * @param month   a function for reading items of a month.
+     * @param timeout a timeout for reading each month; {@code null} for no timeout.
+     * @return a future of all items in month order; fails with an {@link LrsrCldInfoServiceMonthsException} if any
+     * month failed.
+     */
+    static @NotNull CompletableFuture<List<Item>> monthsAsync(
+            @NotNull final Year year, @NotNull final Function<? super Month, CompletableFuture<List<Item>>> month,
+            @Nullable final Duration timeout) {
+        final Map<Month, CompletableFuture<List<Item>>> months = new EnumMap<>(Month.class);
+        for (final Month m : Month.values()) {
+            CompletableFuture<List<Item>> future;
+            try {
+                future = month.apply(m);
+            } catch (final RuntimeException re) {
+                future = new CompletableFuture<>();
+                future.completeExceptionally(re);
+            }
+            months.put(m, LrsrCldInfoServiceFutures.orTimeout(future, timeout));
+        }
+        return CompletableFuture.allOf(months.values().toArray(new CompletableFuture<?>[0])).handle((v, t) -> {
+            final List<Item> items = new ArrayList<>();
+            final Map<Month, Throwable> failures = new EnumMap<>(Month.class);
+            months.forEach((m, f) -> {
+                try {
+                    items.addAll(f.join());
+                } catch (final CompletionException | CancellationException e) {
+                    failures.put(m, LrsrCldInfoServiceFutures.unchecked(e));
+                }
+            });
+            if (!failures.isEmpty()) {
+                throw new LrsrCldInfoServiceMonthsException(year, failures);
+            }
+            return items;
+        });
+    }
+
+    /**
+     * Waits for specified future and returns its result.
+     *
+     * @param future the future.
+     * @param <T>    result type parameter
+     * @return the result of the {@code future}.
+     */
+    private static <T> T join(final CompletableFuture<T> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(ie);
+        } catch (final ExecutionException ee) {
+            throw LrsrCldInfoServiceFutures.unchecked(ee);
+        }
     }
 
     // ---------------------------------------------------------------------------------------------------- constructors
@@ -126,6 +491,9 @@ public class LrsrCldInfoServiceClient extends AbstractLrsrCldInfoServiceClient {
         if (restTemplate == null) {
             log.warn("no rest template autowired. using a bare instance...");
             restTemplate = new RestTemplate();
+            if (JAXB_PRESENT) {
+                restTemplate.getMessageConverters().add(0, new LrsrCldInfoServiceJaxbMessageConverter());
+            }
             restTemplateRootUri = AbstractLrsrCldInfoServiceClient.BASE_URL_PRODUCTION;
         }
         rootUri = restTemplate.getUriTemplateHandler().expand("/");
@@ -149,22 +517,36 @@ public class LrsrCldInfoServiceClient extends AbstractLrsrCldInfoServiceClient {
     public @Valid @NotNull Response getLunCalInfo(
             @NotNull final Year solYear, @NotNull final Month solMonth,
             @Max(31) @Min(1) @Nullable final Integer solDay, @Positive @Nullable final Integer pageNo) {
-        final UriComponentsBuilder builder = uriBuilderFromRootUri()
-                .pathSegment(PATH_SEGMENT_GET_LUN_CAL_INFO)
-                .queryParam(QUERY_PARAM_NAME_SERVICE_KEY, serviceKey())
-                .queryParam(QUERY_PARAM_NAME_SOL_YEAR, solYear.getValue())
-                .queryParam(QUERY_PARAM_NAME_SOL_MONTH, MONTH_FORMATTER.format(solMonth));
-        ofNullable(solDay)
-                .map(v -> MonthDay.of(solMonth, v))
-                .map(DAY_FORMATTER::format)
-                .ifPresent(v -> builder.queryParam(QUERY_PARAM_NAME_SOL_DAY, v));
-        ofNullable(pageNo)
-                .ifPresent(v -> builder.queryParam(QUERY_PARAM_NAME_PAGE_NO, v));
-        final URI url = builder
-                .encode() // ?ServiceKey
-                .build()
-                .toUri();
-        return unwrap(restTemplate().exchange(url, HttpMethod.GET, null, Response.class));
+        return exchange(LrsrCldInfoServiceRequest.getLunCalInfo(solYear, solMonth, solDay, pageNo));
+    }
+
+    /**
+     * Retrieves a response from {@code /getLunCalInfo} with specified arguments while passing values of each item to
+     * specified sink as soon as it is read. No {@link Item} is created; the response is read as XML with a streaming
+     * parser, and values of each item are bound to a single reusable record.
+     * <p>
+     * Note that the response is always requested, and read, as XML regardless of the {@link #wireFormat() wire
+     * format}.
+     * <p>
+     * Values which have been passed to the sink can't be taken back; the exchange, hence, is neither cached, shared,
+     * retried, nor hedged. The {@link #rateLimiter() rate limiter} and the {@link #concurrencyLimiter() concurrency
+     * limiter}, if any, still apply.
+     *
+     * @param solYear  a value for {@link #QUERY_PARAM_NAME_SOL_YEAR ?solYear}.
+     * @param solMonth a value for {@link #QUERY_PARAM_NAME_SOL_MONTH ?solMonth}.
+     * @param solDay   a value for {@link #QUERY_PARAM_NAME_SOL_DAY ?solDay}; {@code null} for a whole month.
+     * @param pageNo   a value for {@link #QUERY_PARAM_NAME_PAGE_NO ?pageNo}; {@code null} for the first page.
+     * @param sink     the sink of items.
+     * @return the response whose body has no items.
+     * @see LrsrCldInfoServiceItemSink
+     */
+    public @NotNull Response getLunCalInfo(
+            @NotNull final Year solYear, @NotNull final Month solMonth,
+            @Max(MAX_DAY_OF_MONTH_SOLAR) @Min(MIN_DAY_OF_MONTH_SOLAR) @Nullable final Integer solDay,
+            @Positive @Nullable final Integer pageNo, @NotNull final LrsrCldInfoServiceItemSink sink) {
+        final LrsrCldInfoServiceResponseExtractor extractor = sinkExtractor(sink);
+        return retrieveLimited(LrsrCldInfoServiceRequest.getLunCalInfo(solYear, solMonth, solDay, pageNo),
+                               r -> retrieve(r, extractor));
     }
 
     /**
@@ -179,9 +561,11 @@ public class LrsrCldInfoServiceClient extends AbstractLrsrCldInfoServiceClient {
     public @NotNull List<@Valid @NotNull Response> getLunCalInfoForAllPages(
             @NotNull final Year solYear, @NotNull final Month solMonth,
             @Max(MAX_DAY_OF_MONTH_SOLAR) @Min(MIN_DAY_OF_MONTH_SOLAR) @Nullable final Integer solDay) {
+        final IntFunction<Response> page
+                = pages(LrsrCldInfoServiceRequest.getLunCalInfo(solYear, solMonth, solDay, null));
         final List<Response> result = new ArrayList<>();
         for (int pageNo = 1; ; pageNo++) {
-            final Response response = getLunCalInfo(solYear, solMonth, solDay, pageNo);
+            final Response response = page.apply(pageNo);
             result.add(response);
             if (Responses.isLastPage(response)) {
                 break;
@@ -190,6 +574,46 @@ public class LrsrCldInfoServiceClient extends AbstractLrsrCldInfoServiceClient {
         return result;
     }
 
+    /**
+     * Reads all responses from {@code /getLunCalInfo} with specified arguments. Once the first page is read, remaining
+     * pages are read concurrently.
+     *
+     * @param solYear     a value for {@link #QUERY_PARAM_NAME_SOL_YEAR ?solYear}.
+     * @param solMonth    a value for {@link #QUERY_PARAM_NAME_SOL_MONTH ?solMonth}.
+     * @param solDay      a value for {@link #QUERY_PARAM_NAME_SOL_DAY ?solDay}; {@code null} for a whole month.
+     * @param concurrency the maximum number of pages read concurrently.
+     * @param executor    an executor for reading pages other than the first page.
+     * @return a list of responses in page order.
+     * @see #getLunCalInfo(Year, Month, Integer, Integer)
+     */
+    public @NotNull List<@Valid @NotNull Response> getLunCalInfoForAllPages(
+            @NotNull final Year solYear, @NotNull final Month solMonth,
+            @Max(MAX_DAY_OF_MONTH_SOLAR) @Min(MIN_DAY_OF_MONTH_SOLAR) @Nullable final Integer solDay,
+            @Positive final int concurrency, @NotNull final Executor executor) {
+        return allPages(pages(LrsrCldInfoServiceRequest.getLunCalInfo(
+                solYear, solMonth, solDay, null)), concurrency, executor);
+    }
+
+    /**
+     * Reads all responses from {@code /getLunCalInfo} with specified arguments on threads bound to this invocation.
+     * Once the first page is read, remaining pages are read concurrently; on virtual threads when running on Java 21 or
+     * later.
+     *
+     * @param solYear     a value for {@link #QUERY_PARAM_NAME_SOL_YEAR ?solYear}.
+     * @param solMonth    a value for {@link #QUERY_PARAM_NAME_SOL_MONTH ?solMonth}.
+     * @param solDay      a value for {@link #QUERY_PARAM_NAME_SOL_DAY ?solDay}; {@code null} for a whole month.
+     * @param concurrency the maximum number of pages read concurrently.
+     * @return a list of responses in page order.
+     * @see #getLunCalInfoForAllPages(Year, Month, Integer, int, Executor)
+     */
+    public @NotNull List<@Valid @NotNull Response> getLunCalInfoForAllPages(
+            @NotNull final Year solYear, @NotNull final Month solMonth,
+            @Max(MAX_DAY_OF_MONTH_SOLAR) @Min(MIN_DAY_OF_MONTH_SOLAR) @Nullable final Integer solDay,
+            @Positive final int concurrency) {
+        return LrsrCldInfoServiceThreads.fanOut(
+                concurrency, e -> getLunCalInfoForAllPages(solYear, solMonth, solDay, concurrency, e));
+    }
+
     /**
      * Reads all items from {@code /getLunCalInfo} for specified date in solar calendar.
      *
@@ -198,44 +622,222 @@ public class LrsrCldInfoServiceClient extends AbstractLrsrCldInfoServiceClient {
      * @param solDay   a value for {@link #QUERY_PARAM_NAME_SOL_DAY ?solDay}; {@code null} for a whole month.
      * @return a list of all items from all pages.
      * @see #getLunCalInfo(Year, Month, Integer, Integer)
+     * @see #itemCache()
+     * @see #batcher()
      */
     public @Size(min = 1, max = 1) List<@Valid @NotNull Item> getLunCalInfo(
             @NotNull final Year solYear, @NotNull final Month solMonth,
             @Max(MAX_DAY_OF_MONTH_SOLAR) @Min(MIN_DAY_OF_MONTH_SOLAR) @Nullable final Integer solDay) {
+        final LrsrCldInfoServiceItemCache itemCache = itemCache();
+        final YearMonth yearMonth = YearMonth.of(solYear.getValue(), solMonth);
+        if (itemCache != null && itemCache.covers(yearMonth)) {
+            return itemCache.get(yearMonth, solDay, m -> getLunCalInfoOfMonth(solYear, solMonth, solDay != null));
+        }
+        if (solDay != null && batcher() != null) {
+            return getLunCalInfoOfMonth(solYear, solMonth, true)
+                    .stream()
+                    .filter(i -> solDay.equals(i.getSolDay()))
+                    .collect(toList());
+        }
         return getLunCalInfoForAllPages(solYear, solMonth, solDay)
                 .stream()
                 .flatMap(r -> r.getBody().getItems().stream())
                 .collect(toList());
     }
 
+    /**
+     * Reads all items of specified solar month, in a batch if specified so and the {@link #batcher() batcher} is
+     * available.
+     *
+     * @param solYear  a value for {@link #QUERY_PARAM_NAME_SOL_YEAR ?solYear}.
+     * @param solMonth a value for {@link #QUERY_PARAM_NAME_SOL_MONTH ?solMonth}.
+     * @param batch    a flag for reading in a batch.
+     * @return a list of all items of the month; shared among batched lookups.
+     */
+    private List<Item> getLunCalInfoOfMonth(final Year solYear, final Month solMonth, final boolean batch) {
+        final Supplier<List<Item>> loader = () -> getLunCalInfoForAllPages(solYear, solMonth, null)
+                .stream()
+                .flatMap(r -> r.getBody().getItems().stream())
+                .collect(toList());
+        final LrsrCldInfoServiceBatcher batcher = batcher();
+        if (!batch || batcher == null) {
+            return loader.get();
+        }
+        return batcher.execute(LrsrCldInfoServiceRequest.getLunCalInfo(solYear, solMonth, null, null), loader);
+    }
+
+    /**
+     * Returns a lazy stream of items from {@code /getLunCalInfo} for specified date in solar calendar. Each page is read
+     * only when the stream consumes all items of the previous page.
+     *
+     * @param solYear  a value for {@link #QUERY_PARAM_NAME_SOL_YEAR ?solYear}.
+     * @param solMonth a value for {@link #QUERY_PARAM_NAME_SOL_MONTH ?solMonth}.
+     * @param solDay   a value for {@link #QUERY_PARAM_NAME_SOL_DAY ?solDay}; {@code null} for a whole month.
+     * @return a stream of items.
+     * @see #getLunCalInfo(Year, Month, Integer, Integer)
+     */
+    public @NotNull Stream<@Valid @NotNull Item> getLunCalInfoStream(
+            @NotNull final Year solYear, @NotNull final Month solMonth,
+            @Max(MAX_DAY_OF_MONTH_SOLAR) @Min(MIN_DAY_OF_MONTH_SOLAR) @Nullable final Integer solDay) {
+        final LrsrCldInfoServiceItemCache itemCache = itemCache();
+        if (itemCache != null && itemCache.covers(YearMonth.of(solYear.getValue(), solMonth))) {
+            return Stream.of(solDay).flatMap(d -> getLunCalInfo(solYear, solMonth, d).stream());
+        }
+        return items(pages(LrsrCldInfoServiceRequest.getLunCalInfo(solYear, solMonth, solDay, null)));
+    }
+
     /**
      * Reads all items for specified solar year.
      *
      * @param year       the solar year.
-     * @param executor   an executor for concurrently invoking {@link #getLunCalInfo(Year, Month, Integer)} for each
-     *                   {@link Month} in {@code year}.
+     * @param executor   an executor for concurrently reading pages of each {@link Month} in {@code year}.
      * @param collection a collection to which retrieved items are added.
      * @param <T>        collection type parameter
      * @return given {@code collection}.
-     * @see #getLunCalInfo(Year, Month, Integer)
+     * @throws LrsrCldInfoServiceMonthsException if failed to read some months.
+     * @see #getLunCalInfoAsync(Year, Executor, Duration)
      */
     @NotEmpty
     public <T extends Collection<? super Item>> T getLunCalInfo(
             @NotNull final Year year, @NotNull final Executor executor, @NotNull final T collection) {
-        Arrays.stream(Month.values())
-                .map(v -> supplyAsync(() -> getLunCalInfo(year, v, null), executor))
-                .map(f -> {
-                    try {
-                        return f.get();
-                    } catch (InterruptedException | ExecutionException e) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException(e);
-                    }
-                })
-                .forEach(collection::addAll);
+        collection.addAll(join(getLunCalInfoAsync(year, executor, null)));
         return collection;
     }
 
+    /**
+     * Reads all items for specified solar year on threads bound to this invocation; on virtual threads when running on
+     * Java 21 or later.
+     *
+     * @param year       the solar year.
+     * @param collection a collection to which retrieved items are added.
+     * @param <T>        collection type parameter
+     * @return given {@code collection}.
+     * @throws LrsrCldInfoServiceMonthsException if failed to read some months.
+     * @see #getLunCalInfo(Year, Executor, Collection)
+     */
+    @NotEmpty
+    public <T extends Collection<? super Item>> T getLunCalInfo(@NotNull final Year year,
+                                                               @NotNull final T collection) {
+        return LrsrCldInfoServiceThreads.fanOut(Month.values().length, e -> getLunCalInfo(year, e, collection));
+    }
+
+    /**
+     * Reads values of all items for specified solar year, month by month, while passing values of each item to
+     * specified sink. Each month is read in a single page, unless the service limits the number of rows, and no {@link
+     * Item} is created. Like {@link #getLunCalInfo(Year, Month, Integer, Integer, LrsrCldInfoServiceItemSink)},
+     * responses are always requested, and read, as XML regardless of the {@link #wireFormat() wire format}.
+     *
+     * @param year the solar year.
+     * @param sink the sink of items.
+     * @return the number of items passed to the {@code sink}.
+     * @see #getLunCalInfo(Year, Month, Integer, Integer, LrsrCldInfoServiceItemSink)
+     */
+    public int getLunCalInfo(@NotNull final Year year, @NotNull final LrsrCldInfoServiceItemSink sink) {
+        Objects.requireNonNull(year, "year is null");
+        Objects.requireNonNull(sink, "sink is null");
+        final AtomicInteger count = new AtomicInteger();
+        final LrsrCldInfoServiceResponseExtractor extractor = sinkExtractor(
+                (solYear, solMonth, solDay, lunYear, lunMonth, lunLeapmonth, lunDay, lunNday, solJd, lunSecha,
+                 lunWolgeon, lunIljin) -> {
+                    count.incrementAndGet();
+                    sink.accept(solYear, solMonth, solDay, lunYear, lunMonth, lunLeapmonth, lunDay, lunNday, solJd,
+                                lunSecha, lunWolgeon, lunIljin);
+                });
+        for (final Month month : Month.values()) {
+            final LrsrCldInfoServiceRequest request = LrsrCldInfoServiceRequest.getLunCalInfo(year, month, null, null)
+                    .withNumOfRows(MAX_DAY_OF_MONTH_SOLAR);
+            for (int pageNo = 1; ; pageNo++) {
+                final Response response = retrieveLimited(request.withPageNo(pageNo), r -> retrieve(r, extractor));
+                if (Responses.isLastPage(response)) {
+                    break;
+                }
+            }
+        }
+        return count.get();
+    }
+
+    /**
+     * Reads a response from {@code /getLunCalInfo} with specified arguments asynchronously.
+     *
+     * @param solYear  a value for {@link #QUERY_PARAM_NAME_SOL_YEAR ?solYear}.
+     * @param solMonth a value for {@link #QUERY_PARAM_NAME_SOL_MONTH ?solMonth}.
+     * @param solDay   a value for {@link #QUERY_PARAM_NAME_SOL_DAY ?solDay}; {@code null} for a whole month.
+     * @param pageNo   a value for {@link #QUERY_PARAM_NAME_PAGE_NO ?pageNo}; {@code null} for the first page.
+     * @param executor an executor for reading the page.
+     * @return a future of the response.
+     * @see #getLunCalInfo(Year, Month, Integer, Integer)
+     */
+    public @NotNull CompletableFuture<Response> getLunCalInfoAsync(
+            @NotNull final Year solYear, @NotNull final Month solMonth,
+            @Max(MAX_DAY_OF_MONTH_SOLAR) @Min(MIN_DAY_OF_MONTH_SOLAR) @Nullable final Integer solDay,
+            @Positive @Nullable final Integer pageNo, @NotNull final Executor executor) {
+        return supplyAsync(() -> getLunCalInfo(solYear, solMonth, solDay, pageNo), executor);
+    }
+
+    /**
+     * Reads all items from {@code /getLunCalInfo} for specified date in solar calendar asynchronously. Once the first
+     * page is read, remaining pages are read concurrently.
+     *
+     * @param solYear  a value for {@link #QUERY_PARAM_NAME_SOL_YEAR ?solYear}.
+     * @param solMonth a value for {@link #QUERY_PARAM_NAME_SOL_MONTH ?solMonth}.
+     * @param solDay   a value for {@link #QUERY_PARAM_NAME_SOL_DAY ?solDay}; {@code null} for a whole month.
+     * @param executor an executor for reading pages.
+     * @return a future of all items from all pages.
+     * @see #getLunCalInfo(Year, Month, Integer)
+     */
+    public @NotNull CompletableFuture<List<Item>> getLunCalInfoAsync(
+            @NotNull final Year solYear, @NotNull final Month solMonth,
+            @Max(MAX_DAY_OF_MONTH_SOLAR) @Min(MIN_DAY_OF_MONTH_SOLAR) @Nullable final Integer solDay,
+            @NotNull final Executor executor) {
+        final LrsrCldInfoServiceItemCache itemCache = itemCache();
+        if (itemCache != null && itemCache.covers(YearMonth.of(solYear.getValue(), solMonth))) {
+            return supplyAsync(() -> getLunCalInfo(solYear, solMonth, solDay), executor);
+        }
+        final IntFunction<Response> page
+                = pages(LrsrCldInfoServiceRequest.getLunCalInfo(solYear, solMonth, solDay, null));
+        return itemsAsync(p -> supplyAsync(() -> page.apply(p), executor));
+    }
+
+    /**
+     * Reads all items for specified solar year asynchronously. All months are read concurrently and the result fails
+     * with an {@link LrsrCldInfoServiceMonthsException} which reports all failed months.
+     *
+     * @param year     the solar year.
+     * @param executor an executor for reading pages of each month.
+     * @param timeout  a timeout for reading each month; {@code null} for no timeout.
+     * @return a future of all items in {@code year}, in solar order.
+     * @see #getLunCalInfoAsync(Year, Month, Integer, Executor)
+     */
+    public @NotNull CompletableFuture<List<Item>> getLunCalInfoAsync(
+            @NotNull final Year year, @NotNull final Executor executor, @Nullable final Duration timeout) {
+        Objects.requireNonNull(year, "year is null");
+        return monthsAsync(year, m -> getLunCalInfoAsync(year, m, null, executor), timeout);
+    }
+
+    /**
+     * Returns a stream of items, in solar order, for specified range of solar dates. The range is split into months,
+     * or days for a small part of a month, which are read concurrently, in specified executor, with at most {@code
+     * concurrency} of them read ahead of the stream.
+     *
+     * @param from        the first solar date, inclusive.
+     * @param to          the last solar date, inclusive.
+     * @param concurrency the maximum number of months, or days, read concurrently.
+     * @param executor    an executor for reading months, or days.
+     * @return a stream of items in solar order.
+     * @see #getLunCalInfo(Year, Month, Integer)
+     */
+    public @NotNull Stream<@Valid @NotNull Item> getLunCalInfo(
+            @NotNull final LocalDate from, @NotNull final LocalDate to, @Positive final int concurrency,
+            @NotNull final Executor executor) {
+        return items(solarSegments(from, to), s -> {
+            final List<Item> items = getLunCalInfo(Year.of(s.month.getYear()), s.month.getMonth(), s.day);
+            if (s.day != null) {
+                return items;
+            }
+            return items.stream().filter(s::contains).collect(toList());
+        }, concurrency, executor);
+    }
+
     // -------------------------------------------------------------------------------------------------- /getSolCalInfo
 
     /**
@@ -251,21 +853,7 @@ public class LrsrCldInfoServiceClient extends AbstractLrsrCldInfoServiceClient {
             @NotNull final Year lunYear, @NotNull final Month lunMonth,
             @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) @Nullable final Integer lunDay,
             @Positive @Nullable final Integer pageNo) {
-        final UriComponentsBuilder builder = uriBuilderFromRootUri()
-                .pathSegment(PATH_SEGMENT_GET_SOL_CAL_INFO)
-                .queryParam(QUERY_PARAM_NAME_SERVICE_KEY, serviceKey())
-                .queryParam(QUERY_PARAM_NAME_LUN_YEAR, lunYear.getValue())
-                .queryParam(QUERY_PARAM_NAME_LUN_MONTH, MONTH_FORMATTER.format(lunMonth));
-        ofNullable(lunDay)
-                .map(AbstractLrsrCldInfoServiceClient::formatDay)
-                .ifPresent(v -> builder.queryParam(QUERY_PARAM_NAME_LUN_DAY, v));
-        ofNullable(pageNo)
-                .ifPresent(v -> builder.queryParam(QUERY_PARAM_NAME_PAGE_NO, v));
-        final URI url = builder
-                .encode() // ?ServiceKey
-                .build()
-                .toUri();
-        return unwrap(restTemplate().exchange(url, HttpMethod.GET, null, Response.class));
+        return exchange(LrsrCldInfoServiceRequest.getSolCalInfo(lunYear, lunMonth, lunDay, pageNo));
     }
 
     /**
@@ -280,9 +868,11 @@ public class LrsrCldInfoServiceClient extends AbstractLrsrCldInfoServiceClient {
     public @NotNull List<@Valid @NotNull Response> getSolCalInfoForAllPages(
             @NotNull final Year lunYear, @NotNull final Month lunMonth,
             @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) @Nullable final Integer lunDay) {
+        final IntFunction<Response> page
+                = pages(LrsrCldInfoServiceRequest.getSolCalInfo(lunYear, lunMonth, lunDay, null));
         final List<Response> responses = new ArrayList<>();
         for (int pageNo = 1; ; pageNo++) {
-            final Response response = getSolCalInfo(lunYear, lunMonth, lunDay, pageNo);
+            final Response response = page.apply(pageNo);
             responses.add(response);
             if (Responses.isLastPage(response)) {
                 break;
@@ -291,6 +881,46 @@ public class LrsrCldInfoServiceClient extends AbstractLrsrCldInfoServiceClient {
         return responses;
     }
 
+    /**
+     * Reads all responses from {@code /getSolCalInfo} with specified arguments. Once the first page is read, remaining
+     * pages are read concurrently.
+     *
+     * @param lunYear     a value for {@link #QUERY_PARAM_NAME_LUN_YEAR ?lunYear}.
+     * @param lunMonth    a value for {@link #QUERY_PARAM_NAME_LUN_MONTH ?lunMonth}.
+     * @param lunDay      a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}; {@code null} for a whole month.
+     * @param concurrency the maximum number of pages read concurrently.
+     * @param executor    an executor for reading pages other than the first page.
+     * @return a list of responses in page order.
+     * @see #getSolCalInfo(Year, Month, Integer, Integer)
+     */
+    public @NotNull List<@Valid @NotNull Response> getSolCalInfoForAllPages(
+            @NotNull final Year lunYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) @Nullable final Integer lunDay,
+            @Positive final int concurrency, @NotNull final Executor executor) {
+        return allPages(pages(LrsrCldInfoServiceRequest.getSolCalInfo(
+                lunYear, lunMonth, lunDay, null)), concurrency, executor);
+    }
+
+    /**
+     * Reads all responses from {@code /getSolCalInfo} with specified arguments on threads bound to this invocation.
+     * Once the first page is read, remaining pages are read concurrently; on virtual threads when running on Java 21 or
+     * later.
+     *
+     * @param lunYear     a value for {@link #QUERY_PARAM_NAME_LUN_YEAR ?lunYear}.
+     * @param lunMonth    a value for {@link #QUERY_PARAM_NAME_LUN_MONTH ?lunMonth}.
+     * @param lunDay      a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}; {@code null} for a whole month.
+     * @param concurrency the maximum number of pages read concurrently.
+     * @return a list of responses in page order.
+     * @see #getSolCalInfoForAllPages(Year, Month, Integer, int, Executor)
+     */
+    public @NotNull List<@Valid @NotNull Response> getSolCalInfoForAllPages(
+            @NotNull final Year lunYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) @Nullable final Integer lunDay,
+            @Positive final int concurrency) {
+        return LrsrCldInfoServiceThreads.fanOut(
+                concurrency, e -> getSolCalInfoForAllPages(lunYear, lunMonth, lunDay, concurrency, e));
+    }
+
     /**
      * Reads all items from {@code /getSolCalInfo} with specified arguments.
      *
@@ -299,45 +929,130 @@ public class LrsrCldInfoServiceClient extends AbstractLrsrCldInfoServiceClient {
      * @param lunDay   a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}; {@code null} for a whole month.
      * @return a list of items.
      * @see #getSolCalInfo(Year, Month, Integer, Integer)
+     * @see #batcher()
      */
     public @NotEmpty @NotNull List<@Valid @NotNull Item> getSolCalInfo(
             @NotNull final Year lunYear, @NotNull final Month lunMonth,
             @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) @Nullable final Integer lunDay) {
+        final LrsrCldInfoServiceBatcher batcher = batcher();
+        if (lunDay != null && batcher != null) {
+            return batcher.execute(LrsrCldInfoServiceRequest.getSolCalInfo(lunYear, lunMonth, null, null),
+                                   () -> getSolCalInfo(lunYear, lunMonth, null))
+                    .stream()
+                    .filter(i -> lunDay.equals(i.getLunDay()))
+                    .collect(toList());
+        }
         return getSolCalInfoForAllPages(lunYear, lunMonth, lunDay)
                 .stream()
                 .flatMap(r -> r.getBody().getItems().stream())
                 .collect(toList());
     }
 
+    /**
+     * Returns a lazy stream of items from {@code /getSolCalInfo} with specified arguments. Each page is read only when
+     * the stream consumes all items of the previous page.
+     *
+     * @param lunYear  a value for {@link #QUERY_PARAM_NAME_LUN_YEAR ?lunYear}.
+     * @param lunMonth a value for {@link #QUERY_PARAM_NAME_LUN_MONTH ?lunMonth}.
+     * @param lunDay   a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}; {@code null} for a whole month.
+     * @return a stream of items.
+     * @see #getSolCalInfo(Year, Month, Integer, Integer)
+     */
+    public @NotNull Stream<@Valid @NotNull Item> getSolCalInfoStream(
+            @NotNull final Year lunYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) @Nullable final Integer lunDay) {
+        return items(pages(LrsrCldInfoServiceRequest.getSolCalInfo(lunYear, lunMonth, lunDay, null)));
+    }
+
     /**
      * Reads all items for specified lunar year and adds them to specified collection.
      *
      * @param year       the lunar year.
-     * @param executor   an executor for concurrently executing {@link #getSolCalInfo(Year, Month, Integer)} for each
-     *                   {@link Month} in {@code year}.
+     * @param executor   an executor for concurrently reading pages of each {@link Month} in {@code year}.
      * @param collection the collection to which retrieved items are added.
      * @param <T>        collection type parameter
      * @return given {@code collection}.
-     * @see #getSolCalInfo(Year, Month, Integer)
+     * @throws LrsrCldInfoServiceMonthsException if failed to read some months.
+     * @see #getSolCalInfoAsync(Year, Executor, Duration)
      */
     @NotEmpty
     public <T extends Collection<? super Item>> T getSolCalInfo(
             @NotNull final Year year, @NotNull final Executor executor, @NotNull final T collection) {
-        Arrays.stream(Month.values())
-                .map(v -> supplyAsync(() -> getSolCalInfo(year, v, null), executor))
-                .map(f -> {
-                    try {
-                        return f.get();
-                    } catch (InterruptedException | ExecutionException e) {
-                        Thread.currentThread().interrupt();
-                        throw new RuntimeException(e);
-                    }
-                })
-                .forEach(collection::addAll)
-        ;
+        collection.addAll(join(getSolCalInfoAsync(year, executor, null)));
         return collection;
     }
 
+    /**
+     * Reads all items for specified lunar year on threads bound to this invocation; on virtual threads when running on
+     * Java 21 or later.
+     *
+     * @param year       the lunar year.
+     * @param collection the collection to which retrieved items are added.
+     * @param <T>        collection type parameter
+     * @return given {@code collection}.
+     * @throws LrsrCldInfoServiceMonthsException if failed to read some months.
+     * @see #getSolCalInfo(Year, Executor, Collection)
+     */
+    @NotEmpty
+    public <T extends Collection<? super Item>> T getSolCalInfo(@NotNull final Year year,
+                                                               @NotNull final T collection) {
+        return LrsrCldInfoServiceThreads.fanOut(Month.values().length, e -> getSolCalInfo(year, e, collection));
+    }
+
+    /**
+     * Reads a response from {@code /getSolCalInfo} with specified arguments asynchronously.
+     *
+     * @param lunYear  a value for {@link #QUERY_PARAM_NAME_LUN_YEAR ?lunYear}.
+     * @param lunMonth a value for {@link #QUERY_PARAM_NAME_LUN_MONTH ?lunMonth}.
+     * @param lunDay   a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}; {@code null} for a whole month.
+     * @param pageNo   a value for {@link #QUERY_PARAM_NAME_PAGE_NO ?pageNo}; {@code null} for the first page.
+     * @param executor an executor for reading the page.
+     * @return a future of the response.
+     * @see #getSolCalInfo(Year, Month, Integer, Integer)
+     */
+    public @NotNull CompletableFuture<Response> getSolCalInfoAsync(
+            @NotNull final Year lunYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) @Nullable final Integer lunDay,
+            @Positive @Nullable final Integer pageNo, @NotNull final Executor executor) {
+        return supplyAsync(() -> getSolCalInfo(lunYear, lunMonth, lunDay, pageNo), executor);
+    }
+
+    /**
+     * Reads all items from {@code /getSolCalInfo} with specified arguments asynchronously. Once the first page is read,
+     * remaining pages are read concurrently.
+     *
+     * @param lunYear  a value for {@link #QUERY_PARAM_NAME_LUN_YEAR ?lunYear}.
+     * @param lunMonth a value for {@link #QUERY_PARAM_NAME_LUN_MONTH ?lunMonth}.
+     * @param lunDay   a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}; {@code null} for a whole month.
+     * @param executor an executor for reading pages.
+     * @return a future of all items from all pages.
+     * @see #getSolCalInfo(Year, Month, Integer)
+     */
+    public @NotNull CompletableFuture<List<Item>> getSolCalInfoAsync(
+            @NotNull final Year lunYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) @Nullable final Integer lunDay,
+            @NotNull final Executor executor) {
+        final IntFunction<Response> page
+                = pages(LrsrCldInfoServiceRequest.getSolCalInfo(lunYear, lunMonth, lunDay, null));
+        return itemsAsync(p -> supplyAsync(() -> page.apply(p), executor));
+    }
+
+    /**
+     * Reads all items for specified lunar year asynchronously. All months are read concurrently and the result fails
+     * with an {@link LrsrCldInfoServiceMonthsException} which reports all failed months.
+     *
+     * @param year     the lunar year.
+     * @param executor an executor for reading pages of each month.
+     * @param timeout  a timeout for reading each month; {@code null} for no timeout.
+     * @return a future of all items in {@code year}, in solar order.
+     * @see #getSolCalInfoAsync(Year, Month, Integer, Executor)
+     */
+    public @NotNull CompletableFuture<List<Item>> getSolCalInfoAsync(
+            @NotNull final Year year, @NotNull final Executor executor, @Nullable final Duration timeout) {
+        Objects.requireNonNull(year, "year is null");
+        return monthsAsync(year, m -> getSolCalInfoAsync(year, m, null, executor), timeout);
+    }
+
     // -------------------------------------------------------------------------------------------- /getSpcifyLunCalInfo
 
     /**
@@ -355,21 +1070,37 @@ public class LrsrCldInfoServiceClient extends AbstractLrsrCldInfoServiceClient {
             @NotNull final Year fromSolYear, @NotNull final Year toSolYear, @NotNull final Month lunMonth,
             @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) final int lunDay, final boolean leapMonth,
             @Positive @Nullable Integer pageNo) {
-        if (toSolYear.isBefore(fromSolYear)) {
-            throw new IllegalArgumentException(
-                    "toSolYear(" + toSolYear + ") is before fromSolYear(" + fromSolYear + ")");
-        }
-        final UriComponentsBuilder builder = uriBuilderFromRootUri()
-                .pathSegment(PATH_SEGMENT_GET_SPCIFY_LUN_CAL_INFO)
-                .queryParam(QUERY_PARAM_NAME_SERVICE_KEY, serviceKey())
-                .queryParam(QUERY_PARAM_NAME_FROM_SOL_YEAR, fromSolYear.getValue())
-                .queryParam(QUERY_PARAM_NAME_TO_SOL_YEAR, toSolYear.getValue())
-                .queryParam(QUERY_PARAM_NAME_LUN_MONTH, MONTH_FORMATTER.format(lunMonth))
-                .queryParam(QUERY_PARAM_NAME_LUN_DAY, formatDay(lunDay))
-                .queryParam(QUERY_PARAM_NAME_LEAP_MONTH, queryParamValueLeapMonth(leapMonth));
-        ofNullable(pageNo).ifPresent(v -> builder.queryParam(QUERY_PARAM_NAME_PAGE_NO, v));
-        final URI url = builder.encode().build().toUri();
-        return unwrap(restTemplate().exchange(url, HttpMethod.GET, null, Response.class));
+        return exchange(LrsrCldInfoServiceRequest.getSpcifyLunCalInfo(
+                fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, pageNo));
+    }
+
+    /**
+     * Retrieves a response from {@code /getSpcifyLunCalInfo} with specified arguments while passing each item to
+     * specified consumer as soon as it is read. The response is read with a streaming parser, its header is verified before
+     * any item is read, and no tree of all items is built.
+     * <p>
+     * Items which have been passed to the consumer can't be taken back; the exchange, hence, is neither cached, shared,
+     * retried, nor hedged. The {@link #rateLimiter() rate limiter} and the {@link #concurrencyLimiter() concurrency
+     * limiter}, if any, still apply.
+     *
+     * @param fromSolYear a value for {@link #QUERY_PARAM_NAME_FROM_SOL_YEAR ?fromSolYear}.
+     * @param toSolYear   a value for {@link #QUERY_PARAM_NAME_TO_SOL_YEAR ?toSolYear}.
+     * @param lunMonth    a value for {@link #QUERY_PARAM_NAME_LUN_MONTH ?lunMonth}.
+     * @param lunDay      a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}.
+     * @param leapMonth   a value for {@link #QUERY_PARAM_NAME_LEAP_MONTH ?leapMonth}.
+     * @param pageNo      a value for {@link #QUERY_PARAM_NAME_PAGE_NO ?pageNo}.
+     * @param consumer    the consumer of items.
+     * @return the response whose body has no items.
+     * @see LrsrCldInfoServiceResponseExtractor
+     */
+    public @NotNull Response getSpcifyLunCalInfo(
+            @NotNull final Year fromSolYear, @NotNull final Year toSolYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) final int lunDay, final boolean leapMonth,
+            @Positive @Nullable Integer pageNo, @NotNull final Consumer<? super Item> consumer) {
+        Objects.requireNonNull(consumer, "consumer is null");
+        final LrsrCldInfoServiceResponseExtractor extractor = extractor(consumer);
+        return retrieveLimited(LrsrCldInfoServiceRequest.getSpcifyLunCalInfo(
+                fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, pageNo), r -> retrieve(r, extractor));
     }
 
     /**
@@ -385,10 +1116,11 @@ public class LrsrCldInfoServiceClient extends AbstractLrsrCldInfoServiceClient {
     public @NotNull List<@Valid @NotNull Response> getSpcifyLunCalInfoForAllPages(
             @NotNull final Year fromSolYear, @NotNull final Year toSolYear, @NotNull final Month lunMonth,
             @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) final int lunDay, final boolean leapMonth) {
+        final IntFunction<Response> page = pages(LrsrCldInfoServiceRequest.getSpcifyLunCalInfo(
+                fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, null));
         final List<Response> responses = new ArrayList<>();
         for (int pageNo = 1; ; pageNo++) {
-            final Response response = getSpcifyLunCalInfo(
-                    fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, pageNo);
+            final Response response = page.apply(pageNo);
             responses.add(response);
             if (Responses.isLastPage(response)) {
                 break;
@@ -397,6 +1129,49 @@ public class LrsrCldInfoServiceClient extends AbstractLrsrCldInfoServiceClient {
         return responses;
     }
 
+    /**
+     * Reads all responses from {@code /getSpcifyLunCalInfo} with specified arguments. Once the first page is read,
+     * remaining pages are read concurrently.
+     *
+     * @param fromSolYear a value for {@link #QUERY_PARAM_NAME_FROM_SOL_YEAR ?fromSolYear}.
+     * @param toSolYear   a value for {@link #QUERY_PARAM_NAME_TO_SOL_YEAR ?toSolYear}.
+     * @param lunMonth    a value for {@link #QUERY_PARAM_NAME_LUN_MONTH ?lunMonth}.
+     * @param lunDay      a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}.
+     * @param leapMonth   a value for {@link #QUERY_PARAM_NAME_LEAP_MONTH ?leapMonth}.
+     * @param concurrency the maximum number of pages read concurrently.
+     * @param executor    an executor for reading pages other than the first page.
+     * @return a list of responses in page order.
+     */
+    public @NotNull List<@Valid @NotNull Response> getSpcifyLunCalInfoForAllPages(
+            @NotNull final Year fromSolYear, @NotNull final Year toSolYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) final int lunDay, final boolean leapMonth,
+            @Positive final int concurrency, @NotNull final Executor executor) {
+        return allPages(pages(LrsrCldInfoServiceRequest.getSpcifyLunCalInfo(
+                fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, null)), concurrency, executor);
+    }
+
+    /**
+     * Reads all responses from {@code /getSpcifyLunCalInfo} with specified arguments on threads bound to this
+     * invocation. Once the first page is read, remaining pages are read concurrently; on virtual threads when running
+     * on Java 21 or later.
+     *
+     * @param fromSolYear a value for {@link #QUERY_PARAM_NAME_FROM_SOL_YEAR ?fromSolYear}.
+     * @param toSolYear   a value for {@link #QUERY_PARAM_NAME_TO_SOL_YEAR ?toSolYear}.
+     * @param lunMonth    a value for {@link #QUERY_PARAM_NAME_LUN_MONTH ?lunMonth}.
+     * @param lunDay      a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}.
+     * @param leapMonth   a value for {@link #QUERY_PARAM_NAME_LEAP_MONTH ?leapMonth}.
+     * @param concurrency the maximum number of pages read concurrently.
+     * @return a list of responses in page order.
+     * @see #getSpcifyLunCalInfoForAllPages(Year, Year, Month, int, boolean, int, Executor)
+     */
+    public @NotNull List<@Valid @NotNull Response> getSpcifyLunCalInfoForAllPages(
+            @NotNull final Year fromSolYear, @NotNull final Year toSolYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) final int lunDay, final boolean leapMonth,
+            @Positive final int concurrency) {
+        return LrsrCldInfoServiceThreads.fanOut(concurrency, e -> getSpcifyLunCalInfoForAllPages(
+                fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, concurrency, e));
+    }
+
     /**
      * Reads all items from {@code /getSpcifyLunCalInfo} with specified arguments.
      *
@@ -418,6 +1193,414 @@ public class LrsrCldInfoServiceClient extends AbstractLrsrCldInfoServiceClient {
                 .collect(toList());
     }
 
+    /**
+     * Returns a lazy stream of items from {@code /getSpcifyLunCalInfo} with specified arguments. Each page is read only
+     * when the stream consumes all items of the previous page.
+     *
+     * @param fromSolYear a value for {@link #QUERY_PARAM_NAME_FROM_SOL_YEAR ?fromSolYear}.
+     * @param toSolYear   a value for {@link #QUERY_PARAM_NAME_TO_SOL_YEAR ?toSolYear}.
+     * @param lunMonth    a value for {@link #QUERY_PARAM_NAME_LUN_MONTH ?lunMonth}.
+     * @param lunDay      a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}.
+     * @param leapMonth   a value for {@link #QUERY_PARAM_NAME_LEAP_MONTH ?leapMonth}.
+     * @return a stream of items.
+     * @see #getSpcifyLunCalInfo(Year, Year, Month, int, boolean, Integer)
+     */
+    public @NotNull Stream<@Valid @NotNull Item> getSpcifyLunCalInfoStream(
+            @NotNull final Year fromSolYear, @NotNull final Year toSolYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) final int lunDay, final boolean leapMonth) {
+        return items(pages(LrsrCldInfoServiceRequest.getSpcifyLunCalInfo(
+                fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, null)));
+    }
+
+    /**
+     * Reads a response from {@code /getSpcifyLunCalInfo} with specified arguments asynchronously.
+     *
+     * @param fromSolYear a value for {@link #QUERY_PARAM_NAME_FROM_SOL_YEAR ?fromSolYear}.
+     * @param toSolYear   a value for {@link #QUERY_PARAM_NAME_TO_SOL_YEAR ?toSolYear}.
+     * @param lunMonth    a value for {@link #QUERY_PARAM_NAME_LUN_MONTH ?lunMonth}.
+     * @param lunDay      a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}.
+     * @param leapMonth   a value for {@link #QUERY_PARAM_NAME_LEAP_MONTH ?leapMonth}.
+     * @param pageNo      a value for {@link #QUERY_PARAM_NAME_PAGE_NO ?pageNo}.
+     * @param executor    an executor for reading the page.
+     * @return a future of the response.
+     * @see #getSpcifyLunCalInfo(Year, Year, Month, int, boolean, Integer)
+     */
+    public @NotNull CompletableFuture<Response> getSpcifyLunCalInfoAsync(
+            @NotNull final Year fromSolYear, @NotNull final Year toSolYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) final int lunDay, final boolean leapMonth,
+            @Positive @Nullable final Integer pageNo, @NotNull final Executor executor) {
+        return supplyAsync(() -> getSpcifyLunCalInfo(fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, pageNo),
+                           executor);
+    }
+
+    /**
+     * Reads all items from {@code /getSpcifyLunCalInfo} with specified arguments asynchronously. Once the first page is
+     * read, remaining pages are read concurrently.
+     *
+     * @param fromSolYear a value for {@link #QUERY_PARAM_NAME_FROM_SOL_YEAR ?fromSolYear}.
+     * @param toSolYear   a value for {@link #QUERY_PARAM_NAME_TO_SOL_YEAR ?toSolYear}.
+     * @param lunMonth    a value for {@link #QUERY_PARAM_NAME_LUN_MONTH ?lunMonth}.
+     * @param lunDay      a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}.
+     * @param leapMonth   a value for {@link #QUERY_PARAM_NAME_LEAP_MONTH ?leapMonth}.
+     * @param executor    an executor for reading pages.
+     * @return a future of all items from all pages.
+     * @see #getSpcifyLunCalInfo(Year, Year, Month, int, boolean)
+     */
+    public @NotNull CompletableFuture<List<Item>> getSpcifyLunCalInfoAsync(
+            @NotNull final Year fromSolYear, @NotNull final Year toSolYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) final int lunDay, final boolean leapMonth,
+            @NotNull final Executor executor) {
+        final IntFunction<Response> page = pages(LrsrCldInfoServiceRequest.getSpcifyLunCalInfo(
+                fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, null));
+        return itemsAsync(p -> supplyAsync(() -> page.apply(p), executor));
+    }
+
+    // -------------------------------------------------------------------------------------------------------- exchange
+
+    /**
+     * Exchanges specified request for a response, with a {@link #QUERY_PARAM_NAME_NUM_OF_ROWS ?numOfRows} from the
+     * {@link #pageSize() page size}, and through the {@link #responseCache() response cache} and the {@link
+     * #singleFlight() single-flight} if any.
+     *
+     * @param request the request.
+     * @return the response.
+     * @see #retrieve(LrsrCldInfoServiceRequest)
+     */
+    protected @NotNull Response exchange(@NotNull final LrsrCldInfoServiceRequest request) {
+        Objects.requireNonNull(request, "request is null");
+        final LrsrCldInfoServicePageSize pageSize = pageSize();
+        if (pageSize == null || request.numOfRows() != LrsrCldInfoServiceRequest.ABSENT) {
+            return exchangeAsIs(request);
+        }
+        while (true) {
+            final int numOfRows = pageSize.numOfRows();
+            final Response response = exchangeAsIs(request.withNumOfRows(numOfRows));
+            if (!pageSize.learn(numOfRows, response)) {
+                return response;
+            }
+        }
+    }
+
+    /**
+     * Returns a function which exchanges pages of specified request as a single walk. The first page is exchanged as
+     * is, hence with a {@link #QUERY_PARAM_NAME_NUM_OF_ROWS ?numOfRows} from the {@link #pageSize() page size} if
+     * absent, and each following page is exchanged with the {@code numOfRows} of the first page; so that a change of
+     * the page size in the middle of the walk neither skips nor duplicates any item.
+     *
+     * @param request the request of any page.
+     * @return a function for exchanging a page of a page number.
+     */
+    protected @NotNull IntFunction<Response> pages(@NotNull final LrsrCldInfoServiceRequest request) {
+        Objects.requireNonNull(request, "request is null");
+        final AtomicInteger numOfRows = new AtomicInteger(request.numOfRows());
+        return pageNo -> {
+            final int fixed = numOfRows.get();
+            if (fixed != LrsrCldInfoServiceRequest.ABSENT) {
+                return exchange(request.withPageNo(pageNo).withNumOfRows(fixed));
+            }
+            final Response response = exchange(request.withPageNo(pageNo));
+            final int learned = response.getBody().getNumOfRows();
+            if (learned > 0) {
+                numOfRows.compareAndSet(LrsrCldInfoServiceRequest.ABSENT, learned);
+            }
+            return response;
+        };
+    }
+
+    private @NotNull Response exchangeAsIs(@NotNull final LrsrCldInfoServiceRequest request) {
+        final LrsrCldInfoServiceResponseCache responseCache = responseCache();
+        if (responseCache != null) {
+            final Response cached = responseCache.get(request);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        final Supplier<Response> supplier = () -> {
+            final Response response = retrieveGuarded(request);
+            if (responseCache != null && !response.isFallback()) {
+                responseCache.put(request, response);
+            }
+            return response;
+        };
+        final LrsrCldInfoServiceSingleFlight singleFlight = singleFlight();
+        if (singleFlight == null) {
+            return supplier.get();
+        }
+        return singleFlight.execute(request, supplier);
+    }
+
+    private @NotNull Response retrieveGuarded(@NotNull final LrsrCldInfoServiceRequest request) {
+        final LrsrCldInfoServiceCircuitBreaker circuitBreaker = circuitBreaker();
+        if (circuitBreaker == null) {
+            return retrieveRetried(request);
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            final Response fallback = fallback(request);
+            if (fallback == null) {
+                throw new LrsrCldInfoServiceCircuitOpenException("circuit open; no local data for " + request);
+            }
+            return fallback;
+        }
+        final Response response;
+        try {
+            response = retrieveRetried(request);
+        } catch (final RuntimeException re) {
+            if (isFailure(circuitBreaker, re)) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onIgnore();
+            }
+            throw re;
+        } catch (final Error e) {
+            circuitBreaker.onIgnore();
+            throw e;
+        }
+        circuitBreaker.onSuccess();
+        return response;
+    }
+
+    /**
+     * Indicates whether specified exception is a failure of the service.
+     *
+     * @param circuitBreaker the circuit breaker.
+     * @param exception      the exception.
+     * @return {@code true} if {@code exception} is a failure of the service; {@code false} otherwise.
+     */
+    private static boolean isFailure(final LrsrCldInfoServiceCircuitBreaker circuitBreaker,
+                                     final RuntimeException exception) {
+        if (exception instanceof UnsuccessfulResultException) {
+            final Header header = ((UnsuccessfulResultException) exception).getHeader();
+            return header != null && circuitBreaker.isFailureResultCode(header.getResultCode());
+        }
+        if (exception instanceof HttpStatusCodeException) {
+            return circuitBreaker.isFailureStatus(((HttpStatusCodeException) exception).getRawStatusCode());
+        }
+        return exception instanceof ResourceAccessException; // I/O errors including timeouts
+    }
+
+    private @NotNull Response retrieveRetried(@NotNull final LrsrCldInfoServiceRequest request) {
+        final LrsrCldInfoServiceRetryPolicy retryPolicy = retryPolicy();
+        if (retryPolicy == null) {
+            return retrieveHedged(request);
+        }
+        retryPolicy.onExchange();
+        for (int attempt = 1; ; attempt++) {
+            try {
+                final Response response = retrieveHedged(request);
+                if (attempt > 1) {
+                    retryPolicy.onRecovered();
+                }
+                return response;
+            } catch (final RuntimeException re) {
+                if (!isRetryable(retryPolicy, re) || !retryPolicy.tryRetry(attempt)) {
+                    throw re;
+                }
+                log.debug("retrying {} after attempt {} failed", request, attempt, re);
+                try {
+                    TimeUnit.NANOSECONDS.sleep(retryPolicy.backoff(attempt));
+                } catch (final InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    re.addSuppressed(ie);
+                    throw re;
+                }
+            }
+        }
+    }
+
+    /**
+     * Indicates whether specified exception is a transient failure.
+     *
+     * @param retryPolicy the retry policy.
+     * @param exception   the exception.
+     * @return {@code true} if {@code exception} is transient; {@code false} otherwise.
+     */
+    private static boolean isRetryable(final LrsrCldInfoServiceRetryPolicy retryPolicy,
+                                       final RuntimeException exception) {
+        if (exception instanceof UnsuccessfulResultException) {
+            final Header header = ((UnsuccessfulResultException) exception).getHeader();
+            return header != null && retryPolicy.isRetryableResultCode(header.getResultCode());
+        }
+        if (exception instanceof HttpStatusCodeException) {
+            return retryPolicy.isRetryableStatus(((HttpStatusCodeException) exception).getRawStatusCode());
+        }
+        return exception instanceof ResourceAccessException; // I/O errors including timeouts
+    }
+
+    private @NotNull Response retrieveHedged(@NotNull final LrsrCldInfoServiceRequest request) {
+        final LrsrCldInfoServiceHedgePolicy hedgePolicy = hedgePolicy();
+        if (hedgePolicy == null || hedgePolicy.executor() == null) {
+            return retrieveLimited(request);
+        }
+        final Executor executor = hedgePolicy.executor();
+        hedgePolicy.onExchange();
+        final long startedAt = System.nanoTime();
+        final CompletableFuture<Response> first = new CompletableFuture<>();
+        final FutureTask<?> primary = new FutureTask<>(() -> {
+            try {
+                first.complete(retrieveLimited(request));
+            } catch (final RuntimeException | Error e) {
+                first.completeExceptionally(e);
+            }
+        }, null);
+        executor.execute(primary);
+        FutureTask<?> hedge = null;
+        try {
+            try {
+                return first.get(hedgePolicy.delay(), TimeUnit.NANOSECONDS);
+            } catch (final TimeoutException te) {
+                // not answered in time
+            }
+            if (isHedgeAllowed(hedgePolicy)) {
+                log.debug("hedging {}", request);
+                hedge = new FutureTask<>(() -> {
+                    try {
+                        if (first.complete(retrieveHedge(request))) {
+                            hedgePolicy.onHedgeWon();
+                        }
+                    } catch (final RuntimeException | Error e) {
+                        log.debug("hedge of {} failed", request, e); // left to the primary
+                    }
+                }, null);
+                try {
+                    executor.execute(hedge);
+                } catch (final RejectedExecutionException ree) {
+                    log.debug("hedge of {} rejected", request, ree);
+                }
+            }
+            return first.get();
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("interrupted while waiting for a response", ie);
+        } catch (final ExecutionException ee) {
+            throw LrsrCldInfoServiceFutures.unchecked(ee);
+        } finally {
+            if (first.isDone() && !first.isCompletedExceptionally()) {
+                hedgePolicy.onLatency(System.nanoTime() - startedAt);
+            }
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private boolean isHedgeAllowed(@NotNull final LrsrCldInfoServiceHedgePolicy hedgePolicy) {
+        if (!hedgePolicy.tryHedge()) {
+            return false;
+        }
+        final LrsrCldInfoServiceRateLimiter rateLimiter = rateLimiter();
+        return rateLimiter == null || rateLimiter.tryAcquire(); // hedges never wait for permits
+    }
+
+    private @NotNull Response retrieveHedge(@NotNull final LrsrCldInfoServiceRequest request) {
+        final LrsrCldInfoServiceRateLimiter rateLimiter = rateLimiter();
+        try {
+            return retrieveConcurrencyLimited(request, this::retrieve);
+        } catch (final UnsuccessfulResultException ure) {
+            if (rateLimiter != null) {
+                rateLimiter.onResult(ure.getHeader());
+            }
+            throw ure;
+        }
+    }
+
+    private @NotNull Response retrieveLimited(@NotNull final LrsrCldInfoServiceRequest request) {
+        return retrieveLimited(request, this::retrieve);
+    }
+
+    private @NotNull Response retrieveLimited(
+            @NotNull final LrsrCldInfoServiceRequest request,
+            @NotNull final Function<? super LrsrCldInfoServiceRequest, Response> retriever) {
+        final LrsrCldInfoServiceRateLimiter rateLimiter = rateLimiter();
+        if (rateLimiter == null) {
+            return retrieveConcurrencyLimited(request, retriever);
+        }
+        rateLimiter.acquire();
+        try {
+            return retrieveConcurrencyLimited(request, retriever);
+        } catch (final UnsuccessfulResultException ure) {
+            rateLimiter.onResult(ure.getHeader());
+            throw ure;
+        }
+    }
+
+    private @NotNull Response retrieveConcurrencyLimited(
+            @NotNull final LrsrCldInfoServiceRequest request,
+            @NotNull final Function<? super LrsrCldInfoServiceRequest, Response> retriever) {
+        final LrsrCldInfoServiceConcurrencyLimiter concurrencyLimiter = concurrencyLimiter();
+        if (concurrencyLimiter == null) {
+            return retriever.apply(request);
+        }
+        final LrsrCldInfoServiceConcurrencyLimiter.Permit permit = concurrencyLimiter.acquire();
+        final Response response;
+        try {
+            response = retriever.apply(request);
+        } catch (final RuntimeException | Error e) {
+            permit.onDropped();
+            throw e;
+        }
+        permit.onSuccess();
+        return response;
+    }
+
+    /**
+     * Retrieves a response for specified request from the service.
+     *
+     * @param request the request.
+     * @return the response.
+     */
+    protected @NotNull Response retrieve(@NotNull final LrsrCldInfoServiceRequest request) {
+        if (isJson()) {
+            return retrieve(request, extractor(null));
+        }
+        return unwrap(restTemplate().exchange(url(request, LrsrCldInfoServiceWireFormat.XML), HttpMethod.GET, null,
+                                              Response.class));
+    }
+
+    /**
+     * Retrieves a response for specified request from the service with specified response extractor.
+     *
+     * @param request   the request.
+     * @param extractor the response extractor.
+     * @return the response.
+     */
+    protected @NotNull Response retrieve(@NotNull final LrsrCldInfoServiceRequest request,
+                                         @NotNull final LrsrCldInfoServiceResponseExtractor extractor) {
+        final Response response = restTemplate().execute(
+                url(request, extractor.wireFormat()), HttpMethod.GET,
+                r -> r.getHeaders().setAccept(extractor.wireFormat().mediaTypes()),
+                extractor);
+        if (response == null) {
+            throw new RestClientException("no entity body received");
+        }
+        return response;
+    }
+
+    private @NotNull LrsrCldInfoServiceResponseExtractor extractor(@Nullable final Consumer<? super Item> consumer) {
+        return new LrsrCldInfoServiceResponseExtractor(
+                isJson() ? LrsrCldInfoServiceWireFormat.JSON : LrsrCldInfoServiceWireFormat.XML,
+                UnsuccessfulResultException::new, consumer);
+    }
+
+    private @NotNull LrsrCldInfoServiceResponseExtractor sinkExtractor(
+            @NotNull final LrsrCldInfoServiceItemSink sink) {
+        return new LrsrCldInfoServiceResponseExtractor(UnsuccessfulResultException::new, sink); // always of XML
+    }
+
+    private @NotNull URI url(@NotNull final LrsrCldInfoServiceRequest request,
+                             @NotNull final LrsrCldInfoServiceWireFormat wireFormat) {
+        final UriComponentsBuilder builder = uriBuilderFromRootUri()
+                .queryParam(QUERY_PARAM_NAME_SERVICE_KEY, serviceKey());
+        if (wireFormat == LrsrCldInfoServiceWireFormat.JSON) {
+            builder.queryParam(QUERY_PARAM_NAME_TYPE, QUERY_PARAM_VALUE_TYPE_JSON);
+        }
+        request.appendTo(builder);
+        return builder
+                .encode() // ?ServiceKey
+                .build()
+                .toUri();
+    }
+
     // -----------------------------------------------------------------------------------------------------------------
 
     /**
@@ -0,0 +1,378 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An adaptive limiter of concurrent requests which can be shared by {@link LrsrCldInfoServiceClient} and {@link
+ * LrsrCldInfoServiceReactiveClient}.
+ * <p>
+ * The limit is adjusted with the additive-increase/multiplicative-decrease rule from the latency and the outcome of
+ * each exchange. While the smoothed latency stays within twice the minimum latency observed, the limit is raised by
+ * one per limit's worth of successful exchanges; otherwise it is cut by ten percent. A failed exchange halves the
+ * limit. Requests over the limit wait, in arrival order, for permits being released.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see AbstractLrsrCldInfoServiceClient#concurrencyLimiter()
+ */
+@Slf4j
+public class LrsrCldInfoServiceConcurrencyLimiter {
+
+    /**
+     * The default initial limit. The value is {@value}.
+     */
+    public static final int DEFAULT_INITIAL_LIMIT = 4;
+
+    /**
+     * The default minimum limit. The value is {@value}.
+     */
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    /**
+     * The default maximum limit. The value is {@value}.
+     */
+    public static final int DEFAULT_MAX_LIMIT = 64;
+
+    /**
+     * The ratio of the smoothed latency to the minimum latency over which the latency is regarded as climbing. The
+     * value is {@value}.
+     */
+    static final double LATENCY_TOLERANCE = 2.0d;
+
+    /**
+     * The factor applied to the limit when the latency climbs. The value is {@value}.
+     */
+    static final double LATENCY_BACKOFF = .9d;
+
+    /**
+     * The factor applied to the limit when an exchange fails. The value is {@value}.
+     */
+    static final double ERROR_BACKOFF = .5d;
+
+    /**
+     * The weight of each latency in the smoothed latency. The value is {@value}.
+     */
+    private static final double SMOOTHING = .2d;
+
+    /**
+     * The number of samples after which the minimum latency is re-probed. The value is {@value}.
+     */
+    private static final int PROBE_SAMPLES = 256;
+
+    /**
+     * A permit for a single exchange. Each permit should be released, exactly once, by one of {@link #onSuccess()},
+     * {@link #onDropped()}, or {@link #onIgnore()}; calls other than the first are ignored.
+     */
+    public final class Permit {
+
+        private Permit(final long startedAt) {
+            super();
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * Releases this permit with the latency of a successful exchange.
+         */
+        public void onSuccess() {
+            if (released.compareAndSet(false, true)) {
+                release(ticker.getAsLong() - startedAt, false, true);
+            }
+        }
+
+        /**
+         * Releases this permit for a failed exchange.
+         */
+        public void onDropped() {
+            if (released.compareAndSet(false, true)) {
+                release(ticker.getAsLong() - startedAt, true, true);
+            }
+        }
+
+        /**
+         * Releases this permit without affecting the limit; e.g., when the exchange has been cancelled.
+         */
+        public void onIgnore() {
+            if (released.compareAndSet(false, true)) {
+                release(0L, false, false);
+            }
+        }
+
+        private final long startedAt;
+
+        private final AtomicBoolean released = new AtomicBoolean();
+    }
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance with {@link #DEFAULT_INITIAL_LIMIT}, {@link #DEFAULT_MIN_LIMIT}, and {@link
+     * #DEFAULT_MAX_LIMIT}.
+     */
+    public LrsrCldInfoServiceConcurrencyLimiter() {
+        this(DEFAULT_INITIAL_LIMIT, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT);
+    }
+
+    /**
+     * Creates a new instance with specified limits.
+     *
+     * @param initialLimit the initial limit.
+     * @param minLimit     the minimum limit.
+     * @param maxLimit     the maximum limit.
+     */
+    public LrsrCldInfoServiceConcurrencyLimiter(@Positive final int initialLimit, @Positive final int minLimit,
+                                                @Positive final int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, System::nanoTime);
+    }
+
+    /**
+     * Creates a new instance with specified arguments.
+     *
+     * @param initialLimit the initial limit.
+     * @param minLimit     the minimum limit.
+     * @param maxLimit     the maximum limit.
+     * @param ticker       a source of nanoseconds for measuring latencies.
+     */
+    LrsrCldInfoServiceConcurrencyLimiter(final int initialLimit, final int minLimit, final int maxLimit,
+                                         final LongSupplier ticker) {
+        super();
+        if (minLimit <= 0) {
+            throw new IllegalArgumentException("minLimit(" + minLimit + ") is not positive");
+        }
+        if (maxLimit < minLimit) {
+            throw new IllegalArgumentException("maxLimit(" + maxLimit + ") < minLimit(" + minLimit + ")");
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException(
+                    "initialLimit(" + initialLimit + ") is not in [" + minLimit + ", " + maxLimit + "]");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.ticker = requireNonNull(ticker, "ticker is null");
+        limit = initialLimit;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Acquires a permit, waiting if necessary.
+     *
+     * @return a permit.
+     */
+    public @NotNull Permit acquire() {
+        final CompletableFuture<Permit> future = acquireAsync();
+        try {
+            return future.get();
+        } catch (final InterruptedException ie) {
+            if (!future.cancel(false)) {
+                future.join().onIgnore();
+            }
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("interrupted while waiting for a permit", ie);
+        } catch (final ExecutionException ee) {
+            throw LrsrCldInfoServiceFutures.unchecked(ee);
+        }
+    }
+
+    /**
+     * Returns a future of a permit which completes as soon as the permit is available. Cancelling the future, before it
+     * completes, withdraws the request.
+     *
+     * @return a future of a permit.
+     */
+    public @NotNull CompletableFuture<Permit> acquireAsync() {
+        final CompletableFuture<Permit> future = new CompletableFuture<>();
+        synchronized (waiters) {
+            if (waiters.isEmpty() && inFlight < (int) limit) {
+                inFlight++;
+                future.complete(new Permit(ticker.getAsLong()));
+                return future;
+            }
+            waiters.addLast(future);
+        }
+        queued.increment();
+        future.whenComplete((p, t) -> {
+            if (future.isCancelled()) {
+                synchronized (waiters) {
+                    waiters.remove(future);
+                }
+            }
+        });
+        return future;
+    }
+
+    private void release(final long latency, final boolean dropped, final boolean sample) {
+        final List<CompletableFuture<Permit>> granted;
+        synchronized (waiters) {
+            inFlight--;
+            if (sample) {
+                sample(latency, dropped);
+            }
+            granted = grant();
+        }
+        for (final CompletableFuture<Permit> future : granted) {
+            if (!future.complete(new Permit(ticker.getAsLong()))) { // cancelled meanwhile
+                release(0L, false, false);
+            }
+        }
+    }
+
+    // guarded by waiters
+    private List<CompletableFuture<Permit>> grant() {
+        List<CompletableFuture<Permit>> granted = Collections.emptyList();
+        while (inFlight < (int) limit && !waiters.isEmpty()) {
+            final CompletableFuture<Permit> future = waiters.pollFirst();
+            if (future.isDone()) {
+                continue;
+            }
+            if (granted.isEmpty()) {
+                granted = new ArrayList<>();
+            }
+            granted.add(future);
+            inFlight++;
+        }
+        return granted;
+    }
+
+    // guarded by waiters
+    private void sample(final long latency, final boolean dropped) {
+        final double previous = limit;
+        if (dropped) {
+            drops.increment();
+            limit = Math.max(minLimit, limit * ERROR_BACKOFF);
+        } else {
+            smoothedLatency = smoothedLatency == 0.0d
+                              ? latency : smoothedLatency + (latency - smoothedLatency) * SMOOTHING;
+            if (++samples % PROBE_SAMPLES == 0 || minLatency == 0L) {
+                minLatency = Math.max(1L, Math.min(latency, (long) smoothedLatency));
+            } else {
+                minLatency = Math.max(1L, Math.min(minLatency, latency));
+            }
+            if (smoothedLatency > minLatency * LATENCY_TOLERANCE) {
+                limit = Math.max(minLimit, limit * LATENCY_BACKOFF);
+            } else if (inFlight + 1 >= limit / 2) { // only when the limit is actually being used
+                limit = Math.min(maxLimit, limit + 1.0d / limit);
+            }
+        }
+        if ((int) previous != (int) limit) {
+            log.debug("limit changed from {} to {}", (int) previous, (int) limit);
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------------------- statistics
+
+    /**
+     * Returns the current limit.
+     *
+     * @return the current limit.
+     */
+    public int limit() {
+        synchronized (waiters) {
+            return (int) limit;
+        }
+    }
+
+    /**
+     * Returns the number of permits currently acquired.
+     *
+     * @return the number of permits in flight.
+     */
+    public int inFlight() {
+        synchronized (waiters) {
+            return inFlight;
+        }
+    }
+
+    /**
+     * Returns the number of requests currently waiting for permits.
+     *
+     * @return the number of requests waiting.
+     */
+    public int queueDepth() {
+        synchronized (waiters) {
+            return waiters.size();
+        }
+    }
+
+    /**
+     * Returns the smoothed latency of successful exchanges.
+     *
+     * @return the smoothed latency; {@link Duration#ZERO} if no exchange has succeeded yet.
+     */
+    public @NotNull Duration smoothedLatency() {
+        synchronized (waiters) {
+            return Duration.ofNanos((long) smoothedLatency);
+        }
+    }
+
+    /**
+     * Returns the number of requests which had to wait for permits.
+     *
+     * @return the number of queued requests.
+     */
+    public long queuedCount() {
+        return queued.sum();
+    }
+
+    /**
+     * Returns the number of failed exchanges.
+     *
+     * @return the number of dropped permits.
+     */
+    public long droppedCount() {
+        return drops.sum();
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+
+    /**
+     * The minimum limit.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int minLimit;
+
+    /**
+     * The maximum limit.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int maxLimit;
+
+    private final LongSupplier ticker;
+
+    /**
+     * Requests waiting for permits in arrival order; also guards the state below.
+     */
+    private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+
+    private double limit;
+
+    private int inFlight;
+
+    private double smoothedLatency;
+
+    private long minLatency;
+
+    private long samples;
+
+    private final LongAdder queued = new LongAdder();
+
+    private final LongAdder drops = new LongAdder();
+}
@@ -0,0 +1,94 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import org.springframework.lang.Nullable;
+
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A utility class for {@link CompletableFuture}s of the asynchronous methods of {@link LrsrCldInfoServiceClient}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public final class LrsrCldInfoServiceFutures {
+
+    /**
+     * A lazily initialized scheduler for timeouts.
+     */
+    private static final class Delayer {
+
+        private static final ScheduledThreadPoolExecutor SCHEDULER;
+
+        static {
+            SCHEDULER = new ScheduledThreadPoolExecutor(1, r -> {
+                final Thread thread = new Thread(r, "LrsrCldInfoServiceFuturesDelayer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            SCHEDULER.setRemoveOnCancelPolicy(true);
+        }
+
+        private Delayer() {
+            throw new AssertionError("instantiation is not allowed");
+        }
+    }
+
+    /**
+     * Completes specified future exceptionally with a {@link TimeoutException} if not completed before specified
+     * timeout elapses. This method is a substitute of {@code CompletableFuture#orTimeout} which is not available in
+     * Java 8.
+     *
+     * @param future  the future.
+     * @param timeout the timeout; {@code null} for no timeout.
+     * @param <T>     result type parameter
+     * @return given {@code future}.
+     */
+    public static <T> CompletableFuture<T> orTimeout(@NotNull final CompletableFuture<T> future,
+                                                     @Nullable final Duration timeout) {
+        requireNonNull(future, "future is null");
+        if (timeout == null || future.isDone()) {
+            return future;
+        }
+        final ScheduledFuture<?> scheduled = Delayer.SCHEDULER.schedule(
+                () -> future.completeExceptionally(new TimeoutException("timed out after " + timeout)),
+                timeout.toNanos(), TimeUnit.NANOSECONDS);
+        future.whenComplete((r, t) -> scheduled.cancel(false));
+        return future;
+    }
+
+    /**
+     * Returns an unchecked exception of specified throwable, unwrapping {@link CompletionException}s and {@link
+     * ExecutionException}s.
+     *
+     * @param throwable the throwable.
+     * @return an unchecked exception of the {@code throwable}.
+     * @throws Error if the cause is an error.
+     */
+    static RuntimeException unchecked(@NotNull Throwable throwable) {
+        requireNonNull(throwable, "throwable is null");
+        while ((throwable instanceof CompletionException || throwable instanceof ExecutionException)
+               && throwable.getCause() != null) {
+            throwable = throwable.getCause();
+        }
+        if (throwable instanceof Error) {
+            throw (Error) throwable;
+        }
+        if (throwable instanceof RuntimeException) {
+            return (RuntimeException) throwable;
+        }
+        return new CompletionException(throwable);
+    }
+
+    private LrsrCldInfoServiceFutures() {
+        throw new AssertionError("instantiation is not allowed");
+    }
+}
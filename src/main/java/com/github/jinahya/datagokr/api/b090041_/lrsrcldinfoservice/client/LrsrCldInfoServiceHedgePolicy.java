@@ -0,0 +1,252 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import javax.validation.constraints.NotNull;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A policy for hedging exchanges which can be shared by {@link LrsrCldInfoServiceClient} and {@link
+ * LrsrCldInfoServiceReactiveClient}.
+ * <p>
+ * When an exchange has not answered within a percentile of recent latencies, a duplicate exchange is sent and whichever
+ * answers first wins while the other is cancelled. Hedges are bounded by a budget which is refilled by a ratio of
+ * exchanges, and never wait for the {@link LrsrCldInfoServiceRateLimiter rate limiter}. The blocking client hedges
+ * only when an {@link #executor() executor} is specified.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see AbstractLrsrCldInfoServiceClient#hedgePolicy()
+ */
+@Slf4j
+public class LrsrCldInfoServiceHedgePolicy {
+
+    /**
+     * The default percentile of latencies after which a hedge is sent. The value is {@value}.
+     */
+    public static final double DEFAULT_PERCENTILE = .95d;
+
+    /**
+     * The default minimum delay of hedges.
+     */
+    public static final Duration DEFAULT_MIN_DELAY = Duration.ofMillis(50L);
+
+    /**
+     * The default maximum delay of hedges, which is also used until enough latencies are sampled.
+     */
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(2L);
+
+    /**
+     * The default ratio of hedges to exchanges. The value is {@value}.
+     */
+    public static final double DEFAULT_BUDGET_RATIO = .05d;
+
+    /**
+     * The number of recent latencies sampled. The value is {@value}.
+     */
+    static final int SAMPLES = 1024;
+
+    /**
+     * The number of latencies after which the delay is evaluated again. The value is {@value}.
+     */
+    static final int EVALUATION_INTERVAL = 64;
+
+    private static final long MILLI_TOKENS = 1000L;
+
+    private static final long CAPACITY = 10L * MILLI_TOKENS;
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance with default values and no executor.
+     */
+    public LrsrCldInfoServiceHedgePolicy() {
+        this(DEFAULT_PERCENTILE, DEFAULT_MIN_DELAY, DEFAULT_MAX_DELAY, DEFAULT_BUDGET_RATIO, null);
+    }
+
+    /**
+     * Creates a new instance with specified arguments.
+     *
+     * @param percentile  the percentile of latencies, in {@code (0, 1)}, after which a hedge is sent.
+     * @param minDelay    the minimum delay of hedges.
+     * @param maxDelay    the maximum delay of hedges.
+     * @param budgetRatio the ratio of hedges to exchanges.
+     * @param executor    an executor on which the blocking client runs exchanges and hedges; {@code null} for not
+     *                    hedging blocking exchanges.
+     */
+    public LrsrCldInfoServiceHedgePolicy(final double percentile, @NotNull final Duration minDelay,
+                                         @NotNull final Duration maxDelay, final double budgetRatio,
+                                         @Nullable final Executor executor) {
+        super();
+        if (!(percentile > 0.0d && percentile < 1.0d)) {
+            throw new IllegalArgumentException("percentile(" + percentile + ") is not in (0, 1)");
+        }
+        requireNonNull(minDelay, "minDelay is null");
+        if (minDelay.isNegative()) {
+            throw new IllegalArgumentException("minDelay(" + minDelay + ") is negative");
+        }
+        requireNonNull(maxDelay, "maxDelay is null");
+        if (maxDelay.compareTo(minDelay) < 0) {
+            throw new IllegalArgumentException("maxDelay(" + maxDelay + ") < minDelay(" + minDelay + ")");
+        }
+        if (!(budgetRatio >= 0.0d && budgetRatio <= 1.0d)) {
+            throw new IllegalArgumentException("budgetRatio(" + budgetRatio + ") is not in [0, 1]");
+        }
+        this.percentile = percentile;
+        this.minDelay = minDelay;
+        this.maxDelay = maxDelay;
+        this.executor = executor;
+        deposit = Math.round(budgetRatio * MILLI_TOKENS);
+        delay = maxDelay.toNanos();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the current delay after which a hedge is sent.
+     *
+     * @return the current delay in nanoseconds.
+     */
+    public long delay() {
+        return delay;
+    }
+
+    /**
+     * Notifies that an exchange is about to be sent, which refills the budget.
+     */
+    public void onExchange() {
+        if (deposit == 0L) {
+            return;
+        }
+        balance.accumulateAndGet(deposit, (b, d) -> Math.min(CAPACITY, b + d));
+    }
+
+    /**
+     * Notifies the latency of an exchange, including hedged ones.
+     *
+     * @param latency the latency in nanoseconds.
+     */
+    public void onLatency(final long latency) {
+        final long count = this.count.getAndIncrement();
+        samples.set((int) (count % SAMPLES), Math.max(0L, latency));
+        if ((count + 1) % EVALUATION_INTERVAL == 0) {
+            evaluate((int) Math.min(count + 1, SAMPLES));
+        }
+    }
+
+    private void evaluate(final int size) {
+        final long[] sorted = new long[size];
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+        Arrays.sort(sorted);
+        final long value = sorted[(int) Math.min(size - 1, Math.ceil(percentile * size) - 1)];
+        delay = Math.max(minDelay.toNanos(), Math.min(maxDelay.toNanos(), value));
+    }
+
+    /**
+     * Checks whether a hedge is allowed, and withdraws the hedge from the budget if allowed.
+     *
+     * @return {@code true} if a hedge is allowed; {@code false} otherwise.
+     */
+    public boolean tryHedge() {
+        while (true) {
+            final long current = balance.get();
+            if (current < MILLI_TOKENS) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - MILLI_TOKENS)) {
+                hedges.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Notifies that a hedge answered first.
+     */
+    public void onHedgeWon() {
+        hedgesWon.increment();
+    }
+
+    // ------------------------------------------------------------------------------------------------------- statistics
+
+    /**
+     * Returns the number of hedges sent.
+     *
+     * @return the number of hedges.
+     */
+    public long hedgeCount() {
+        return hedges.sum();
+    }
+
+    /**
+     * Returns the number of hedges answered first.
+     *
+     * @return the number of hedges won.
+     */
+    public long hedgeWonCount() {
+        return hedgesWon.sum();
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+
+    /**
+     * The percentile of latencies after which a hedge is sent.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final double percentile;
+
+    /**
+     * The minimum delay of hedges.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final Duration minDelay;
+
+    /**
+     * The maximum delay of hedges.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final Duration maxDelay;
+
+    /**
+     * An executor on which the blocking client runs exchanges and hedges; {@code null} for not hedging blocking
+     * exchanges.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    @Nullable
+    private final Executor executor;
+
+    /**
+     * The milli-tokens deposited for each exchange.
+     */
+    private final long deposit;
+
+    /**
+     * The current milli-tokens in the budget; a hedge costs {@value #MILLI_TOKENS}.
+     */
+    private final AtomicLong balance = new AtomicLong();
+
+    private final AtomicLongArray samples = new AtomicLongArray(SAMPLES);
+
+    private final AtomicLong count = new AtomicLong();
+
+    private volatile long delay;
+
+    private final LongAdder hedges = new LongAdder();
+
+    private final LongAdder hedgesWon = new LongAdder();
+}
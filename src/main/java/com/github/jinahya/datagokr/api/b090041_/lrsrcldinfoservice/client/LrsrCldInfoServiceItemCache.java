@@ -0,0 +1,291 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A read-through cache of {@link Item}s for solar dates which can be shared by {@link LrsrCldInfoServiceClient} and
+ * {@link LrsrCldInfoServiceReactiveClient}.
+ * <p>
+ * Items are kept in a lock-free array slotted by {@link LocalDate#toEpochDay() epoch-day} within a fixed window and
+ * are populated a whole solar month at a time. Cached items are shared among callers and should not be modified.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see AbstractLrsrCldInfoServiceClient#itemCache()
+ */
+@Slf4j
+public class LrsrCldInfoServiceItemCache {
+
+    /**
+     * The default lower bound of the window, inclusive, which is {@code 1900-01-01}.
+     */
+    public static final LocalDate DEFAULT_LOWER = LocalDate.of(1900, 1, 1);
+
+    /**
+     * The default upper bound of the window, inclusive, which is {@code 2050-12-31}.
+     */
+    public static final LocalDate DEFAULT_UPPER = LocalDate.of(2050, 12, 31);
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance with {@link #DEFAULT_LOWER} and {@link #DEFAULT_UPPER}.
+     */
+    public LrsrCldInfoServiceItemCache() {
+        this(DEFAULT_LOWER, DEFAULT_UPPER);
+    }
+
+    /**
+     * Creates a new instance with specified window.
+     *
+     * @param lower the lower bound of the window, inclusive.
+     * @param upper the upper bound of the window, inclusive.
+     */
+    public LrsrCldInfoServiceItemCache(@NotNull final LocalDate lower, @NotNull final LocalDate upper) {
+        super();
+        this.lower = requireNonNull(lower, "lower is null");
+        this.upper = requireNonNull(upper, "upper is null");
+        if (upper.isBefore(lower)) {
+            throw new IllegalArgumentException("upper(" + upper + ") is before lower(" + lower + ")");
+        }
+        final long length = upper.toEpochDay() - lower.toEpochDay() + 1L;
+        if (length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("window is too wide: " + lower + " ~ " + upper);
+        }
+        offset = lower.toEpochDay();
+        slots = new AtomicReferenceArray<>((int) length);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Indicates whether specified date is in the window of this cache.
+     *
+     * @param date the date to check.
+     * @return {@code true} if {@code date} is in the window; {@code false} otherwise.
+     */
+    public boolean covers(@NotNull final LocalDate date) {
+        requireNonNull(date, "date is null");
+        return !date.isBefore(lower) && !date.isAfter(upper);
+    }
+
+    /**
+     * Indicates whether all days of specified month are in the window of this cache.
+     *
+     * @param month the month to check.
+     * @return {@code true} if whole {@code month} is in the window; {@code false} otherwise.
+     */
+    public boolean covers(@NotNull final YearMonth month) {
+        requireNonNull(month, "month is null");
+        return covers(month.atDay(1)) && covers(month.atEndOfMonth());
+    }
+
+    /**
+     * Returns the item cached for specified date.
+     *
+     * @param date the date.
+     * @return the item cached for {@code date}; {@code null} if not cached.
+     */
+    public @Nullable Item get(@NotNull final LocalDate date) {
+        if (!covers(date)) {
+            misses.increment();
+            return null;
+        }
+        final Item item = slots.get(slot(date.toEpochDay()));
+        if (item == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return item;
+    }
+
+    /**
+     * Returns cached items of specified month.
+     *
+     * @param month the month.
+     * @param day   a day of the {@code month}; {@code null} for all days of the {@code month}.
+     * @return a list of cached items, which is empty if the {@code day} is not of the {@code month}, e.g., {@code 30}
+     * of February; {@code null} if any of requested days is not cached.
+     */
+    public @Nullable List<Item> get(@NotNull final YearMonth month, @Nullable final Integer day) {
+        requireNonNull(month, "month is null");
+        if (!covers(month)) {
+            misses.increment();
+            return null;
+        }
+        if (day != null && (day < 1 || day > month.lengthOfMonth())) {
+            hits.increment(); // just like the service, which sends no items for such a day
+            return new ArrayList<>(0);
+        }
+        final int first = slot(month.atDay(day == null ? 1 : day).toEpochDay());
+        final int last = day == null ? slot(month.atEndOfMonth().toEpochDay()) : first;
+        final List<Item> items = new ArrayList<>(last - first + 1);
+        for (int i = first; i <= last; i++) {
+            final Item item = slots.get(i);
+            if (item == null) {
+                misses.increment();
+                return null;
+            }
+            items.add(item);
+        }
+        hits.increment();
+        return items;
+    }
+
+    /**
+     * Returns items of specified month, loading the whole month with specified loader if any of requested days is not
+     * cached.
+     *
+     * @param month  the month.
+     * @param day    a day of the {@code month}; {@code null} for all days of the {@code month}.
+     * @param loader a function loads all items of a month.
+     * @return a list of items.
+     * @see #loaded(YearMonth, Integer, List)
+     */
+    public @NotNull List<Item> get(@NotNull final YearMonth month, @Nullable final Integer day,
+                                   @NotNull final Function<? super YearMonth, ? extends List<Item>> loader) {
+        requireNonNull(loader, "loader is null");
+        final List<Item> cached = get(month, day);
+        if (cached != null) {
+            return cached;
+        }
+        return loaded(month, day, loader.apply(month));
+    }
+
+    /**
+     * Stores all items loaded for specified month and returns those of specified day.
+     *
+     * @param month the month whose items are loaded.
+     * @param day   a day of the {@code month} to select; {@code null} for all days.
+     * @param items the items loaded for the {@code month}.
+     * @return a list of selected items.
+     */
+    public @NotNull List<Item> loaded(@NotNull final YearMonth month, @Nullable final Integer day,
+                                      @NotNull final List<Item> items) {
+        requireNonNull(month, "month is null");
+        requireNonNull(items, "items is null");
+        loads.increment();
+        putAll(items);
+        if (day == null) {
+            return new ArrayList<>(items);
+        }
+        final List<Item> selected = new ArrayList<>(1);
+        for (final Item item : items) {
+            if (day.equals(item.getSolDay())) {
+                selected.add(item);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Stores specified item.
+     *
+     * @param item the item to store.
+     * @return {@code true} if {@code item} is stored; {@code false} if {@code item}'s solar date is out of the window.
+     */
+    public boolean put(@NotNull final Item item) {
+        requireNonNull(item, "item is null");
+        final LocalDate date = item.getSolarDate();
+        if (!covers(date)) {
+            return false;
+        }
+        slots.lazySet(slot(date.toEpochDay()), item);
+        return true;
+    }
+
+    /**
+     * Stores all specified items.
+     *
+     * @param items the items to store.
+     */
+    public void putAll(@NotNull final Iterable<? extends Item> items) {
+        requireNonNull(items, "items is null");
+        for (final Item item : items) {
+            put(item);
+        }
+    }
+
+    /**
+     * Removes all cached items.
+     */
+    public void clear() {
+        for (int i = 0; i < slots.length(); i++) {
+            slots.lazySet(i, null);
+        }
+    }
+
+    private int slot(final long epochDay) {
+        return (int) (epochDay - offset);
+    }
+
+    // ------------------------------------------------------------------------------------------------------- statistics
+
+    /**
+     * Returns the number of lookups served from this cache.
+     *
+     * @return the number of hits.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups not served from this cache.
+     *
+     * @return the number of misses.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the number of months loaded into this cache.
+     *
+     * @return the number of loads.
+     */
+    public long loadCount() {
+        return loads.sum();
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+
+    /**
+     * The lower bound of the window, inclusive.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final LocalDate lower;
+
+    /**
+     * The upper bound of the window, inclusive.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final LocalDate upper;
+
+    private final long offset;
+
+    private final AtomicReferenceArray<Item> slots;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder loads = new LongAdder();
+}
@@ -0,0 +1,139 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.xml.XmlEventDecoder;
+import org.springframework.lang.Nullable;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import javax.validation.constraints.NotNull;
+import javax.xml.stream.events.XMLEvent;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A decoder which decodes the items of a response, one by one, from XML events rather than binding the whole tree with
+ * JAXB. The {@code /:response/:header} is verified before any item is emitted, and each item is emitted as soon as its
+ * element is closed. The events are split by an {@link XmlEventDecoder}, which parses data buffers as they arrive only
+ * when the Aalto XML parser ({@code com.fasterxml:aalto-xml}), an optional dependency, is on the classpath; otherwise
+ * each response is aggregated, up to the {@link #setMaxInMemorySize(int) maximum in-memory size}, before it is parsed.
+ * Each data buffer is released as soon as it is parsed, or, when the flux is cancelled, as soon as it is discarded.
+ * <p>
+ * The header and the body of a response, which follows the items, may be received, when the flux completes, with a
+ * {@link #RESPONSE_HINT hint}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LrsrCldInfoServiceResponseExtractor
+ */
+@Slf4j
+public class LrsrCldInfoServiceItemDecoder extends AbstractDecoder<Item> {
+
+    /**
+     * The name of a hint whose value is a {@code Consumer<? super Response>} which receives, when all items are
+     * decoded, a response of the header and the body, without any items.
+     */
+    public static final String RESPONSE_HINT = LrsrCldInfoServiceItemDecoder.class.getName() + ".response";
+
+    private static final ResolvableType XML_EVENT_TYPE = ResolvableType.forClass(XMLEvent.class);
+
+    /**
+     * Indicates whether the Aalto XML parser, with which data buffers are parsed as they arrive, is available.
+     */
+    static final boolean AALTO_PRESENT = ClassUtils.isPresent(
+            "com.fasterxml.aalto.AsyncXMLStreamReader", LrsrCldInfoServiceItemDecoder.class.getClassLoader());
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance which signals {@link LrsrCldInfoServiceReactiveClient.UnsuccessfulResultException} for
+     * unsuccessful result codes.
+     */
+    public LrsrCldInfoServiceItemDecoder() {
+        this(LrsrCldInfoServiceReactiveClient.UnsuccessfulResultException::new);
+    }
+
+    /**
+     * Creates a new instance with specified function for unsuccessful result codes.
+     *
+     * @param unsuccessful a function for an exception of a header with an unsuccessful result code.
+     */
+    public LrsrCldInfoServiceItemDecoder(
+            @NotNull final Function<? super Header, ? extends RuntimeException> unsuccessful) {
+        super(MimeTypeUtils.APPLICATION_XML, MimeTypeUtils.TEXT_XML, new MimeType("application", "*+xml"));
+        this.unsuccessful = requireNonNull(unsuccessful, "unsuccessful is null");
+        if (!AALTO_PRESENT) {
+            log.warn("com.fasterxml:aalto-xml is not on the classpath; each response will be aggregated, up to the"
+                     + " maximum in-memory size, before its items are decoded");
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public boolean canDecode(@NotNull final ResolvableType elementType, @Nullable final MimeType mimeType) {
+        return Item.class == elementType.toClass() && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public @NotNull Flux<Item> decode(@NotNull final Publisher<DataBuffer> inputStream,
+                                      @NotNull final ResolvableType elementType,
+                                      @Nullable final MimeType mimeType, @Nullable final Map<String, Object> hints) {
+        final Flux<XMLEvent> events = xmlEventDecoder.decode(inputStream, XML_EVENT_TYPE, mimeType, hints);
+        @SuppressWarnings({"unchecked"})
+        final Consumer<? super Response> consumer
+                = hints == null ? null : (Consumer<? super Response>) hints.get(RESPONSE_HINT);
+        return Flux.defer(() -> {
+            final LrsrCldInfoServiceXmlParser parser = new LrsrCldInfoServiceXmlParser(unsuccessful);
+            final Flux<Item> items = events.handle((event, sink) -> {
+                final Item item;
+                try {
+                    item = parser.accept(event);
+                } catch (final IllegalArgumentException iae) {
+                    sink.error(new DecodingException("failed to decode an item", iae));
+                    return;
+                } catch (final RuntimeException re) {
+                    sink.error(re);
+                    return;
+                }
+                if (item != null) {
+                    sink.next(item);
+                }
+            });
+            if (consumer == null) {
+                return items;
+            }
+            return items.concatWith(Mono.fromRunnable(() -> consumer.accept(parser.response(null))));
+        }).doOnDiscard(DataBuffer.class, DataBufferUtils::release); // e.g. buffers prefetched before a cancellation
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Sets the maximum number of bytes buffered for an XML event when the Aalto XML parser is not available.
+     *
+     * @param byteCount the maximum number of bytes; {@code -1} for unlimited.
+     * @see XmlEventDecoder#setMaxInMemorySize(int)
+     */
+    public void setMaxInMemorySize(final int byteCount) {
+        xmlEventDecoder.setMaxInMemorySize(byteCount);
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+    private final Function<? super Header, ? extends RuntimeException> unsuccessful;
+
+    private final XmlEventDecoder xmlEventDecoder = new XmlEventDecoder();
+}
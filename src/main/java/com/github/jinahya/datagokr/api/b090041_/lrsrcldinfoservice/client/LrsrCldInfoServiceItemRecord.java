@@ -0,0 +1,170 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar.Ganzhi;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.validation.constraints.NotNull;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A reusable holder of the primitive values of an item. Values are bound straight from the characters of each
+ * property, without creating strings or boxed values, and are passed to an {@link LrsrCldInfoServiceItemSink}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LrsrCldInfoServiceXmlParser
+ */
+@Slf4j
+final class LrsrCldInfoServiceItemRecord {
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance.
+     */
+    LrsrCldInfoServiceItemRecord() {
+        super();
+        clear();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Clears all values.
+     */
+    void clear() {
+        solYear = 0;
+        solMonth = 0;
+        solDay = 0;
+        lunYear = 0;
+        lunMonth = 0;
+        lunLeapmonth = false;
+        lunDay = 0;
+        lunNday = 0;
+        solJd = 0L;
+        lunSecha = Ganzhi.NONE;
+        lunWolgeon = Ganzhi.NONE;
+        lunIljin = Ganzhi.NONE;
+    }
+
+    /**
+     * Binds specified textual value of specified property.
+     *
+     * @param name the name of the property.
+     * @param text the textual value of the property.
+     * @throws IllegalArgumentException if the {@code text} is not valid.
+     */
+    void bind(@NotNull final String name, @NotNull final CharSequence text) {
+        int start = 0;
+        int end = text.length();
+        while (start < end && Character.isWhitespace(text.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(text.charAt(end - 1))) {
+            end--;
+        }
+        switch (name) {
+            case "solYear":
+                solYear = (int) parseLong(name, text, start, end);
+                break;
+            case "solMonth":
+                solMonth = (int) parseLong(name, text, start, end);
+                break;
+            case "solDay":
+                solDay = (int) parseLong(name, text, start, end);
+                break;
+            case "lunYear":
+                lunYear = (int) parseLong(name, text, start, end);
+                break;
+            case "lunMonth":
+                lunMonth = (int) parseLong(name, text, start, end);
+                break;
+            case "lunLeapmonth":
+                lunLeapmonth = end - start == 1 && text.charAt(start) == Item.LEAP.charAt(0);
+                break;
+            case "lunDay":
+                lunDay = (int) parseLong(name, text, start, end);
+                break;
+            case "lunNday":
+                lunNday = (int) parseLong(name, text, start, end);
+                break;
+            case "solJd":
+                solJd = parseLong(name, text, start, end);
+                break;
+            case "lunSecha":
+                lunSecha = parseGanzhi(name, text, start, end);
+                break;
+            case "lunWolgeon":
+                lunWolgeon = parseGanzhi(name, text, start, end);
+                break;
+            case "lunIljin":
+                lunIljin = parseGanzhi(name, text, start, end);
+                break;
+            default: // e.g. solLeapyear, solWeek
+                break;
+        }
+    }
+
+    /**
+     * Passes all values to specified sink.
+     *
+     * @param sink the sink.
+     */
+    void emitTo(@NotNull final LrsrCldInfoServiceItemSink sink) {
+        requireNonNull(sink, "sink is null");
+        sink.accept(solYear, solMonth, solDay, lunYear, lunMonth, lunLeapmonth, lunDay, lunNday, solJd, lunSecha,
+                    lunWolgeon, lunIljin);
+    }
+
+    private static long parseLong(final String name, final CharSequence text, final int start, final int end) {
+        if (start == end || end - start > 18) {
+            throw new IllegalArgumentException("invalid " + name + "(" + text + ")");
+        }
+        long value = 0L;
+        for (int i = start; i < end; i++) {
+            final int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("invalid " + name + "(" + text + ")");
+            }
+            value = value * 10L + digit;
+        }
+        return value;
+    }
+
+    private static int parseGanzhi(final String name, final CharSequence text, final int start, final int end) {
+        if (start == end) {
+            return Ganzhi.NONE;
+        }
+        final int index = end - start > 1 ? Ganzhi.index(text.charAt(start), text.charAt(start + 1)) : Ganzhi.NONE;
+        if (index == Ganzhi.NONE) {
+            throw new IllegalArgumentException("invalid " + name + "(" + text + ")");
+        }
+        return index;
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+    private int solYear;
+
+    private int solMonth;
+
+    private int solDay;
+
+    private int lunYear;
+
+    private int lunMonth;
+
+    private boolean lunLeapmonth;
+
+    private int lunDay;
+
+    private int lunNday;
+
+    private long solJd;
+
+    private int lunSecha;
+
+    private int lunWolgeon;
+
+    private int lunIljin;
+}
@@ -0,0 +1,37 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar.Ganzhi;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+
+/**
+ * A callback which accepts the values of each item as primitives, rather than as an {@link Item}, while a response is
+ * parsed. No object is created for an item; values of absent properties are {@code 0}, {@code false}, or {@link
+ * Ganzhi#NONE}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LrsrCldInfoServiceResponseExtractor#LrsrCldInfoServiceResponseExtractor(java.util.function.Function,
+ * LrsrCldInfoServiceItemSink)
+ */
+@FunctionalInterface
+public interface LrsrCldInfoServiceItemSink {
+
+    /**
+     * Accepts values of an item.
+     *
+     * @param solYear      the value of {@code solYear}.
+     * @param solMonth     the value of {@code solMonth}; {@code 1} for January.
+     * @param solDay       the value of {@code solDay}.
+     * @param lunYear      the value of {@code lunYear}.
+     * @param lunMonth     the value of {@code lunMonth}; {@code 1} for the first month.
+     * @param lunLeapmonth the value of {@code lunLeapmonth}; {@code true} for a leap month.
+     * @param lunDay       the value of {@code lunDay}.
+     * @param lunNday      the value of {@code lunNday}.
+     * @param solJd        the value of {@code solJd}.
+     * @param lunSecha     the {@link Ganzhi#parse(String) index} of {@code lunSecha}.
+     * @param lunWolgeon   the {@link Ganzhi#parse(String) index} of {@code lunWolgeon}; {@link Ganzhi#NONE} if
+     *                     absent.
+     * @param lunIljin     the {@link Ganzhi#parse(String) index} of {@code lunIljin}.
+     */
+    void accept(int solYear, int solMonth, int solDay, int lunYear, int lunMonth, boolean lunLeapmonth, int lunDay,
+                int lunNday, long solJd, int lunSecha, int lunWolgeon, int lunIljin);
+}
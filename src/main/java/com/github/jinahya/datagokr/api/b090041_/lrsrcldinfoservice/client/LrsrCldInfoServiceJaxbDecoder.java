@@ -0,0 +1,86 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDataBufferDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import reactor.core.publisher.Flux;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+
+/**
+ * A decoder which decodes {@link Response}s with a bounded pool of reusable unmarshallers of a single cached context,
+ * rather than creating an unmarshaller for each response.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LrsrCldInfoServiceJaxbMessageConverter
+ */
+@Slf4j
+public class LrsrCldInfoServiceJaxbDecoder extends AbstractDataBufferDecoder<Response> {
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance with a pool of the default capacity.
+     */
+    public LrsrCldInfoServiceJaxbDecoder() {
+        this(LrsrCldInfoServiceUnmarshallerPool.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new instance with a pool of specified capacity.
+     *
+     * @param capacity the maximum number of idle unmarshallers pooled.
+     */
+    public LrsrCldInfoServiceJaxbDecoder(@Positive final int capacity) {
+        super(MimeTypeUtils.APPLICATION_XML, MimeTypeUtils.TEXT_XML, new MimeType("application", "*+xml"));
+        pool = new LrsrCldInfoServiceUnmarshallerPool(capacity);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public boolean canDecode(@NotNull final ResolvableType elementType, @Nullable final MimeType mimeType) {
+        return Response.class == elementType.toClass() && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public @NotNull Flux<Response> decode(@NotNull final Publisher<DataBuffer> input,
+                                          @NotNull final ResolvableType elementType,
+                                          @Nullable final MimeType mimeType,
+                                          @Nullable final Map<String, Object> hints) {
+        return Flux.from(decodeToMono(input, elementType, mimeType, hints)); // a single document
+    }
+
+    @Override
+    public @NotNull Response decode(@NotNull final DataBuffer buffer, @NotNull final ResolvableType targetType,
+                                    @Nullable final MimeType mimeType, @Nullable final Map<String, Object> hints) {
+        try (InputStream stream = buffer.asInputStream()) {
+            return pool.unmarshal(stream);
+        } catch (final JAXBException | XMLStreamException | IOException e) {
+            throw new DecodingException("failed to decode a response", e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    LrsrCldInfoServiceUnmarshallerPool pool() {
+        return pool;
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+    private final LrsrCldInfoServiceUnmarshallerPool pool;
+}
@@ -0,0 +1,82 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.xml.bind.JAXBException;
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+
+/**
+ * A read-only message converter which reads {@link Response}s with a bounded pool of reusable unmarshallers of a single
+ * cached context, rather than creating an unmarshaller for each response.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LrsrCldInfoServiceJaxbDecoder
+ */
+@Slf4j
+public class LrsrCldInfoServiceJaxbMessageConverter extends AbstractHttpMessageConverter<Response> {
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance with a pool of the default capacity.
+     */
+    public LrsrCldInfoServiceJaxbMessageConverter() {
+        this(LrsrCldInfoServiceUnmarshallerPool.DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates a new instance with a pool of specified capacity.
+     *
+     * @param capacity the maximum number of idle unmarshallers pooled.
+     */
+    public LrsrCldInfoServiceJaxbMessageConverter(@Positive final int capacity) {
+        super(MediaType.APPLICATION_XML, MediaType.TEXT_XML, new MediaType("application", "*+xml"));
+        pool = new LrsrCldInfoServiceUnmarshallerPool(capacity);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    protected boolean supports(@NotNull final Class<?> clazz) {
+        return Response.class == clazz;
+    }
+
+    @Override
+    protected boolean canWrite(@Nullable final MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected @NotNull Response readInternal(@NotNull final Class<? extends Response> clazz,
+                                             @NotNull final HttpInputMessage inputMessage)
+            throws IOException {
+        try {
+            return pool.unmarshal(inputMessage.getBody());
+        } catch (final JAXBException | XMLStreamException e) {
+            throw new HttpMessageNotReadableException("failed to read a response", e, inputMessage);
+        }
+    }
+
+    @Override
+    protected void writeInternal(@NotNull final Response response, @NotNull final HttpOutputMessage outputMessage) {
+        throw new HttpMessageNotWritableException("writing is not supported");
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    LrsrCldInfoServiceUnmarshallerPool pool() {
+        return pool;
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+    private final LrsrCldInfoServiceUnmarshallerPool pool;
+}
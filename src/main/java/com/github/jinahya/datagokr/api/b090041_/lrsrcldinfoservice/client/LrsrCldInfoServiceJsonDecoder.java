@@ -0,0 +1,91 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.AbstractDataBufferDecoder;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+import reactor.core.publisher.Flux;
+
+import javax.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A decoder which decodes {@link Response}s of the {@link LrsrCldInfoServiceWireFormat#JSON JSON} wire format with a
+ * streaming parser. The header is verified before any item is bound, and a single item sent as an object, rather than
+ * as an array, is accepted.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LrsrCldInfoServiceResponseExtractor
+ */
+@Slf4j
+public class LrsrCldInfoServiceJsonDecoder extends AbstractDataBufferDecoder<Response> {
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance which signals {@link LrsrCldInfoServiceReactiveClient.UnsuccessfulResultException} for
+     * unsuccessful result codes.
+     */
+    public LrsrCldInfoServiceJsonDecoder() {
+        this(LrsrCldInfoServiceReactiveClient.UnsuccessfulResultException::new);
+    }
+
+    /**
+     * Creates a new instance with specified function for unsuccessful result codes.
+     *
+     * @param unsuccessful a function for an exception of a header with an unsuccessful result code.
+     */
+    public LrsrCldInfoServiceJsonDecoder(
+            @NotNull final Function<? super Header, ? extends RuntimeException> unsuccessful) {
+        super(MimeTypeUtils.APPLICATION_JSON, new MimeType("text", "json"), new MimeType("application", "*+json"));
+        this.unsuccessful = requireNonNull(unsuccessful, "unsuccessful is null");
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    @Override
+    public boolean canDecode(@NotNull final ResolvableType elementType, @Nullable final MimeType mimeType) {
+        return Response.class == elementType.toClass() && super.canDecode(elementType, mimeType);
+    }
+
+    @Override
+    public @NotNull Flux<Response> decode(@NotNull final Publisher<DataBuffer> input,
+                                          @NotNull final ResolvableType elementType,
+                                          @Nullable final MimeType mimeType,
+                                          @Nullable final Map<String, Object> hints) {
+        return Flux.from(decodeToMono(input, elementType, mimeType, hints)); // a single document
+    }
+
+    @Override
+    public @NotNull Response decode(@NotNull final DataBuffer buffer, @NotNull final ResolvableType targetType,
+                                    @Nullable final MimeType mimeType, @Nullable final Map<String, Object> hints) {
+        final LrsrCldInfoServiceJsonParser parser = new LrsrCldInfoServiceJsonParser(unsuccessful);
+        final List<Item> items = new ArrayList<>();
+        try (InputStream stream = buffer.asInputStream()) {
+            parser.parse(stream, items::add);
+            return parser.response(items);
+        } catch (final IOException | IllegalArgumentException | IllegalStateException e) {
+            throw new DecodingException("failed to decode a response", e);
+        } finally {
+            DataBufferUtils.release(buffer);
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+    private final Function<? super Header, ? extends RuntimeException> unsuccessful;
+}
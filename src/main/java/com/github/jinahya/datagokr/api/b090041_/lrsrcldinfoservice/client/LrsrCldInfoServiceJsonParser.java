@@ -0,0 +1,216 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Body;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import javax.validation.constraints.NotNull;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A parser which binds a response of the {@link LrsrCldInfoServiceWireFormat#JSON JSON} wire format with a streaming
+ * parser. The {@code response.header} is verified as soon as it is closed, and each item of {@code
+ * response.body.items.item} is bound as soon as it is closed.
+ * <p>
+ * The service sends a single item as an object, rather than as an array of one object, and sends no items as an empty
+ * string; all of which are accepted. Scalar values are bound by their text, whether they are sent as strings or as
+ * numbers.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LrsrCldInfoServiceXmlParser
+ */
+@Slf4j
+final class LrsrCldInfoServiceJsonParser {
+
+    private static final JsonFactory FACTORY = new JsonFactory();
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance.
+     *
+     * @param unsuccessful a function for an exception of a header with an unsuccessful result code.
+     */
+    LrsrCldInfoServiceJsonParser(@NotNull final Function<? super Header, ? extends RuntimeException> unsuccessful) {
+        super();
+        this.unsuccessful = requireNonNull(unsuccessful, "unsuccessful is null");
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads specified stream while passing each item to specified consumer as soon as it is closed.
+     *
+     * @param stream   the stream to read.
+     * @param consumer the consumer of items.
+     * @throws IOException              if an I/O error occurs.
+     * @throws IllegalArgumentException if the {@code stream} is not a valid response.
+     */
+    void parse(@NotNull final InputStream stream, @NotNull final Consumer<? super Item> consumer) throws IOException {
+        requireNonNull(stream, "stream is null");
+        requireNonNull(consumer, "consumer is null");
+        try (JsonParser parser = FACTORY.createParser(stream)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalArgumentException("no root object");
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String name = parser.getCurrentName();
+                final JsonToken token = parser.nextToken();
+                if ("response".equals(name) && token == JsonToken.START_OBJECT) {
+                    readResponse(parser, consumer);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        } catch (final JsonProcessingException jpe) {
+            throw new IllegalArgumentException("failed to parse a response", jpe);
+        }
+    }
+
+    private void readResponse(final JsonParser parser, final Consumer<? super Item> consumer) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.getCurrentName();
+            final JsonToken token = parser.nextToken();
+            if (token != JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                continue;
+            }
+            switch (name) {
+                case "header":
+                    header = new Header();
+                    readScalars(parser, (n, v) -> LrsrCldInfoServiceBindings.bind(header, n, v));
+                    if (!header.isResultCodeSuccess()) {
+                        throw unsuccessful.apply(header); // fail fast; the body is never read
+                    }
+                    break;
+                case "body":
+                    readBody(parser, consumer);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+            }
+        }
+    }
+
+    private void readBody(final JsonParser parser, final Consumer<? super Item> consumer) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.getCurrentName();
+            final JsonToken token = parser.nextToken();
+            if ("items".equals(name) && token == JsonToken.START_OBJECT) {
+                readItems(parser, consumer);
+            } else if (token.isScalarValue()) {
+                LrsrCldInfoServiceBindings.bind(body, name, parser.getText());
+            } else {
+                parser.skipChildren(); // e.g. "items": ""
+            }
+        }
+    }
+
+    private void readItems(final JsonParser parser, final Consumer<? super Item> consumer) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.getCurrentName();
+            final JsonToken token = parser.nextToken();
+            if (!"item".equals(name)) {
+                parser.skipChildren();
+                continue;
+            }
+            if (token == JsonToken.START_OBJECT) { // a single item
+                consumer.accept(readItem(parser));
+                items++;
+                continue;
+            }
+            if (token != JsonToken.START_ARRAY) {
+                parser.skipChildren();
+                continue;
+            }
+            for (JsonToken t; (t = parser.nextToken()) != JsonToken.END_ARRAY; ) {
+                if (t != JsonToken.START_OBJECT) {
+                    parser.skipChildren();
+                    continue;
+                }
+                consumer.accept(readItem(parser));
+                items++;
+            }
+        }
+    }
+
+    private static Item readItem(final JsonParser parser) throws IOException {
+        final Item item = new Item();
+        readScalars(parser, (n, v) -> LrsrCldInfoServiceBindings.bind(item, n, v));
+        return item;
+    }
+
+    @FunctionalInterface
+    private interface ScalarHandler {
+
+        void handle(String name, String text);
+    }
+
+    private static void readScalars(final JsonParser parser, final ScalarHandler handler) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            final String name = parser.getCurrentName();
+            final JsonToken token = parser.nextToken();
+            if (token == JsonToken.VALUE_NULL) {
+                continue;
+            }
+            if (!token.isScalarValue()) {
+                parser.skipChildren();
+                continue;
+            }
+            handler.handle(name, parser.getText());
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a response of the header and the body read so far.
+     *
+     * @param items the items of the body; {@code null} for an empty list.
+     * @return a response of the header and the body.
+     * @throws IllegalStateException if no header has been read.
+     */
+    @NotNull Response response(@Nullable final List<Item> items) {
+        if (header == null) {
+            throw new IllegalStateException("no header read");
+        }
+        body.setItems(items == null ? new ArrayList<>() : items);
+        final Response response = new Response();
+        response.setHeader(header);
+        response.setBody(body);
+        return response;
+    }
+
+    /**
+     * Returns the number of items read so far.
+     *
+     * @return the number of items read.
+     */
+    int items() {
+        return items;
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+    private final Function<? super Header, ? extends RuntimeException> unsuccessful;
+
+    private final Body body = new Body();
+
+    private Header header;
+
+    private int items;
+}
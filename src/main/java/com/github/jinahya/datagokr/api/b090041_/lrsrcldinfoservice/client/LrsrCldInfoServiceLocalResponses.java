@@ -0,0 +1,165 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar.CalendarData;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Body;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import org.springframework.lang.Nullable;
+
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.PATH_SEGMENT_GET_LUN_CAL_INFO;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.PATH_SEGMENT_GET_SOL_CAL_INFO;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.QUERY_PARAM_VALUE_NUM_OF_ROWS_DEFAULT;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A utility class for answering requests from local data rather than from the service.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see OfflineLrsrCldInfoServiceClient
+ * @see AbstractLrsrCldInfoServiceClient#fallback(LrsrCldInfoServiceRequest)
+ */
+final class LrsrCldInfoServiceLocalResponses {
+
+    private static final String RESULT_MSG_SUCCESS = "NORMAL SERVICE.";
+
+    /**
+     * Builds a response of specified page of specified items.
+     *
+     * @param items     all items.
+     * @param pageNo    the page number; {@code null} for the first page.
+     * @param numOfRows the number of rows of a page.
+     * @return a response of the page.
+     */
+    static @NotNull Response response(@NotNull final List<Item> items, @Nullable final Integer pageNo,
+                                      final int numOfRows) {
+        final int page = pageNo == null ? 1 : pageNo;
+        final int fromIndex = Math.min((page - 1) * numOfRows, items.size());
+        final int toIndex = Math.min(fromIndex + numOfRows, items.size());
+        final Header header = new Header();
+        header.setResultCode(Header.RESULT_CODE_SUCCESS);
+        header.setResultMsg(RESULT_MSG_SUCCESS);
+        final Body body = new Body();
+        body.setItems(new ArrayList<>(items.subList(fromIndex, toIndex)));
+        body.setNumOfRows(numOfRows);
+        body.setPageNo(page);
+        body.setTotalCount(items.size());
+        final Response response = new Response();
+        response.setHeader(header);
+        response.setBody(body);
+        return response;
+    }
+
+    /**
+     * Builds a response of specified request from specified item list.
+     *
+     * @param items   all items of the request.
+     * @param request the request.
+     * @return a response of the request's page.
+     */
+    static @NotNull Response response(@NotNull final List<Item> items,
+                                      @NotNull final LrsrCldInfoServiceRequest request) {
+        final int numOfRows = request.numOfRows() == LrsrCldInfoServiceRequest.ABSENT
+                              ? QUERY_PARAM_VALUE_NUM_OF_ROWS_DEFAULT : request.numOfRows();
+        return response(items, request.pageNo(), numOfRows);
+    }
+
+    /**
+     * Answers specified request from specified dataset.
+     *
+     * @param calendarData the dataset.
+     * @param request      the request.
+     * @return a response of the {@code request}; {@code null} if the {@code request} is not covered by the {@code
+     * calendarData}.
+     */
+    static @Nullable Response response(@NotNull final CalendarData calendarData,
+                                       @NotNull final LrsrCldInfoServiceRequest request) {
+        requireNonNull(calendarData, "calendarData is null");
+        requireNonNull(request, "request is null");
+        final List<Item> items;
+        switch (request.pathSegment()) {
+            case PATH_SEGMENT_GET_LUN_CAL_INFO:
+                items = lunCalInfoItems(calendarData, request);
+                break;
+            case PATH_SEGMENT_GET_SOL_CAL_INFO:
+                items = solCalInfoItems(calendarData, request);
+                break;
+            default:
+                items = spcifyLunCalInfoItems(calendarData, request);
+                break;
+        }
+        return items == null ? null : response(items, request);
+    }
+
+    private static List<Item> lunCalInfoItems(final CalendarData calendarData,
+                                              final LrsrCldInfoServiceRequest request) {
+        final YearMonth month = YearMonth.of(request.year(), request.month());
+        if (!calendarData.covers(month)) {
+            return null;
+        }
+        if (request.day() == LrsrCldInfoServiceRequest.ABSENT) {
+            return calendarData.items(month.atDay(1), month.atEndOfMonth());
+        }
+        if (!month.isValidDay(request.day())) {
+            return new ArrayList<>(0); // just like the service, which sends no items for, e.g., 29 of February of 2021
+        }
+        final LocalDate date = month.atDay(request.day());
+        return calendarData.items(date, date);
+    }
+
+    private static List<Item> solCalInfoItems(final CalendarData calendarData,
+                                              final LrsrCldInfoServiceRequest request) {
+        if (!calendarData.coversLunar(request.year(), request.month())) {
+            return null;
+        }
+        final List<Item> items = new ArrayList<>();
+        for (final boolean leapMonth : new boolean[] {false, true}) {
+            if (request.day() == LrsrCldInfoServiceRequest.ABSENT) {
+                items.addAll(calendarData.lunarItems(request.year(), request.month(), leapMonth));
+                continue;
+            }
+            final Item item = calendarData.lunarItem(request.year(), request.month(), leapMonth, request.day());
+            if (item != null) {
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    private static List<Item> spcifyLunCalInfoItems(final CalendarData calendarData,
+                                                    final LrsrCldInfoServiceRequest request) {
+        final Year fromSolYear = Year.of(request.year());
+        final Year toSolYear = Year.of(request.toYear());
+        if (!calendarData.covers(fromSolYear.atDay(1))
+            || !calendarData.covers(toSolYear.atMonth(Month.DECEMBER).atEndOfMonth())) {
+            return null;
+        }
+        final List<Item> items = new ArrayList<>();
+        // a lunar date of the previous lunar year may fall in the first solar year
+        for (int lunYear = fromSolYear.getValue() - 1; lunYear <= toSolYear.getValue(); lunYear++) {
+            final Item item = calendarData.lunarItem(lunYear, request.month(), request.leapMonth() == 1,
+                                                     request.day());
+            if (item == null) {
+                continue;
+            }
+            final Year solYear = item.getSolYear();
+            if (solYear.isBefore(fromSolYear) || solYear.isAfter(toSolYear)) {
+                continue;
+            }
+            items.add(item);
+        }
+        return items;
+    }
+
+    private LrsrCldInfoServiceLocalResponses() {
+        throw new AssertionError("instantiation is not allowed");
+    }
+}
@@ -0,0 +1,61 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import java.time.Month;
+import java.time.Year;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * An exception thrown when reading some months of a year failed.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public class LrsrCldInfoServiceMonthsException extends RuntimeException {
+
+    private static final long serialVersionUID = 4620983218409938520L;
+
+    /**
+     * Creates a new instance with specified year and failures.
+     *
+     * @param year     the year.
+     * @param failures failures of each month.
+     */
+    public LrsrCldInfoServiceMonthsException(@NotNull final Year year,
+                                             @NotEmpty final Map<Month, ? extends Throwable> failures) {
+        super("failed to read " + requireNonNull(failures, "failures is null").keySet() + " of "
+              + requireNonNull(year, "year is null"));
+        if (failures.isEmpty()) {
+            throw new IllegalArgumentException("failures is empty");
+        }
+        this.year = year;
+        this.failures = Collections.unmodifiableMap(new EnumMap<>(failures));
+        failures.values().forEach(this::addSuppressed);
+    }
+
+    /**
+     * Returns the year whose months failed.
+     *
+     * @return the year whose months failed.
+     */
+    public Year getYear() {
+        return year;
+    }
+
+    /**
+     * Returns an unmodifiable map of failed months and their failures.
+     *
+     * @return an unmodifiable map of failed months and their failures.
+     */
+    public Map<Month, Throwable> getFailures() {
+        return failures;
+    }
+
+    private final Year year;
+
+    private final Map<Month, Throwable> failures;
+}
@@ -0,0 +1,135 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Body;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A source of values for {@link AbstractLrsrCldInfoServiceClient#QUERY_PARAM_NAME_NUM_OF_ROWS ?numOfRows} which can be
+ * shared by {@link LrsrCldInfoServiceClient} and {@link LrsrCldInfoServiceReactiveClient}.
+ * <p>
+ * A {@link #fixed(int) fixed} instance always supplies the same value. An {@link #adaptive(int) adaptive} instance
+ * starts with a large value, so that a whole month, or a long range of years, fits in a single page, and lowers it to
+ * the maximum number of rows the service actually honors, which is learned from responses.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see AbstractLrsrCldInfoServiceClient#pageSize()
+ */
+@Slf4j
+public class LrsrCldInfoServicePageSize {
+
+    /**
+     * The default initial value of adaptive instances. The value is {@value}.
+     */
+    public static final int DEFAULT_NUM_OF_ROWS = 1000;
+
+    /**
+     * Returns a new instance which always supplies specified value.
+     *
+     * @param numOfRows the value for {@code ?numOfRows}.
+     * @return a new instance.
+     */
+    public static LrsrCldInfoServicePageSize fixed(@Positive final int numOfRows) {
+        return new LrsrCldInfoServicePageSize(numOfRows, false);
+    }
+
+    /**
+     * Returns a new instance which starts with specified value and lowers it to the maximum number of rows honored by
+     * the service.
+     *
+     * @param numOfRows the initial value for {@code ?numOfRows}.
+     * @return a new instance.
+     */
+    public static LrsrCldInfoServicePageSize adaptive(@Positive final int numOfRows) {
+        return new LrsrCldInfoServicePageSize(numOfRows, true);
+    }
+
+    /**
+     * Returns a new instance which starts with {@link #DEFAULT_NUM_OF_ROWS}.
+     *
+     * @return a new instance.
+     * @see #adaptive(int)
+     */
+    public static LrsrCldInfoServicePageSize adaptive() {
+        return adaptive(DEFAULT_NUM_OF_ROWS);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+    private LrsrCldInfoServicePageSize(final int numOfRows, final boolean adaptive) {
+        super();
+        if (numOfRows <= 0) {
+            throw new IllegalArgumentException("numOfRows(" + numOfRows + ") is not positive");
+        }
+        this.numOfRows = new AtomicInteger(numOfRows);
+        this.adaptive = adaptive;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the current value for {@code ?numOfRows}.
+     *
+     * @return the current value for {@code ?numOfRows}.
+     */
+    public int numOfRows() {
+        return numOfRows.get();
+    }
+
+    /**
+     * Learns the maximum number of rows honored by the service from specified response of a request sent with
+     * specified value.
+     * <p>
+     * The service may either report a smaller {@code numOfRows} than requested, in which case the response is still
+     * consistent, or silently return fewer items than its own {@code numOfRows}, in which case the response's paging
+     * is not reliable and the request should be sent again with the lowered value.
+     *
+     * @param requested the value of {@code ?numOfRows} sent.
+     * @param response  the response.
+     * @return {@code true} if the {@code response} turned out to be truncated and the request should be sent again
+     * with the {@link #numOfRows() lowered value}; {@code false} otherwise.
+     */
+    public boolean learn(final int requested, @NotNull final Response response) {
+        requireNonNull(response, "response is null");
+        if (!adaptive) {
+            return false;
+        }
+        final Body body = response.getBody();
+        if (body == null) {
+            return false;
+        }
+        int honored = requested;
+        if (body.getNumOfRows() > 0 && body.getNumOfRows() < honored) {
+            honored = body.getNumOfRows();
+        }
+        final List<?> items = body.getItems();
+        final int size = items == null ? 0 : items.size();
+        final long remaining = body.getTotalCount() - (long) (body.getPageNo() - 1) * body.getNumOfRows();
+        final boolean truncated = size > 0 && size < Math.min(body.getNumOfRows(), remaining);
+        if (truncated) {
+            honored = Math.min(honored, size);
+        }
+        if (honored >= requested) {
+            return false;
+        }
+        final int previous = numOfRows.getAndAccumulate(honored, Math::min);
+        if (honored < previous) {
+            log.debug("numOfRows lowered from {} to {}", previous, honored);
+        }
+        return truncated;
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+    private final AtomicInteger numOfRows;
+
+    /**
+     * A flag for learning the maximum number of rows honored by the service.
+     */
+    private final boolean adaptive;
+}
@@ -0,0 +1,21 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+/**
+ * An exception thrown when a permit can't be acquired from an {@link LrsrCldInfoServiceRateLimiter} in time.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LrsrCldInfoServiceRateLimiter#reserve()
+ */
+public class LrsrCldInfoServiceRateLimitException extends RuntimeException {
+
+    private static final long serialVersionUID = -2278617048137593006L;
+
+    /**
+     * Creates a new instance with specified message.
+     *
+     * @param message the message.
+     */
+    public LrsrCldInfoServiceRateLimitException(final String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,342 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A lock-free rate limiter, for the traffic allowance of a service key, which can be shared by {@link
+ * LrsrCldInfoServiceClient} and {@link LrsrCldInfoServiceReactiveClient}.
+ * <p>
+ * Permits are issued at a constant rate with an allowance of bursts, as a token bucket does, using the generic cell
+ * rate algorithm, and, optionally, up to a daily limit. Each time the service reports that {@link
+ * Header#RESULT_CODE_LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR the number of requests has been exceeded}, the
+ * rate is halved, and bursts are disallowed, until the allowance is reset at the next midnight in {@link
+ * LrsrCldInfoServiceResponseCache#ZONE_ID Asia/Seoul}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see AbstractLrsrCldInfoServiceClient#rateLimiter()
+ */
+@Slf4j
+public class LrsrCldInfoServiceRateLimiter {
+
+    /**
+     * The default maximum duration to wait for a permit.
+     */
+    public static final Duration DEFAULT_MAXIMUM_WAIT = Duration.ofMinutes(1L);
+
+    /**
+     * The maximum number of times the rate is halved. The value is {@value}.
+     */
+    static final int MAXIMUM_SHRINKS = 10;
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance with specified rate and no bursts.
+     *
+     * @param permitsPerSecond the number of permits issued per second.
+     */
+    public LrsrCldInfoServiceRateLimiter(@Positive final double permitsPerSecond) {
+        this(permitsPerSecond, 1);
+    }
+
+    /**
+     * Creates a new instance with specified rate and burst, no daily limit, and {@link #DEFAULT_MAXIMUM_WAIT}.
+     *
+     * @param permitsPerSecond the number of permits issued per second.
+     * @param burst            the maximum number of permits issued at once.
+     */
+    public LrsrCldInfoServiceRateLimiter(@Positive final double permitsPerSecond, @Positive final int burst) {
+        this(permitsPerSecond, burst, 0L, DEFAULT_MAXIMUM_WAIT);
+    }
+
+    /**
+     * Creates a new instance with specified arguments.
+     *
+     * @param permitsPerSecond the number of permits issued per second.
+     * @param burst            the maximum number of permits issued at once.
+     * @param dailyLimit       the maximum number of permits issued per day; {@code 0} for no limit.
+     * @param maximumWait      the maximum duration to wait for a permit.
+     */
+    public LrsrCldInfoServiceRateLimiter(@Positive final double permitsPerSecond, @Positive final int burst,
+                                         @PositiveOrZero final long dailyLimit, @NotNull final Duration maximumWait) {
+        this(permitsPerSecond, burst, dailyLimit, maximumWait, Clock.system(LrsrCldInfoServiceResponseCache.ZONE_ID),
+             System::nanoTime);
+    }
+
+    /**
+     * Creates a new instance with specified arguments.
+     *
+     * @param permitsPerSecond the number of permits issued per second.
+     * @param burst            the maximum number of permits issued at once.
+     * @param dailyLimit       the maximum number of permits issued per day; {@code 0} for no limit.
+     * @param maximumWait      the maximum duration to wait for a permit.
+     * @param clock            a clock for evaluating the reset time.
+     * @param ticker           a source of nanoseconds for issuing permits.
+     */
+    LrsrCldInfoServiceRateLimiter(final double permitsPerSecond, final int burst, final long dailyLimit,
+                                  final Duration maximumWait, final Clock clock, final LongSupplier ticker) {
+        super();
+        if (!(permitsPerSecond > 0.0d) || Double.isInfinite(permitsPerSecond)) {
+            throw new IllegalArgumentException("permitsPerSecond(" + permitsPerSecond + ") is not positive");
+        }
+        if (burst <= 0) {
+            throw new IllegalArgumentException("burst(" + burst + ") is not positive");
+        }
+        if (dailyLimit < 0L) {
+            throw new IllegalArgumentException("dailyLimit(" + dailyLimit + ") is negative");
+        }
+        requireNonNull(maximumWait, "maximumWait is null");
+        if (maximumWait.isNegative()) {
+            throw new IllegalArgumentException("maximumWait(" + maximumWait + ") is negative");
+        }
+        this.interval = Math.max(1L, Math.round(TimeUnit.SECONDS.toNanos(1L) / permitsPerSecond));
+        this.burst = burst;
+        this.dailyLimit = dailyLimit;
+        this.maximumWait = maximumWait;
+        this.clock = requireNonNull(clock, "clock is null");
+        this.ticker = requireNonNull(ticker, "ticker is null");
+        tat = new AtomicLong(ticker.getAsLong());
+        resetAt = new AtomicLong(nextResetAt(clock.millis()));
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reserves a permit and returns the duration to wait before using it.
+     *
+     * @return the duration, in nanoseconds, to wait before using the permit; {@code 0L} for no wait.
+     * @throws LrsrCldInfoServiceRateLimitException if no permit is available in {@link #maximumWait()}, or the daily
+     *                                              limit has been reached.
+     */
+    public long reserve() {
+        return reserve(maximumWait.toNanos(), true);
+    }
+
+    /**
+     * Acquires a permit only if it is available without waiting. This method neither waits nor throws.
+     *
+     * @return {@code true} if a permit has been acquired; {@code false} otherwise.
+     */
+    public boolean tryAcquire() {
+        return reserve(0L, false) == 0L;
+    }
+
+    private long reserve(final long maximumWait, final boolean rejecting) {
+        resetIfDue();
+        if (dailyLimit > 0L && issued.incrementAndGet() > dailyLimit) {
+            issued.decrementAndGet();
+            if (!rejecting) {
+                return -1L;
+            }
+            rejected.increment();
+            throw new LrsrCldInfoServiceRateLimitException(
+                    "daily limit(" + dailyLimit + ") reached until " + Instant.ofEpochMilli(resetAt.get()));
+        }
+        final int shrinks = this.shrinks.get();
+        final long interval = this.interval << shrinks;
+        final long tolerance = shrinks == 0 ? saturatedMultiply(this.interval, burst - 1L) : 0L;
+        while (true) {
+            final long now = ticker.getAsLong();
+            final long tat = this.tat.get();
+            final long wait = Math.max(0L, tat - tolerance - now);
+            if (wait > maximumWait) {
+                if (dailyLimit > 0L) {
+                    issued.decrementAndGet();
+                }
+                if (!rejecting) {
+                    return -1L;
+                }
+                rejected.increment();
+                throw new LrsrCldInfoServiceRateLimitException("no permit available in " + this.maximumWait);
+            }
+            final long permitAt = now + wait;
+            final long next = (tat - permitAt > 0L ? tat : permitAt) + interval;
+            if (this.tat.compareAndSet(tat, next)) {
+                if (wait > 0L) {
+                    throttled.increment();
+                }
+                return wait;
+            }
+        }
+    }
+
+    /**
+     * Acquires a permit, waiting if necessary.
+     *
+     * @throws LrsrCldInfoServiceRateLimitException if no permit is available in {@link #maximumWait()}, or the daily
+     *                                              limit has been reached.
+     * @see #reserve()
+     */
+    public void acquire() {
+        final long wait = reserve();
+        if (wait == 0L) {
+            return;
+        }
+        try {
+            TimeUnit.NANOSECONDS.sleep(wait);
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("interrupted while waiting for a permit", ie);
+        }
+    }
+
+    /**
+     * Notifies the header of a response. The rate is halved, until the reset time, if the header reports that the
+     * number of requests has been exceeded.
+     *
+     * @param header the header; may be {@code null}.
+     * @return {@code true} if the rate has been halved; {@code false} otherwise.
+     * @see Header#isResultCodeLimitedNumberOfServiceRequestsExceeds()
+     */
+    public boolean onResult(@Nullable final Header header) {
+        if (header == null || !header.isResultCodeLimitedNumberOfServiceRequestsExceeds()) {
+            return false;
+        }
+        resetIfDue();
+        final int shrinks = this.shrinks.updateAndGet(v -> Math.min(v + 1, MAXIMUM_SHRINKS));
+        // no more bursts from permits already accumulated
+        final long next = ticker.getAsLong() + (interval << shrinks);
+        tat.accumulateAndGet(next, (p, x) -> p - x > 0L ? p : x);
+        log.warn("number of service requests exceeded; permitsPerSecond lowered to {} until {}", permitsPerSecond(),
+                 Instant.ofEpochMilli(resetAt.get()));
+        return true;
+    }
+
+    private void resetIfDue() {
+        final long millis = clock.millis();
+        final long current = resetAt.get();
+        if (millis >= current && resetAt.compareAndSet(current, nextResetAt(millis))) {
+            issued.set(0L);
+            if (shrinks.getAndSet(0) > 0) {
+                log.info("permitsPerSecond restored to {}", permitsPerSecond());
+            }
+        }
+    }
+
+    private static long nextResetAt(final long millis) {
+        return Instant.ofEpochMilli(millis)
+                .atZone(LrsrCldInfoServiceResponseCache.ZONE_ID)
+                .toLocalDate()
+                .plusDays(1L)
+                .atStartOfDay(LrsrCldInfoServiceResponseCache.ZONE_ID)
+                .toInstant()
+                .toEpochMilli();
+    }
+
+    private static long saturatedMultiply(final long x, final long y) {
+        final long r = x * y;
+        if (x != 0L && (r / x != y || r < 0L)) {
+            return Long.MAX_VALUE;
+        }
+        return r;
+    }
+
+    // ------------------------------------------------------------------------------------------------------- statistics
+
+    /**
+     * Returns the current number of permits issued per second.
+     *
+     * @return the current number of permits issued per second.
+     */
+    public double permitsPerSecond() {
+        return (double) TimeUnit.SECONDS.toNanos(1L) / (interval << shrinks.get());
+    }
+
+    /**
+     * Returns the number of permits issued, today, against the daily limit.
+     *
+     * @return the number of permits issued today; always {@code 0L} with no daily limit.
+     */
+    public long issuedCount() {
+        return issued.get();
+    }
+
+    /**
+     * Returns the number of permits which had to wait.
+     *
+     * @return the number of throttled permits.
+     */
+    public long throttledCount() {
+        return throttled.sum();
+    }
+
+    /**
+     * Returns the number of permits rejected.
+     *
+     * @return the number of rejected permits.
+     */
+    public long rejectedCount() {
+        return rejected.sum();
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+
+    /**
+     * The emission interval, in nanoseconds, of the initial rate.
+     */
+    private final long interval;
+
+    /**
+     * The maximum number of permits issued at once.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int burst;
+
+    /**
+     * The maximum number of permits issued per day; {@code 0} for no limit.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final long dailyLimit;
+
+    /**
+     * The maximum duration to wait for a permit.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final Duration maximumWait;
+
+    private final Clock clock;
+
+    private final LongSupplier ticker;
+
+    /**
+     * The theoretical arrival time of the next permit.
+     */
+    private final AtomicLong tat;
+
+    /**
+     * The number of times the rate has been halved.
+     */
+    private final AtomicInteger shrinks = new AtomicInteger();
+
+    /**
+     * The epoch milli at which the daily limit and the rate are reset.
+     */
+    private final AtomicLong resetAt;
+
+    private final AtomicLong issued = new AtomicLong();
+
+    private final LongAdder throttled = new LongAdder();
+
+    private final LongAdder rejected = new LongAdder();
+}
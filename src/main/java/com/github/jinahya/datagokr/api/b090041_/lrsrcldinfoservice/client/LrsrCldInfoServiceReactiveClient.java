@@ -1,5 +1,6 @@
 package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
 
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
 import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
 import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
 import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Responses;
@@ -8,37 +9,62 @@ import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
 import lombok.extern.slf4j.Slf4j;
+import org.reactivestreams.Publisher;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Lazy;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.client.WebClientException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Operators;
 import reactor.core.scheduler.Scheduler;
+import reactor.util.concurrent.Queues;
 
 import javax.validation.constraints.Max;
 import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.io.IOException;
 import java.lang.annotation.Documented;
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.Month;
 import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
 
 import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item.MAX_DAY_OF_MONTH_LUNAR;
 import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item.MAX_DAY_OF_MONTH_SOLAR;
 import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item.MIN_DAY_OF_MONTH_LUNAR;
 import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item.MIN_DAY_OF_MONTH_SOLAR;
 import static java.util.Objects.requireNonNull;
-import static java.util.Optional.ofNullable;
 import static reactor.core.publisher.Flux.fromIterable;
 
 /**
@@ -63,18 +89,141 @@ public class LrsrCldInfoServiceReactiveClient extends AbstractLrsrCldInfoService
 
     }
 
+    /**
+     * An exception signaled when a response has an unsuccessful result code.
+     */
+    public static class UnsuccessfulResultException extends WebClientException {
+
+        private static final long serialVersionUID = -1738745328167950296L;
+
+        /**
+         * Creates a new instance with specified header.
+         *
+         * @param header the header of the response.
+         */
+        public UnsuccessfulResultException(final Header header) {
+            super("unsuccessful result: " + header);
+            this.header = header;
+        }
+
+        /**
+         * Returns the header of the response.
+         *
+         * @return the header of the response.
+         */
+        public Header getHeader() {
+            return header;
+        }
+
+        private final Header header;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+    private static final ResolvableType RESPONSE_TYPE = ResolvableType.forClass(Response.class);
+
+    private static final LrsrCldInfoServiceJsonDecoder JSON_DECODER = new LrsrCldInfoServiceJsonDecoder();
+
+    private static final ResolvableType ITEM_TYPE = ResolvableType.forClass(Item.class);
+
+    private static final LrsrCldInfoServiceItemDecoder ITEM_DECODER = new LrsrCldInfoServiceItemDecoder();
+
     // -----------------------------------------------------------------------------------------------------------------
     protected static Mono<Response> handled(final Mono<Response> mono) {
         return requireNonNull(mono, "mono is null").handle((r, h) -> {
             if (!Responses.isResultSuccessful(r)) {
-                h.error(new WebClientException("unsuccessful result: " + r.getHeader()) {
-                });
+                h.error(new UnsuccessfulResultException(r.getHeader()));
             } else {
                 h.next(r);
             }
         });
     }
 
+    /**
+     * Reads all pages using specified function. Once the first page is read, remaining pages, if any, are read
+     * concurrently.
+     *
+     * @param page        a function for reading a page of a page number.
+     * @param concurrency the maximum number of pages read concurrently.
+     * @return a flux of all pages in page order.
+     * @see Responses#lastPageNo(Response)
+     */
+    static @NotNull Flux<Response> allPages(@NotNull final IntFunction<? extends Mono<Response>> page,
+                                            @Positive final int concurrency) {
+        requireNonNull(page, "page is null");
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency(" + concurrency + ") is not positive");
+        }
+        return page.apply(1).flatMapMany(first -> {
+            final int lastPageNo = Responses.lastPageNo(first);
+            return Flux.just(first).concatWith(
+                    Flux.range(2, lastPageNo - 1).flatMapSequential(page::apply, concurrency));
+        });
+    }
+
+    /**
+     * The minimum number of days of a lunar month. The value is {@value}.
+     */
+    private static final int MIN_DAYS_OF_LUNAR_MONTH = 29;
+
+    /**
+     * Reads items of specified parts, in order, with at most {@code concurrency} parts in flight. A part is read only
+     * when the downstream demand exceeds the sum of minimum numbers of items of parts already being read.
+     *
+     * @param parts        the parts.
+     * @param minimumItems a function evaluates the minimum number of items of a part.
+     * @param reader       a function reads items of a part.
+     * @param concurrency  the maximum number of parts read concurrently.
+     * @param prefetch     the number of items prefetched from each part.
+     * @param <T>          part type parameter
+     * @return a flux of items.
+     */
+    static <T> @NotNull Flux<Item> items(@NotNull final Iterable<? extends T> parts,
+                                         @NotNull final ToIntFunction<? super T> minimumItems,
+                                         @NotNull final Function<? super T, ? extends Publisher<Item>> reader,
+                                         @Positive final int concurrency, @Positive final int prefetch) {
+        requireNonNull(parts, "parts is null");
+        requireNonNull(minimumItems, "minimumItems is null");
+        requireNonNull(reader, "reader is null");
+        if (concurrency <= 0) {
+            throw new IllegalArgumentException("concurrency(" + concurrency + ") is not positive");
+        }
+        if (prefetch <= 0) {
+            throw new IllegalArgumentException("prefetch(" + prefetch + ") is not positive");
+        }
+        return Flux.defer(() -> {
+            final Iterator<? extends T> iterator = parts.iterator();
+            final AtomicReference<FluxSink<T>> sink = new AtomicReference<>();
+            final long[] demandedAndCovered = new long[2]; // guarded by itself
+            final Runnable release = () -> {
+                final FluxSink<T> s = sink.get();
+                if (s == null) {
+                    return;
+                }
+                synchronized (demandedAndCovered) {
+                    while (demandedAndCovered[1] < demandedAndCovered[0] && iterator.hasNext()) {
+                        final T part = iterator.next();
+                        demandedAndCovered[1] += Math.max(1, minimumItems.applyAsInt(part));
+                        s.next(part);
+                    }
+                    if (!iterator.hasNext()) {
+                        s.complete();
+                    }
+                }
+            };
+            return Flux.<T>create(s -> {
+                sink.set(s);
+                release.run();
+            })
+                    .flatMapSequential(reader, concurrency, prefetch)
+                    .doOnRequest(n -> {
+                        synchronized (demandedAndCovered) {
+                            demandedAndCovered[0] = Operators.addCap(demandedAndCovered[0], n);
+                        }
+                        release.run();
+                    });
+        });
+    }
+
     // ---------------------------------------------------------------------------------------------------- constructors
 
     /**
@@ -89,9 +238,12 @@ public class LrsrCldInfoServiceReactiveClient extends AbstractLrsrCldInfoService
     private void onPostConstruct() {
         if (webClient == null) {
             log.warn("no web client autowired. using a bare instance...");
-            webClient = WebClient.builder()
-                    .baseUrl(AbstractLrsrCldInfoServiceClient.BASE_URL_PRODUCTION)
-                    .build();
+            final WebClient.Builder builder = WebClient.builder()
+                    .baseUrl(AbstractLrsrCldInfoServiceClient.BASE_URL_PRODUCTION);
+            if (JAXB_PRESENT) {
+                builder.codecs(c -> c.customCodecs().registerWithDefaultConfig(new LrsrCldInfoServiceJaxbDecoder()));
+            }
+            webClient = builder.build();
         }
     }
 
@@ -110,22 +262,7 @@ public class LrsrCldInfoServiceReactiveClient extends AbstractLrsrCldInfoService
             @NotNull final Year solYear, @NotNull final Month solMonth,
             @Max(MAX_DAY_OF_MONTH_SOLAR) @Min(MIN_DAY_OF_MONTH_SOLAR) @Nullable final Integer solDay,
             @Positive @Nullable final Integer pageNo) {
-        return webClient()
-                .get()
-                .uri(b -> {
-                    b.pathSegment(PATH_SEGMENT_GET_LUN_CAL_INFO)
-                            .queryParam(QUERY_PARAM_NAME_SERVICE_KEY, serviceKey())
-                            .queryParam(QUERY_PARAM_NAME_SOL_YEAR, solYear.getValue())
-                            .queryParam(QUERY_PARAM_NAME_SOL_MONTH, MONTH_FORMATTER.format(solMonth));
-                    ofNullable(solDay)
-                            .map(AbstractLrsrCldInfoServiceClient::format02d)
-                            .ifPresent(v -> b.queryParam(QUERY_PARAM_NAME_SOL_DAY, v));
-                    ofNullable(pageNo).ifPresent(v -> b.queryParam(QUERY_PARAM_NAME_PAGE_NO, v));
-                    return b.build();
-                })
-                .retrieve()
-                .bodyToMono(Response.class)
-                .as(LrsrCldInfoServiceReactiveClient::handled);
+        return exchange(LrsrCldInfoServiceRequest.getLunCalInfo(solYear, solMonth, solDay, pageNo));
     }
 
     /**
@@ -139,14 +276,36 @@ public class LrsrCldInfoServiceReactiveClient extends AbstractLrsrCldInfoService
     public @NotNull Flux<Response> getLunCalInfoForAllPages(
             @NotNull final Year solYear, @NotNull final Month solMonth,
             @Max(MAX_DAY_OF_MONTH_SOLAR) @Min(MIN_DAY_OF_MONTH_SOLAR) @Nullable final Integer solDay) {
-        final AtomicInteger pageNo = new AtomicInteger();
-        return getLunCalInfo(solYear, solMonth, solDay, pageNo.incrementAndGet())
-                .expand(r -> {
-                    if (Responses.isLastPage(r)) {
-                        return Mono.empty();
-                    }
-                    return getLunCalInfo(solYear, solMonth, solDay, pageNo.incrementAndGet());
-                });
+        return Flux.defer(() -> {
+            final IntFunction<Mono<Response>> page
+                    = pages(LrsrCldInfoServiceRequest.getLunCalInfo(solYear, solMonth, solDay, null));
+            final AtomicInteger pageNo = new AtomicInteger();
+            return page.apply(pageNo.incrementAndGet())
+                    .expand(r -> {
+                        if (Responses.isLastPage(r)) {
+                            return Mono.empty();
+                        }
+                        return page.apply(pageNo.incrementAndGet());
+                    });
+        });
+    }
+
+    /**
+     * Reads all responses from all pages of {@code /getLunCalInfo} with specified arguments. Once the first page is
+     * read, remaining pages are read concurrently.
+     *
+     * @param solYear     a value for {@link #QUERY_PARAM_NAME_SOL_YEAR ?solYear}.
+     * @param solMonth    a value for {@link #QUERY_PARAM_NAME_SOL_MONTH ?solMonth}.
+     * @param solDay      a value for {@link #QUERY_PARAM_NAME_SOL_DAY ?solDay}; {@code null} for a whole month.
+     * @param concurrency the maximum number of pages read concurrently.
+     * @return a flux of responses in page order.
+     */
+    public @NotNull Flux<Response> getLunCalInfoForAllPages(
+            @NotNull final Year solYear, @NotNull final Month solMonth,
+            @Max(MAX_DAY_OF_MONTH_SOLAR) @Min(MIN_DAY_OF_MONTH_SOLAR) @Nullable final Integer solDay,
+            @Positive final int concurrency) {
+        return Flux.defer(() -> allPages(pages(LrsrCldInfoServiceRequest.getLunCalInfo(
+                solYear, solMonth, solDay, null)), concurrency));
     }
 
     /**
@@ -157,14 +316,52 @@ public class LrsrCldInfoServiceReactiveClient extends AbstractLrsrCldInfoService
      * @param solDay   a value for {@link #QUERY_PARAM_NAME_SOL_DAY ?solDay}; {@code null} for a whole month.
      * @return a flux of items.
      * @see #getLunCalInfo(Year, Month, Integer, Integer)
+     * @see #itemCache()
+     * @see #batcher()
      */
     public @NotNull Flux<Item> getLunCalInfo(
             @NotNull final Year solYear, @NotNull final Month solMonth,
             @Max(MAX_DAY_OF_MONTH_SOLAR) @Min(MIN_DAY_OF_MONTH_SOLAR) @Nullable final Integer solDay) {
+        final LrsrCldInfoServiceItemCache itemCache = itemCache();
+        final YearMonth yearMonth = YearMonth.of(solYear.getValue(), solMonth);
+        if (itemCache != null && itemCache.covers(yearMonth)) {
+            return Flux.defer(() -> {
+                final List<Item> cached = itemCache.get(yearMonth, solDay);
+                if (cached != null) {
+                    return fromIterable(cached);
+                }
+                return getLunCalInfoOfMonth(solYear, solMonth, solDay != null)
+                        .flatMapMany(l -> fromIterable(itemCache.loaded(yearMonth, solDay, l)));
+            });
+        }
+        if (solDay != null && batcher() != null) {
+            return getLunCalInfoOfMonth(solYear, solMonth, true)
+                    .flatMapMany(l -> fromIterable(l).filter(i -> solDay.equals(i.getSolDay())));
+        }
         return getLunCalInfoForAllPages(solYear, solMonth, solDay)
                 .flatMap(r -> fromIterable(r.getBody().getItems()));
     }
 
+    /**
+     * Reads all items of specified solar month, in a batch if specified so and the {@link #batcher() batcher} is
+     * available.
+     *
+     * @param solYear  a value for {@link #QUERY_PARAM_NAME_SOL_YEAR ?solYear}.
+     * @param solMonth a value for {@link #QUERY_PARAM_NAME_SOL_MONTH ?solMonth}.
+     * @param batch    a flag for reading in a batch.
+     * @return a mono of all items of the month; shared among batched lookups.
+     */
+    private Mono<List<Item>> getLunCalInfoOfMonth(final Year solYear, final Month solMonth, final boolean batch) {
+        final Supplier<Mono<List<Item>>> loader = () -> getLunCalInfoForAllPages(solYear, solMonth, null)
+                .flatMap(r -> fromIterable(r.getBody().getItems()))
+                .collectList();
+        final LrsrCldInfoServiceBatcher batcher = batcher();
+        if (!batch || batcher == null) {
+            return loader.get();
+        }
+        return batcher.share(LrsrCldInfoServiceRequest.getLunCalInfo(solYear, solMonth, null, null), loader);
+    }
+
     /**
      * Reads all items in specified solar year.
      *
@@ -173,7 +370,10 @@ public class LrsrCldInfoServiceReactiveClient extends AbstractLrsrCldInfoService
      * @param scheduler   a scheduler.
      * @return a flux of items.
      * @see #getLunCalInfo(Year, Month, Integer)
+     * @deprecated The {@code scheduler} only hops threads of non-blocking exchanges and items are emitted in arbitrary
+     * order; use {@link #getLunCalInfo(LocalDate, LocalDate, int, int)}.
      */
+    @Deprecated
     public @NotNull Flux<Item> getLunCalInfo(@NotNull final Year year, @Positive final int parallelism,
                                              @NotNull final Scheduler scheduler) {
         return Flux.fromArray(Month.values())
@@ -183,6 +383,44 @@ public class LrsrCldInfoServiceReactiveClient extends AbstractLrsrCldInfoService
                 .sequential();
     }
 
+    /**
+     * Reads all items, in solar order, for specified range of solar dates. The range is split into months, or days for
+     * a small part of a month, which are read concurrently with at most {@code concurrency} of them in flight.
+     *
+     * @param from        the first solar date, inclusive.
+     * @param to          the last solar date, inclusive.
+     * @param concurrency the maximum number of months, or days, read concurrently.
+     * @return a flux of items in solar order.
+     * @see #getLunCalInfo(LocalDate, LocalDate, int, int)
+     */
+    public @NotNull Flux<Item> getLunCalInfo(@NotNull final LocalDate from, @NotNull final LocalDate to,
+                                             @Positive final int concurrency) {
+        return getLunCalInfo(from, to, concurrency, Queues.XS_BUFFER_SIZE);
+    }
+
+    /**
+     * Reads all items, in solar order, for specified range of solar dates. The range is split into months, or days for
+     * a small part of a month, which are read concurrently with at most {@code concurrency} of them in flight.
+     * <p>
+     * A month, or a day, is read only when the downstream demand is not covered by those already read. Since there is
+     * exactly one item for each solar day, requesting {@code 10} items reads only the month, or days, including the
+     * first ten days of the range. Use {@link Flux#limitRate(int)} on the result to shape the demand.
+     *
+     * @param from        the first solar date, inclusive.
+     * @param to          the last solar date, inclusive.
+     * @param concurrency the maximum number of months, or days, read concurrently.
+     * @param prefetch    the number of items prefetched from each month, or day.
+     * @return a flux of items in solar order.
+     * @see #getLunCalInfo(Year, Month, Integer)
+     */
+    public @NotNull Flux<Item> getLunCalInfo(@NotNull final LocalDate from, @NotNull final LocalDate to,
+                                             @Positive final int concurrency, @Positive final int prefetch) {
+        return items(solarSegments(from, to), s -> (int) (s.to.toEpochDay() - s.from.toEpochDay() + 1L), s -> {
+            final Flux<Item> items = getLunCalInfo(Year.of(s.month.getYear()), s.month.getMonth(), s.day);
+            return s.day != null ? items : items.filter(s::contains);
+        }, concurrency, prefetch);
+    }
+
     // -------------------------------------------------------------------------------------------------- /getSolCalInfo
 
     /**
@@ -198,23 +436,7 @@ public class LrsrCldInfoServiceReactiveClient extends AbstractLrsrCldInfoService
             @NotNull final Year lunYear, @NotNull final Month lunMonth,
             @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) @Nullable final Integer lunDay,
             @PositiveOrZero @Nullable final Integer pageNo) {
-        return webClient()
-                .get()
-                .uri(b -> {
-                    b.pathSegment(PATH_SEGMENT_GET_SOL_CAL_INFO)
-                            .queryParam(QUERY_PARAM_NAME_SERVICE_KEY, serviceKey())
-                            .queryParam(QUERY_PARAM_NAME_LUN_YEAR, lunYear.getValue())
-                            .queryParam(QUERY_PARAM_NAME_LUN_MONTH, MONTH_FORMATTER.format(lunMonth));
-                    ofNullable(lunDay)
-                            .map(AbstractLrsrCldInfoServiceClient::format02d)
-                            .ifPresent(v -> b.queryParam(QUERY_PARAM_NAME_LUN_DAY, v));
-                    ofNullable(pageNo)
-                            .ifPresent(v -> b.queryParam(QUERY_PARAM_NAME_PAGE_NO, v));
-                    return b.build();
-                })
-                .retrieve()
-                .bodyToMono(Response.class)
-                .as(LrsrCldInfoServiceReactiveClient::handled);
+        return exchange(LrsrCldInfoServiceRequest.getSolCalInfo(lunYear, lunMonth, lunDay, pageNo));
     }
 
     /**
@@ -228,14 +450,36 @@ public class LrsrCldInfoServiceReactiveClient extends AbstractLrsrCldInfoService
     public @NotNull Flux<Response> getSolCalInfoForAllPages(
             @NotNull final Year lunYear, @NotNull final Month lunMonth,
             @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) @Nullable final Integer lunDay) {
-        final AtomicInteger pageNo = new AtomicInteger();
-        return getSolCalInfo(lunYear, lunMonth, lunDay, pageNo.incrementAndGet())
-                .expand(r -> {
-                    if (Responses.isLastPage(r)) {
-                        return Mono.empty();
-                    }
-                    return getSolCalInfo(lunYear, lunMonth, lunDay, pageNo.incrementAndGet());
-                });
+        return Flux.defer(() -> {
+            final IntFunction<Mono<Response>> page
+                    = pages(LrsrCldInfoServiceRequest.getSolCalInfo(lunYear, lunMonth, lunDay, null));
+            final AtomicInteger pageNo = new AtomicInteger();
+            return page.apply(pageNo.incrementAndGet())
+                    .expand(r -> {
+                        if (Responses.isLastPage(r)) {
+                            return Mono.empty();
+                        }
+                        return page.apply(pageNo.incrementAndGet());
+                    });
+        });
+    }
+
+    /**
+     * Reads all responses from all pages of {@code /getSolCalInfo} with specified arguments. Once the first page is
+     * read, remaining pages are read concurrently.
+     *
+     * @param lunYear     a value for {@link #QUERY_PARAM_NAME_LUN_YEAR ?lunYear}.
+     * @param lunMonth    a value for {@link #QUERY_PARAM_NAME_LUN_MONTH ?lunMonth}.
+     * @param lunDay      a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}; {@code null} for a whole month.
+     * @param concurrency the maximum number of pages read concurrently.
+     * @return a flux of responses in page order.
+     */
+    public @NotNull Flux<Response> getSolCalInfoForAllPages(
+            @NotNull final Year lunYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) @Nullable final Integer lunDay,
+            @Positive final int concurrency) {
+        return Flux.defer(() -> allPages(pages(LrsrCldInfoServiceRequest.getSolCalInfo(
+                lunYear, lunMonth, lunDay, null)), concurrency));
     }
 
     /**
@@ -246,10 +490,17 @@ public class LrsrCldInfoServiceReactiveClient extends AbstractLrsrCldInfoService
      * @param lunDay   a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}; {@code null} for a whole month.
      * @return a flux of items.
      * @see #getSolCalInfo(Year, Month, Integer, Integer)
+     * @see #batcher()
      */
     public Flux<Item> getSolCalInfo(
             @NotNull final Year lunYear, @NotNull final Month lunMonth,
             @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) @Nullable final Integer lunDay) {
+        final LrsrCldInfoServiceBatcher batcher = batcher();
+        if (lunDay != null && batcher != null) {
+            return batcher.share(LrsrCldInfoServiceRequest.getSolCalInfo(lunYear, lunMonth, null, null),
+                                 () -> getSolCalInfo(lunYear, lunMonth, null).collectList())
+                    .flatMapMany(l -> fromIterable(l).filter(i -> lunDay.equals(i.getLunDay())));
+        }
         return getSolCalInfoForAllPages(lunYear, lunMonth, lunDay)
                 .flatMap(r -> fromIterable(r.getBody().getItems()));
     }
@@ -262,7 +513,10 @@ public class LrsrCldInfoServiceReactiveClient extends AbstractLrsrCldInfoService
      * @param scheduler   a scheduler.
      * @return a flux of all items in {@code year}.
      * @see #getSolCalInfo(Year, Month, Integer)
+     * @deprecated The {@code scheduler} only hops threads of non-blocking exchanges and items are emitted in arbitrary
+     * order; use {@link #getSolCalInfo(YearMonth, YearMonth, int, int)}.
      */
+    @Deprecated
     public @NotNull Flux<Item> getSolCalInfo(@NotNull final Year year, @Positive final int parallelism,
                                              @NotNull final Scheduler scheduler) {
         return Flux.fromArray(Month.values())
@@ -272,6 +526,35 @@ public class LrsrCldInfoServiceReactiveClient extends AbstractLrsrCldInfoService
                 .sequential();
     }
 
+    /**
+     * Reads all items, in solar order, for specified range of lunar months. Each lunar month, along with its leap month
+     * if any, is read concurrently with at most {@code concurrency} of them in flight.
+     * <p>
+     * A lunar month is read only when the downstream demand is not covered by those already read, assuming {@code 29}
+     * items for each lunar month. Use {@link Flux#limitRate(int)} on the result to shape the demand.
+     *
+     * @param from        the first lunar year-month, inclusive.
+     * @param to          the last lunar year-month, inclusive.
+     * @param concurrency the maximum number of lunar months read concurrently.
+     * @param prefetch    the number of items prefetched from each lunar month.
+     * @return a flux of items in solar order.
+     * @see #getSolCalInfo(Year, Month, Integer)
+     */
+    public @NotNull Flux<Item> getSolCalInfo(@NotNull final YearMonth from, @NotNull final YearMonth to,
+                                             @Positive final int concurrency, @Positive final int prefetch) {
+        requireNonNull(from, "from is null");
+        requireNonNull(to, "to is null");
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("to(" + to + ") is before from(" + from + ")");
+        }
+        final List<YearMonth> months = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1L)) {
+            months.add(month);
+        }
+        return items(months, m -> MIN_DAYS_OF_LUNAR_MONTH,
+                     m -> getSolCalInfo(Year.of(m.getYear()), m.getMonth(), null), concurrency, prefetch);
+    }
+
     // -------------------------------------------------------------------------------------------- /getSpcifyLunCalInfo
 
     /**
@@ -289,27 +572,8 @@ public class LrsrCldInfoServiceReactiveClient extends AbstractLrsrCldInfoService
             @NotNull final Year fromSolYear, @NotNull final Year toSolYear, @NotNull final Month lunMonth,
             @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) final int lunDay, final boolean leapMonth,
             @PositiveOrZero final int pageNo) {
-        if (toSolYear.isBefore(fromSolYear)) {
-            throw new IllegalArgumentException(
-                    "toSolYear(" + toSolYear + ") is before fromSolYear(" + fromSolYear + ")");
-        }
-        return webClient
-                .get()
-                .uri(b -> b
-                        .pathSegment(PATH_SEGMENT_GET_SPCIFY_LUN_CAL_INFO)
-                        .queryParam(QUERY_PARAM_NAME_SERVICE_KEY, serviceKey())
-                        .queryParam(QUERY_PARAM_NAME_FROM_SOL_YEAR, fromSolYear.getValue())
-                        .queryParam(QUERY_PARAM_NAME_TO_SOL_YEAR, toSolYear.getValue())
-                        .queryParam(QUERY_PARAM_NAME_LUN_MONTH, MONTH_FORMATTER.format(lunMonth))
-                        .queryParam(QUERY_PARAM_NAME_LUN_DAY, format02d(lunDay))
-                        .queryParam(QUERY_PARAM_NAME_LEAP_MONTH, queryParamValueLeapMonth(leapMonth))
-                        .queryParam(QUERY_PARAM_NAME_PAGE_NO, pageNo)
-                        .build()
-                )
-                .retrieve()
-                .bodyToMono(Response.class)
-                .as(LrsrCldInfoServiceReactiveClient::handled)
-                ;
+        return exchange(LrsrCldInfoServiceRequest.getSpcifyLunCalInfo(
+                fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, pageNo));
     }
 
     /**
@@ -325,15 +589,38 @@ public class LrsrCldInfoServiceReactiveClient extends AbstractLrsrCldInfoService
     public Flux<Response> getSpcifyLunCalInfoForAllPages(@NotNull final Year fromSolYear, @NotNull final Year toSolYear,
                                                          @NotNull final Month lunMonth, final int lunDay,
                                                          final boolean leapMonth) {
-        final AtomicInteger pageNo = new AtomicInteger(0);
-        return getSpcifyLunCalInfo(fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, pageNo.incrementAndGet())
-                .expand(r -> {
-                    if (Responses.isLastPage(r)) {
-                        return Mono.empty();
-                    }
-                    return getSpcifyLunCalInfo(fromSolYear, toSolYear, lunMonth, lunDay, leapMonth,
-                                               pageNo.incrementAndGet());
-                });
+        return Flux.defer(() -> {
+            final IntFunction<Mono<Response>> page = pages(LrsrCldInfoServiceRequest.getSpcifyLunCalInfo(
+                    fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, null));
+            final AtomicInteger pageNo = new AtomicInteger();
+            return page.apply(pageNo.incrementAndGet())
+                    .expand(r -> {
+                        if (Responses.isLastPage(r)) {
+                            return Mono.empty();
+                        }
+                        return page.apply(pageNo.incrementAndGet());
+                    });
+        });
+    }
+
+    /**
+     * Retrieves all responses from {@code /getSpcifyLunCalInfo} with specified arguments. Once the first page is read,
+     * remaining pages are read concurrently.
+     *
+     * @param fromSolYear a value for {@link #QUERY_PARAM_NAME_FROM_SOL_YEAR ?fromSolYear}.
+     * @param toSolYear   a value for {@link #QUERY_PARAM_NAME_TO_SOL_YEAR ?toSolYear}.
+     * @param lunMonth    a value for {@link #QUERY_PARAM_NAME_LUN_MONTH ?lunMonth}.
+     * @param lunDay      a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}.
+     * @param leapMonth   a value for {@link #QUERY_PARAM_NAME_LEAP_MONTH ?leapMonth}.
+     * @param concurrency the maximum number of pages read concurrently.
+     * @return a flux of responses in page order.
+     */
+    public @NotNull Flux<Response> getSpcifyLunCalInfoForAllPages(
+            @NotNull final Year fromSolYear, @NotNull final Year toSolYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) final int lunDay, final boolean leapMonth,
+            @Positive final int concurrency) {
+        return Flux.defer(() -> allPages(pages(LrsrCldInfoServiceRequest.getSpcifyLunCalInfo(
+                fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, null)), concurrency));
     }
 
     /**
@@ -355,6 +642,415 @@ public class LrsrCldInfoServiceReactiveClient extends AbstractLrsrCldInfoService
                 .flatMap(r -> fromIterable(r.getBody().getItems()));
     }
 
+    /**
+     * Streams items of a response from {@code /getSpcifyLunCalInfo} with specified arguments. Data buffers of the
+     * response are released as soon as they are parsed; the header is verified before any item is emitted, and each
+     * item is emitted as soon as it is closed.
+     * <p>
+     * Streaming requires the Aalto XML parser ({@code com.fasterxml:aalto-xml}), an optional dependency, on the
+     * classpath, with which data buffers are parsed as they arrive and no whole body is aggregated in memory; without
+     * it, each response is aggregated, up to {@link LrsrCldInfoServiceItemDecoder#setMaxInMemorySize(int) a limit},
+     * before it is parsed, and a warning is logged.
+     * <p>
+     * Items which have been emitted can't be taken back; the exchange, hence, is neither cached, shared, retried, nor
+     * hedged. The {@link #rateLimiter() rate limiter} and the {@link #concurrencyLimiter() concurrency limiter}, if any,
+     * still apply. Responses are always requested as XML.
+     *
+     * @param fromSolYear a value for {@link #QUERY_PARAM_NAME_FROM_SOL_YEAR ?fromSolYear}.
+     * @param toSolYear   a value for {@link #QUERY_PARAM_NAME_TO_SOL_YEAR ?toSolYear}.
+     * @param lunMonth    a value for {@link #QUERY_PARAM_NAME_LUN_MONTH ?lunMonth}.
+     * @param lunDay      a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}.
+     * @param leapMonth   a value for {@link #QUERY_PARAM_NAME_LEAP_MONTH ?leapMonth}.
+     * @param pageNo      a value for {@link #QUERY_PARAM_NAME_PAGE_NO ?pageNo}.
+     * @return a flux of items.
+     * @see LrsrCldInfoServiceItemDecoder
+     */
+    public @NotNull Flux<Item> streamSpcifyLunCalInfo(
+            @NotNull final Year fromSolYear, @NotNull final Year toSolYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) final int lunDay, final boolean leapMonth,
+            @PositiveOrZero final int pageNo) {
+        return retrieveItemsLimited(LrsrCldInfoServiceRequest.getSpcifyLunCalInfo(
+                fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, pageNo), null);
+    }
+
+    /**
+     * Streams items of all pages from {@code /getSpcifyLunCalInfo} with specified arguments. Pages are requested with
+     * specified number of rows and are streamed one after another; a following page is requested unless the {@code
+     * numOfRows}, the {@code pageNo}, and the {@code totalCount} of a page, which follow its items, indicate the last
+     * page. Note that the service may send fewer rows than requested.
+     *
+     * @param fromSolYear a value for {@link #QUERY_PARAM_NAME_FROM_SOL_YEAR ?fromSolYear}.
+     * @param toSolYear   a value for {@link #QUERY_PARAM_NAME_TO_SOL_YEAR ?toSolYear}.
+     * @param lunMonth    a value for {@link #QUERY_PARAM_NAME_LUN_MONTH ?lunMonth}.
+     * @param lunDay      a value for {@link #QUERY_PARAM_NAME_LUN_DAY ?lunDay}.
+     * @param leapMonth   a value for {@link #QUERY_PARAM_NAME_LEAP_MONTH ?leapMonth}.
+     * @param numOfRows   a value for {@link #QUERY_PARAM_NAME_NUM_OF_ROWS ?numOfRows}.
+     * @return a flux of items in page order.
+     * @see #streamSpcifyLunCalInfo(Year, Year, Month, int, boolean, int)
+     */
+    public @NotNull Flux<Item> streamSpcifyLunCalInfoForAllPages(
+            @NotNull final Year fromSolYear, @NotNull final Year toSolYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) final int lunDay, final boolean leapMonth,
+            @Positive final int numOfRows) {
+        if (numOfRows <= 0) {
+            throw new IllegalArgumentException("numOfRows(" + numOfRows + ") is not positive");
+        }
+        final LrsrCldInfoServiceRequest request = LrsrCldInfoServiceRequest.getSpcifyLunCalInfo(
+                fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, 1).withNumOfRows(numOfRows);
+        return streamPages(request);
+    }
+
+    private @NotNull Flux<Item> streamPages(@NotNull final LrsrCldInfoServiceRequest request) {
+        return Flux.defer(() -> {
+            final AtomicInteger count = new AtomicInteger();
+            final AtomicReference<Response> page = new AtomicReference<>();
+            return retrieveItemsLimited(request, page::set)
+                    .doOnNext(i -> count.incrementAndGet())
+                    .concatWith(Flux.defer(() -> {
+                        final Response response = page.get();
+                        if (response == null || count.get() == 0 || Responses.isLastPage(response)) {
+                            return Flux.empty();
+                        }
+                        return streamPages(request.withPageNo(request.pageNo() + 1));
+                    }));
+        });
+    }
+
+    // -------------------------------------------------------------------------------------------------------- exchange
+
+    /**
+     * Exchanges specified request for a response, with a {@link #QUERY_PARAM_NAME_NUM_OF_ROWS ?numOfRows} from the
+     * {@link #pageSize() page size}, and through the {@link #responseCache() response cache} and the {@link
+     * #singleFlight() single-flight} if any.
+     *
+     * @param request the request.
+     * @return a mono of response.
+     * @see #retrieve(LrsrCldInfoServiceRequest)
+     */
+    protected @NotNull Mono<Response> exchange(@NotNull final LrsrCldInfoServiceRequest request) {
+        requireNonNull(request, "request is null");
+        final LrsrCldInfoServicePageSize pageSize = pageSize();
+        if (pageSize == null || request.numOfRows() != LrsrCldInfoServiceRequest.ABSENT) {
+            return exchangeAsIs(request);
+        }
+        return Mono.defer(() -> {
+            final int numOfRows = pageSize.numOfRows();
+            return exchangeAsIs(request.withNumOfRows(numOfRows))
+                    .flatMap(r -> pageSize.learn(numOfRows, r) ? exchange(request) : Mono.just(r));
+        });
+    }
+
+    /**
+     * Returns a function which exchanges pages of specified request as a single walk. The first page is exchanged as
+     * is, hence with a {@link #QUERY_PARAM_NAME_NUM_OF_ROWS ?numOfRows} from the {@link #pageSize() page size} if
+     * absent, and each following page is exchanged with the {@code numOfRows} of the first page; so that a change of
+     * the page size in the middle of the walk neither skips nor duplicates any item.
+     *
+     * @param request the request of any page.
+     * @return a function for exchanging a page of a page number.
+     */
+    protected @NotNull IntFunction<Mono<Response>> pages(@NotNull final LrsrCldInfoServiceRequest request) {
+        requireNonNull(request, "request is null");
+        final AtomicInteger numOfRows = new AtomicInteger(request.numOfRows());
+        return pageNo -> Mono.defer(() -> {
+            final int fixed = numOfRows.get();
+            if (fixed != LrsrCldInfoServiceRequest.ABSENT) {
+                return exchange(request.withPageNo(pageNo).withNumOfRows(fixed));
+            }
+            return exchange(request.withPageNo(pageNo)).doOnNext(r -> {
+                final int learned = r.getBody().getNumOfRows();
+                if (learned > 0) {
+                    numOfRows.compareAndSet(LrsrCldInfoServiceRequest.ABSENT, learned);
+                }
+            });
+        });
+    }
+
+    private @NotNull Mono<Response> exchangeAsIs(@NotNull final LrsrCldInfoServiceRequest request) {
+        final LrsrCldInfoServiceResponseCache responseCache = responseCache();
+        final LrsrCldInfoServiceSingleFlight singleFlight = singleFlight();
+        if (responseCache == null && singleFlight == null) {
+            return retrieveGuarded(request);
+        }
+        return Mono.defer(() -> {
+            if (responseCache != null) {
+                final Response cached = responseCache.get(request);
+                if (cached != null) {
+                    return Mono.just(cached);
+                }
+            }
+            final Supplier<Mono<Response>> supplier = () -> {
+                final Mono<Response> mono = retrieveGuarded(request);
+                return responseCache == null ? mono : mono.doOnNext(r -> {
+                    if (!r.isFallback()) {
+                        responseCache.put(request, r);
+                    }
+                });
+            };
+            return singleFlight == null ? supplier.get() : singleFlight.share(request, supplier);
+        });
+    }
+
+    private @NotNull Mono<Response> retrieveGuarded(@NotNull final LrsrCldInfoServiceRequest request) {
+        final LrsrCldInfoServiceCircuitBreaker circuitBreaker = circuitBreaker();
+        if (circuitBreaker == null) {
+            return retrieveRetried(request);
+        }
+        return Mono.defer(() -> {
+            if (!circuitBreaker.tryAcquire()) {
+                final Response fallback = fallback(request);
+                if (fallback == null) {
+                    return Mono.error(
+                            new LrsrCldInfoServiceCircuitOpenException("circuit open; no local data for " + request));
+                }
+                return Mono.just(fallback);
+            }
+            return retrieveRetried(request)
+                    .doOnSuccess(r -> circuitBreaker.onSuccess())
+                    .doOnError(e -> {
+                        if (isFailure(circuitBreaker, e)) {
+                            circuitBreaker.onFailure();
+                        } else {
+                            circuitBreaker.onIgnore();
+                        }
+                    })
+                    .doOnCancel(circuitBreaker::onIgnore);
+        });
+    }
+
+    /**
+     * Indicates whether specified failure is a failure of the service.
+     *
+     * @param circuitBreaker the circuit breaker.
+     * @param failure        the failure.
+     * @return {@code true} if {@code failure} is a failure of the service; {@code false} otherwise.
+     */
+    private static boolean isFailure(final LrsrCldInfoServiceCircuitBreaker circuitBreaker, final Throwable failure) {
+        if (failure instanceof UnsuccessfulResultException) {
+            final Header header = ((UnsuccessfulResultException) failure).getHeader();
+            return header != null && circuitBreaker.isFailureResultCode(header.getResultCode());
+        }
+        if (failure instanceof WebClientResponseException) {
+            return circuitBreaker.isFailureStatus(((WebClientResponseException) failure).getRawStatusCode());
+        }
+        // errors of requests, including connection failures, and timeouts
+        return failure instanceof WebClientException || failure instanceof IOException
+               || failure instanceof TimeoutException;
+    }
+
+    private @NotNull Mono<Response> retrieveRetried(@NotNull final LrsrCldInfoServiceRequest request) {
+        final LrsrCldInfoServiceRetryPolicy retryPolicy = retryPolicy();
+        if (retryPolicy == null) {
+            return retrieveHedged(request);
+        }
+        return Mono.defer(() -> {
+            retryPolicy.onExchange();
+            return retrieveRetried(request, retryPolicy, 1);
+        });
+    }
+
+    // not with retryWhen(Retry), which is not available before reactor 3.3.4
+    private @NotNull Mono<Response> retrieveRetried(@NotNull final LrsrCldInfoServiceRequest request,
+                                                    @NotNull final LrsrCldInfoServiceRetryPolicy retryPolicy,
+                                                    final int attempt) {
+        return retrieveHedged(request)
+                .doOnNext(r -> {
+                    if (attempt > 1) {
+                        retryPolicy.onRecovered();
+                    }
+                })
+                .onErrorResume(failure -> {
+                    if (!isRetryable(retryPolicy, failure) || !retryPolicy.tryRetry(attempt)) {
+                        return Mono.error(failure);
+                    }
+                    log.debug("retrying {} after attempt {} failed", request, attempt, failure);
+                    return Mono.delay(Duration.ofNanos(retryPolicy.backoff(attempt)))
+                            .then(Mono.defer(() -> retrieveRetried(request, retryPolicy, attempt + 1)));
+                });
+    }
+
+    /**
+     * Indicates whether specified failure is transient.
+     *
+     * @param retryPolicy the retry policy.
+     * @param failure     the failure.
+     * @return {@code true} if {@code failure} is transient; {@code false} otherwise.
+     */
+    private static boolean isRetryable(final LrsrCldInfoServiceRetryPolicy retryPolicy, final Throwable failure) {
+        if (failure instanceof UnsuccessfulResultException) {
+            final Header header = ((UnsuccessfulResultException) failure).getHeader();
+            return header != null && retryPolicy.isRetryableResultCode(header.getResultCode());
+        }
+        if (failure instanceof WebClientResponseException) {
+            return retryPolicy.isRetryableStatus(((WebClientResponseException) failure).getRawStatusCode());
+        }
+        // errors of requests, including connection failures, and timeouts
+        return failure instanceof WebClientException || failure instanceof IOException
+               || failure instanceof TimeoutException;
+    }
+
+    private @NotNull Mono<Response> retrieveHedged(@NotNull final LrsrCldInfoServiceRequest request) {
+        final LrsrCldInfoServiceHedgePolicy hedgePolicy = hedgePolicy();
+        if (hedgePolicy == null) {
+            return retrieveLimited(request);
+        }
+        return Mono.defer(() -> {
+            hedgePolicy.onExchange();
+            final long startedAt = System.nanoTime();
+            final Mono<Response> hedge = Mono.delay(Duration.ofNanos(hedgePolicy.delay()))
+                    .filter(t -> isHedgeAllowed(hedgePolicy))
+                    .doOnNext(t -> log.debug("hedging {}", request))
+                    .flatMap(t -> retrieveHedge(request))
+                    .doOnNext(r -> hedgePolicy.onHedgeWon())
+                    .onErrorResume(e -> {
+                        log.debug("hedge of {} failed", request, e); // left to the primary
+                        return Mono.never();
+                    })
+                    .switchIfEmpty(Mono.never());
+            // the first signal, either of the primary or of a successful hedge, wins; the other is cancelled
+            return Mono.first(retrieveLimited(request), hedge)
+                    .doOnNext(r -> hedgePolicy.onLatency(System.nanoTime() - startedAt));
+        });
+    }
+
+    private boolean isHedgeAllowed(@NotNull final LrsrCldInfoServiceHedgePolicy hedgePolicy) {
+        if (!hedgePolicy.tryHedge()) {
+            return false;
+        }
+        final LrsrCldInfoServiceRateLimiter rateLimiter = rateLimiter();
+        return rateLimiter == null || rateLimiter.tryAcquire(); // hedges never wait for permits
+    }
+
+    private @NotNull Mono<Response> retrieveHedge(@NotNull final LrsrCldInfoServiceRequest request) {
+        final LrsrCldInfoServiceRateLimiter rateLimiter = rateLimiter();
+        final Mono<Response> mono = retrieveConcurrencyLimited(request);
+        return rateLimiter == null
+               ? mono : mono.doOnError(UnsuccessfulResultException.class, e -> rateLimiter.onResult(e.getHeader()));
+    }
+
+    private @NotNull Mono<Response> retrieveLimited(@NotNull final LrsrCldInfoServiceRequest request) {
+        final LrsrCldInfoServiceRateLimiter rateLimiter = rateLimiter();
+        if (rateLimiter == null) {
+            return retrieveConcurrencyLimited(request);
+        }
+        return Mono.defer(() -> {
+            final long wait = rateLimiter.reserve();
+            final Mono<Response> mono = retrieveConcurrencyLimited(request)
+                    .doOnError(UnsuccessfulResultException.class, e -> rateLimiter.onResult(e.getHeader()));
+            return wait == 0L ? mono : mono.delaySubscription(Duration.ofNanos(wait));
+        });
+    }
+
+    private @NotNull Mono<Response> retrieveConcurrencyLimited(@NotNull final LrsrCldInfoServiceRequest request) {
+        final LrsrCldInfoServiceConcurrencyLimiter concurrencyLimiter = concurrencyLimiter();
+        if (concurrencyLimiter == null) {
+            return retrieve(request);
+        }
+        return Mono.defer(() -> {
+            final CompletableFuture<LrsrCldInfoServiceConcurrencyLimiter.Permit> future
+                    = concurrencyLimiter.acquireAsync();
+            final Mono<LrsrCldInfoServiceConcurrencyLimiter.Permit> permit = Mono.fromFuture(future)
+                    .doOnCancel(() -> future.thenAccept(LrsrCldInfoServiceConcurrencyLimiter.Permit::onIgnore));
+            return Mono.usingWhen(permit,
+                                  p -> retrieve(request),
+                                  p -> Mono.fromRunnable(p::onSuccess),
+                                  (p, e) -> Mono.fromRunnable(p::onDropped),
+                                  p -> Mono.fromRunnable(p::onIgnore));
+        });
+    }
+
+    private @NotNull Flux<Item> retrieveItemsLimited(@NotNull final LrsrCldInfoServiceRequest request,
+                                                     @Nullable final Consumer<? super Response> consumer) {
+        final LrsrCldInfoServiceRateLimiter rateLimiter = rateLimiter();
+        final LrsrCldInfoServiceConcurrencyLimiter concurrencyLimiter = concurrencyLimiter();
+        if (rateLimiter == null && concurrencyLimiter == null) {
+            return retrieveItems(request, consumer);
+        }
+        return Flux.defer(() -> {
+            Flux<Item> flux;
+            if (concurrencyLimiter == null) {
+                flux = retrieveItems(request, consumer);
+            } else {
+                final CompletableFuture<LrsrCldInfoServiceConcurrencyLimiter.Permit> future
+                        = concurrencyLimiter.acquireAsync();
+                final Mono<LrsrCldInfoServiceConcurrencyLimiter.Permit> permit = Mono.fromFuture(future)
+                        .doOnCancel(() -> future.thenAccept(LrsrCldInfoServiceConcurrencyLimiter.Permit::onIgnore));
+                flux = Flux.usingWhen(permit,
+                                      p -> retrieveItems(request, consumer),
+                                      p -> Mono.fromRunnable(p::onSuccess),
+                                      (p, e) -> Mono.fromRunnable(p::onDropped),
+                                      p -> Mono.fromRunnable(p::onIgnore));
+            }
+            if (rateLimiter == null) {
+                return flux;
+            }
+            final long wait = rateLimiter.reserve();
+            flux = flux.doOnError(UnsuccessfulResultException.class, e -> rateLimiter.onResult(e.getHeader()));
+            return wait == 0L ? flux : flux.delaySubscription(Duration.ofNanos(wait));
+        });
+    }
+
+    /**
+     * Retrieves a response for specified request from the service.
+     *
+     * @param request the request.
+     * @return a mono of response.
+     */
+    protected @NotNull Mono<Response> retrieve(@NotNull final LrsrCldInfoServiceRequest request) {
+        if (isJson()) {
+            return webClient()
+                    .get()
+                    .uri(b -> request.appendTo(b.queryParam(QUERY_PARAM_NAME_SERVICE_KEY, serviceKey())
+                                                       .queryParam(QUERY_PARAM_NAME_TYPE, QUERY_PARAM_VALUE_TYPE_JSON))
+                            .build())
+                    .accept(LrsrCldInfoServiceWireFormat.JSON.mediaTypes().toArray(new MediaType[0]))
+                    .retrieve()
+                    .bodyToFlux(DataBuffer.class)
+                    .as(f -> JSON_DECODER.decodeToMono(f, RESPONSE_TYPE, MimeTypeUtils.APPLICATION_JSON, null));
+        }
+        return webClient()
+                .get()
+                .uri(b -> request.appendTo(b.queryParam(QUERY_PARAM_NAME_SERVICE_KEY, serviceKey())).build())
+                .retrieve()
+                .bodyToMono(Response.class)
+                .as(LrsrCldInfoServiceReactiveClient::handled);
+    }
+
+    /**
+     * Streams items of a response for specified request from the service. Data buffers of the response are decoded
+     * with an {@link LrsrCldInfoServiceItemDecoder} as they arrive.
+     *
+     * @param request the request.
+     * @return a flux of items.
+     */
+    protected @NotNull Flux<Item> retrieveItems(@NotNull final LrsrCldInfoServiceRequest request) {
+        return retrieveItems(request, null);
+    }
+
+    /**
+     * Streams items of a response for specified request from the service, and passes a response of the header and the
+     * body, without any items, to specified consumer when all items are streamed.
+     *
+     * @param request  the request.
+     * @param consumer the consumer of the header and the body; may be {@code null}.
+     * @return a flux of items.
+     * @see LrsrCldInfoServiceItemDecoder#RESPONSE_HINT
+     */
+    protected @NotNull Flux<Item> retrieveItems(@NotNull final LrsrCldInfoServiceRequest request,
+                                                @Nullable final Consumer<? super Response> consumer) {
+        final Map<String, Object> hints = consumer == null
+                                          ? null
+                                          : Collections.singletonMap(LrsrCldInfoServiceItemDecoder.RESPONSE_HINT,
+                                                                     consumer);
+        return webClient()
+                .get()
+                .uri(b -> request.appendTo(b.queryParam(QUERY_PARAM_NAME_SERVICE_KEY, serviceKey())).build())
+                .accept(LrsrCldInfoServiceWireFormat.XML.mediaTypes().toArray(new MediaType[0]))
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(f -> ITEM_DECODER.decode(f, ITEM_TYPE, MimeTypeUtils.APPLICATION_XML, hints));
+    }
+
     // ------------------------------------------------------------------------------------------------- instance fields
     @Autowired
     @LrsrCldInfoServiceWebClient
@@ -0,0 +1,333 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import org.springframework.lang.Nullable;
+import org.springframework.web.util.UriBuilder;
+
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.PATH_SEGMENT_GET_LUN_CAL_INFO;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.PATH_SEGMENT_GET_SOL_CAL_INFO;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.PATH_SEGMENT_GET_SPCIFY_LUN_CAL_INFO;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.QUERY_PARAM_NAME_FROM_SOL_YEAR;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.QUERY_PARAM_NAME_LEAP_MONTH;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.QUERY_PARAM_NAME_LUN_DAY;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.QUERY_PARAM_NAME_LUN_MONTH;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.QUERY_PARAM_NAME_LUN_YEAR;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.QUERY_PARAM_NAME_NUM_OF_ROWS;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.QUERY_PARAM_NAME_PAGE_NO;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.QUERY_PARAM_NAME_SOL_DAY;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.QUERY_PARAM_NAME_SOL_MONTH;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.QUERY_PARAM_NAME_SOL_YEAR;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.QUERY_PARAM_NAME_TO_SOL_YEAR;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.format02d;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.AbstractLrsrCldInfoServiceClient.queryParamValueLeapMonth;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A canonical, immutable, representation of a request to one of the service's operations, which excludes the {@code
+ * ServiceKey}, and can be used as a key of caches.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LrsrCldInfoServiceResponseCache
+ */
+public final class LrsrCldInfoServiceRequest {
+
+    /**
+     * A value for absent {@code int} attributes. The value is {@value}.
+     */
+    public static final int ABSENT = 0;
+
+    private static final int LEAP_MONTH_ABSENT = -1;
+
+    private static int pageNo(@Nullable final Integer pageNo) {
+        return pageNo == null ? 1 : pageNo;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Creates a new instance for {@code /getLunCalInfo}.
+     *
+     * @param solYear  a value for {@code ?solYear}.
+     * @param solMonth a value for {@code ?solMonth}.
+     * @param solDay   a value for {@code ?solDay}; {@code null} for a whole month.
+     * @param pageNo   a value for {@code ?pageNo}; {@code null} for the first page.
+     * @return a new instance.
+     */
+    public static LrsrCldInfoServiceRequest getLunCalInfo(@NotNull final Year solYear, @NotNull final Month solMonth,
+                                                          @Nullable final Integer solDay,
+                                                          @Nullable final Integer pageNo) {
+        requireNonNull(solYear, "solYear is null");
+        requireNonNull(solMonth, "solMonth is null");
+        return new LrsrCldInfoServiceRequest(
+                PATH_SEGMENT_GET_LUN_CAL_INFO, solYear.getValue(), ABSENT, solMonth.getValue(),
+                solDay == null ? ABSENT : solDay, LEAP_MONTH_ABSENT, pageNo(pageNo), ABSENT);
+    }
+
+    /**
+     * Creates a new instance for {@code /getSolCalInfo}.
+     *
+     * @param lunYear  a value for {@code ?lunYear}.
+     * @param lunMonth a value for {@code ?lunMonth}.
+     * @param lunDay   a value for {@code ?lunDay}; {@code null} for a whole month.
+     * @param pageNo   a value for {@code ?pageNo}; {@code null} for the first page.
+     * @return a new instance.
+     */
+    public static LrsrCldInfoServiceRequest getSolCalInfo(@NotNull final Year lunYear, @NotNull final Month lunMonth,
+                                                          @Nullable final Integer lunDay,
+                                                          @Nullable final Integer pageNo) {
+        requireNonNull(lunYear, "lunYear is null");
+        requireNonNull(lunMonth, "lunMonth is null");
+        return new LrsrCldInfoServiceRequest(
+                PATH_SEGMENT_GET_SOL_CAL_INFO, lunYear.getValue(), ABSENT, lunMonth.getValue(),
+                lunDay == null ? ABSENT : lunDay, LEAP_MONTH_ABSENT, pageNo(pageNo), ABSENT);
+    }
+
+    /**
+     * Creates a new instance for {@code /getSpcifyLunCalInfo}.
+     *
+     * @param fromSolYear a value for {@code ?fromSolYear}.
+     * @param toSolYear   a value for {@code ?toSolYear}.
+     * @param lunMonth    a value for {@code ?lunMonth}.
+     * @param lunDay      a value for {@code ?lunDay}.
+     * @param leapMonth   a value for {@code ?leapMonth}.
+     * @param pageNo      a value for {@code ?pageNo}; {@code null} for the first page.
+     * @return a new instance.
+     */
+    public static LrsrCldInfoServiceRequest getSpcifyLunCalInfo(
+            @NotNull final Year fromSolYear, @NotNull final Year toSolYear, @NotNull final Month lunMonth,
+            final int lunDay, final boolean leapMonth, @Nullable final Integer pageNo) {
+        requireNonNull(fromSolYear, "fromSolYear is null");
+        requireNonNull(toSolYear, "toSolYear is null");
+        requireNonNull(lunMonth, "lunMonth is null");
+        if (toSolYear.isBefore(fromSolYear)) {
+            throw new IllegalArgumentException(
+                    "toSolYear(" + toSolYear + ") is before fromSolYear(" + fromSolYear + ")");
+        }
+        return new LrsrCldInfoServiceRequest(
+                PATH_SEGMENT_GET_SPCIFY_LUN_CAL_INFO, fromSolYear.getValue(), toSolYear.getValue(),
+                lunMonth.getValue(), lunDay, leapMonth ? 1 : 0, pageNo(pageNo), ABSENT);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+    private LrsrCldInfoServiceRequest(final String pathSegment, final int year, final int toYear, final int month,
+                                      final int day, final int leapMonth, final int pageNo, final int numOfRows) {
+        super();
+        this.pathSegment = pathSegment;
+        this.year = year;
+        this.toYear = toYear;
+        this.month = month;
+        this.day = day;
+        this.leapMonth = leapMonth;
+        this.pageNo = pageNo;
+        this.numOfRows = numOfRows;
+    }
+
+    // -------------------------------------------------------------------------------- overridden from java.lang.Object
+
+    /**
+     * Returns the string representation of this object.
+     *
+     * @return the string representation of this object.
+     */
+    @Override
+    public String toString() {
+        return super.toString() + '{'
+               + "pathSegment=" + pathSegment
+               + ",year=" + year
+               + ",toYear=" + toYear
+               + ",month=" + month
+               + ",day=" + day
+               + ",leapMonth=" + leapMonth
+               + ",pageNo=" + pageNo
+               + ",numOfRows=" + numOfRows
+               + '}';
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) return true;
+        if (obj == null || getClass() != obj.getClass()) return false;
+        final LrsrCldInfoServiceRequest that = (LrsrCldInfoServiceRequest) obj;
+        return year == that.year
+               && toYear == that.toYear
+               && month == that.month
+               && day == that.day
+               && leapMonth == that.leapMonth
+               && pageNo == that.pageNo
+               && numOfRows == that.numOfRows
+               && pathSegment.equals(that.pathSegment);
+    }
+
+    /**
+     * Returns a hash code value for the object.
+     *
+     * @return a hash code value for this object.
+     */
+    @Override
+    public int hashCode() {
+        int result = pathSegment.hashCode();
+        result = 31 * result + year;
+        result = 31 * result + toYear;
+        result = 31 * result + month;
+        result = 31 * result + day;
+        result = 31 * result + leapMonth;
+        result = 31 * result + pageNo;
+        result = 31 * result + numOfRows;
+        return result;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a new instance of this request for specified page.
+     *
+     * @param pageNo the page number.
+     * @return a new instance for the {@code pageNo}.
+     */
+    public LrsrCldInfoServiceRequest withPageNo(final int pageNo) {
+        if (pageNo == this.pageNo) {
+            return this;
+        }
+        return new LrsrCldInfoServiceRequest(pathSegment, year, toYear, month, day, leapMonth, pageNo, numOfRows);
+    }
+
+    /**
+     * Returns a new instance of this request for specified number of rows per page.
+     *
+     * @param numOfRows the number of rows per page; {@link #ABSENT} for the service's default.
+     * @return a new instance for the {@code numOfRows}.
+     */
+    public LrsrCldInfoServiceRequest withNumOfRows(final int numOfRows) {
+        if (numOfRows < 0) {
+            throw new IllegalArgumentException("numOfRows(" + numOfRows + ") is negative");
+        }
+        if (numOfRows == this.numOfRows) {
+            return this;
+        }
+        return new LrsrCldInfoServiceRequest(pathSegment, year, toYear, month, day, leapMonth, pageNo, numOfRows);
+    }
+
+    /**
+     * Appends the path segment and query parameters, excluding the {@code ServiceKey}, of this request to specified
+     * uri builder.
+     *
+     * @param builder the uri builder.
+     * @return given {@code builder}.
+     */
+    public UriBuilder appendTo(@NotNull final UriBuilder builder) {
+        requireNonNull(builder, "builder is null");
+        builder.pathSegment(pathSegment);
+        switch (pathSegment) {
+            case PATH_SEGMENT_GET_LUN_CAL_INFO:
+                builder.queryParam(QUERY_PARAM_NAME_SOL_YEAR, year)
+                        .queryParam(QUERY_PARAM_NAME_SOL_MONTH, format02d(month));
+                if (day != ABSENT) {
+                    builder.queryParam(QUERY_PARAM_NAME_SOL_DAY, format02d(day));
+                }
+                break;
+            case PATH_SEGMENT_GET_SOL_CAL_INFO:
+                builder.queryParam(QUERY_PARAM_NAME_LUN_YEAR, year)
+                        .queryParam(QUERY_PARAM_NAME_LUN_MONTH, format02d(month));
+                if (day != ABSENT) {
+                    builder.queryParam(QUERY_PARAM_NAME_LUN_DAY, format02d(day));
+                }
+                break;
+            default:
+                builder.queryParam(QUERY_PARAM_NAME_FROM_SOL_YEAR, year)
+                        .queryParam(QUERY_PARAM_NAME_TO_SOL_YEAR, toYear)
+                        .queryParam(QUERY_PARAM_NAME_LUN_MONTH, format02d(month))
+                        .queryParam(QUERY_PARAM_NAME_LUN_DAY, format02d(day))
+                        .queryParam(QUERY_PARAM_NAME_LEAP_MONTH, queryParamValueLeapMonth(leapMonth == 1));
+                break;
+        }
+        if (numOfRows != ABSENT) {
+            builder.queryParam(QUERY_PARAM_NAME_NUM_OF_ROWS, numOfRows);
+        }
+        return builder.queryParam(QUERY_PARAM_NAME_PAGE_NO, pageNo);
+    }
+
+    /**
+     * Returns the latest solar date which this request may concern.
+     *
+     * @return the latest solar date which this request may concern.
+     */
+    public LocalDate latestSolarDate() {
+        switch (pathSegment) {
+            case PATH_SEGMENT_GET_LUN_CAL_INFO:
+                final YearMonth solar = YearMonth.of(year, month);
+                // the day may not be of the month, e.g., 30 of February, for which the service answers no items
+                return day == ABSENT ? solar.atEndOfMonth()
+                                     : solar.atDay(Math.max(1, Math.min(day, solar.lengthOfMonth())));
+            case PATH_SEGMENT_GET_SOL_CAL_INFO:
+                // a lunar month, or its leap month, ends within three solar months
+                return YearMonth.of(year, month).plusMonths(3L).atEndOfMonth();
+            default:
+                return LocalDate.of(toYear, Month.DECEMBER, 31);
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+
+    /**
+     * The path segment of the operation.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final String pathSegment;
+
+    /**
+     * The value of {@code ?solYear}, {@code ?lunYear}, or {@code ?fromSolYear}.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int year;
+
+    /**
+     * The value of {@code ?toSolYear}; {@link #ABSENT} if not applicable.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int toYear;
+
+    /**
+     * The value of {@code ?solMonth} or {@code ?lunMonth}.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int month;
+
+    /**
+     * The value of {@code ?solDay} or {@code ?lunDay}; {@link #ABSENT} for a whole month.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int day;
+
+    /**
+     * {@code 1} for a leap month, {@code 0} for a normal month, or {@code -1} if not applicable.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int leapMonth;
+
+    /**
+     * The value of {@code ?pageNo}.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int pageNo;
+
+    /**
+     * The value of {@code ?numOfRows}; {@link #ABSENT} for the service's default.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int numOfRows;
+}
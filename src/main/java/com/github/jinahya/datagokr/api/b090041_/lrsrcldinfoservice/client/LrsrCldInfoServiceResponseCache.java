@@ -0,0 +1,275 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A size-bounded, least-recently-used, cache of {@link Response}s keyed by {@link LrsrCldInfoServiceRequest}s which
+ * can be shared by {@link LrsrCldInfoServiceClient} and {@link LrsrCldInfoServiceReactiveClient}.
+ * <p>
+ * Responses of requests concern only solar dates before the current month never expire, while others expire after
+ * the time-to-live. Cached responses are shared among callers and should not be modified.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see AbstractLrsrCldInfoServiceClient#responseCache()
+ */
+@Slf4j
+public class LrsrCldInfoServiceResponseCache {
+
+    /**
+     * The default maximum number of responses. The value is {@value}.
+     */
+    public static final int DEFAULT_MAXIMUM_SIZE = 4096;
+
+    /**
+     * The default time-to-live of responses concern recent or future dates.
+     */
+    public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofHours(1L);
+
+    /**
+     * The zone in which the current date is evaluated.
+     */
+    public static final ZoneId ZONE_ID = ZoneId.of("Asia/Seoul");
+
+    private static final class Entry {
+
+        private Entry(final Response response, final long expiresAt) {
+            super();
+            this.response = response;
+            this.expiresAt = expiresAt;
+        }
+
+        private final Response response;
+
+        private final long expiresAt;
+    }
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance with {@link #DEFAULT_MAXIMUM_SIZE} and {@link #DEFAULT_TIME_TO_LIVE}.
+     */
+    public LrsrCldInfoServiceResponseCache() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_TIME_TO_LIVE);
+    }
+
+    /**
+     * Creates a new instance with specified arguments.
+     *
+     * @param maximumSize the maximum number of responses.
+     * @param timeToLive  the time-to-live of responses concern recent or future dates.
+     */
+    public LrsrCldInfoServiceResponseCache(@Positive final int maximumSize, @NotNull final Duration timeToLive) {
+        this(maximumSize, timeToLive, Clock.system(ZONE_ID));
+    }
+
+    /**
+     * Creates a new instance with specified arguments.
+     *
+     * @param maximumSize the maximum number of responses.
+     * @param timeToLive  the time-to-live of responses concern recent or future dates.
+     * @param clock       a clock for evaluating the current date and expirations.
+     */
+    LrsrCldInfoServiceResponseCache(final int maximumSize, final Duration timeToLive, final Clock clock) {
+        super();
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize(" + maximumSize + ") is not positive");
+        }
+        this.maximumSize = maximumSize;
+        this.timeToLive = requireNonNull(timeToLive, "timeToLive is null");
+        if (timeToLive.isNegative()) {
+            throw new IllegalArgumentException("timeToLive(" + timeToLive + ") is negative");
+        }
+        this.clock = requireNonNull(clock, "clock is null");
+        entries = new LinkedHashMap<LrsrCldInfoServiceRequest, Entry>(16, .75f, true) {
+            private static final long serialVersionUID = 8094476823305005826L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<LrsrCldInfoServiceRequest, Entry> eldest) {
+                if (size() > LrsrCldInfoServiceResponseCache.this.maximumSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the response cached for specified request.
+     *
+     * @param request the request.
+     * @return the response cached for {@code request}; {@code null} if not cached or expired.
+     */
+    public @Nullable Response get(@NotNull final LrsrCldInfoServiceRequest request) {
+        requireNonNull(request, "request is null");
+        final Entry entry;
+        synchronized (entries) {
+            entry = entries.get(request);
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        if (entry.expiresAt <= clock.millis()) {
+            expirations.increment();
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return entry.response;
+    }
+
+    /**
+     * Returns the response cached for specified request even if it has been expired. This method is for answering
+     * requests while the service is unavailable and does not affect statistics.
+     *
+     * @param request the request.
+     * @return the response cached for {@code request}; {@code null} if not cached.
+     * @see AbstractLrsrCldInfoServiceClient#fallback(LrsrCldInfoServiceRequest)
+     */
+    public @Nullable Response getStale(@NotNull final LrsrCldInfoServiceRequest request) {
+        requireNonNull(request, "request is null");
+        final Entry entry;
+        synchronized (entries) {
+            entry = entries.get(request);
+        }
+        return entry == null ? null : entry.response;
+    }
+
+    /**
+     * Stores specified response for specified request.
+     *
+     * @param request  the request.
+     * @param response the response for the {@code request}.
+     */
+    public void put(@NotNull final LrsrCldInfoServiceRequest request, @NotNull final Response response) {
+        requireNonNull(request, "request is null");
+        requireNonNull(response, "response is null");
+        final long now = clock.millis();
+        final LocalDate firstDayOfThisMonth = LocalDate.now(clock).withDayOfMonth(1);
+        final long expiresAt = request.latestSolarDate().isBefore(firstDayOfThisMonth)
+                               ? Long.MAX_VALUE : now + timeToLive.toMillis();
+        final Entry entry = new Entry(response, expiresAt);
+        synchronized (entries) {
+            entries.put(request, entry);
+        }
+    }
+
+    /**
+     * Removes all cached responses.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached responses, including expired ones.
+     *
+     * @return the number of cached responses.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    // ------------------------------------------------------------------------------------------------------- statistics
+
+    /**
+     * Returns the number of lookups served from this cache.
+     *
+     * @return the number of hits.
+     */
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * Returns the number of lookups not served from this cache, including expired ones.
+     *
+     * @return the number of misses.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the ratio of hits to all lookups.
+     *
+     * @return the hit ratio; {@code 1.0d} if no lookups have been made.
+     */
+    public double hitRatio() {
+        final long hitCount = hitCount();
+        final long requestCount = hitCount + missCount();
+        return requestCount == 0L ? 1.0d : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Returns the number of lookups found expired responses.
+     *
+     * @return the number of expirations.
+     */
+    public long expirationCount() {
+        return expirations.sum();
+    }
+
+    /**
+     * Returns the number of responses evicted due to the maximum size.
+     *
+     * @return the number of evictions.
+     */
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+
+    /**
+     * The maximum number of responses.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int maximumSize;
+
+    /**
+     * The time-to-live of responses concern recent or future dates.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final Duration timeToLive;
+
+    private final Clock clock;
+
+    /**
+     * Entries in access-order; guarded by itself.
+     */
+    private final LinkedHashMap<LrsrCldInfoServiceRequest, Entry> entries;
+
+    private final LongAdder hits = new LongAdder();
+
+    private final LongAdder misses = new LongAdder();
+
+    private final LongAdder expirations = new LongAdder();
+
+    private final LongAdder evictions = new LongAdder();
+}
@@ -0,0 +1,163 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.web.client.ResponseExtractor;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import javax.validation.constraints.NotNull;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A response extractor which reads responses with a streaming parser, rather than binding whole trees with JAXB. The
+ * header is verified before the body is read, and each item is bound, and is passed to the consumer if any, as soon as
+ * it is closed. Responses are read as XML, or, when {@link LrsrCldInfoServiceWireFormat#JSON JSON} is specified, as
+ * JSON.
+ * <p>
+ * When an {@link LrsrCldInfoServiceItemSink} is specified, responses are read as XML and values of each item are
+ * passed to the sink without creating any {@link Item}.
+ * <p>
+ * An instance is stateless and may be shared for {@link RestTemplate#execute(java.net.URI,
+ * org.springframework.http.HttpMethod, org.springframework.web.client.RequestCallback, ResponseExtractor)}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LrsrCldInfoServiceItemDecoder
+ * @see LrsrCldInfoServiceClient#getSpcifyLunCalInfo(java.time.Year, java.time.Year, java.time.Month, int, boolean,
+ * Integer, Consumer)
+ */
+@Slf4j
+public class LrsrCldInfoServiceResponseExtractor implements ResponseExtractor<Response> {
+
+    private static final XMLInputFactory FACTORY = LrsrCldInfoServiceXmlParser.newInputFactory();
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance which collects items into the body of the response and which throws {@link
+     * LrsrCldInfoServiceClient.UnsuccessfulResultException} for unsuccessful result codes.
+     */
+    public LrsrCldInfoServiceResponseExtractor() {
+        this(LrsrCldInfoServiceWireFormat.XML, LrsrCldInfoServiceClient.UnsuccessfulResultException::new, null);
+    }
+
+    /**
+     * Creates a new instance with specified arguments.
+     *
+     * @param unsuccessful a function for an exception of a header with an unsuccessful result code.
+     * @param consumer     a consumer of items; {@code null} for collecting items into the body of the response.
+     */
+    public LrsrCldInfoServiceResponseExtractor(
+            @NotNull final Function<? super Header, ? extends RuntimeException> unsuccessful,
+            @Nullable final Consumer<? super Item> consumer) {
+        this(LrsrCldInfoServiceWireFormat.XML, unsuccessful, consumer);
+    }
+
+    /**
+     * Creates a new instance with specified arguments.
+     *
+     * @param wireFormat   the representation of responses.
+     * @param unsuccessful a function for an exception of a header with an unsuccessful result code.
+     * @param consumer     a consumer of items; {@code null} for collecting items into the body of the response.
+     */
+    public LrsrCldInfoServiceResponseExtractor(
+            @NotNull final LrsrCldInfoServiceWireFormat wireFormat,
+            @NotNull final Function<? super Header, ? extends RuntimeException> unsuccessful,
+            @Nullable final Consumer<? super Item> consumer) {
+        this(wireFormat, unsuccessful, consumer, null);
+    }
+
+    /**
+     * Creates a new instance which passes values of items to specified sink.
+     *
+     * @param unsuccessful a function for an exception of a header with an unsuccessful result code.
+     * @param sink         the sink of items.
+     */
+    public LrsrCldInfoServiceResponseExtractor(
+            @NotNull final Function<? super Header, ? extends RuntimeException> unsuccessful,
+            @NotNull final LrsrCldInfoServiceItemSink sink) {
+        this(LrsrCldInfoServiceWireFormat.XML, unsuccessful, null, requireNonNull(sink, "sink is null"));
+    }
+
+    private LrsrCldInfoServiceResponseExtractor(
+            @NotNull final LrsrCldInfoServiceWireFormat wireFormat,
+            @NotNull final Function<? super Header, ? extends RuntimeException> unsuccessful,
+            @Nullable final Consumer<? super Item> consumer, @Nullable final LrsrCldInfoServiceItemSink sink) {
+        super();
+        this.wireFormat = requireNonNull(wireFormat, "wireFormat is null");
+        this.unsuccessful = requireNonNull(unsuccessful, "unsuccessful is null");
+        this.consumer = consumer;
+        this.sink = sink;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads specified response.
+     *
+     * @param response the response.
+     * @return a response whose body has all items, or, when a consumer or a sink is specified, has no items.
+     * @throws IOException if an I/O error occurs.
+     */
+    @Override
+    public @NotNull Response extractData(@NotNull final ClientHttpResponse response) throws IOException {
+        requireNonNull(response, "response is null");
+        if (sink != null) {
+            try (InputStream body = response.getBody()) {
+                final LrsrCldInfoServiceXmlParser parser = new LrsrCldInfoServiceXmlParser(unsuccessful, sink);
+                parser.parse(FACTORY, body, i -> {
+                });
+                return parser.response(null);
+            } catch (final XMLStreamException | IllegalArgumentException | IllegalStateException e) {
+                throw new RestClientException("failed to read a response", e);
+            }
+        }
+        final List<Item> items = consumer == null ? new ArrayList<>() : null;
+        final Consumer<? super Item> sink = consumer == null ? items::add : consumer;
+        try (InputStream body = response.getBody()) {
+            if (wireFormat == LrsrCldInfoServiceWireFormat.JSON) {
+                final LrsrCldInfoServiceJsonParser parser = new LrsrCldInfoServiceJsonParser(unsuccessful);
+                parser.parse(body, sink);
+                return parser.response(items);
+            }
+            final LrsrCldInfoServiceXmlParser parser = new LrsrCldInfoServiceXmlParser(unsuccessful);
+            parser.parse(FACTORY, body, sink);
+            return parser.response(items);
+        } catch (final XMLStreamException | IllegalArgumentException | IllegalStateException e) {
+            throw new RestClientException("failed to read a response", e);
+        }
+    }
+
+    /**
+     * Returns the representation of responses.
+     *
+     * @return the representation of responses.
+     */
+    public @NotNull LrsrCldInfoServiceWireFormat wireFormat() {
+        return wireFormat;
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+    private final LrsrCldInfoServiceWireFormat wireFormat;
+
+    private final Function<? super Header, ? extends RuntimeException> unsuccessful;
+
+    @Nullable
+    private final Consumer<? super Item> consumer;
+
+    @Nullable
+    private final LrsrCldInfoServiceItemSink sink;
+}
@@ -0,0 +1,307 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.DoubleSupplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A policy for retrying failed exchanges which can be shared by {@link LrsrCldInfoServiceClient} and {@link
+ * LrsrCldInfoServiceReactiveClient}.
+ * <p>
+ * Only transient failures, such as server errors, I/O errors, timeouts, and {@link #RETRYABLE_RESULT_CODES busy result
+ * codes}, are retried; permanent ones, such as an invalid service key or invalid parameters, are not. Each retry waits
+ * for an exponentially growing backoff with full jitter. Besides the maximum number of attempts of an exchange, the
+ * total number of retries is bounded by a budget which is refilled by a ratio of exchanges so that retries never
+ * amplify an outage.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see AbstractLrsrCldInfoServiceClient#retryPolicy()
+ */
+@Slf4j
+public class LrsrCldInfoServiceRetryPolicy {
+
+    /**
+     * Result codes regarded as transient.
+     *
+     * @see Header#RESULT_CODE_APPLICATION_ERROR
+     * @see Header#RESULT_CODE_DB_ERROR
+     * @see Header#RESULT_CODE_HTTP_ERROR
+     * @see Header#RESULT_CODE_SERVICETIME_OUT
+     * @see Header#RESULT_CODE_UNKNOWN_ERROR
+     */
+    public static final Set<String> RETRYABLE_RESULT_CODES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            Header.RESULT_CODE_APPLICATION_ERROR,
+            Header.RESULT_CODE_DB_ERROR,
+            Header.RESULT_CODE_HTTP_ERROR,
+            Header.RESULT_CODE_SERVICETIME_OUT,
+            Header.RESULT_CODE_UNKNOWN_ERROR
+    )));
+
+    /**
+     * The default maximum number of attempts of an exchange. The value is {@value}.
+     */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    /**
+     * The default backoff of the first retry.
+     */
+    public static final Duration DEFAULT_INITIAL_BACKOFF = Duration.ofMillis(100L);
+
+    /**
+     * The default maximum backoff.
+     */
+    public static final Duration DEFAULT_MAX_BACKOFF = Duration.ofSeconds(5L);
+
+    /**
+     * The default ratio of retries to exchanges. The value is {@value}.
+     */
+    public static final double DEFAULT_BUDGET_RATIO = .2d;
+
+    /**
+     * The default maximum number of retries in the budget. The value is {@value}.
+     */
+    public static final int DEFAULT_BUDGET_CAPACITY = 10;
+
+    private static final long MILLI_TOKENS = 1000L;
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance with default values.
+     */
+    public LrsrCldInfoServiceRetryPolicy() {
+        this(DEFAULT_MAX_ATTEMPTS, DEFAULT_INITIAL_BACKOFF, DEFAULT_MAX_BACKOFF, DEFAULT_BUDGET_RATIO,
+             DEFAULT_BUDGET_CAPACITY);
+    }
+
+    /**
+     * Creates a new instance with specified arguments.
+     *
+     * @param maxAttempts    the maximum number of attempts of an exchange, including the first one.
+     * @param initialBackoff the backoff of the first retry.
+     * @param maxBackoff     the maximum backoff.
+     * @param budgetRatio    the ratio of retries to exchanges.
+     * @param budgetCapacity the maximum number of retries in the budget.
+     */
+    public LrsrCldInfoServiceRetryPolicy(@Positive final int maxAttempts, @NotNull final Duration initialBackoff,
+                                         @NotNull final Duration maxBackoff, final double budgetRatio,
+                                         @Positive final int budgetCapacity) {
+        this(maxAttempts, initialBackoff, maxBackoff, budgetRatio, budgetCapacity,
+             () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    /**
+     * Creates a new instance with specified arguments.
+     *
+     * @param maxAttempts    the maximum number of attempts of an exchange, including the first one.
+     * @param initialBackoff the backoff of the first retry.
+     * @param maxBackoff     the maximum backoff.
+     * @param budgetRatio    the ratio of retries to exchanges.
+     * @param budgetCapacity the maximum number of retries in the budget.
+     * @param random         a source of random values in {@code [0, 1)} for jitters.
+     */
+    LrsrCldInfoServiceRetryPolicy(final int maxAttempts, final Duration initialBackoff, final Duration maxBackoff,
+                                  final double budgetRatio, final int budgetCapacity, final DoubleSupplier random) {
+        super();
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("maxAttempts(" + maxAttempts + ") is not positive");
+        }
+        requireNonNull(initialBackoff, "initialBackoff is null");
+        if (initialBackoff.isNegative()) {
+            throw new IllegalArgumentException("initialBackoff(" + initialBackoff + ") is negative");
+        }
+        requireNonNull(maxBackoff, "maxBackoff is null");
+        if (maxBackoff.compareTo(initialBackoff) < 0) {
+            throw new IllegalArgumentException(
+                    "maxBackoff(" + maxBackoff + ") < initialBackoff(" + initialBackoff + ")");
+        }
+        if (!(budgetRatio >= 0.0d) || Double.isInfinite(budgetRatio)) {
+            throw new IllegalArgumentException("budgetRatio(" + budgetRatio + ") is negative");
+        }
+        if (budgetCapacity <= 0) {
+            throw new IllegalArgumentException("budgetCapacity(" + budgetCapacity + ") is not positive");
+        }
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        deposit = Math.round(budgetRatio * MILLI_TOKENS);
+        capacity = budgetCapacity * MILLI_TOKENS;
+        this.random = requireNonNull(random, "random is null");
+        balance = new AtomicLong(capacity);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Indicates whether specified result code is transient.
+     *
+     * @param resultCode the result code.
+     * @return {@code true} if {@code resultCode} is one of {@link #RETRYABLE_RESULT_CODES}; {@code false} otherwise.
+     */
+    public boolean isRetryableResultCode(@Nullable final String resultCode) {
+        return resultCode != null && RETRYABLE_RESULT_CODES.contains(resultCode);
+    }
+
+    /**
+     * Indicates whether specified HTTP status code is transient.
+     *
+     * @param statusCode the HTTP status code.
+     * @return {@code true} if {@code statusCode} is {@code 408}, {@code 429}, or a {@code 5xx} other than {@code 501};
+     * {@code false} otherwise.
+     */
+    public boolean isRetryableStatus(final int statusCode) {
+        if (statusCode == 408 || statusCode == 429) {
+            return true;
+        }
+        return statusCode >= 500 && statusCode < 600 && statusCode != 501;
+    }
+
+    /**
+     * Notifies that an exchange is about to be attempted for the first time, which refills the budget.
+     */
+    public void onExchange() {
+        if (deposit == 0L) {
+            return;
+        }
+        balance.accumulateAndGet(deposit, (b, d) -> Math.min(capacity, b + d));
+    }
+
+    /**
+     * Checks whether a retry is allowed after specified attempt failed, and withdraws the retry from the budget if
+     * allowed.
+     *
+     * @param attempt the number of the attempt failed; {@code 1} for the first attempt.
+     * @return {@code true} if a retry is allowed; {@code false} otherwise.
+     */
+    public boolean tryRetry(@Positive final int attempt) {
+        if (attempt >= maxAttempts) {
+            exhausted.increment();
+            return false;
+        }
+        while (true) {
+            final long current = balance.get();
+            if (current < MILLI_TOKENS) {
+                exhausted.increment();
+                log.debug("retry budget exhausted");
+                return false;
+            }
+            if (balance.compareAndSet(current, current - MILLI_TOKENS)) {
+                retries.increment();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Returns a jittered backoff before retrying after specified attempt failed.
+     *
+     * @param attempt the number of the attempt failed; {@code 1} for the first attempt.
+     * @return a backoff, in nanoseconds, between {@code 0} and the exponential backoff of {@code attempt}.
+     */
+    public long backoff(@Positive final int attempt) {
+        long ceiling = initialBackoff.toNanos();
+        final long max = maxBackoff.toNanos();
+        for (int i = 1; i < attempt && ceiling < max; i++) {
+            ceiling = ceiling > max / 2 ? max : ceiling * 2;
+        }
+        return (long) (Math.min(ceiling, max) * random.getAsDouble());
+    }
+
+    /**
+     * Notifies that an exchange succeeded after being retried.
+     */
+    public void onRecovered() {
+        recovered.increment();
+    }
+
+    // ------------------------------------------------------------------------------------------------------- statistics
+
+    /**
+     * Returns the number of retries made.
+     *
+     * @return the number of retries.
+     */
+    public long retryCount() {
+        return retries.sum();
+    }
+
+    /**
+     * Returns the number of exchanges succeeded after being retried.
+     *
+     * @return the number of recovered exchanges.
+     */
+    public long recoveredCount() {
+        return recovered.sum();
+    }
+
+    /**
+     * Returns the number of retryable failures not retried due to the maximum attempts or the budget.
+     *
+     * @return the number of exhausted exchanges.
+     */
+    public long exhaustedCount() {
+        return exhausted.sum();
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+
+    /**
+     * The maximum number of attempts of an exchange, including the first one.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int maxAttempts;
+
+    /**
+     * The backoff of the first retry.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final Duration initialBackoff;
+
+    /**
+     * The maximum backoff.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final Duration maxBackoff;
+
+    /**
+     * The milli-tokens deposited for each exchange.
+     */
+    private final long deposit;
+
+    /**
+     * The maximum milli-tokens in the budget.
+     */
+    private final long capacity;
+
+    private final DoubleSupplier random;
+
+    /**
+     * The current milli-tokens in the budget; a retry costs {@value #MILLI_TOKENS}.
+     */
+    private final AtomicLong balance;
+
+    private final LongAdder retries = new LongAdder();
+
+    private final LongAdder recovered = new LongAdder();
+
+    private final LongAdder exhausted = new LongAdder();
+}
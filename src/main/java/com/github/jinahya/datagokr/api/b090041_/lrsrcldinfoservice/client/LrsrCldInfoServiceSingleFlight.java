@@ -0,0 +1,188 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A registry of in-flight requests which coalesces concurrent identical requests into a single exchange. An instance
+ * can be shared by {@link LrsrCldInfoServiceClient} and {@link LrsrCldInfoServiceReactiveClient}.
+ * <p>
+ * Blocking callers of the same request wait for, and share, the result, or the error, of the first caller. Reactive
+ * subscribers of the same request share a single subscription to the upstream which is cancelled only when all of
+ * them cancelled. A request is removed from the registry as soon as its exchange terminates so that results are never
+ * kept; use {@link LrsrCldInfoServiceResponseCache} for caching.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see AbstractLrsrCldInfoServiceClient#singleFlight()
+ */
+@Slf4j
+public class LrsrCldInfoServiceSingleFlight {
+
+    private static final class Stripe {
+
+        private final ConcurrentMap<LrsrCldInfoServiceRequest, CompletableFuture<Response>> futures
+                = new ConcurrentHashMap<>();
+
+        private final ConcurrentMap<LrsrCldInfoServiceRequest, Mono<Response>> monos = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * Waits for specified future and returns its result.
+     *
+     * @param future the future to wait.
+     * @return the result of the {@code future}.
+     */
+    private static Response join(final CompletableFuture<Response> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("interrupted while waiting for an in-flight request", ie);
+        } catch (final ExecutionException ee) {
+            final Throwable cause = ee.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new RuntimeException(cause);
+        }
+    }
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance with the number of available processors as the number of stripes.
+     */
+    public LrsrCldInfoServiceSingleFlight() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new instance with specified number of stripes.
+     *
+     * @param stripes the number of stripes; rounded up to a power of two.
+     */
+    public LrsrCldInfoServiceSingleFlight(@Positive final int stripes) {
+        super();
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes(" + stripes + ") is not positive");
+        }
+        final int length = Integer.highestOneBit(Math.min(stripes, 1 << 16) * 2 - 1);
+        this.stripes = new Stripe[length];
+        for (int i = 0; i < length; i++) {
+            this.stripes[i] = new Stripe();
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Executes specified supplier for specified request unless an identical request is already in flight, in which
+     * case waits for, and returns, the result of the request in flight.
+     *
+     * @param request  the request.
+     * @param supplier a supplier exchanges the {@code request}.
+     * @return the result of the exchange.
+     */
+    public Response execute(@NotNull final LrsrCldInfoServiceRequest request,
+                            @NotNull final Supplier<? extends Response> supplier) {
+        requireNonNull(request, "request is null");
+        requireNonNull(supplier, "supplier is null");
+        final ConcurrentMap<LrsrCldInfoServiceRequest, CompletableFuture<Response>> futures = stripe(request).futures;
+        final CompletableFuture<Response> created = new CompletableFuture<>();
+        final CompletableFuture<Response> existing = futures.putIfAbsent(request, created);
+        if (existing != null) {
+            shared.increment();
+            return join(existing);
+        }
+        executed.increment();
+        try {
+            final Response response = supplier.get();
+            created.complete(response);
+            return response;
+        } catch (final RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            futures.remove(request, created);
+        }
+    }
+
+    /**
+     * Returns a mono which subscribes a mono supplied by specified supplier unless an identical request is already in
+     * flight, in which case shares the mono in flight.
+     *
+     * @param request  the request.
+     * @param supplier a supplier of a mono exchanges the {@code request}.
+     * @return a mono of the result of the exchange.
+     */
+    public Mono<Response> share(@NotNull final LrsrCldInfoServiceRequest request,
+                                @NotNull final Supplier<? extends Mono<Response>> supplier) {
+        requireNonNull(request, "request is null");
+        requireNonNull(supplier, "supplier is null");
+        return Mono.defer(() -> {
+            final ConcurrentMap<LrsrCldInfoServiceRequest, Mono<Response>> monos = stripe(request).monos;
+            final AtomicReference<Mono<Response>> reference = new AtomicReference<>();
+            final Mono<Response> created = Mono.defer(supplier)
+                    .doOnSubscribe(s -> executed.increment())
+                    .doFinally(s -> monos.remove(request, reference.get()))
+                    .flux()
+                    .share()
+                    .next();
+            reference.set(created);
+            final Mono<Response> existing = monos.putIfAbsent(request, created);
+            if (existing != null) {
+                shared.increment();
+                return existing;
+            }
+            return created;
+        });
+    }
+
+    private Stripe stripe(final LrsrCldInfoServiceRequest request) {
+        final int hash = request.hashCode();
+        return stripes[(hash ^ (hash >>> 16)) & (stripes.length - 1)];
+    }
+
+    // ------------------------------------------------------------------------------------------------------- statistics
+
+    /**
+     * Returns the number of exchanges actually executed.
+     *
+     * @return the number of exchanges executed.
+     */
+    public long executedCount() {
+        return executed.sum();
+    }
+
+    /**
+     * Returns the number of requests which shared an exchange in flight.
+     *
+     * @return the number of requests shared.
+     */
+    public long sharedCount() {
+        return shared.sum();
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+    private final Stripe[] stripes;
+
+    private final LongAdder executed = new LongAdder();
+
+    private final LongAdder shared = new LongAdder();
+}
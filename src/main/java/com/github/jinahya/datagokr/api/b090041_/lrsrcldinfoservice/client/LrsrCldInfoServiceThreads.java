@@ -0,0 +1,66 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A utility class for running fan-outs of {@link LrsrCldInfoServiceClient} on threads bound to a single invocation.
+ * <p>
+ * This version runs fan-outs on a fixed number of platform threads. A multi-release version for Java 21, or later, in
+ * {@code META-INF/versions/21}, runs fan-outs on virtual threads.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+final class LrsrCldInfoServiceThreads {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    /**
+     * Indicates whether fan-outs run on virtual threads.
+     *
+     * @return {@code false}.
+     */
+    static boolean virtual() {
+        return false;
+    }
+
+    /**
+     * Applies specified function with an executor which is shut down, interrupting all remaining tasks, when the
+     * function returns or throws.
+     *
+     * @param parallelism the maximum number of threads.
+     * @param function    the function to apply.
+     * @param <R>         result type parameter
+     * @return the result of the {@code function}.
+     */
+    static <R> R fanOut(@Positive final int parallelism,
+                        @NotNull final Function<? super Executor, ? extends R> function) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism(" + parallelism + ") is not positive");
+        }
+        requireNonNull(function, "function is null");
+        final int sequence = SEQUENCE.incrementAndGet();
+        final AtomicInteger number = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(parallelism, r -> {
+            final Thread thread = new Thread(r, "lrsrcldinfoservice-" + sequence + "-" + number.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            return function.apply(executor);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private LrsrCldInfoServiceThreads() {
+        throw new AssertionError("instantiation is not allowed");
+    }
+}
@@ -0,0 +1,139 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBException;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.InputStream;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A bounded pool of unmarshallers, of a single cached context for {@link Response}, which are reused rather than
+ * created for each response. An unmarshaller is borrowed by one thread at a time; when the pool is empty, a new one is
+ * created, and when the pool is full, a returned one is discarded.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LrsrCldInfoServiceJaxbMessageConverter
+ * @see LrsrCldInfoServiceJaxbDecoder
+ */
+@Slf4j
+final class LrsrCldInfoServiceUnmarshallerPool {
+
+    /**
+     * The default capacity of pools.
+     */
+    static final int DEFAULT_CAPACITY = Runtime.getRuntime().availableProcessors() * 2;
+
+    private static final class ContextHolder {
+
+        private static final JAXBContext CONTEXT;
+
+        static {
+            try {
+                CONTEXT = JAXBContext.newInstance(Response.class);
+            } catch (final JAXBException jaxbe) {
+                throw new ExceptionInInitializerError(jaxbe);
+            }
+        }
+
+        private ContextHolder() {
+            throw new AssertionError("instantiation is not allowed");
+        }
+    }
+
+    private static final XMLInputFactory FACTORY = LrsrCldInfoServiceXmlParser.newInputFactory();
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance with specified capacity.
+     *
+     * @param capacity the maximum number of idle unmarshallers pooled.
+     */
+    LrsrCldInfoServiceUnmarshallerPool(@Positive final int capacity) {
+        super();
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity(" + capacity + ") is not positive");
+        }
+        this.capacity = capacity;
+        pool = new ArrayBlockingQueue<>(capacity);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Unmarshals a response from specified stream with a pooled unmarshaller.
+     *
+     * @param stream the stream.
+     * @return the response unmarshalled.
+     * @throws JAXBException      if failed to unmarshal.
+     * @throws XMLStreamException if failed to read the {@code stream}.
+     */
+    @NotNull Response unmarshal(@NotNull final InputStream stream) throws JAXBException, XMLStreamException {
+        requireNonNull(stream, "stream is null");
+        final XMLStreamReader reader = FACTORY.createXMLStreamReader(stream);
+        try {
+            final Unmarshaller unmarshaller = borrow();
+            final Response response = unmarshaller.unmarshal(reader, Response.class).getValue();
+            pool.offer(unmarshaller); // not returned when failed; the state of it is unknown
+            return response;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private Unmarshaller borrow() throws JAXBException {
+        final Unmarshaller pooled = pool.poll();
+        if (pooled != null) {
+            return pooled;
+        }
+        created.increment();
+        return ContextHolder.CONTEXT.createUnmarshaller();
+    }
+
+    // ------------------------------------------------------------------------------------------------------- statistics
+
+    /**
+     * Returns the number of unmarshallers created so far.
+     *
+     * @return the number of unmarshallers created.
+     */
+    long createdCount() {
+        return created.sum();
+    }
+
+    /**
+     * Returns the number of idle unmarshallers in the pool.
+     *
+     * @return the number of idle unmarshallers.
+     */
+    int idleCount() {
+        return pool.size();
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+
+    /**
+     * The maximum number of idle unmarshallers pooled.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    private final int capacity;
+
+    private final BlockingQueue<Unmarshaller> pool;
+
+    private final LongAdder created = new LongAdder();
+}
@@ -0,0 +1,45 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import org.springframework.http.MediaType;
+
+import javax.validation.constraints.NotNull;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Constants for representations in which the service sends responses.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see AbstractLrsrCldInfoServiceClient#wireFormat()
+ * @see AbstractLrsrCldInfoServiceClient#setWireFormat(LrsrCldInfoServiceWireFormat)
+ * @see AbstractLrsrCldInfoServiceClient.LrsrCldInfoServiceWireFormatQualifier
+ */
+public enum LrsrCldInfoServiceWireFormat {
+
+    /**
+     * The default XML representation.
+     */
+    XML(Arrays.asList(MediaType.APPLICATION_XML, MediaType.TEXT_XML)),
+
+    /**
+     * The JSON representation requested with {@link AbstractLrsrCldInfoServiceClient#QUERY_PARAM_NAME_TYPE
+     * ?_type=json}; read with a streaming parser which is cheaper than binding XML.
+     */
+    JSON(Collections.singletonList(MediaType.APPLICATION_JSON));
+
+    LrsrCldInfoServiceWireFormat(final List<MediaType> mediaTypes) {
+        this.mediaTypes = Collections.unmodifiableList(mediaTypes);
+    }
+
+    /**
+     * Returns the media types acceptable for this format.
+     *
+     * @return an unmodifiable list of acceptable media types.
+     */
+    public @NotNull List<MediaType> mediaTypes() {
+        return mediaTypes;
+    }
+
+    private final List<MediaType> mediaTypes;
+}
@@ -0,0 +1,293 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Body;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import javax.validation.constraints.NotNull;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.events.XMLEvent;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A push parser which binds a response, part by part, from the events of a pull parser. The {@code /:response/:header}
+ * is verified as soon as it is closed, and each {@code /:response/:body/:items/:item} is bound as soon as it is closed,
+ * so that no {@link Response} tree needs to be built before the caller sees the items. When an {@link
+ * LrsrCldInfoServiceItemSink} is specified, items are bound to a single reusable record, rather than to {@link Item}s,
+ * and are passed to the sink.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see LrsrCldInfoServiceResponseExtractor
+ * @see LrsrCldInfoServiceItemDecoder
+ */
+@Slf4j
+final class LrsrCldInfoServiceXmlParser {
+
+    private static final int DEPTH_SECTION = 2; // /response/header, /response/body
+
+    private static final int DEPTH_ITEM = 4; // /response/body/items/item
+
+    private static final String ELEMENT_HEADER = "header";
+
+    private static final String ELEMENT_BODY = "body";
+
+    private static final String ELEMENT_ITEM = "item";
+
+    /**
+     * Creates a new factory of pull parsers which neither supports DTDs nor resolves external entities.
+     *
+     * @return a new factory of pull parsers.
+     */
+    static @NotNull XMLInputFactory newInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, Boolean.TRUE);
+        return factory;
+    }
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance.
+     *
+     * @param unsuccessful a function for an exception of a header with an unsuccessful result code.
+     */
+    LrsrCldInfoServiceXmlParser(@NotNull final Function<? super Header, ? extends RuntimeException> unsuccessful) {
+        this(unsuccessful, null);
+    }
+
+    /**
+     * Creates a new instance with specified sink of items.
+     *
+     * @param unsuccessful a function for an exception of a header with an unsuccessful result code.
+     * @param sink         a sink of items; {@code null} for binding {@link Item}s.
+     */
+    LrsrCldInfoServiceXmlParser(@NotNull final Function<? super Header, ? extends RuntimeException> unsuccessful,
+                                @Nullable final LrsrCldInfoServiceItemSink sink) {
+        super();
+        this.unsuccessful = requireNonNull(unsuccessful, "unsuccessful is null");
+        this.sink = sink;
+        record = sink == null ? null : new LrsrCldInfoServiceItemRecord();
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads all events from specified stream while passing each item to specified consumer as soon as it is closed.
+     * Items are passed to the sink, rather than to the {@code consumer}, if this parser has been created with one.
+     *
+     * @param factory  a factory of pull parsers.
+     * @param stream   the stream to read.
+     * @param consumer the consumer of items.
+     * @throws XMLStreamException if failed to read the stream.
+     */
+    void parse(@NotNull final XMLInputFactory factory, @NotNull final InputStream stream,
+               @NotNull final Consumer<? super Item> consumer)
+            throws XMLStreamException {
+        requireNonNull(consumer, "consumer is null");
+        final XMLStreamReader reader = factory.createXMLStreamReader(stream);
+        try {
+            while (reader.hasNext()) {
+                switch (reader.next()) {
+                    case XMLStreamConstants.START_ELEMENT:
+                        startElement(reader.getLocalName());
+                        break;
+                    case XMLStreamConstants.CHARACTERS:
+                    case XMLStreamConstants.CDATA:
+                        characters(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+                        break;
+                    case XMLStreamConstants.END_ELEMENT:
+                        final Item item = endElement(reader.getLocalName());
+                        if (item != null) {
+                            consumer.accept(item);
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } finally {
+            reader.close();
+        }
+    }
+
+    /**
+     * Accepts specified event.
+     *
+     * @param event the event.
+     * @return an item closed by the {@code event}; {@code null} if the {@code event} closes no item.
+     */
+    @Nullable Item accept(@NotNull final XMLEvent event) {
+        if (event.isStartElement()) {
+            startElement(event.asStartElement().getName().getLocalPart());
+        } else if (event.isCharacters()) {
+            characters(event.asCharacters().getData());
+        } else if (event.isEndElement()) {
+            return endElement(event.asEndElement().getName().getLocalPart());
+        }
+        return null;
+    }
+
+    /**
+     * Notifies that an element of specified local name has been opened.
+     *
+     * @param localName the local name of the element.
+     */
+    void startElement(@NotNull final String localName) {
+        depth++;
+        text.setLength(0);
+        if (depth == DEPTH_SECTION) {
+            section = localName;
+            if (ELEMENT_HEADER.equals(localName)) {
+                header = new Header();
+            }
+            return;
+        }
+        if (depth == DEPTH_ITEM && ELEMENT_BODY.equals(section) && ELEMENT_ITEM.equals(localName)) {
+            inItem = true;
+            if (record == null) {
+                item = new Item();
+            } else {
+                record.clear();
+            }
+        }
+    }
+
+    /**
+     * Notifies some characters of the current element.
+     *
+     * @param characters the characters.
+     */
+    void characters(@NotNull final String characters) {
+        text.append(characters);
+    }
+
+    /**
+     * Notifies specified range of characters of the current element.
+     *
+     * @param characters an array of characters.
+     * @param start      the index of the first character in the {@code characters}.
+     * @param length     the number of characters.
+     */
+    void characters(@NotNull final char[] characters, final int start, final int length) {
+        text.append(characters, start, length);
+    }
+
+    /**
+     * Notifies that an element of specified local name has been closed.
+     *
+     * @param localName the local name of the element.
+     * @return the item closed; {@code null} if the element is not an item, or the item has been passed to the sink.
+     * @throws IllegalArgumentException if the text of the element is not valid.
+     * @throws RuntimeException         an exception from the function for unsuccessful headers, when the header has
+     *                                  been closed with an unsuccessful result code.
+     */
+    @Nullable Item endElement(@NotNull final String localName) {
+        try {
+            if (inItem) {
+                if (depth == DEPTH_ITEM) {
+                    inItem = false;
+                    items++;
+                    if (record != null) {
+                        record.emitTo(sink);
+                        return null;
+                    }
+                    final Item closed = item;
+                    item = null;
+                    return closed;
+                }
+                if (depth == DEPTH_ITEM + 1) {
+                    if (record != null) {
+                        record.bind(localName, text);
+                    } else {
+                        LrsrCldInfoServiceBindings.bind(item, localName, text.toString());
+                    }
+                }
+                return null;
+            }
+            if (depth == DEPTH_SECTION + 1) {
+                if (ELEMENT_HEADER.equals(section)) {
+                    LrsrCldInfoServiceBindings.bind(header, localName, text.toString());
+                } else if (ELEMENT_BODY.equals(section)) {
+                    LrsrCldInfoServiceBindings.bind(body, localName, text.toString());
+                }
+                return null;
+            }
+            if (depth == DEPTH_SECTION && header != null && ELEMENT_HEADER.equals(localName)
+                && !header.isResultCodeSuccess()) {
+                throw unsuccessful.apply(header); // fail fast; the body is never read
+            }
+            return null;
+        } finally {
+            text.setLength(0);
+            depth--;
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns a response of the header and the body read so far.
+     *
+     * @param items the items of the body; {@code null} for an empty list.
+     * @return a response of the header and the body.
+     * @throws IllegalStateException if no header has been read.
+     */
+    @NotNull Response response(@Nullable final List<Item> items) {
+        if (header == null) {
+            throw new IllegalStateException("no header read");
+        }
+        body.setItems(items == null ? new ArrayList<>() : items);
+        final Response response = new Response();
+        response.setHeader(header);
+        response.setBody(body);
+        return response;
+    }
+
+    /**
+     * Returns the number of items read so far.
+     *
+     * @return the number of items read.
+     */
+    int items() {
+        return items;
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+    private final Function<? super Header, ? extends RuntimeException> unsuccessful;
+
+    @Nullable
+    private final LrsrCldInfoServiceItemSink sink;
+
+    @Nullable
+    private final LrsrCldInfoServiceItemRecord record;
+
+    private final StringBuilder text = new StringBuilder();
+
+    private final Body body = new Body();
+
+    private int depth;
+
+    private String section;
+
+    private Header header;
+
+    private boolean inItem;
+
+    private Item item;
+
+    private int items;
+}
@@ -0,0 +1,166 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar.CalendarData;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.Getter;
+import lombok.experimental.Accessors;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Max;
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Month;
+import java.time.Year;
+import java.util.function.IntFunction;
+
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item.MAX_DAY_OF_MONTH_LUNAR;
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item.MIN_DAY_OF_MONTH_LUNAR;
+
+/**
+ * A client which answers requests from a {@link CalendarData dataset} bundled in the classpath, rather than from the
+ * service, as long as requested dates are covered by the dataset. Requests not covered are delegated to the super
+ * class.
+ * <p>
+ * This class is not annotated with {@link org.springframework.stereotype.Component @Component}; define a bean of
+ * this class explicitly when you need it.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see CalendarData
+ */
+@Slf4j
+public class OfflineLrsrCldInfoServiceClient extends LrsrCldInfoServiceClient {
+
+    private static CalendarData readResource() {
+        try {
+            return CalendarData.readResource();
+        } catch (final IOException ioe) {
+            log.warn("failed to read the calendar data; all requests will be delegated", ioe);
+            return null;
+        }
+    }
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance with the {@link CalendarData#readResource() bundled dataset}.
+     */
+    public OfflineLrsrCldInfoServiceClient() {
+        this(readResource());
+    }
+
+    /**
+     * Creates a new instance with specified dataset. Use {@link CalendarData#map(Path)} for a dataset shared, through
+     * the page cache, among processes on the same host.
+     *
+     * @param calendarData the dataset; {@code null} for delegating all requests.
+     */
+    public OfflineLrsrCldInfoServiceClient(@Nullable final CalendarData calendarData) {
+        super();
+        this.calendarData = calendarData;
+        if (calendarData != null) {
+            log.info("calendar data covers from {} to {}", calendarData.first(), calendarData.last());
+        }
+    }
+
+    // -------------------------------------------------------------------------------------------------- /getLunCalInfo
+
+    /**
+     * {@inheritDoc} This method answers from the dataset if the whole solar month is covered.
+     */
+    @Override
+    public @Valid @NotNull Response getLunCalInfo(
+            @NotNull final Year solYear, @NotNull final Month solMonth,
+            @Max(31) @Min(1) @Nullable final Integer solDay, @Positive @Nullable final Integer pageNo) {
+        final Response response = answer(LrsrCldInfoServiceRequest.getLunCalInfo(solYear, solMonth, solDay, pageNo));
+        if (response == null) {
+            return super.getLunCalInfo(solYear, solMonth, solDay, pageNo);
+        }
+        return response;
+    }
+
+    // -------------------------------------------------------------------------------------------------- /getSolCalInfo
+
+    /**
+     * {@inheritDoc} This method answers from the dataset if the whole lunar month, and its leap month if any, are
+     * covered.
+     */
+    @Override
+    public @NotNull Response getSolCalInfo(
+            @NotNull final Year lunYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) @Nullable final Integer lunDay,
+            @Positive @Nullable final Integer pageNo) {
+        final Response response = answer(LrsrCldInfoServiceRequest.getSolCalInfo(lunYear, lunMonth, lunDay, pageNo));
+        if (response == null) {
+            return super.getSolCalInfo(lunYear, lunMonth, lunDay, pageNo);
+        }
+        return response;
+    }
+
+    // --------------------------------------------------------------------------------------------- /getSpcifyLunCalInfo
+
+    /**
+     * {@inheritDoc} This method answers from the dataset if all days of the solar years are covered.
+     */
+    @Override
+    public @Valid @NotNull Response getSpcifyLunCalInfo(
+            @NotNull final Year fromSolYear, @NotNull final Year toSolYear, @NotNull final Month lunMonth,
+            @Max(MAX_DAY_OF_MONTH_LUNAR) @Min(MIN_DAY_OF_MONTH_LUNAR) final int lunDay, final boolean leapMonth,
+            @Positive @Nullable Integer pageNo) {
+        if (toSolYear.isBefore(fromSolYear)) {
+            return super.getSpcifyLunCalInfo(fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, pageNo);
+        }
+        final Response response = answer(LrsrCldInfoServiceRequest.getSpcifyLunCalInfo(
+                fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, pageNo));
+        if (response == null) {
+            return super.getSpcifyLunCalInfo(fromSolYear, toSolYear, lunMonth, lunDay, leapMonth, pageNo);
+        }
+        return response;
+    }
+
+    // -------------------------------------------------------------------------------------------------------- exchange
+
+    /**
+     * {@inheritDoc} This method answers each page from the dataset if the request is covered.
+     */
+    @Override
+    protected @NotNull IntFunction<Response> pages(@NotNull final LrsrCldInfoServiceRequest request) {
+        final IntFunction<Response> pages = super.pages(request);
+        return pageNo -> {
+            final Response response = answer(request.withPageNo(pageNo));
+            if (response == null) {
+                return pages.apply(pageNo);
+            }
+            return response;
+        };
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Answers specified request from the dataset.
+     *
+     * @param request the request.
+     * @return a response of the {@code request}; {@code null} if the {@code request} is not covered by the dataset.
+     */
+    private @Nullable Response answer(@NotNull final LrsrCldInfoServiceRequest request) {
+        if (calendarData == null) {
+            return null;
+        }
+        return LrsrCldInfoServiceLocalResponses.response(calendarData, request);
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+
+    /**
+     * The dataset from which requests are answered.
+     */
+    @Accessors(fluent = true)
+    @Getter
+    @Nullable
+    private final CalendarData calendarData;
+}
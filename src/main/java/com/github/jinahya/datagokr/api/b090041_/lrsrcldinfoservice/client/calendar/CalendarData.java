@@ -0,0 +1,553 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import javax.validation.constraints.NotNull;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A day-by-day calendar dataset which holds a fixed-width record for each solar day.
+ * <p>
+ * A dataset starts with a {@value #HEADER_LENGTH}-byte header of six big-endian {@code int}s, {@link #MAGIC}, {@link
+ * #VERSION}, the epoch-day of the first solar day, the number of records, the first lunar year, and the number of
+ * lunar years. Each of following records is {@value #RECORD_LENGTH} bytes long and is laid out as follows.
+ * <table>
+ * <caption>Record layout</caption>
+ * <tr><th>offset</th><th>type</th><th>value</th></tr>
+ * <tr><td>{@value #OFFSET_SOL_JD}</td><td>{@code int}</td><td>{@code solJd}</td></tr>
+ * <tr><td>{@value #OFFSET_LUN_YEAR}</td><td>{@code short}</td><td>{@code lunYear}</td></tr>
+ * <tr><td>{@value #OFFSET_LUN_MONTH}</td><td>{@code byte}</td><td>{@code lunMonth}</td></tr>
+ * <tr><td>{@value #OFFSET_FLAGS}</td><td>{@code byte}</td><td>flags; {@value #FLAG_LEAP_MONTH} for {@code
+ * lunLeapmonth}</td></tr>
+ * <tr><td>{@value #OFFSET_LUN_DAY}</td><td>{@code byte}</td><td>{@code lunDay}</td></tr>
+ * <tr><td>{@value #OFFSET_LUN_NDAY}</td><td>{@code byte}</td><td>{@code lunNday}</td></tr>
+ * <tr><td>{@value #OFFSET_LUN_SECHA}</td><td>{@code byte}</td><td>{@link Ganzhi} index of {@code lunSecha}</td></tr>
+ * <tr><td>{@value #OFFSET_LUN_WOLGEON}</td><td>{@code byte}</td><td>{@link Ganzhi} index of {@code lunWolgeon}
+ * </td></tr>
+ * <tr><td>{@value #OFFSET_LUN_ILJIN}</td><td>{@code byte}</td><td>{@link Ganzhi} index of {@code lunIljin}</td></tr>
+ * </table>
+ * The records are followed by a lunar table of {@value #LUNAR_SLOTS_PER_YEAR} {@code int}s for each lunar year, each
+ * of which is the index of the first record of a lunar month, or {@code -1} for an absent month, slotted by {@code
+ * (lunMonth - 1) * 2 + (lunLeapmonth ? 1 : 0)}.
+ * <p>
+ * A dataset may be {@link #read(InputStream) read} into the heap or {@link #map(Path) mapped} from a file so that
+ * processes on the same host share the page cache. Either way, both solar and lunar lookups take constant time.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@Slf4j
+public class CalendarData {
+
+    /**
+     * The name of the classpath resource, relative to this class, of the bundled dataset. The value is {@value}.
+     */
+    public static final String RESOURCE_NAME = "calendar.dat";
+
+    /**
+     * The magic number of a dataset. The value is {@value}.
+     */
+    public static final int MAGIC = 0x4C525352; // "LRSR"
+
+    /**
+     * The version of the dataset format. The value is {@value}.
+     */
+    public static final int VERSION = 2;
+
+    /**
+     * The length of the header in bytes. The value is {@value}.
+     */
+    public static final int HEADER_LENGTH = 24;
+
+    /**
+     * The length of a record in bytes. The value is {@value}.
+     */
+    public static final int RECORD_LENGTH = 16;
+
+    /**
+     * The number of slots of the lunar table for each lunar year. The value is {@value}.
+     */
+    public static final int LUNAR_SLOTS_PER_YEAR = 24;
+
+    static final int OFFSET_SOL_JD = 0;
+
+    static final int OFFSET_LUN_YEAR = 4;
+
+    static final int OFFSET_LUN_MONTH = 6;
+
+    static final int OFFSET_FLAGS = 7;
+
+    static final int OFFSET_LUN_DAY = 8;
+
+    static final int OFFSET_LUN_NDAY = 9;
+
+    static final int OFFSET_LUN_SECHA = 10;
+
+    static final int OFFSET_LUN_WOLGEON = 11;
+
+    static final int OFFSET_LUN_ILJIN = 12;
+
+    static final int FLAG_LEAP_MONTH = 0x01;
+
+    // -----------------------------------------------------------------------------------------------------------------
+    static int lunarSlot(final int lunMonth, final boolean leapMonth) {
+        return ((lunMonth - 1) << 1) | (leapMonth ? 1 : 0);
+    }
+
+    private static ByteBuffer slice(final ByteBuffer buffer, final int position, final int length) {
+        final ByteBuffer duplicate = buffer.duplicate();
+        ((Buffer) duplicate).position(position); // cast for running on Java 8
+        ((Buffer) duplicate).limit(position + length);
+        return duplicate.slice();
+    }
+
+    private static void checkHeader(final int magic, final int version, final int count, final int lunYears)
+            throws IOException {
+        if (magic != MAGIC) {
+            throw new IOException("wrong magic: " + Integer.toHexString(magic));
+        }
+        if (version != VERSION) {
+            throw new IOException("unsupported version: " + version);
+        }
+        if (count < 0) {
+            throw new IOException("negative count: " + count);
+        }
+        if (lunYears < 0) {
+            throw new IOException("negative number of lunar years: " + lunYears);
+        }
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Reads a dataset from specified stream into the heap.
+     *
+     * @param stream the stream to read.
+     * @return a dataset read from the {@code stream}.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static CalendarData read(@NotNull final InputStream stream) throws IOException {
+        requireNonNull(stream, "stream is null");
+        final DataInputStream input = new DataInputStream(stream);
+        final int magic = input.readInt();
+        final int version = input.readInt();
+        final int firstEpochDay = input.readInt();
+        final int count = input.readInt();
+        final int firstLunYear = input.readInt();
+        final int lunYears = input.readInt();
+        checkHeader(magic, version, count, lunYears);
+        final byte[] records = new byte[Math.multiplyExact(count, RECORD_LENGTH)];
+        input.readFully(records);
+        final byte[] lunarTable = new byte[Math.multiplyExact(lunYears, LUNAR_SLOTS_PER_YEAR * Integer.BYTES)];
+        input.readFully(lunarTable);
+        return new CalendarData(ByteBuffer.wrap(records), ByteBuffer.wrap(lunarTable), firstEpochDay, count,
+                                firstLunYear, lunYears);
+    }
+
+    /**
+     * Reads the dataset bundled as {@value #RESOURCE_NAME} into the heap.
+     *
+     * @return the dataset bundled.
+     * @throws IOException if the resource is not found or an I/O error occurs.
+     */
+    public static CalendarData readResource() throws IOException {
+        try (InputStream resource = CalendarData.class.getResourceAsStream(RESOURCE_NAME)) {
+            if (resource == null) {
+                throw new FileNotFoundException("no resource found: " + RESOURCE_NAME);
+            }
+            return read(new BufferedInputStream(resource));
+        }
+    }
+
+    /**
+     * Maps a dataset from specified file. The dataset is not loaded into the heap but read, on demand, through the
+     * page cache which is shared by all processes mapping the same file.
+     *
+     * @param path the path to the file.
+     * @return a dataset mapped from the file.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static CalendarData map(@NotNull final Path path) throws IOException {
+        requireNonNull(path, "path is null");
+        final MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_LENGTH) {
+                throw new IOException("too short: " + channel.size());
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size()); // remains valid when closed
+        }
+        final int magic = buffer.getInt(0);
+        final int version = buffer.getInt(4);
+        final int firstEpochDay = buffer.getInt(8);
+        final int count = buffer.getInt(12);
+        final int firstLunYear = buffer.getInt(16);
+        final int lunYears = buffer.getInt(20);
+        checkHeader(magic, version, count, lunYears);
+        final int recordsLength = Math.multiplyExact(count, RECORD_LENGTH);
+        final int lunarTableLength = Math.multiplyExact(lunYears, LUNAR_SLOTS_PER_YEAR * Integer.BYTES);
+        if (buffer.capacity() < HEADER_LENGTH + recordsLength + lunarTableLength) {
+            throw new IOException("truncated: " + buffer.capacity());
+        }
+        return new CalendarData(slice(buffer, HEADER_LENGTH, recordsLength),
+                                slice(buffer, HEADER_LENGTH + recordsLength, lunarTableLength),
+                                firstEpochDay, count, firstLunYear, lunYears);
+    }
+
+    /**
+     * Writes specified items, which should be of consecutive solar days in order, to specified stream as a dataset.
+     *
+     * @param stream the stream to which the dataset is written.
+     * @param items  the items to write.
+     * @return the number of records written.
+     * @throws IOException if an I/O error occurs.
+     */
+    public static int write(@NotNull final OutputStream stream, @NotNull final List<? extends Item> items)
+            throws IOException {
+        requireNonNull(stream, "stream is null");
+        requireNonNull(items, "items is null");
+        if (items.isEmpty()) {
+            throw new IllegalArgumentException("items is empty");
+        }
+        final long firstEpochDay = items.get(0).getSolarDate().toEpochDay();
+        final int firstLunYear = items.get(0).getLunYear().getValue();
+        final int lunYears = items.get(items.size() - 1).getLunYear().getValue() - firstLunYear + 1;
+        final int[] lunarTable = new int[lunYears * LUNAR_SLOTS_PER_YEAR];
+        Arrays.fill(lunarTable, -1);
+        final DataOutputStream output = new DataOutputStream(stream);
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeInt(Math.toIntExact(firstEpochDay));
+        output.writeInt(items.size());
+        output.writeInt(firstLunYear);
+        output.writeInt(lunYears);
+        final byte[] record = new byte[RECORD_LENGTH];
+        final ByteBuffer buffer = ByteBuffer.wrap(record);
+        for (int i = 0; i < items.size(); i++) {
+            final Item item = items.get(i);
+            if (item.getSolarDate().toEpochDay() != firstEpochDay + i) {
+                throw new IllegalArgumentException("not consecutive at " + i + ": " + item);
+            }
+            final boolean leapMonth = Boolean.TRUE.equals(item.getLunLeapmonth());
+            final int slot = (item.getLunYear().getValue() - firstLunYear) * LUNAR_SLOTS_PER_YEAR
+                             + lunarSlot(item.getLunMonth().getValue(), leapMonth);
+            if (lunarTable[slot] == -1) {
+                lunarTable[slot] = i;
+            }
+            Arrays.fill(record, (byte) 0);
+            buffer.putInt(OFFSET_SOL_JD, Math.toIntExact(item.getSolJd()));
+            buffer.putShort(OFFSET_LUN_YEAR, (short) item.getLunYear().getValue());
+            buffer.put(OFFSET_LUN_MONTH, (byte) item.getLunMonth().getValue());
+            buffer.put(OFFSET_FLAGS, (byte) (leapMonth ? FLAG_LEAP_MONTH : 0));
+            buffer.put(OFFSET_LUN_DAY, item.getLunDay().byteValue());
+            buffer.put(OFFSET_LUN_NDAY, item.getLunNday().byteValue());
+            buffer.put(OFFSET_LUN_SECHA, (byte) Ganzhi.parse(item.getLunSecha()));
+            buffer.put(OFFSET_LUN_WOLGEON, (byte) Ganzhi.parse(item.getLunWolgeon()));
+            buffer.put(OFFSET_LUN_ILJIN, (byte) Ganzhi.parse(item.getLunIljin()));
+            output.write(record);
+        }
+        for (final int start : lunarTable) {
+            output.writeInt(start);
+        }
+        output.flush();
+        return items.size();
+    }
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+
+    /**
+     * Creates a new instance with specified records and lunar table.
+     *
+     * @param records       a buffer of records.
+     * @param lunarTable    a buffer of the lunar table.
+     * @param firstEpochDay the epoch-day of the first record.
+     * @param count         the number of records.
+     * @param firstLunYear  the first lunar year of the lunar table.
+     * @param lunYears      the number of lunar years of the lunar table.
+     */
+    CalendarData(final ByteBuffer records, final ByteBuffer lunarTable, final long firstEpochDay, final int count,
+                 final int firstLunYear, final int lunYears) {
+        super();
+        this.records = requireNonNull(records, "records is null");
+        this.lunarTable = requireNonNull(lunarTable, "lunarTable is null");
+        this.firstEpochDay = firstEpochDay;
+        this.count = count;
+        this.firstLunYear = firstLunYear;
+        this.lunYears = lunYears;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the first solar date of this dataset.
+     *
+     * @return the first solar date.
+     */
+    public LocalDate first() {
+        return LocalDate.ofEpochDay(firstEpochDay);
+    }
+
+    /**
+     * Returns the last solar date of this dataset.
+     *
+     * @return the last solar date.
+     */
+    public LocalDate last() {
+        return LocalDate.ofEpochDay(firstEpochDay + count - 1);
+    }
+
+    /**
+     * Returns the number of records in this dataset.
+     *
+     * @return the number of records.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Indicates whether this dataset has a record for specified solar date.
+     *
+     * @param date the solar date.
+     * @return {@code true} if this dataset covers {@code date}; {@code false} otherwise.
+     */
+    public boolean covers(@NotNull final LocalDate date) {
+        return index(date) != -1;
+    }
+
+    /**
+     * Indicates whether this dataset has records for all days of specified solar month.
+     *
+     * @param month the solar month.
+     * @return {@code true} if this dataset covers whole {@code month}; {@code false} otherwise.
+     */
+    public boolean covers(@NotNull final YearMonth month) {
+        requireNonNull(month, "month is null");
+        return covers(month.atDay(1)) && covers(month.atEndOfMonth());
+    }
+
+    /**
+     * Returns an item for specified solar date.
+     *
+     * @param date the solar date.
+     * @return an item for {@code date}; {@code null} if not covered.
+     */
+    public @Nullable Item item(@NotNull final LocalDate date) {
+        final int index = index(date);
+        return index == -1 ? null : item(index);
+    }
+
+    /**
+     * Returns items of specified range of solar dates.
+     *
+     * @param from the first solar date, inclusive.
+     * @param to   the last solar date, inclusive.
+     * @return a list of items; empty if any date in the range is not covered.
+     */
+    public @NotNull List<Item> items(@NotNull final LocalDate from, @NotNull final LocalDate to) {
+        final int first = index(from);
+        final int last = index(to);
+        if (first == -1 || last == -1 || last < first) {
+            return new ArrayList<>(0);
+        }
+        return items(first, last - first + 1);
+    }
+
+    // ----------------------------------------------------------------------------------------------------------- lunar
+
+    /**
+     * Indicates whether this dataset has records for all days of specified lunar month.
+     *
+     * @param lunYear   the lunar year.
+     * @param lunMonth  the lunar month.
+     * @param leapMonth a flag for leap month.
+     * @return {@code true} if whole lunar month is covered; {@code false} otherwise.
+     */
+    public boolean coversLunar(final int lunYear, final int lunMonth, final boolean leapMonth) {
+        final int start = lunarStart(lunYear, lunMonth, leapMonth);
+        return start != -1 && lunDay(start) == 1 && start + lunNday(start) <= count;
+    }
+
+    /**
+     * Indicates whether this dataset knows about specified lunar month, and the leap month follows it, entirely.
+     *
+     * @param lunYear  the lunar year.
+     * @param lunMonth the lunar month.
+     * @return {@code true} if the lunar month and its following leap month, if any, are covered; {@code false}
+     * otherwise.
+     */
+    public boolean coversLunar(final int lunYear, final int lunMonth) {
+        if (!coversLunar(lunYear, lunMonth, false)) {
+            return false;
+        }
+        if (coversLunar(lunYear, lunMonth, true)) {
+            return true;
+        }
+        final int start = lunarStart(lunYear, lunMonth, false);
+        final int next = start + lunNday(start);
+        return next < count && lunarStart(lunYear, lunMonth, true) != next;
+    }
+
+    /**
+     * Returns an item for specified lunar date.
+     *
+     * @param lunYear   the lunar year.
+     * @param lunMonth  the lunar month.
+     * @param leapMonth a flag for leap month.
+     * @param lunDay    the lunar day.
+     * @return an item for the lunar date; {@code null} if not covered or not exists.
+     */
+    public @Nullable Item lunarItem(final int lunYear, final int lunMonth, final boolean leapMonth,
+                                    final int lunDay) {
+        final int index = lunarIndex(lunYear, lunMonth, leapMonth, lunDay);
+        return index == -1 ? null : item(index);
+    }
+
+    /**
+     * Returns all items of specified lunar month.
+     *
+     * @param lunYear   the lunar year.
+     * @param lunMonth  the lunar month.
+     * @param leapMonth a flag for leap month.
+     * @return a list of items; empty if the lunar month is not entirely covered.
+     */
+    public @NotNull List<Item> lunarItems(final int lunYear, final int lunMonth, final boolean leapMonth) {
+        if (!coversLunar(lunYear, lunMonth, leapMonth)) {
+            return new ArrayList<>(0);
+        }
+        final int start = lunarStart(lunYear, lunMonth, leapMonth);
+        return items(start, lunNday(start));
+    }
+
+    /**
+     * Returns the index of the record for specified lunar date.
+     *
+     * @param lunYear   the lunar year.
+     * @param lunMonth  the lunar month.
+     * @param leapMonth a flag for leap month.
+     * @param lunDay    the lunar day.
+     * @return the index of the record; {@code -1} if not covered or not exists.
+     */
+    int lunarIndex(final int lunYear, final int lunMonth, final boolean leapMonth, final int lunDay) {
+        final int start = lunarStart(lunYear, lunMonth, leapMonth);
+        if (start == -1) {
+            return -1;
+        }
+        final int first = lunDay(start);
+        if (lunDay < first || lunDay > lunNday(start)) {
+            return -1;
+        }
+        final int index = start + lunDay - first;
+        return index < count ? index : -1;
+    }
+
+    /**
+     * Returns the index of the first record of specified lunar month.
+     *
+     * @param lunYear   the lunar year.
+     * @param lunMonth  the lunar month.
+     * @param leapMonth a flag for leap month.
+     * @return the index of the first record; {@code -1} if not covered or not exists.
+     */
+    int lunarStart(final int lunYear, final int lunMonth, final boolean leapMonth) {
+        final int year = lunYear - firstLunYear;
+        if (year < 0 || year >= lunYears || lunMonth < 1 || lunMonth > 12) {
+            return -1;
+        }
+        final int slot = year * LUNAR_SLOTS_PER_YEAR + lunarSlot(lunMonth, leapMonth);
+        return lunarTable.getInt(slot * Integer.BYTES);
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the index of the record for specified solar date.
+     *
+     * @param date the solar date.
+     * @return the index of the record; {@code -1} if not covered.
+     */
+    int index(@NotNull final LocalDate date) {
+        requireNonNull(date, "date is null");
+        final long index = date.toEpochDay() - firstEpochDay;
+        return index < 0L || index >= count ? -1 : (int) index;
+    }
+
+    List<Item> items(final int index, final int length) {
+        final List<Item> items = new ArrayList<>(length);
+        for (int i = index; i < index + length; i++) {
+            items.add(item(i));
+        }
+        return items;
+    }
+
+    /**
+     * Creates a new item from the record at specified index.
+     *
+     * @param index the index of the record.
+     * @return a new item.
+     */
+    Item item(final int index) {
+        final int p = index * RECORD_LENGTH;
+        final Item item = new Item();
+        item.setLunYear(Year.of(records.getShort(p + OFFSET_LUN_YEAR)));
+        item.setLunMonth(Month.of(records.get(p + OFFSET_LUN_MONTH)));
+        item.setLunDay((int) records.get(p + OFFSET_LUN_DAY));
+        item.setLunLeapmonth((records.get(p + OFFSET_FLAGS) & FLAG_LEAP_MONTH) == FLAG_LEAP_MONTH);
+        item.setLunNday((int) records.get(p + OFFSET_LUN_NDAY));
+        item.setLunSecha(Ganzhi.format(records.get(p + OFFSET_LUN_SECHA)));
+        item.setLunWolgeon(Ganzhi.format(records.get(p + OFFSET_LUN_WOLGEON)));
+        item.setLunIljin(Ganzhi.format(records.get(p + OFFSET_LUN_ILJIN)));
+        item.setSolarDate(LocalDate.ofEpochDay(firstEpochDay + index));
+        item.setSolJd((long) records.getInt(p + OFFSET_SOL_JD));
+        return item;
+    }
+
+    private int lunDay(final int index) {
+        return records.get(index * RECORD_LENGTH + OFFSET_LUN_DAY);
+    }
+
+    private int lunNday(final int index) {
+        return records.get(index * RECORD_LENGTH + OFFSET_LUN_NDAY);
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+
+    /**
+     * A buffer of records; read only with absolute methods so that it is safe for concurrent access.
+     */
+    private final ByteBuffer records;
+
+    /**
+     * A buffer of the lunar table; read only with absolute methods so that it is safe for concurrent access.
+     */
+    private final ByteBuffer lunarTable;
+
+    private final long firstEpochDay;
+
+    private final int count;
+
+    private final int firstLunYear;
+
+    private final int lunYears;
+}
@@ -0,0 +1,99 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar;
+
+/**
+ * A utility class for the sexagenary cycle values of {@code lunSecha}, {@code lunWolgeon}, and {@code lunIljin}.
+ * <p>
+ * Each value is identified by its index in the cycle; {@code 0} for {@code 갑자(甲子)} and {@code 59} for
+ * {@code 계해(癸亥)}.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+public final class Ganzhi {
+
+    /**
+     * The length of the sexagenary cycle. The value is {@value}.
+     */
+    public static final int CYCLE = 60;
+
+    /**
+     * A value for an absent index. The value is {@value}.
+     */
+    public static final int NONE = -1;
+
+    private static final String STEMS_KORE = "갑을병정무기경신임계";
+
+    private static final String STEMS_HANS = "甲乙丙丁戊己庚辛壬癸";
+
+    private static final String BRANCHES_KORE = "자축인묘진사오미신유술해";
+
+    private static final String BRANCHES_HANS = "子丑寅卯辰巳午未申酉戌亥";
+
+    private static final String[] VALUES = new String[CYCLE];
+
+    static {
+        for (int i = 0; i < CYCLE; i++) {
+            final int s = i % STEMS_KORE.length();
+            final int b = i % BRANCHES_KORE.length();
+            VALUES[i] = new StringBuilder(6)
+                    .append(STEMS_KORE.charAt(s)).append(BRANCHES_KORE.charAt(b))
+                    .append('(')
+                    .append(STEMS_HANS.charAt(s)).append(BRANCHES_HANS.charAt(b))
+                    .append(')')
+                    .toString();
+        }
+    }
+
+    /**
+     * Returns the formatted value, e.g. {@code 경자(庚子)}, of specified index.
+     *
+     * @param index the index in the cycle; {@link #NONE} for an absent value.
+     * @return the formatted value of {@code index}; {@code null} if {@code index} is {@link #NONE}.
+     */
+    public static String format(final int index) {
+        if (index == NONE) {
+            return null;
+        }
+        if (index < 0 || index >= CYCLE) {
+            throw new IllegalArgumentException("invalid index: " + index);
+        }
+        return VALUES[index];
+    }
+
+    /**
+     * Parses specified value, e.g. {@code 경자(庚子)}, to its index in the cycle.
+     *
+     * @param value the value to parse.
+     * @return the index of {@code value}; {@link #NONE} if {@code value} is {@code null} or blank.
+     */
+    public static int parse(final String value) {
+        if (value == null || value.trim().isEmpty()) {
+            return NONE;
+        }
+        final String trimmed = value.trim();
+        final int index = trimmed.length() > 1 ? index(trimmed.charAt(0), trimmed.charAt(1)) : NONE;
+        if (index == NONE) {
+            throw new IllegalArgumentException("invalid value: " + value);
+        }
+        return index;
+    }
+
+    /**
+     * Returns the index in the cycle of specified stem and branch, e.g. {@code '경'} and {@code '자'}.
+     *
+     * @param stem   the Korean character of the heavenly stem.
+     * @param branch the Korean character of the earthly branch.
+     * @return the index of {@code stem} and {@code branch}; {@link #NONE} if they don't make a value of the cycle.
+     */
+    public static int index(final char stem, final char branch) {
+        final int s = STEMS_KORE.indexOf(stem);
+        final int b = BRANCHES_KORE.indexOf(branch);
+        if (s == -1 || b == -1 || (s & 1) != (b & 1)) {
+            return NONE;
+        }
+        return Math.floorMod(6 * s - 5 * b, CYCLE);
+    }
+
+    private Ganzhi() {
+        throw new AssertionError("instantiation is not allowed");
+    }
+}
@@ -0,0 +1,231 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.Nullable;
+
+import javax.validation.constraints.NotNull;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A compact index of lunar months which converts solar dates to lunar dates, and vice versa, without any lookup table
+ * of days.
+ * <p>
+ * Each lunar month is fully described by its first solar day, its {@code lunNday}, and its {@code lunLeapmonth} flag
+ * so that an instance keeps only those anchors in primitive arrays; about 1,850 anchors, a few kilobytes, cover 150
+ * years. An {@link Item} is built on each lookup with a binary search and some arithmetic; {@code lunSecha}, {@code
+ * lunWolgeon}, and {@code lunIljin} are derived from the lunar year, the lunar month, and {@code solJd}, respectively.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ * @see CalendarData
+ */
+@Slf4j
+public class LunarMonthIndex {
+
+    /**
+     * The offset of {@code solJd} to the index, in the sexagenary cycle, of {@code lunIljin}.
+     */
+    private static final int JD_OFFSET_OF_ILJIN = 49;
+
+    /**
+     * The offset of {@code lunYear} to the index, in the sexagenary cycle, of {@code lunSecha}.
+     */
+    private static final int YEAR_OFFSET_OF_SECHA = -4;
+
+    static int lunarKey(final int lunYear, final int lunMonth, final boolean leapMonth) {
+        return (lunYear << 5) | (lunMonth << 1) | (leapMonth ? 1 : 0);
+    }
+
+    /**
+     * Returns the index of {@code lunSecha} of specified lunar year.
+     *
+     * @param lunYear the lunar year.
+     * @return the index of {@code lunSecha} in the sexagenary cycle.
+     */
+    static int secha(final int lunYear) {
+        return Math.floorMod(lunYear + YEAR_OFFSET_OF_SECHA, Ganzhi.CYCLE);
+    }
+
+    /**
+     * Returns the index of {@code lunWolgeon} of specified lunar month.
+     *
+     * @param lunYear   the lunar year.
+     * @param lunMonth  the lunar month.
+     * @param leapMonth a flag for leap month.
+     * @return the index of {@code lunWolgeon} in the sexagenary cycle; {@link Ganzhi#NONE} for a leap month.
+     */
+    static int wolgeon(final int lunYear, final int lunMonth, final boolean leapMonth) {
+        if (leapMonth) {
+            return Ganzhi.NONE;
+        }
+        final int yearStem = Math.floorMod(lunYear + YEAR_OFFSET_OF_SECHA, 10);
+        final int stem = ((yearStem % 5) * 2 + 2 + lunMonth - 1) % 10; // 병인, 무인, 경인, 임인, 갑인
+        final int branch = (lunMonth + 1) % 12; // 인(寅) for the first month
+        return Math.floorMod(6 * stem - 5 * branch, Ganzhi.CYCLE);
+    }
+
+    /**
+     * Returns the index of {@code lunIljin} of specified julian day.
+     *
+     * @param solJd the julian day.
+     * @return the index of {@code lunIljin} in the sexagenary cycle.
+     */
+    static int iljin(final long solJd) {
+        return (int) Math.floorMod(solJd + JD_OFFSET_OF_ILJIN, (long) Ganzhi.CYCLE);
+    }
+
+    /**
+     * Creates a new instance from specified items. Each item needs only {@code solYear}, {@code solMonth}, {@code
+     * solDay}, {@code lunYear}, {@code lunMonth}, {@code lunLeapmonth}, {@code lunDay}, and {@code lunNday}; any item
+     * of a lunar month is enough for the month.
+     *
+     * @param items the items, in any order, from {@code /getLunCalInfo} or {@code /getSolCalInfo}.
+     * @return a new instance.
+     */
+    public static LunarMonthIndex of(@NotNull final Iterable<? extends Item> items) {
+        requireNonNull(items, "items is null");
+        final Map<Integer, int[]> anchors = new TreeMap<>(); // start -> {key, nday}
+        for (final Item item : items) {
+            final int start = Math.toIntExact(item.getSolarDate().toEpochDay() - (item.getLunDay() - 1));
+            final int key = lunarKey(item.getLunYear().getValue(), item.getLunMonth().getValue(),
+                                     Boolean.TRUE.equals(item.getLunLeapmonth()));
+            final int[] previous = anchors.putIfAbsent(start, new int[] {key, item.getLunNday()});
+            if (previous != null && previous[0] != key) {
+                throw new IllegalArgumentException("conflicting lunar months at " + LocalDate.ofEpochDay(start));
+            }
+        }
+        final int size = anchors.size();
+        final int[] starts = new int[size];
+        final int[] keys = new int[size];
+        final byte[] ndays = new byte[size];
+        int i = 0;
+        for (final Map.Entry<Integer, int[]> entry : anchors.entrySet()) {
+            starts[i] = entry.getKey();
+            keys[i] = entry.getValue()[0];
+            ndays[i] = (byte) entry.getValue()[1];
+            if (i > 0 && (keys[i] <= keys[i - 1] || starts[i] < starts[i - 1] + ndays[i - 1])) {
+                throw new IllegalArgumentException("overlapping lunar months at " + LocalDate.ofEpochDay(starts[i]));
+            }
+            i++;
+        }
+        return new LunarMonthIndex(starts, keys, ndays);
+    }
+
+    // ---------------------------------------------------------------------------------------------------- constructors
+    private LunarMonthIndex(final int[] starts, final int[] keys, final byte[] ndays) {
+        super();
+        this.starts = starts;
+        this.keys = keys;
+        this.ndays = ndays;
+    }
+
+    // -----------------------------------------------------------------------------------------------------------------
+
+    /**
+     * Returns the number of lunar months in this index.
+     *
+     * @return the number of lunar months.
+     */
+    public int size() {
+        return starts.length;
+    }
+
+    /**
+     * Returns an item of specified solar date.
+     *
+     * @param date the solar date.
+     * @return an item of {@code date}; {@code null} if not covered.
+     */
+    public @Nullable Item item(@NotNull final LocalDate date) {
+        requireNonNull(date, "date is null");
+        final long epochDay = date.toEpochDay();
+        if (epochDay < Integer.MIN_VALUE || epochDay > Integer.MAX_VALUE) {
+            return null;
+        }
+        int m = Arrays.binarySearch(starts, (int) epochDay);
+        if (m < 0) {
+            m = -m - 2; // the month starts before the date
+        }
+        if (m < 0 || epochDay - starts[m] >= ndays[m]) {
+            return null;
+        }
+        return item(m, (int) (epochDay - starts[m]) + 1);
+    }
+
+    /**
+     * Returns an item of specified lunar date.
+     *
+     * @param lunYear   the lunar year.
+     * @param lunMonth  the lunar month.
+     * @param leapMonth a flag for leap month.
+     * @param lunDay    the lunar day.
+     * @return an item of the lunar date; {@code null} if not covered or not exists.
+     */
+    public @Nullable Item item(final int lunYear, final int lunMonth, final boolean leapMonth, final int lunDay) {
+        final int m = Arrays.binarySearch(keys, lunarKey(lunYear, lunMonth, leapMonth));
+        if (m < 0 || lunDay < 1 || lunDay > ndays[m]) {
+            return null;
+        }
+        return item(m, lunDay);
+    }
+
+    /**
+     * Returns the solar date of specified lunar date.
+     *
+     * @param lunYear   the lunar year.
+     * @param lunMonth  the lunar month.
+     * @param leapMonth a flag for leap month.
+     * @param lunDay    the lunar day.
+     * @return the solar date of the lunar date; {@code null} if not covered or not exists.
+     */
+    public @Nullable LocalDate solarDate(final int lunYear, final int lunMonth, final boolean leapMonth,
+                                         final int lunDay) {
+        final int m = Arrays.binarySearch(keys, lunarKey(lunYear, lunMonth, leapMonth));
+        if (m < 0 || lunDay < 1 || lunDay > ndays[m]) {
+            return null;
+        }
+        return LocalDate.ofEpochDay(starts[m] + lunDay - 1L);
+    }
+
+    private Item item(final int m, final int lunDay) {
+        final int key = keys[m];
+        final int lunYear = key >> 5;
+        final int lunMonth = (key >> 1) & 0x0F;
+        final boolean leapMonth = (key & 1) == 1;
+        final Item item = new Item();
+        item.setSolarDate(LocalDate.ofEpochDay(starts[m] + lunDay - 1L));
+        item.setLunYear(Year.of(lunYear));
+        item.setLunMonth(Month.of(lunMonth));
+        item.setLunLeapmonth(leapMonth);
+        item.setLunDay(lunDay);
+        item.setLunNday((int) ndays[m]);
+        item.setLunSecha(Ganzhi.format(secha(lunYear)));
+        item.setLunWolgeon(Ganzhi.format(wolgeon(lunYear, lunMonth, leapMonth)));
+        item.setLunIljin(Ganzhi.format(iljin(item.getSolJd())));
+        return item;
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+
+    /**
+     * Epoch-days of the first solar day of each lunar month, in ascending order.
+     */
+    private final int[] starts;
+
+    /**
+     * Keys of {@code lunYear}, {@code lunMonth}, and {@code lunLeapmonth} of each lunar month, in ascending order.
+     */
+    private final int[] keys;
+
+    /**
+     * {@code lunNday} of each lunar month.
+     */
+    private final byte[] ndays;
+}
@@ -2,6 +2,7 @@ package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.messa
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 import javax.validation.Valid;
@@ -20,6 +21,7 @@ import java.util.Objects;
  * A class for binding {@code /:response/:body} part.
  */
 @XmlAccessorType(XmlAccessType.FIELD)
+@Setter
 @Getter
 @Slf4j
 public class Body implements Serializable {
@@ -34,6 +34,87 @@ public class Header implements Serializable {
      */
     public static final String RESULT_CODE_SUCCESS = "00";
 
+    /**
+     * A value of {@code :/resultCode} for an application error. The value is {@value}.
+     */
+    public static final String RESULT_CODE_APPLICATION_ERROR = "01";
+
+    /**
+     * A value of {@code :/resultCode} for a database error. The value is {@value}.
+     */
+    public static final String RESULT_CODE_DB_ERROR = "02";
+
+    /**
+     * A value of {@code :/resultCode} for no data. The value is {@value}.
+     */
+    public static final String RESULT_CODE_NODATA_ERROR = "03";
+
+    /**
+     * A value of {@code :/resultCode} for an HTTP error. The value is {@value}.
+     */
+    public static final String RESULT_CODE_HTTP_ERROR = "04";
+
+    /**
+     * A value of {@code :/resultCode} for a service time-out. The value is {@value}.
+     */
+    public static final String RESULT_CODE_SERVICETIME_OUT = "05";
+
+    /**
+     * A value of {@code :/resultCode} for invalid request parameters. The value is {@value}.
+     */
+    public static final String RESULT_CODE_INVALID_REQUEST_PARAMETER_ERROR = "10";
+
+    /**
+     * A value of {@code :/resultCode} for missing mandatory request parameters. The value is {@value}.
+     */
+    public static final String RESULT_CODE_NO_MANDATORY_REQUEST_PARAMETERS_ERROR = "11";
+
+    /**
+     * A value of {@code :/resultCode} for a service which does not exist or is withdrawn. The value is {@value}.
+     */
+    public static final String RESULT_CODE_NO_OPENAPI_SERVICE_ERROR = "12";
+
+    /**
+     * A value of {@code :/resultCode} for a denied access. The value is {@value}.
+     */
+    public static final String RESULT_CODE_SERVICE_ACCESS_DENIED_ERROR = "20";
+
+    /**
+     * A value of {@code :/resultCode} for a temporarily disabled service key. The value is {@value}.
+     */
+    public static final String RESULT_CODE_TEMPORARILY_DISABLE_THE_SERVICEKEY_ERROR = "21";
+
+    /**
+     * A value of {@code :/resultCode} for an exceeded number of requests allowed to the service key. The value is
+     * {@value}.
+     */
+    public static final String RESULT_CODE_LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR = "22";
+
+    /**
+     * A value of {@code :/resultCode} for an unregistered service key. The value is {@value}.
+     */
+    public static final String RESULT_CODE_SERVICE_KEY_IS_NOT_REGISTERED_ERROR = "30";
+
+    /**
+     * A value of {@code :/resultCode} for an expired service key. The value is {@value}.
+     */
+    public static final String RESULT_CODE_DEADLINE_HAS_EXPIRED_ERROR = "31";
+
+    /**
+     * A value of {@code :/resultCode} for an unregistered IP address. The value is {@value}.
+     */
+    public static final String RESULT_CODE_UNREGISTERED_IP_ERROR = "32";
+
+    /**
+     * A value of {@code :/resultCode} for an unsigned call. The value is {@value}.
+     */
+    public static final String RESULT_CODE_UNSIGNED_CALL_ERROR = "33";
+
+    /**
+     * A value of {@code :/resultCode} for an unknown error. The value is {@value}.
+     */
+    public static final String RESULT_CODE_UNKNOWN_ERROR = "99";
+
     // ---------------------------------------------------------------------------------------------------- constructors
 
     /**
@@ -84,6 +165,19 @@ public class Header implements Serializable {
         return RESULT_CODE_SUCCESS.equals(resultCode);
     }
 
+    /**
+     * Indicates whether the {@code :/resultCode} reports that the number of requests allowed to the service key has been
+     * exceeded.
+     *
+     * @return {@code true} if the number of allowed requests has been exceeded; {@code false} otherwise.
+     * @see #RESULT_CODE_LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR
+     */
+    @JsonIgnore
+    @XmlTransient
+    public boolean isResultCodeLimitedNumberOfServiceRequestsExceeds() {
+        return RESULT_CODE_LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR.equals(resultCode);
+    }
+
     // ------------------------------------------------------------------------------------------------------- resultMsg
 
     // -----------------------------------------------------------------------------------------------------------------
@@ -1,5 +1,6 @@
 package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import lombok.Getter;
 import lombok.Setter;
@@ -11,6 +12,7 @@ import javax.xml.bind.annotation.XmlAccessType;
 import javax.xml.bind.annotation.XmlAccessorType;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
+import javax.xml.bind.annotation.XmlTransient;
 import java.io.Serializable;
 import java.util.Objects;
 
@@ -90,4 +92,12 @@ public class Response implements Serializable {
     @NotNull
     @XmlElement(required = true)
     private Body body;
+
+    /**
+     * A flag indicates that this response has been answered from local data, rather than from the service, while the
+     * service is unavailable. This attribute is neither bound nor compared.
+     */
+    @JsonIgnore
+    @XmlTransient
+    private boolean fallback;
 }
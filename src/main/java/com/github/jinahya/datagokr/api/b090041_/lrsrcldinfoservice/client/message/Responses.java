@@ -47,6 +47,23 @@ public final class Responses {
         return body.getNumOfRows() * body.getPageNo() >= body.getTotalCount();
     }
 
+    /**
+     * Returns the number of the last page derived from {@code numOfRows} and {@code totalCount} of specified response.
+     *
+     * @param response the response.
+     * @return the number of the last page; not less than the {@code pageNo} of {@code response}.
+     */
+    public static int lastPageNo(final Response response) {
+        requireNonNull(response, "response is null");
+        final Body body = response.getBody();
+        final int numOfRows = body.getNumOfRows();
+        if (numOfRows <= 0) {
+            return body.getPageNo();
+        }
+        final long lastPageNo = ((long) body.getTotalCount() + numOfRows - 1) / numOfRows;
+        return (int) Math.max(body.getPageNo(), Math.min(lastPageNo, Integer.MAX_VALUE));
+    }
+
     private Responses() {
         throw new AssertionError("instantiation is not allowed");
     }
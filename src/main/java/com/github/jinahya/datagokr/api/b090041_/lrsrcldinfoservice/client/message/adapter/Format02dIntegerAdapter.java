@@ -4,12 +4,34 @@ import javax.xml.bind.annotation.adapters.XmlAdapter;
 
 public class Format02dIntegerAdapter extends XmlAdapter<String, Integer> {
 
+    private static final String[] FORMATTED = new String[100]; // "00" ~ "99"
+
+    static {
+        for (int i = 0; i < FORMATTED.length; i++) {
+            FORMATTED[i] = new String(new char[] {(char) ('0' + i / 10), (char) ('0' + i % 10)});
+        }
+    }
+
+    /**
+     * Formats specified value as {@code %02d}. Values between {@code 0} and {@code 99}, both inclusive, are looked up
+     * from a table of formatted strings.
+     *
+     * @param value the value to format.
+     * @return a formatted string.
+     */
+    public static String format02d(final int value) {
+        if (value >= 0 && value < FORMATTED.length) {
+            return FORMATTED[value];
+        }
+        return String.format("%1$02d", value);
+    }
+
     @Override
     public String marshal(final Integer v) throws Exception {
         if (v == null) {
             return null;
         }
-        return String.format("%1$02d", v);
+        return format02d(v);
     }
 
     @Override
@@ -17,6 +39,6 @@ public class Format02dIntegerAdapter extends XmlAdapter<String, Integer> {
         if (v == null) {
             return null;
         }
-        return Integer.parseInt(v);
+        return Integer.parseInt(v); // boxed values, of days, are cached
     }
 }
@@ -7,7 +7,38 @@ public class MmMonthAdapter extends FormattedTemporalAdapter<Month> {
 
     public static final DateTimeFormatter MONTH_MM_FORMATTER = DateTimeFormatter.ofPattern("MM");
 
+    private static final Month[] MONTHS = Month.values();
+
     public MmMonthAdapter() {
         super(Month.class, MONTH_MM_FORMATTER, Month::from);
     }
+
+    /**
+     * {@inheritDoc} Values of two digits, e.g. {@code 01}, are parsed without the formatter.
+     */
+    @Override
+    public Month unmarshal(final String v) throws Exception {
+        if (v != null && v.length() == 2) {
+            final int tens = v.charAt(0) - '0';
+            final int ones = v.charAt(1) - '0';
+            if (tens >= 0 && tens <= 1 && ones >= 0 && ones <= 9) {
+                final int value = tens * 10 + ones;
+                if (value >= 1 && value <= MONTHS.length) {
+                    return MONTHS[value - 1];
+                }
+            }
+        }
+        return super.unmarshal(v);
+    }
+
+    /**
+     * {@inheritDoc} Values are formatted without the formatter.
+     */
+    @Override
+    public String marshal(final Month v) throws Exception {
+        if (v == null) {
+            return null;
+        }
+        return Format02dIntegerAdapter.format02d(v.getValue());
+    }
 }
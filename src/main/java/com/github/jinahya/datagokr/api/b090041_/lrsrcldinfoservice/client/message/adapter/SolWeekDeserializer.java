@@ -3,6 +3,7 @@ package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.messa
 import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import lombok.extern.slf4j.Slf4j;
@@ -21,6 +22,13 @@ public class SolWeekDeserializer extends StdDeserializer<DayOfWeek> {
     @Override
     public DayOfWeek deserialize(JsonParser parser, DeserializationContext context)
             throws IOException, JsonProcessingException {
+        if (parser.hasToken(JsonToken.VALUE_STRING) && parser.getTextLength() == 1) { // looked up without a string
+            final DayOfWeek dayOfWeek
+                    = SolWeekWeekAdapter.dayOfWeek(parser.getTextCharacters()[parser.getTextOffset()]);
+            if (dayOfWeek != null) {
+                return dayOfWeek;
+            }
+        }
         final String value = parser.getValueAsString();
         try {
             return adapter.unmarshal(value);
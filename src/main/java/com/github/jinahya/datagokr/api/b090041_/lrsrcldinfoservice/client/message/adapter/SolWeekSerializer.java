@@ -13,7 +13,6 @@ public class SolWeekSerializer extends StdSerializer<DayOfWeek> {
 
     public SolWeekSerializer() {
         super(DayOfWeek.class);
-        adapter = new SolWeekWeekAdapter();
     }
 
     @Override
@@ -23,14 +22,6 @@ public class SolWeekSerializer extends StdSerializer<DayOfWeek> {
             generator.writeNull();
             return;
         }
-        final String marshalled;
-        try {
-            marshalled = adapter.marshal(value);
-        } catch (final Exception e) {
-            throw new RuntimeException("failed to marshal " + value, e);
-        }
-        generator.writeString(marshalled);
+        generator.writeString(SolWeekWeekAdapter.format(value));
     }
-
-    private final SolWeekWeekAdapter adapter;
 }
@@ -9,7 +9,65 @@ public class SolWeekWeekAdapter extends FormattedTemporalAdapter<DayOfWeek> {
     public static final DateTimeFormatter SINGLE_KOREAN_DAY_OF_WEEK_FORMATTER
             = DateTimeFormatter.ofPattern("E", Locale.KOREAN);
 
+    private static final String WEEKS = "월화수목금토일"; // MONDAY ~ SUNDAY
+
+    private static final DayOfWeek[] DAYS_OF_WEEK = DayOfWeek.values();
+
+    private static final String[] FORMATTED = new String[DAYS_OF_WEEK.length];
+
+    static {
+        for (int i = 0; i < FORMATTED.length; i++) {
+            FORMATTED[i] = String.valueOf(WEEKS.charAt(i));
+        }
+    }
+
+    /**
+     * Returns the day of week of specified single Korean character, e.g. {@code '월'}.
+     *
+     * @param c the character.
+     * @return the day of week of {@code c}; {@code null} if {@code c} is not of a day of week.
+     */
+    static DayOfWeek dayOfWeek(final char c) {
+        final int index = WEEKS.indexOf(c);
+        return index == -1 ? null : DAYS_OF_WEEK[index];
+    }
+
+    /**
+     * Returns the single Korean character, e.g. {@code 월}, of specified day of week.
+     *
+     * @param dayOfWeek the day of week.
+     * @return the single Korean character of {@code dayOfWeek}.
+     */
+    static String format(final DayOfWeek dayOfWeek) {
+        return FORMATTED[dayOfWeek.ordinal()];
+    }
+
     public SolWeekWeekAdapter() {
         super(DayOfWeek.class, SINGLE_KOREAN_DAY_OF_WEEK_FORMATTER, DayOfWeek::from);
     }
+
+    /**
+     * {@inheritDoc} Values of a single character, e.g. {@code 월}, are looked up without the formatter.
+     */
+    @Override
+    public DayOfWeek unmarshal(final String v) throws Exception {
+        if (v != null && v.length() == 1) {
+            final DayOfWeek dayOfWeek = dayOfWeek(v.charAt(0));
+            if (dayOfWeek != null) {
+                return dayOfWeek;
+            }
+        }
+        return super.unmarshal(v);
+    }
+
+    /**
+     * {@inheritDoc} Values are looked up without the formatter.
+     */
+    @Override
+    public String marshal(final DayOfWeek v) throws Exception {
+        if (v == null) {
+            return null;
+        }
+        return format(v);
+    }
 }
@@ -7,7 +7,67 @@ public class UuuuYearAdapter extends FormattedTemporalAdapter<Year> {
 
     public static final DateTimeFormatter YEAR_UUUU_FORMATTER = DateTimeFormatter.ofPattern("uuuu");
 
+    /**
+     * The minimum value of cached years. The value is {@value}.
+     */
+    static final int MIN_CACHED_YEAR = 1300;
+
+    /**
+     * The maximum value of cached years. The value is {@value}.
+     */
+    static final int MAX_CACHED_YEAR = 2299;
+
+    private static final class Cache { // lazily initialized
+
+        private static final Year[] YEARS = new Year[MAX_CACHED_YEAR - MIN_CACHED_YEAR + 1];
+
+        private static final String[] FORMATTED = new String[YEARS.length];
+
+        static {
+            for (int i = 0; i < YEARS.length; i++) {
+                YEARS[i] = Year.of(MIN_CACHED_YEAR + i);
+                FORMATTED[i] = Integer.toString(MIN_CACHED_YEAR + i);
+            }
+        }
+    }
+
     public UuuuYearAdapter() {
         super(Year.class, YEAR_UUUU_FORMATTER, Year::from);
     }
+
+    /**
+     * {@inheritDoc} Values of four digits within the cached range are looked up without the formatter.
+     */
+    @Override
+    public Year unmarshal(final String v) throws Exception {
+        if (v != null && v.length() == 4) {
+            int value = 0;
+            for (int i = 0; i < 4; i++) {
+                final int digit = v.charAt(i) - '0';
+                if (digit < 0 || digit > 9) {
+                    return super.unmarshal(v);
+                }
+                value = value * 10 + digit;
+            }
+            if (value >= MIN_CACHED_YEAR && value <= MAX_CACHED_YEAR) {
+                return Cache.YEARS[value - MIN_CACHED_YEAR];
+            }
+        }
+        return super.unmarshal(v);
+    }
+
+    /**
+     * {@inheritDoc} Values within the cached range are looked up without the formatter.
+     */
+    @Override
+    public String marshal(final Year v) throws Exception {
+        if (v == null) {
+            return null;
+        }
+        final int value = v.getValue();
+        if (value >= MIN_CACHED_YEAR && value <= MAX_CACHED_YEAR) {
+            return Cache.FORMATTED[value - MIN_CACHED_YEAR];
+        }
+        return super.marshal(v);
+    }
 }
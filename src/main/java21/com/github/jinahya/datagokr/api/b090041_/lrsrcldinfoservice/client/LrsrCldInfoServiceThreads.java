@@ -0,0 +1,65 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * A utility class for running fan-outs of {@link LrsrCldInfoServiceClient} on threads bound to a single invocation.
+ * <p>
+ * This version, for Java 21 or later, runs fan-outs on virtual threads. The executor is closed, waiting for all its
+ * threads, before the fan-out returns so that no thread outlives the invocation which started it.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+final class LrsrCldInfoServiceThreads {
+
+    private static final AtomicInteger SEQUENCE = new AtomicInteger();
+
+    /**
+     * Indicates whether fan-outs run on virtual threads.
+     *
+     * @return {@code true}.
+     */
+    static boolean virtual() {
+        return true;
+    }
+
+    /**
+     * Applies specified function with an executor which starts a new virtual thread for each task. When the function
+     * throws, all remaining tasks are interrupted; in any case, the executor is closed, waiting for all its threads,
+     * before this method returns.
+     *
+     * @param parallelism the maximum number of threads; ignored, other than being validated.
+     * @param function    the function to apply.
+     * @param <R>         result type parameter
+     * @return the result of the {@code function}.
+     */
+    static <R> R fanOut(@Positive final int parallelism,
+                        @NotNull final Function<? super Executor, ? extends R> function) {
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("parallelism(" + parallelism + ") is not positive");
+        }
+        requireNonNull(function, "function is null");
+        final String prefix = "lrsrcldinfoservice-" + SEQUENCE.incrementAndGet() + "-";
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(prefix, 1L).factory())) {
+            try {
+                return function.apply(executor);
+            } catch (final RuntimeException | Error e) {
+                executor.shutdownNow();
+                throw e;
+            }
+        }
+    }
+
+    private LrsrCldInfoServiceThreads() {
+        throw new AssertionError("instantiation is not allowed");
+    }
+}
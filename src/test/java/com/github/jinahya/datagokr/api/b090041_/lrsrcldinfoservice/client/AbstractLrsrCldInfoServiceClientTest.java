@@ -1,6 +1,19 @@
 package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
 
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar.CalendarDataSamples;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.time.YearMonth;
+import java.util.List;
+
 import static java.util.Objects.requireNonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 /**
  * An abstract base class for testing subclasses of {@link AbstractLrsrCldInfoServiceClient} class.
@@ -34,5 +47,50 @@ abstract class AbstractLrsrCldInfoServiceClientTest<T extends AbstractLrsrCldInf
         }
     }
 
+    @Test
+    void solarSegments__() {
+        final List<AbstractLrsrCldInfoServiceClient.SolarSegment> segments
+                = clientInstance().solarSegments(LocalDate.of(2024, 11, 15), LocalDate.of(2026, 3, 2));
+        assertThat(segments).hasSize(1 + 15 + 2);
+        final AbstractLrsrCldInfoServiceClient.SolarSegment first = segments.get(0);
+        assertThat(first.month).isEqualTo(YearMonth.of(2024, 11));
+        assertThat(first.day).isNull();
+        assertThat(first.from).isEqualTo(LocalDate.of(2024, 11, 15));
+        assertThat(first.to).isEqualTo(LocalDate.of(2024, 11, 30));
+        // two days are cheaper than four pages of a month
+        assertThat(segments.subList(16, 18)).allSatisfy(s -> {
+            assertThat(s.month).isEqualTo(YearMonth.of(2026, 3));
+            assertThat(s.day).isNotNull().isEqualTo(s.from.getDayOfMonth());
+        });
+    }
+
+    @Test
+    void solarSegments_IllegalArgumentException_ToIsBeforeFrom() {
+        assertThatThrownBy(() -> clientInstance().solarSegments(LocalDate.of(2021, 1, 2), LocalDate.of(2021, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void setWireFormat_IsJson_PerClient() {
+        final T json = clientInstance();
+        json.setWireFormat(LrsrCldInfoServiceWireFormat.JSON);
+        assertThat(json.isJson()).isTrue();
+        assertThat(clientInstance().isJson()).isFalse();
+        json.setWireFormat(null);
+        assertThat(json.isJson()).isFalse();
+    }
+
+    @Test
+    void fallback_Empty_DayIsNotOfMonth() {
+        final T client = clientInstance();
+        ReflectionTestUtils.setField(client, "fallbackCalendarData",
+                                     CalendarDataSamples.calendarData(CalendarDataSamples.itemsTo2021()));
+        final Response response
+                = client.fallback(LrsrCldInfoServiceRequest.getLunCalInfo(Year.of(2021), Month.FEBRUARY, 29, null));
+        assertThat(response).isNotNull();
+        assertThat(response.getBody().getTotalCount()).isZero();
+        assertThat(response.getBody().getItems()).isEmpty();
+    }
+
     protected final Class<T> clientClass;
 }
\ No newline at end of file
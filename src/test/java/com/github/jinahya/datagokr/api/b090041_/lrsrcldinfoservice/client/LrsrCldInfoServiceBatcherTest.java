@@ -0,0 +1,122 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceBatcherTest {
+
+    private static LrsrCldInfoServiceRequest request() {
+        return LrsrCldInfoServiceRequest.getLunCalInfo(Year.of(2021), Month.FEBRUARY, null, null);
+    }
+
+    @Test
+    void execute_Batches_UntilMaxBatchSize() throws Exception {
+        final int callers = 4;
+        // the window is long enough so that the batch is flushed only by its size
+        final LrsrCldInfoServiceBatcher batcher = new LrsrCldInfoServiceBatcher(Duration.ofMinutes(1L), callers);
+        final LrsrCldInfoServiceRequest request = request();
+        final List<Item> items = new ArrayList<>();
+        final AtomicInteger loads = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            final List<Future<List<Item>>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> batcher.execute(request, () -> {
+                    loads.incrementAndGet();
+                    return items;
+                })));
+            }
+            for (final Future<List<Item>> future : futures) {
+                assertThat(future.get(10L, TimeUnit.SECONDS)).isSameAs(items);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(batcher.executedCount()).isEqualTo(1L);
+        assertThat(batcher.batchedCount()).isEqualTo(callers - 1L);
+    }
+
+    @Test
+    void execute_LoadsAgain_AfterBatchCompleted() {
+        final LrsrCldInfoServiceBatcher batcher = new LrsrCldInfoServiceBatcher(Duration.ZERO, 1);
+        final AtomicInteger loads = new AtomicInteger();
+        batcher.execute(request(), () -> {
+            loads.incrementAndGet();
+            return new ArrayList<>();
+        });
+        assertThatThrownBy(() -> batcher.execute(request(), () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException();
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(loads.get()).isEqualTo(2);
+        assertThat(batcher.batchedCount()).isZero();
+    }
+
+    @Test
+    void execute_LoadsWithFlagCleared_InterruptedWhileWaiting() {
+        final LrsrCldInfoServiceBatcher batcher = new LrsrCldInfoServiceBatcher(Duration.ofMinutes(1L), 2);
+        final List<Item> items = new ArrayList<>();
+        final List<Boolean> interrupted = new ArrayList<>();
+        Thread.currentThread().interrupt(); // the window ends as soon as the leader starts waiting
+        try {
+            assertThat(batcher.execute(request(), () -> {
+                interrupted.add(Thread.currentThread().isInterrupted());
+                return items;
+            })).isSameAs(items);
+        } finally {
+            assertThat(Thread.interrupted()).isTrue(); // restored, and cleared for the rest
+        }
+        assertThat(interrupted).containsExactly(false);
+    }
+
+    @Test
+    void share_Batches_UntilMaxBatchSize() {
+        final LrsrCldInfoServiceBatcher batcher = new LrsrCldInfoServiceBatcher(Duration.ofMinutes(1L), 2);
+        final LrsrCldInfoServiceRequest request = request();
+        final List<Item> items = new ArrayList<>();
+        final AtomicInteger loads = new AtomicInteger();
+        final Mono<List<Item>> loader = Mono.fromCallable(() -> {
+            loads.incrementAndGet();
+            return items;
+        });
+        final List<List<Item>> results = Mono.zip(batcher.share(request, () -> loader),
+                                                  batcher.share(request, () -> loader))
+                .map(t -> {
+                    final List<List<Item>> list = new ArrayList<>();
+                    list.add(t.getT1());
+                    list.add(t.getT2());
+                    return list;
+                })
+                .block(Duration.ofSeconds(10L));
+        assertThat(results).containsExactly(items, items);
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(batcher.executedCount()).isEqualTo(1L);
+        assertThat(batcher.batchedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void new_IllegalArgumentException() {
+        assertThatThrownBy(() -> new LrsrCldInfoServiceBatcher(Duration.ofSeconds(-1L), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LrsrCldInfoServiceBatcher(Duration.ZERO, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
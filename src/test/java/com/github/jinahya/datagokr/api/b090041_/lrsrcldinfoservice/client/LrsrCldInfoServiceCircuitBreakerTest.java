@@ -0,0 +1,110 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceCircuitBreakerTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+    private static LrsrCldInfoServiceCircuitBreaker circuitBreaker(final AtomicLong ticker) {
+        return new LrsrCldInfoServiceCircuitBreaker(.5d, 4, 4, Duration.ofSeconds(10L), 2, ticker::get);
+    }
+
+    @Test
+    void isFailureResultCode__() {
+        final LrsrCldInfoServiceCircuitBreaker circuitBreaker = new LrsrCldInfoServiceCircuitBreaker();
+        assertThat(circuitBreaker.isFailureResultCode(Header.RESULT_CODE_SERVICETIME_OUT)).isTrue();
+        assertThat(circuitBreaker.isFailureResultCode(Header.RESULT_CODE_INVALID_REQUEST_PARAMETER_ERROR)).isFalse();
+        assertThat(circuitBreaker.isFailureResultCode(null)).isFalse();
+    }
+
+    @CsvSource({"500,true", "501,true", "503,true", "408,true", "400,false", "404,false", "429,false"})
+    @ParameterizedTest
+    void isFailureStatus__(final int statusCode, final boolean expected) {
+        assertThat(new LrsrCldInfoServiceCircuitBreaker().isFailureStatus(statusCode)).isEqualTo(expected);
+    }
+
+    @Test
+    void onFailure_Opens_WhenThresholdReached() {
+        final AtomicLong ticker = new AtomicLong();
+        final LrsrCldInfoServiceCircuitBreaker circuitBreaker = circuitBreaker(ticker);
+        for (int i = 0; i < 3; i++) {
+            assertThat(circuitBreaker.tryAcquire()).isTrue();
+            circuitBreaker.onFailure(); // not enough calls yet
+        }
+        assertThat(circuitBreaker.state()).isSameAs(LrsrCldInfoServiceCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.state()).isSameAs(LrsrCldInfoServiceCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.failureRate()).isEqualTo(.75d);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.state()).isSameAs(LrsrCldInfoServiceCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(circuitBreaker.openedCount()).isEqualTo(1L);
+        assertThat(circuitBreaker.rejectedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void onSuccess_Closes_WhenAllProbesSucceed() {
+        final AtomicLong ticker = new AtomicLong();
+        final LrsrCldInfoServiceCircuitBreaker circuitBreaker = circuitBreaker(ticker);
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.tryAcquire();
+            circuitBreaker.onFailure();
+        }
+        assertThat(circuitBreaker.state()).isSameAs(LrsrCldInfoServiceCircuitBreaker.State.OPEN);
+        ticker.addAndGet(SECOND * 10);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.state()).isSameAs(LrsrCldInfoServiceCircuitBreaker.State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        assertThat(circuitBreaker.tryAcquire()).isFalse(); // no more probes
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+        assertThat(circuitBreaker.state()).isSameAs(LrsrCldInfoServiceCircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.failureRate()).isZero();
+    }
+
+    @Test
+    void onFailure_Reopens_WhenProbeFails() {
+        final AtomicLong ticker = new AtomicLong();
+        final LrsrCldInfoServiceCircuitBreaker circuitBreaker = circuitBreaker(ticker);
+        for (int i = 0; i < 4; i++) {
+            circuitBreaker.tryAcquire();
+            circuitBreaker.onFailure();
+        }
+        ticker.addAndGet(SECOND * 10);
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        circuitBreaker.onIgnore();
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        circuitBreaker.onFailure();
+        assertThat(circuitBreaker.state()).isSameAs(LrsrCldInfoServiceCircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.openedCount()).isEqualTo(2L);
+        ticker.addAndGet(SECOND * 9);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    @Test
+    void new_IllegalArgumentException() {
+        assertThatThrownBy(() -> new LrsrCldInfoServiceCircuitBreaker(0.0d, 4, 4, Duration.ZERO, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LrsrCldInfoServiceCircuitBreaker(.5d, 4, 5, Duration.ZERO, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LrsrCldInfoServiceCircuitBreaker(.5d, 4, 4, Duration.ofSeconds(-1L), 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LrsrCldInfoServiceCircuitBreaker(.5d, 4, 4, Duration.ZERO, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
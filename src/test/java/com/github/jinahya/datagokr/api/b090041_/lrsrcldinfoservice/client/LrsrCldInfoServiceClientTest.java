@@ -1,15 +1,118 @@
 package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
 
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Month;
+import java.time.Year;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
 
 @Slf4j
 class LrsrCldInfoServiceClientTest
         extends AbstractLrsrCldInfoServiceClientTest<LrsrCldInfoServiceClient> {
 
+    /**
+     * Returns a client which answers pages of specified items and whose number of rows, for requests without any, is
+     * changed after the first page.
+     *
+     * @param items    the items.
+     * @param requests a list to which exchanged requests are added.
+     * @return a client.
+     */
+    private static LrsrCldInfoServiceClient pageSizeChangingClient(
+            final List<Item> items, final List<? super LrsrCldInfoServiceRequest> requests) {
+        final AtomicInteger pageSize = new AtomicInteger(10);
+        return new LrsrCldInfoServiceClient() {
+            @Override
+            protected Response exchange(final LrsrCldInfoServiceRequest request) {
+                requests.add(request);
+                final int numOfRows = request.numOfRows() == LrsrCldInfoServiceRequest.ABSENT
+                                      ? pageSize.getAndSet(3) : request.numOfRows();
+                return LrsrCldInfoServiceLocalResponses.response(items, request.pageNo(), numOfRows);
+            }
+        };
+    }
+
     /**
      * Creates a new instance.
      */
     LrsrCldInfoServiceClientTest() {
         super(LrsrCldInfoServiceClient.class);
     }
+
+    @Test
+    void getSpcifyLunCalInfoForAllPages_CarriesNumOfRowsOfFirstPage_PageSizeChanged() {
+        final List<Item> items = IntStream.range(0, 25).mapToObj(i -> new Item()).collect(toList());
+        final List<LrsrCldInfoServiceRequest> requests = new CopyOnWriteArrayList<>();
+        final List<Response> responses = pageSizeChangingClient(items, requests)
+                .getSpcifyLunCalInfoForAllPages(Year.of(2000), Year.of(2020), Month.JANUARY, 1, false);
+        assertThat(responses).hasSize(3);
+        assertThat(responses.stream().flatMap(r -> r.getBody().getItems().stream())).containsExactlyElementsOf(items);
+        assertThat(requests.subList(1, requests.size())).allSatisfy(r -> assertThat(r.numOfRows()).isEqualTo(10));
+    }
+
+    @Test
+    void getSpcifyLunCalInfoForAllPages_CarriesNumOfRowsOfFirstPage_PageSizeChangedConcurrently() {
+        final List<Item> items = IntStream.range(0, 25).mapToObj(i -> new Item()).collect(toList());
+        final List<LrsrCldInfoServiceRequest> requests = new CopyOnWriteArrayList<>();
+        final List<Response> responses = pageSizeChangingClient(items, requests)
+                .getSpcifyLunCalInfoForAllPages(Year.of(2000), Year.of(2020), Month.JANUARY, 1, false, 2,
+                                                Runnable::run);
+        assertThat(responses).hasSize(3);
+        assertThat(responses.stream().flatMap(r -> r.getBody().getItems().stream())).containsExactlyElementsOf(items);
+        assertThat(requests.subList(1, requests.size())).allSatisfy(r -> assertThat(r.numOfRows()).isEqualTo(10));
+    }
+
+    @Test
+    void getSpcifyLunCalInfoStream_CarriesNumOfRowsOfFirstPage_PageSizeChanged() {
+        final List<Item> items = IntStream.range(0, 25).mapToObj(i -> new Item()).collect(toList());
+        final List<LrsrCldInfoServiceRequest> requests = new CopyOnWriteArrayList<>();
+        assertThat(pageSizeChangingClient(items, requests)
+                           .getSpcifyLunCalInfoStream(Year.of(2000), Year.of(2020), Month.JANUARY, 1, false))
+                .containsExactlyElementsOf(items);
+        assertThat(requests).hasSize(3);
+        assertThat(requests.subList(1, requests.size())).allSatisfy(r -> assertThat(r.numOfRows()).isEqualTo(10));
+    }
+
+    @Test
+    void getLunCalInfo_ReturnsNumberOfItemsPassedToSink_FewerItemsThanTotalCount() {
+        // each month says 31 items in total, yet sends only two of them
+        final String xml = "<response><header><resultCode>00</resultCode><resultMsg>OK</resultMsg></header>"
+                           + "<body><items><item><solJd>1</solJd></item><item><solJd>2</solJd></item></items>"
+                           + "<numOfRows>31</numOfRows><pageNo>1</pageNo><totalCount>31</totalCount></body></response>";
+        final List<LrsrCldInfoServiceWireFormat> wireFormats = new CopyOnWriteArrayList<>();
+        final LrsrCldInfoServiceClient client = new LrsrCldInfoServiceClient() {
+            @Override
+            protected Response retrieve(final LrsrCldInfoServiceRequest request,
+                                        final LrsrCldInfoServiceResponseExtractor extractor) {
+                wireFormats.add(extractor.wireFormat());
+                try {
+                    return extractor.extractData(new MockClientHttpResponse(
+                            xml.getBytes(StandardCharsets.UTF_8), HttpStatus.OK));
+                } catch (final IOException ioe) {
+                    throw new UncheckedIOException(ioe);
+                }
+            }
+        };
+        client.setWireFormat(LrsrCldInfoServiceWireFormat.JSON);
+        final AtomicInteger accepted = new AtomicInteger();
+        final int count = client.getLunCalInfo(
+                Year.of(2021), (solYear, solMonth, solDay, lunYear, lunMonth, lunLeapmonth, lunDay, lunNday, solJd,
+                                lunSecha, lunWolgeon, lunIljin) -> accepted.incrementAndGet());
+        assertThat(count).isEqualTo(accepted.get()).isEqualTo(Month.values().length * 2);
+        assertThat(wireFormats).isNotEmpty().containsOnly(LrsrCldInfoServiceWireFormat.XML);
+    }
 }
@@ -0,0 +1,183 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Body;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceClient_Static_Test {
+
+    static Response page(final int pageNo, final int numOfRows, final int totalCount) {
+        final List<Item> items = new ArrayList<>();
+        for (int i = (pageNo - 1) * numOfRows; i < Math.min(pageNo * numOfRows, totalCount); i++) {
+            final Item item = new Item();
+            item.setLunDay(i);
+            items.add(item);
+        }
+        final Body body = new Body();
+        body.setItems(items);
+        body.setPageNo(pageNo);
+        body.setNumOfRows(numOfRows);
+        body.setTotalCount(totalCount);
+        final Response response = new Response();
+        response.setBody(body);
+        return response;
+    }
+
+    @Test
+    void allPages_InPageOrder() {
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final AtomicInteger reads = new AtomicInteger();
+            final List<Response> pages = LrsrCldInfoServiceClient.allPages(p -> {
+                reads.incrementAndGet();
+                return page(p, 10, 75);
+            }, 3, executor);
+            assertThat(pages).extracting(r -> r.getBody().getPageNo()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+            assertThat(reads).hasValue(8);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void allPages_SinglePage() {
+        final List<Response> pages = LrsrCldInfoServiceClient.allPages(p -> page(p, 10, 7), 4, r -> {
+            throw new AssertionError("should not be executed");
+        });
+        assertThat(pages).hasSize(1);
+    }
+
+    @Test
+    void allPages_Propagates_Failure() {
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            assertThatThrownBy(() -> LrsrCldInfoServiceClient.allPages(p -> {
+                if (p == 3) {
+                    throw new IllegalStateException("failed");
+                }
+                return page(p, 10, 75);
+            }, 2, executor)).isInstanceOf(IllegalStateException.class);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void items_ReadsPagesLazily() {
+        final AtomicInteger reads = new AtomicInteger();
+        final Optional<Item> first = LrsrCldInfoServiceClient.items(p -> {
+            reads.incrementAndGet();
+            return page(p, 10, 75);
+        }).findFirst();
+        assertThat(first).hasValueSatisfying(i -> assertThat(i.getLunDay()).isZero());
+        assertThat(reads).hasValue(1);
+        reads.set(0);
+        assertThat(LrsrCldInfoServiceClient.items(p -> {
+            reads.incrementAndGet();
+            return page(p, 10, 75);
+        }).limit(15L).count()).isEqualTo(15L);
+        assertThat(reads).hasValue(2);
+    }
+
+    @Test
+    void items_AllPages() {
+        assertThat(LrsrCldInfoServiceClient.items(p -> page(p, 10, 75)).map(Item::getLunDay)
+                           .collect(Collectors.toList()))
+                .hasSize(75)
+                .isSorted();
+        assertThat(LrsrCldInfoServiceClient.items(p -> page(p, 10, 0))).isEmpty();
+    }
+
+    @Test
+    void items_InOrder_WithBoundedReadAhead() {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final AtomicInteger reads = new AtomicInteger();
+            final List<Integer> parts = IntStream.range(0, 20).boxed().collect(Collectors.toList());
+            final List<Integer> days = LrsrCldInfoServiceClient.items(parts, p -> {
+                reads.incrementAndGet();
+                try {
+                    Thread.sleep(20L - p); // later parts complete earlier
+                } catch (final InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                final Item item = new Item();
+                item.setLunDay(p);
+                return Collections.singletonList(item);
+            }, 4, executor).limit(3L).map(Item::getLunDay).collect(Collectors.toList());
+            assertThat(days).containsExactly(0, 1, 2);
+            assertThat(reads.get()).isLessThanOrEqualTo(3 + 4);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void itemsAsync_InPageOrder() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            final List<Item> items = LrsrCldInfoServiceClient.itemsAsync(
+                    p -> CompletableFuture.supplyAsync(() -> page(p, 10, 75), executor))
+                    .get(10L, TimeUnit.SECONDS);
+            assertThat(items).extracting(Item::getLunDay)
+                    .containsExactlyElementsOf(IntStream.range(0, 75).boxed().collect(Collectors.toList()));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void monthsAsync_InMonthOrder() throws Exception {
+        final List<Item> items = LrsrCldInfoServiceClient.monthsAsync(Year.of(2021), m -> {
+            final Item item = new Item();
+            item.setLunDay(m.getValue());
+            return CompletableFuture.completedFuture(Collections.singletonList(item));
+        }, null).get(10L, TimeUnit.SECONDS);
+        assertThat(items).extracting(Item::getLunDay)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 12).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void monthsAsync_ReportsAllFailedMonths() {
+        final CompletableFuture<List<Item>> future = LrsrCldInfoServiceClient.monthsAsync(Year.of(2021), m -> {
+            if (m == Month.MARCH) {
+                throw new IllegalStateException("failed");
+            }
+            if (m == Month.JULY) {
+                return new CompletableFuture<>(); // never completes
+            }
+            return CompletableFuture.completedFuture(Collections.emptyList());
+        }, Duration.ofMillis(100L));
+        assertThatThrownBy(() -> future.get(10L, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(LrsrCldInfoServiceMonthsException.class)
+                .satisfies(e -> {
+                    final LrsrCldInfoServiceMonthsException cause = (LrsrCldInfoServiceMonthsException) e.getCause();
+                    assertThat(cause.getYear()).isEqualTo(Year.of(2021));
+                    assertThat(cause.getFailures()).containsOnlyKeys(Month.MARCH, Month.JULY);
+                    assertThat(cause.getSuppressed()).hasSize(2);
+                });
+    }
+}
@@ -0,0 +1,97 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceConcurrencyLimiterTest {
+
+    private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1L);
+
+    @Test
+    void acquireAsync_Waits_OverLimit() {
+        final LrsrCldInfoServiceConcurrencyLimiter limiter = new LrsrCldInfoServiceConcurrencyLimiter(2, 1, 8);
+        final LrsrCldInfoServiceConcurrencyLimiter.Permit first = limiter.acquire();
+        final LrsrCldInfoServiceConcurrencyLimiter.Permit second = limiter.acquire();
+        final CompletableFuture<LrsrCldInfoServiceConcurrencyLimiter.Permit> third = limiter.acquireAsync();
+        assertThat(third).isNotDone();
+        assertThat(limiter.inFlight()).isEqualTo(2);
+        assertThat(limiter.queueDepth()).isEqualTo(1);
+        first.onIgnore();
+        assertThat(third).isDone();
+        assertThat(limiter.queueDepth()).isZero();
+        second.onIgnore();
+        third.join().onIgnore();
+        assertThat(limiter.inFlight()).isZero();
+        assertThat(limiter.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void acquireAsync_Withdrawn_WhenCancelled() {
+        final LrsrCldInfoServiceConcurrencyLimiter limiter = new LrsrCldInfoServiceConcurrencyLimiter(1, 1, 8);
+        final LrsrCldInfoServiceConcurrencyLimiter.Permit permit = limiter.acquire();
+        final CompletableFuture<LrsrCldInfoServiceConcurrencyLimiter.Permit> waiting = limiter.acquireAsync();
+        waiting.cancel(false);
+        assertThat(limiter.queueDepth()).isZero();
+        permit.onIgnore();
+        assertThat(limiter.inFlight()).isZero();
+    }
+
+    @Test
+    void onSuccess_RaisesLimit_WhileLatencyFlat() {
+        final AtomicLong ticker = new AtomicLong();
+        final LrsrCldInfoServiceConcurrencyLimiter limiter
+                = new LrsrCldInfoServiceConcurrencyLimiter(2, 1, 8, ticker::get);
+        for (int i = 0; i < 100; i++) {
+            final LrsrCldInfoServiceConcurrencyLimiter.Permit a = limiter.acquire();
+            final LrsrCldInfoServiceConcurrencyLimiter.Permit b = limiter.acquire();
+            ticker.addAndGet(10L * MILLI);
+            a.onSuccess();
+            b.onSuccess();
+        }
+        assertThat(limiter.limit()).isGreaterThan(2);
+    }
+
+    @Test
+    void onSuccess_CutsLimit_WhenLatencyClimbs() {
+        final AtomicLong ticker = new AtomicLong();
+        final LrsrCldInfoServiceConcurrencyLimiter limiter
+                = new LrsrCldInfoServiceConcurrencyLimiter(8, 1, 8, ticker::get);
+        LrsrCldInfoServiceConcurrencyLimiter.Permit permit = limiter.acquire();
+        ticker.addAndGet(10L * MILLI);
+        permit.onSuccess();
+        for (int i = 0; i < 20; i++) {
+            permit = limiter.acquire();
+            ticker.addAndGet(100L * MILLI);
+            permit.onSuccess();
+        }
+        assertThat(limiter.limit()).isLessThan(8);
+    }
+
+    @Test
+    void onDropped_HalvesLimit() {
+        final LrsrCldInfoServiceConcurrencyLimiter limiter = new LrsrCldInfoServiceConcurrencyLimiter(8, 1, 8);
+        final LrsrCldInfoServiceConcurrencyLimiter.Permit permit = limiter.acquire();
+        permit.onDropped();
+        permit.onDropped(); // ignored
+        assertThat(limiter.limit()).isEqualTo(4);
+        assertThat(limiter.droppedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void new_IllegalArgumentException() {
+        assertThatThrownBy(() -> new LrsrCldInfoServiceConcurrencyLimiter(1, 0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LrsrCldInfoServiceConcurrencyLimiter(1, 2, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LrsrCldInfoServiceConcurrencyLimiter(9, 1, 8))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,56 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceFuturesTest {
+
+    @Test
+    void orTimeout_CompletesExceptionally_WhenTimedOut() {
+        final CompletableFuture<String> future = LrsrCldInfoServiceFutures.orTimeout(
+                new CompletableFuture<>(), Duration.ofMillis(10L));
+        assertThatThrownBy(() -> future.get(10L, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void orTimeout_KeepsResult_WhenCompletedInTime() throws Exception {
+        final CompletableFuture<String> future = LrsrCldInfoServiceFutures.orTimeout(
+                new CompletableFuture<>(), Duration.ofSeconds(10L));
+        future.complete("done");
+        assertThat(future.get(10L, TimeUnit.SECONDS)).isEqualTo("done");
+    }
+
+    @Test
+    void orTimeout_NoTimeout() {
+        final CompletableFuture<String> future = new CompletableFuture<>();
+        assertThat(LrsrCldInfoServiceFutures.orTimeout(future, null)).isSameAs(future);
+        assertThat(future).isNotDone();
+    }
+
+    @Test
+    void unchecked_Unwraps() {
+        final IllegalStateException ise = new IllegalStateException();
+        assertThat(LrsrCldInfoServiceFutures.unchecked(new ExecutionException(new CompletionException(ise))))
+                .isSameAs(ise);
+        final IOException ioe = new IOException();
+        assertThat(LrsrCldInfoServiceFutures.unchecked(new CompletionException(ioe)))
+                .isInstanceOf(CompletionException.class)
+                .hasCause(ioe);
+        final AssertionError ae = new AssertionError();
+        assertThatThrownBy(() -> LrsrCldInfoServiceFutures.unchecked(new ExecutionException(ae))).isSameAs(ae);
+    }
+}
@@ -0,0 +1,77 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceHedgePolicyTest {
+
+    @Test
+    void delay_MaxDelay_UntilSampled() {
+        final LrsrCldInfoServiceHedgePolicy policy = new LrsrCldInfoServiceHedgePolicy();
+        assertThat(policy.delay()).isEqualTo(LrsrCldInfoServiceHedgePolicy.DEFAULT_MAX_DELAY.toNanos());
+        for (int i = 1; i < LrsrCldInfoServiceHedgePolicy.EVALUATION_INTERVAL; i++) {
+            policy.onLatency(Duration.ofMillis(100L).toNanos());
+        }
+        assertThat(policy.delay()).isEqualTo(LrsrCldInfoServiceHedgePolicy.DEFAULT_MAX_DELAY.toNanos());
+    }
+
+    @Test
+    void delay_Percentile_Clamped() {
+        final LrsrCldInfoServiceHedgePolicy policy = new LrsrCldInfoServiceHedgePolicy(
+                .5d, Duration.ofMillis(10L), Duration.ofMillis(1000L), .1d, null);
+        for (int i = 1; i <= LrsrCldInfoServiceHedgePolicy.EVALUATION_INTERVAL; i++) {
+            policy.onLatency(Duration.ofMillis(i).toNanos());
+        }
+        assertThat(policy.delay()).isEqualTo(Duration.ofMillis(32L).toNanos());
+        for (int i = 0; i < LrsrCldInfoServiceHedgePolicy.SAMPLES; i++) {
+            policy.onLatency(Duration.ofMillis(1L).toNanos());
+        }
+        assertThat(policy.delay()).isEqualTo(Duration.ofMillis(10L).toNanos());
+        for (int i = 0; i < LrsrCldInfoServiceHedgePolicy.SAMPLES; i++) {
+            policy.onLatency(Duration.ofSeconds(5L).toNanos());
+        }
+        assertThat(policy.delay()).isEqualTo(Duration.ofMillis(1000L).toNanos());
+    }
+
+    @Test
+    void tryHedge_BoundedByRatioOfExchanges() {
+        final LrsrCldInfoServiceHedgePolicy policy = new LrsrCldInfoServiceHedgePolicy(
+                .95d, Duration.ZERO, Duration.ZERO, .25d, null);
+        assertThat(policy.tryHedge()).isFalse();
+        for (int i = 0; i < 3; i++) {
+            policy.onExchange();
+            assertThat(policy.tryHedge()).isFalse();
+        }
+        policy.onExchange();
+        assertThat(policy.tryHedge()).isTrue();
+        assertThat(policy.tryHedge()).isFalse();
+        for (int i = 0; i < 1000; i++) {
+            policy.onExchange();
+        }
+        int hedges = 0;
+        while (policy.tryHedge()) {
+            hedges++;
+        }
+        assertThat(hedges).isEqualTo(10);
+        assertThat(policy.hedgeCount()).isEqualTo(11L);
+    }
+
+    @Test
+    void new_IllegalArgumentException() {
+        assertThatThrownBy(() -> new LrsrCldInfoServiceHedgePolicy(
+                1.0d, Duration.ZERO, Duration.ZERO, .1d, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LrsrCldInfoServiceHedgePolicy(
+                .9d, Duration.ofSeconds(2L), Duration.ofSeconds(1L), .1d, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LrsrCldInfoServiceHedgePolicy(
+                .9d, Duration.ZERO, Duration.ZERO, 1.1d, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
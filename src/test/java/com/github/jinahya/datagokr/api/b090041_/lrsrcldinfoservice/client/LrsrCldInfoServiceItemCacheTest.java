@@ -0,0 +1,99 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceItemCacheTest {
+
+    private static List<Item> items(final YearMonth month) {
+        final List<Item> items = new ArrayList<>();
+        for (int d = 1; d <= month.lengthOfMonth(); d++) {
+            final Item item = new Item();
+            item.setSolarDate(month.atDay(d));
+            items.add(item);
+        }
+        return items;
+    }
+
+    @Test
+    void new_IllegalArgumentException_UpperIsBeforeLower() {
+        assertThatThrownBy(() -> new LrsrCldInfoServiceItemCache(LocalDate.of(2021, 1, 2), LocalDate.of(2021, 1, 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void covers__() {
+        final LrsrCldInfoServiceItemCache cache
+                = new LrsrCldInfoServiceItemCache(LocalDate.of(2021, 1, 1), LocalDate.of(2021, 12, 31));
+        assertThat(cache.covers(LocalDate.of(2020, 12, 31))).isFalse();
+        assertThat(cache.covers(LocalDate.of(2021, 1, 1))).isTrue();
+        assertThat(cache.covers(LocalDate.of(2021, 12, 31))).isTrue();
+        assertThat(cache.covers(LocalDate.of(2022, 1, 1))).isFalse();
+        assertThat(cache.covers(YearMonth.of(2021, Month.FEBRUARY))).isTrue();
+        assertThat(cache.covers(YearMonth.of(2022, Month.JANUARY))).isFalse();
+    }
+
+    @Test
+    void get_LoadsOnce_() {
+        final LrsrCldInfoServiceItemCache cache = new LrsrCldInfoServiceItemCache();
+        final YearMonth month = YearMonth.of(2021, Month.FEBRUARY);
+        final AtomicInteger loads = new AtomicInteger();
+        final List<Item> day = cache.get(month, 8, m -> {
+            loads.incrementAndGet();
+            return items(m);
+        });
+        assertThat(day).hasSize(1).allSatisfy(i -> assertThat(i.getSolDay()).isEqualTo(8));
+        final List<Item> whole = cache.get(month, null, m -> {
+            loads.incrementAndGet();
+            return items(m);
+        });
+        assertThat(whole).hasSize(month.lengthOfMonth());
+        assertThat(loads).hasValue(1);
+        assertThat(cache.loadCount()).isEqualTo(1L);
+        assertThat(cache.missCount()).isEqualTo(1L);
+        assertThat(cache.hitCount()).isEqualTo(1L);
+        assertThat(cache.get(month.atDay(28))).isNotNull().isSameAs(whole.get(27));
+        assertThat(cache.get(month.plusMonths(1L).atDay(1))).isNull();
+    }
+
+    @Test
+    void get_Empty_DayIsNotOfMonth() {
+        final LrsrCldInfoServiceItemCache cache = new LrsrCldInfoServiceItemCache();
+        final YearMonth month = YearMonth.of(2021, Month.FEBRUARY);
+        final AtomicInteger loads = new AtomicInteger();
+        assertThat(cache.get(month, 30)).isNotNull().isEmpty();
+        assertThat(cache.get(month, 0)).isNotNull().isEmpty();
+        assertThat(cache.get(month, 30, m -> {
+            loads.incrementAndGet();
+            return items(m);
+        })).isEmpty();
+        assertThat(loads).hasValue(0);
+        assertThat(cache.get(month, 28, m -> {
+            loads.incrementAndGet();
+            return items(m);
+        })).hasSize(1);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void clear__() {
+        final LrsrCldInfoServiceItemCache cache = new LrsrCldInfoServiceItemCache();
+        final YearMonth month = YearMonth.of(2021, Month.MARCH);
+        cache.putAll(items(month));
+        assertThat(cache.get(month, null)).isNotNull().hasSize(month.lengthOfMonth());
+        cache.clear();
+        assertThat(cache.get(month, null)).isNull();
+    }
+}
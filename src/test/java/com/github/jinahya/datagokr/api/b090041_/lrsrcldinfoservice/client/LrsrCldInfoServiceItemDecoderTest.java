@@ -0,0 +1,108 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.NettyDataBuffer;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.util.MimeTypeUtils;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceItemDecoderTest {
+
+    private static final ResolvableType ITEM_TYPE = ResolvableType.forClass(Item.class);
+
+    private static Flux<DataBuffer> buffers(final String name, final List<? super NettyDataBuffer> read) {
+        return DataBufferUtils.readInputStream(() -> Item.class.getResourceAsStream(name),
+                                               new NettyDataBufferFactory(new UnpooledByteBufAllocator(false)), 64)
+                .doOnNext(b -> read.add((NettyDataBuffer) b));
+    }
+
+    @Test
+    void decode_EmitsItems_ReleasesBuffers() {
+        final List<NettyDataBuffer> read = new ArrayList<>();
+        final List<Item> items = new LrsrCldInfoServiceItemDecoder()
+                .decode(buffers("response_getLunCalInfo_solYear_solMonth.xml", read), ITEM_TYPE,
+                        MimeTypeUtils.APPLICATION_XML, null)
+                .collectList()
+                .block(Duration.ofSeconds(10L));
+        assertThat(items).hasSize(10);
+        assertThat(items.get(0).getSolJd()).isEqualTo(2459185L);
+        assertThat(read).isNotEmpty().allSatisfy(b -> assertThat(b.getNativeBuffer().refCnt()).isZero());
+    }
+
+    @Test
+    void decode_PassesHeaderAndBody_ResponseHint() {
+        final AtomicReference<Response> response = new AtomicReference<>();
+        final List<Item> items = new LrsrCldInfoServiceItemDecoder()
+                .decode(buffers("response_getSolCalInfo_lunYear_lunMonth.xml", new ArrayList<>()), ITEM_TYPE,
+                        MimeTypeUtils.APPLICATION_XML,
+                        Collections.singletonMap(LrsrCldInfoServiceItemDecoder.RESPONSE_HINT,
+                                                 (Consumer<Response>) response::set))
+                .collectList()
+                .block(Duration.ofSeconds(10L));
+        assertThat(items).hasSize(10);
+        assertThat(response.get()).isNotNull().satisfies(r -> {
+            assertThat(r.getHeader().isResultCodeSuccess()).isTrue();
+            assertThat(r.getBody().getNumOfRows()).isEqualTo(10);
+            assertThat(r.getBody().getPageNo()).isEqualTo(1);
+            assertThat(r.getBody().getTotalCount()).isEqualTo(30);
+            assertThat(r.getBody().getItems()).isEmpty();
+        });
+    }
+
+    @Test
+    void decode_ReleasesBuffers_Cancelled() {
+        final List<NettyDataBuffer> read = new ArrayList<>();
+        final List<Item> items = new LrsrCldInfoServiceItemDecoder()
+                .decode(buffers("response_getSolCalInfo_lunYear_lunMonth.xml", read), ITEM_TYPE,
+                        MimeTypeUtils.APPLICATION_XML, null)
+                .take(1L)
+                .collectList()
+                .block(Duration.ofSeconds(10L));
+        assertThat(items).hasSize(1);
+        assertThat(read).isNotEmpty().allSatisfy(b -> assertThat(b.getNativeBuffer().refCnt()).isZero());
+    }
+
+    @Test
+    void decode_FailsFast_UnsuccessfulResultCode() {
+        final String xml = "<response><header><resultCode>22</resultCode><resultMsg>LIMITED</resultMsg></header>"
+                           + "<body><items><item><lunYear>2020</lunYear></item></items></body></response>";
+        final Flux<DataBuffer> buffers = Flux.just(
+                new NettyDataBufferFactory(new UnpooledByteBufAllocator(false))
+                        .wrap(xml.getBytes(StandardCharsets.UTF_8)));
+        assertThatThrownBy(() -> new LrsrCldInfoServiceItemDecoder()
+                .decode(buffers, ITEM_TYPE, MimeTypeUtils.APPLICATION_XML, null)
+                .collectList()
+                .block(Duration.ofSeconds(10L)))
+                .isInstanceOf(LrsrCldInfoServiceReactiveClient.UnsuccessfulResultException.class)
+                .satisfies(e -> assertThat(((LrsrCldInfoServiceReactiveClient.UnsuccessfulResultException) e)
+                                                   .getHeader().getResultCode())
+                        .isEqualTo(Header.RESULT_CODE_LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR));
+    }
+
+    @Test
+    void canDecode_False_Response() {
+        assertThat(new LrsrCldInfoServiceItemDecoder()
+                           .canDecode(ResolvableType.forClass(Response.class), MimeTypeUtils.APPLICATION_XML))
+                .isFalse();
+    }
+}
@@ -0,0 +1,48 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.util.MimeTypeUtils;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class LrsrCldInfoServiceJaxbDecoderTest {
+
+    private static Flux<DataBuffer> buffers(final String name) {
+        return DataBufferUtils.readInputStream(() -> Item.class.getResourceAsStream(name),
+                                               new DefaultDataBufferFactory(), 256);
+    }
+
+    @Test
+    void decodeToMono_ReusesUnmarshaller() {
+        final LrsrCldInfoServiceJaxbDecoder decoder = new LrsrCldInfoServiceJaxbDecoder(1);
+        final ResolvableType type = ResolvableType.forClass(Response.class);
+        assertThat(decoder.canDecode(type, MimeTypeUtils.APPLICATION_XML)).isTrue();
+        for (int i = 0; i < 3; i++) {
+            final Response response = decoder
+                    .decodeToMono(buffers("response_getSolCalInfo_lunYear_lunMonth.xml"), type,
+                                  MimeTypeUtils.APPLICATION_XML, null)
+                    .block(Duration.ofSeconds(10L));
+            assertThat(response).isNotNull();
+            assertThat(response.getBody().getItems()).hasSize(10);
+        }
+        assertThat(decoder.pool().createdCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void canDecode_False_Item() {
+        assertThat(new LrsrCldInfoServiceJaxbDecoder()
+                           .canDecode(ResolvableType.forClass(Item.class), MimeTypeUtils.APPLICATION_XML))
+                .isFalse();
+    }
+}
@@ -0,0 +1,59 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.mock.http.MockHttpInputMessage;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceJaxbMessageConverterTest {
+
+    private static final String NAME = "response_getLunCalInfo_solYear_solMonth.xml";
+
+    @Test
+    void read_ReusesUnmarshaller() throws Exception {
+        final LrsrCldInfoServiceJaxbMessageConverter converter = new LrsrCldInfoServiceJaxbMessageConverter(1);
+        for (int i = 0; i < 3; i++) {
+            final Response response;
+            try (InputStream stream = Item.class.getResourceAsStream(NAME)) {
+                response = converter.read(Response.class, new MockHttpInputMessage(stream));
+            }
+            assertThat(response.getBody().getItems()).hasSize(10);
+            assertThat(response.getBody().getTotalCount()).isEqualTo(31);
+        }
+        assertThat(converter.pool().createdCount()).isEqualTo(1L);
+        assertThat(converter.pool().idleCount()).isEqualTo(1);
+    }
+
+    @Test
+    void read_HttpMessageNotReadableException_Malformed() {
+        final LrsrCldInfoServiceJaxbMessageConverter converter = new LrsrCldInfoServiceJaxbMessageConverter();
+        final byte[] body = "<response><header>".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> converter.read(Response.class, new MockHttpInputMessage(body)))
+                .isInstanceOf(HttpMessageNotReadableException.class);
+        assertThat(converter.pool().idleCount()).isZero();
+    }
+
+    @Test
+    void canRead_ResponseOnly_canWrite_Never() {
+        final LrsrCldInfoServiceJaxbMessageConverter converter = new LrsrCldInfoServiceJaxbMessageConverter();
+        assertThat(converter.canRead(Response.class, MediaType.APPLICATION_XML)).isTrue();
+        assertThat(converter.canRead(Item.class, MediaType.APPLICATION_XML)).isFalse();
+        assertThat(converter.canWrite(Response.class, MediaType.APPLICATION_XML)).isFalse();
+    }
+
+    @Test
+    void new_IllegalArgumentException_NonPositiveCapacity() {
+        assertThatThrownBy(() -> new LrsrCldInfoServiceJaxbMessageConverter(0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
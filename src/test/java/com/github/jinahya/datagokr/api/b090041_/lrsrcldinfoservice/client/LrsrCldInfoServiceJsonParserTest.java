@@ -0,0 +1,132 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceJsonParserTest {
+
+    private static final String HEADER = "\"header\":{\"resultCode\":\"00\",\"resultMsg\":\"NORMAL SERVICE.\"}";
+
+    private static final String ITEM
+            = "{\"lunDay\":\"17\",\"lunIljin\":\"무인(戊寅)\",\"lunLeapmonth\":\"평\",\"lunMonth\":\"10\","
+              + "\"lunNday\":30,\"lunSecha\":\"경자(庚子)\",\"lunWolgeon\":\"정해(丁亥)\",\"lunYear\":2020,"
+              + "\"solDay\":\"01\",\"solJd\":2459185,\"solLeapyear\":\"윤\",\"solMonth\":\"12\",\"solWeek\":\"화\","
+              + "\"solYear\":2020}";
+
+    private static Response parse(final String json) throws Exception {
+        final LrsrCldInfoServiceJsonParser parser
+                = new LrsrCldInfoServiceJsonParser(LrsrCldInfoServiceClient.UnsuccessfulResultException::new);
+        final List<Item> items = new ArrayList<>();
+        parser.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), items::add);
+        assertThat(parser.items()).isEqualTo(items.size());
+        return parser.response(items);
+    }
+
+    private static String response(final String items, final int totalCount) {
+        return "{\"response\":{" + HEADER + ",\"body\":{\"items\":" + items
+               + ",\"numOfRows\":10,\"pageNo\":1,\"totalCount\":" + totalCount + "}}}";
+    }
+
+    @Test
+    void parse_BindsAllParts_ItemArray() throws Exception {
+        final Response response = parse(response("{\"item\":[" + ITEM + "," + ITEM + "]}", 31));
+        assertThat(response.getHeader().isResultCodeSuccess()).isTrue();
+        assertThat(response.getBody().getNumOfRows()).isEqualTo(10);
+        assertThat(response.getBody().getPageNo()).isEqualTo(1);
+        assertThat(response.getBody().getTotalCount()).isEqualTo(31);
+        assertThat(response.getBody().getItems()).hasSize(2);
+        final Item item = response.getBody().getItems().get(0);
+        assertThat(item.getLunYear()).isEqualTo(Year.of(2020));
+        assertThat(item.getLunMonth()).isEqualTo(Month.OCTOBER);
+        assertThat(item.getLunDay()).isEqualTo(17);
+        assertThat(item.getLunLeapmonth()).isFalse();
+        assertThat(item.getLunNday()).isEqualTo(30);
+        assertThat(item.getLunSecha()).isEqualTo("경자(庚子)");
+        assertThat(item.getLunWolgeon()).isEqualTo("정해(丁亥)");
+        assertThat(item.getLunIljin()).isEqualTo("무인(戊寅)");
+        assertThat(item.getSolYear()).isEqualTo(Year.of(2020));
+        assertThat(item.getSolMonth()).isEqualTo(Month.DECEMBER);
+        assertThat(item.getSolDay()).isEqualTo(1);
+        assertThat(item.getSolLeapyear()).isTrue();
+        assertThat(item.getSolWeek()).isEqualTo(DayOfWeek.TUESDAY);
+        assertThat(item.getSolJd()).isEqualTo(2459185L);
+        assertThat(response.getBody().getItems().get(1)).isEqualTo(item);
+    }
+
+    @Test
+    void parse_BindsSingleItemObject() throws Exception {
+        final Response response = parse(response("{\"item\":" + ITEM + "}", 1));
+        assertThat(response.getBody().getTotalCount()).isEqualTo(1);
+        assertThat(response.getBody().getItems()).hasSize(1);
+        assertThat(response.getBody().getItems().get(0).getSolJd()).isEqualTo(2459185L);
+    }
+
+    @Test
+    void parse_BindsNoItems_EmptyString() throws Exception {
+        final Response response = parse(response("\"\"", 0));
+        assertThat(response.getBody().getTotalCount()).isEqualTo(0);
+        assertThat(response.getBody().getItems()).isEmpty();
+    }
+
+    @Test
+    void parse_SkipsUnknownRootFields_() throws Exception {
+        final String json = response("{\"item\":" + ITEM + "}", 1);
+        final Response response = parse("{\"version\":\"1.0\",\"meta\":{\"response\":{}},\"response\":\"\","
+                                        + json.substring(1, json.length() - 1) + ",\"trailer\":[{}]}");
+        assertThat(response.getHeader().isResultCodeSuccess()).isTrue();
+        assertThat(response.getBody().getTotalCount()).isEqualTo(1);
+        assertThat(response.getBody().getItems()).hasSize(1);
+    }
+
+    @Test
+    void parse_FailsFast_UnsuccessfulResultCode() {
+        final String json = "{\"response\":{\"header\":{\"resultCode\":\"22\",\"resultMsg\":\"LIMITED\"},"
+                            + "\"body\":{\"items\":{\"item\":{\"lunYear\":\"invalid\"}}}}}";
+        final List<Item> items = new ArrayList<>();
+        assertThatThrownBy(() -> new LrsrCldInfoServiceJsonParser(LrsrCldInfoServiceClient.UnsuccessfulResultException::new)
+                .parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), items::add))
+                .isInstanceOf(LrsrCldInfoServiceClient.UnsuccessfulResultException.class)
+                .satisfies(e -> assertThat(((LrsrCldInfoServiceClient.UnsuccessfulResultException) e).getHeader()
+                                                   .getResultCode())
+                        .isEqualTo(Header.RESULT_CODE_LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR));
+        assertThat(items).isEmpty();
+    }
+
+    @Test
+    void parse_IllegalArgumentException_InvalidValue() {
+        assertThatThrownBy(() -> parse(response("{\"item\":{\"solJd\":\"invalid\"}}", 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parse_IllegalArgumentException_Malformed() {
+        assertThatThrownBy(() -> parse("{\"response\":{" + HEADER + ",\"body\":{"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> parse("[]"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void response_IllegalStateException_NoHeader() throws Exception {
+        final LrsrCldInfoServiceJsonParser parser
+                = new LrsrCldInfoServiceJsonParser(LrsrCldInfoServiceClient.UnsuccessfulResultException::new);
+        parser.parse(new ByteArrayInputStream("{}".getBytes(StandardCharsets.UTF_8)), i -> {
+        });
+        assertThatThrownBy(() -> parser.response(null)).isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Body;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServicePageSizeTest {
+
+    private static Response response(final int pageNo, final int numOfRows, final int totalCount, final int size) {
+        final List<Item> items = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            items.add(new Item());
+        }
+        final Body body = new Body();
+        body.setItems(items);
+        body.setPageNo(pageNo);
+        body.setNumOfRows(numOfRows);
+        body.setTotalCount(totalCount);
+        final Response response = new Response();
+        response.setBody(body);
+        return response;
+    }
+
+    @Test
+    void fixed_NeverLearns() {
+        final LrsrCldInfoServicePageSize pageSize = LrsrCldInfoServicePageSize.fixed(100);
+        assertThat(pageSize.learn(100, response(1, 50, 200, 50))).isFalse();
+        assertThat(pageSize.numOfRows()).isEqualTo(100);
+    }
+
+    @Test
+    void adaptive_KeepsValue_WhenHonored() {
+        final LrsrCldInfoServicePageSize pageSize = LrsrCldInfoServicePageSize.adaptive();
+        assertThat(pageSize.numOfRows()).isEqualTo(LrsrCldInfoServicePageSize.DEFAULT_NUM_OF_ROWS);
+        assertThat(pageSize.learn(pageSize.numOfRows(), response(1, 1000, 31, 31))).isFalse();
+        assertThat(pageSize.numOfRows()).isEqualTo(LrsrCldInfoServicePageSize.DEFAULT_NUM_OF_ROWS);
+    }
+
+    @Test
+    void adaptive_Lowers_WhenReported() {
+        final LrsrCldInfoServicePageSize pageSize = LrsrCldInfoServicePageSize.adaptive(1000);
+        // consistent; no need to send again
+        assertThat(pageSize.learn(1000, response(1, 100, 250, 100))).isFalse();
+        assertThat(pageSize.numOfRows()).isEqualTo(100);
+    }
+
+    @Test
+    void adaptive_Lowers_WhenTruncated() {
+        final LrsrCldInfoServicePageSize pageSize = LrsrCldInfoServicePageSize.adaptive(1000);
+        // the service echoes the requested value but returns fewer items
+        assertThat(pageSize.learn(1000, response(1, 1000, 250, 100))).isTrue();
+        assertThat(pageSize.numOfRows()).isEqualTo(100);
+        // the last page is not truncated
+        assertThat(pageSize.learn(100, response(3, 100, 250, 50))).isFalse();
+        assertThat(pageSize.numOfRows()).isEqualTo(100);
+    }
+
+    @Test
+    void fixed_IllegalArgumentException_NotPositive() {
+        assertThatThrownBy(() -> LrsrCldInfoServicePageSize.fixed(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
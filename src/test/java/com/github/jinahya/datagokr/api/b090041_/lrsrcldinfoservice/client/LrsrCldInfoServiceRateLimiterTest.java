@@ -0,0 +1,132 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1L);
+
+    private static Header header(final String resultCode) {
+        final Header header = new Header();
+        header.setResultCode(resultCode);
+        header.setResultMsg(resultCode);
+        return header;
+    }
+
+    private static Clock clock(final LocalDateTime dateTime) {
+        return Clock.fixed(dateTime.atZone(LrsrCldInfoServiceResponseCache.ZONE_ID).toInstant(),
+                           LrsrCldInfoServiceResponseCache.ZONE_ID);
+    }
+
+    @Test
+    void reserve_AllowsBurst_ThenSpacesPermits() {
+        final AtomicLong ticker = new AtomicLong();
+        final LrsrCldInfoServiceRateLimiter limiter = new LrsrCldInfoServiceRateLimiter(
+                10.0d, 3, 0L, Duration.ofSeconds(1L), Clock.systemUTC(), ticker::get);
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(SECOND / 10);
+        assertThat(limiter.reserve()).isEqualTo(SECOND / 10 * 2);
+        assertThat(limiter.throttledCount()).isEqualTo(2L);
+        ticker.addAndGet(SECOND);
+        assertThat(limiter.reserve()).isZero();
+    }
+
+    @Test
+    void reserve_Rejects_WhenWaitExceedsMaximumWait() {
+        final AtomicLong ticker = new AtomicLong();
+        final LrsrCldInfoServiceRateLimiter limiter = new LrsrCldInfoServiceRateLimiter(
+                1.0d, 1, 0L, Duration.ofMillis(1500L), Clock.systemUTC(), ticker::get);
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(SECOND);
+        assertThatThrownBy(limiter::reserve).isInstanceOf(LrsrCldInfoServiceRateLimitException.class);
+        assertThat(limiter.rejectedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void tryAcquire_False_WithoutWaitingOrRejecting() {
+        final AtomicLong ticker = new AtomicLong();
+        final LrsrCldInfoServiceRateLimiter limiter = new LrsrCldInfoServiceRateLimiter(
+                1.0d, 1, 0L, Duration.ofSeconds(10L), Clock.systemUTC(), ticker::get);
+        assertThat(limiter.tryAcquire()).isTrue();
+        assertThat(limiter.tryAcquire()).isFalse();
+        assertThat(limiter.rejectedCount()).isZero();
+        assertThat(limiter.reserve()).isEqualTo(SECOND);
+        ticker.addAndGet(SECOND * 2);
+        assertThat(limiter.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void reserve_Rejects_WhenDailyLimitReached() {
+        final AtomicLong ticker = new AtomicLong();
+        final LrsrCldInfoServiceRateLimiter limiter = new LrsrCldInfoServiceRateLimiter(
+                1000.0d, 10, 2L, Duration.ZERO, Clock.systemUTC(), ticker::get);
+        limiter.reserve();
+        limiter.reserve();
+        assertThatThrownBy(limiter::reserve).isInstanceOf(LrsrCldInfoServiceRateLimitException.class);
+        assertThat(limiter.issuedCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void onResult_Shrinks_UntilMidnight() {
+        final AtomicLong ticker = new AtomicLong();
+        final Clock[] clock = {clock(LocalDateTime.of(2021, 2, 1, 23, 0))};
+        final Clock delegate = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return clock[0].getZone();
+            }
+
+            @Override
+            public Clock withZone(final ZoneId zone) {
+                return clock[0].withZone(zone);
+            }
+
+            @Override
+            public Instant instant() {
+                return clock[0].instant();
+            }
+        };
+        final LrsrCldInfoServiceRateLimiter limiter = new LrsrCldInfoServiceRateLimiter(
+                10.0d, 5, 0L, Duration.ofMinutes(1L), delegate, ticker::get);
+        assertThat(limiter.onResult(header(Header.RESULT_CODE_SUCCESS))).isFalse();
+        assertThat(limiter.onResult(null)).isFalse();
+        assertThat(limiter.onResult(header(Header.RESULT_CODE_LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR)))
+                .isTrue();
+        assertThat(limiter.permitsPerSecond()).isEqualTo(5.0d);
+        // no more bursts
+        assertThat(limiter.reserve()).isEqualTo(SECOND / 5);
+        assertThat(limiter.reserve()).isEqualTo(SECOND / 5 * 2);
+        clock[0] = clock(LocalDateTime.of(2021, 2, 2, 0, 0));
+        ticker.addAndGet(SECOND);
+        assertThat(limiter.reserve()).isZero();
+        assertThat(limiter.permitsPerSecond()).isEqualTo(10.0d);
+    }
+
+    @Test
+    void new_IllegalArgumentException() {
+        assertThatThrownBy(() -> new LrsrCldInfoServiceRateLimiter(0.0d))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LrsrCldInfoServiceRateLimiter(1.0d, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LrsrCldInfoServiceRateLimiter(1.0d, 1, -1L, Duration.ZERO))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LrsrCldInfoServiceRateLimiter(1.0d, 1, 0L, Duration.ofSeconds(-1L)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
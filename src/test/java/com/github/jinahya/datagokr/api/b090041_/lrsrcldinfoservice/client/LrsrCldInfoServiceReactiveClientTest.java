@@ -1,15 +1,98 @@
 package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
 
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
 import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.Month;
+import java.time.Year;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 @Slf4j
 class LrsrCldInfoServiceReactiveClientTest
         extends AbstractLrsrCldInfoServiceClientTest<LrsrCldInfoServiceReactiveClient> {
 
+    /**
+     * Returns a client whose service sends at most specified number of rows, regardless of the requested {@code
+     * numOfRows}, of specified total number of items.
+     *
+     * @param cappedNumOfRows the maximum number of rows the service sends.
+     * @param totalCount      the total number of items.
+     * @param requests        a list to which query parameters of each request are added.
+     * @return a client of the capped service.
+     */
+    private static LrsrCldInfoServiceReactiveClient cappedClient(
+            final int cappedNumOfRows, final int totalCount,
+            final List<? super MultiValueMap<String, String>> requests) {
+        final WebClient webClient = WebClient.builder().exchangeFunction(r -> {
+            final MultiValueMap<String, String> params
+                    = UriComponentsBuilder.fromUri(r.url()).build().getQueryParams();
+            requests.add(params);
+            final int pageNo
+                    = Integer.parseInt(params.getFirst(AbstractLrsrCldInfoServiceClient.QUERY_PARAM_NAME_PAGE_NO));
+            final StringBuilder xml = new StringBuilder(
+                    "<response><header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>"
+                    + "<body><items>");
+            for (int i = (pageNo - 1) * cappedNumOfRows; i < Math.min(pageNo * cappedNumOfRows, totalCount); i++) {
+                xml.append("<item><solJd>").append(i).append("</solJd></item>");
+            }
+            xml.append("</items><numOfRows>").append(cappedNumOfRows).append("</numOfRows>")
+                    .append("<pageNo>").append(pageNo).append("</pageNo>")
+                    .append("<totalCount>").append(totalCount).append("</totalCount></body></response>");
+            return Mono.just(ClientResponse.create(HttpStatus.OK)
+                                     .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_XML_VALUE)
+                                     .body(xml.toString())
+                                     .build());
+        }).build();
+        final LrsrCldInfoServiceReactiveClient client = new LrsrCldInfoServiceReactiveClient();
+        ReflectionTestUtils.setField(client, "webClient", webClient);
+        ReflectionTestUtils.setField(client, "serviceKey", "key");
+        return client;
+    }
+
     /**
      * Creates a new instance.
      */
     LrsrCldInfoServiceReactiveClientTest() {
         super(LrsrCldInfoServiceReactiveClient.class);
     }
+
+    @Test
+    void streamSpcifyLunCalInfoForAllPages_ReadsAllPages_NumOfRowsCapped() {
+        final List<MultiValueMap<String, String>> requests = new CopyOnWriteArrayList<>();
+        final List<Item> items = cappedClient(100, 250, requests)
+                .streamSpcifyLunCalInfoForAllPages(Year.of(2000), Year.of(2020), Month.JANUARY, 1, false, 1000)
+                .collectList()
+                .block(Duration.ofSeconds(10L));
+        assertThat(items).hasSize(250);
+        for (int i = 0; i < items.size(); i++) {
+            assertThat(items.get(i).getSolJd()).isEqualTo((long) i);
+        }
+        assertThat(requests).hasSize(3).allSatisfy(p -> assertThat(
+                p.getFirst(AbstractLrsrCldInfoServiceClient.QUERY_PARAM_NAME_NUM_OF_ROWS)).isEqualTo("1000"));
+    }
+
+    @Test
+    void streamSpcifyLunCalInfoForAllPages_StopsAtLastPage_LastPageIsFull() {
+        final List<MultiValueMap<String, String>> requests = new CopyOnWriteArrayList<>();
+        final List<Item> items = cappedClient(10, 20, requests)
+                .streamSpcifyLunCalInfoForAllPages(Year.of(2000), Year.of(2020), Month.JANUARY, 1, false, 10)
+                .collectList()
+                .block(Duration.ofSeconds(10L));
+        assertThat(items).hasSize(20);
+        assertThat(requests).hasSize(2);
+    }
 }
@@ -1,5 +1,75 @@
 package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
 
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.LrsrCldInfoServiceClient_Static_Test.page;
+import static org.assertj.core.api.Assertions.assertThat;
+
 class LrsrCldInfoServiceReactiveClient_Static_Test {
 
-}
\ No newline at end of file
+    private static final List<Integer> PARTS = IntStream.range(0, 10).boxed().collect(Collectors.toList());
+
+    private static Flux<Item> part(final int part) {
+        return Flux.range(part * 10, 10).map(i -> {
+            final Item item = new Item();
+            item.setLunDay(i);
+            return item;
+        });
+    }
+
+    @Test
+    void allPages_InPageOrder() {
+        // later pages complete earlier
+        final List<Response> pages = LrsrCldInfoServiceReactiveClient.allPages(
+                p -> Mono.just(page(p, 10, 75)).delayElement(Duration.ofMillis(80L - p * 10L)), 4)
+                .collectList()
+                .block(Duration.ofSeconds(10L));
+        assertThat(pages).extracting(r -> r.getBody().getPageNo()).containsExactly(1, 2, 3, 4, 5, 6, 7, 8);
+    }
+
+    @Test
+    void items_InOrder() {
+        // later parts complete earlier
+        final List<Integer> days = LrsrCldInfoServiceReactiveClient.items(
+                PARTS, p -> 10, p -> part(p).delaySubscription(Duration.ofMillis(100L - p * 10L)), 4, 32)
+                .map(Item::getLunDay)
+                .collectList()
+                .block(Duration.ofSeconds(10L));
+        assertThat(days).hasSize(100).isSorted();
+    }
+
+    @Test
+    void items_ReadsOnlyDemandedParts() {
+        final AtomicInteger reads = new AtomicInteger();
+        final List<Item> received = new CopyOnWriteArrayList<>();
+        LrsrCldInfoServiceReactiveClient.items(PARTS, p -> 10, p -> {
+            reads.incrementAndGet();
+            return part(p);
+        }, 4, 32).subscribe(new BaseSubscriber<Item>() {
+            @Override
+            protected void hookOnSubscribe(final Subscription subscription) {
+                subscription.request(15L);
+            }
+
+            @Override
+            protected void hookOnNext(final Item value) {
+                received.add(value);
+            }
+        });
+        assertThat(received).hasSize(15);
+        assertThat(reads).hasValue(2);
+    }
+}
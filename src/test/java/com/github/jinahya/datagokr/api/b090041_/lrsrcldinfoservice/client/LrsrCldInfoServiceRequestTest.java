@@ -0,0 +1,85 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceRequestTest {
+
+    private static String uri(final LrsrCldInfoServiceRequest request) {
+        final UriComponentsBuilder builder = UriComponentsBuilder.fromUriString("http://localhost");
+        request.appendTo(builder);
+        return builder.build().toUriString();
+    }
+
+    @Test
+    void equals_Canonical_() {
+        final LrsrCldInfoServiceRequest request1
+                = LrsrCldInfoServiceRequest.getLunCalInfo(Year.of(2021), Month.FEBRUARY, null, null);
+        final LrsrCldInfoServiceRequest request2
+                = LrsrCldInfoServiceRequest.getLunCalInfo(Year.of(2021), Month.FEBRUARY, null, 1);
+        assertThat(request1).isEqualTo(request2).hasSameHashCodeAs(request2);
+        assertThat(request1.withPageNo(2)).isNotEqualTo(request2);
+        assertThat(LrsrCldInfoServiceRequest.getSolCalInfo(Year.of(2021), Month.FEBRUARY, null, null))
+                .isNotEqualTo(request1);
+    }
+
+    @Test
+    void appendTo__() {
+        assertThat(uri(LrsrCldInfoServiceRequest.getLunCalInfo(Year.of(2021), Month.FEBRUARY, 3, null)))
+                .isEqualTo("http://localhost/getLunCalInfo?solYear=2021&solMonth=02&solDay=03&pageNo=1");
+        assertThat(uri(LrsrCldInfoServiceRequest.getSolCalInfo(Year.of(2021), Month.FEBRUARY, null, 2)))
+                .isEqualTo("http://localhost/getSolCalInfo?lunYear=2021&lunMonth=02&pageNo=2");
+        assertThat(uri(LrsrCldInfoServiceRequest.getSpcifyLunCalInfo(
+                Year.of(2020), Year.of(2021), Month.APRIL, 1, false, null)))
+                .startsWith("http://localhost/getSpcifyLunCalInfo?fromSolYear=2020&toSolYear=2021&lunMonth=04"
+                            + "&lunDay=01&leapMonth=")
+                .endsWith("&pageNo=1");
+    }
+
+    @Test
+    void withNumOfRows__() {
+        final LrsrCldInfoServiceRequest request
+                = LrsrCldInfoServiceRequest.getLunCalInfo(Year.of(2021), Month.FEBRUARY, null, null);
+        assertThat(request.numOfRows()).isEqualTo(LrsrCldInfoServiceRequest.ABSENT);
+        final LrsrCldInfoServiceRequest sized = request.withNumOfRows(31);
+        assertThat(sized).isNotEqualTo(request);
+        assertThat(sized.withPageNo(2).numOfRows()).isEqualTo(31);
+        assertThat(sized.withNumOfRows(LrsrCldInfoServiceRequest.ABSENT)).isEqualTo(request);
+        assertThat(uri(sized))
+                .isEqualTo("http://localhost/getLunCalInfo?solYear=2021&solMonth=02&numOfRows=31&pageNo=1");
+        assertThatThrownBy(() -> request.withNumOfRows(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void getLunCalInfo_KeepsDay_DayIsNotOfMonth() {
+        // left to the service, the item cache, and the local responses, all of which answer no items
+        assertThat(uri(LrsrCldInfoServiceRequest.getLunCalInfo(Year.of(2021), Month.FEBRUARY, 30, null)))
+                .isEqualTo("http://localhost/getLunCalInfo?solYear=2021&solMonth=02&solDay=30&pageNo=1");
+    }
+
+    @Test
+    void getSpcifyLunCalInfo_IllegalArgumentException_ToSolYearIsBeforeFromSolYear() {
+        assertThatThrownBy(() -> LrsrCldInfoServiceRequest.getSpcifyLunCalInfo(
+                Year.of(2021), Year.of(2020), Month.APRIL, 1, false, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void latestSolarDate__() {
+        assertThat(LrsrCldInfoServiceRequest.getLunCalInfo(Year.of(2021), Month.FEBRUARY, null, null)
+                           .latestSolarDate())
+                .isEqualTo(LocalDate.of(2021, 2, 28));
+        assertThat(LrsrCldInfoServiceRequest.getSpcifyLunCalInfo(
+                Year.of(2020), Year.of(2021), Month.APRIL, 1, false, null).latestSolarDate())
+                .isEqualTo(LocalDate.of(2021, 12, 31));
+    }
+}
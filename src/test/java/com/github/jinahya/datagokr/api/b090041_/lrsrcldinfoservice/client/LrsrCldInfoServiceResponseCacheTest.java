@@ -0,0 +1,112 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class LrsrCldInfoServiceResponseCacheTest {
+
+    private static final class TickingClock extends Clock {
+
+        private TickingClock(final Instant instant) {
+            super();
+            millis.set(instant.toEpochMilli());
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return LrsrCldInfoServiceResponseCache.ZONE_ID;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis.get());
+        }
+
+        void tick(final Duration duration) {
+            millis.addAndGet(duration.toMillis());
+        }
+
+        private final AtomicLong millis = new AtomicLong();
+    }
+
+    private static TickingClock clock() {
+        return new TickingClock(LocalDateTime.of(2021, 2, 15, 12, 0)
+                                        .atZone(LrsrCldInfoServiceResponseCache.ZONE_ID).toInstant());
+    }
+
+    @Test
+    void get_Expires_Recent() {
+        final TickingClock clock = clock();
+        final LrsrCldInfoServiceResponseCache cache
+                = new LrsrCldInfoServiceResponseCache(16, Duration.ofMinutes(1L), clock);
+        final LrsrCldInfoServiceRequest recent
+                = LrsrCldInfoServiceRequest.getLunCalInfo(Year.of(2021), Month.FEBRUARY, null, null);
+        final LrsrCldInfoServiceRequest past
+                = LrsrCldInfoServiceRequest.getLunCalInfo(Year.of(2021), Month.JANUARY, null, null);
+        final Response response = new Response();
+        cache.put(recent, response);
+        cache.put(past, response);
+        assertThat(cache.get(recent)).isSameAs(response);
+        assertThat(cache.get(past)).isSameAs(response);
+        clock.tick(Duration.ofMinutes(1L));
+        assertThat(cache.get(recent)).isNull();
+        assertThat(cache.get(past)).isSameAs(response);
+        assertThat(cache.hitCount()).isEqualTo(3L);
+        assertThat(cache.missCount()).isEqualTo(1L);
+        assertThat(cache.expirationCount()).isEqualTo(1L);
+        assertThat(cache.hitRatio()).isEqualTo(.75d);
+    }
+
+    @Test
+    void getStale_IgnoresExpiration() {
+        final TickingClock clock = clock();
+        final LrsrCldInfoServiceResponseCache cache
+                = new LrsrCldInfoServiceResponseCache(16, Duration.ofMinutes(1L), clock);
+        final LrsrCldInfoServiceRequest recent
+                = LrsrCldInfoServiceRequest.getLunCalInfo(Year.of(2021), Month.FEBRUARY, null, null);
+        final Response response = new Response();
+        assertThat(cache.getStale(recent)).isNull();
+        cache.put(recent, response);
+        clock.tick(Duration.ofMinutes(1L));
+        assertThat(cache.get(recent)).isNull();
+        assertThat(cache.getStale(recent)).isSameAs(response);
+        assertThat(cache.missCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void put_Evicts_LeastRecentlyUsed() {
+        final LrsrCldInfoServiceResponseCache cache
+                = new LrsrCldInfoServiceResponseCache(2, Duration.ofMinutes(1L), clock());
+        final LrsrCldInfoServiceRequest request1
+                = LrsrCldInfoServiceRequest.getLunCalInfo(Year.of(2020), Month.JANUARY, null, null);
+        final LrsrCldInfoServiceRequest request2 = request1.withPageNo(2);
+        final LrsrCldInfoServiceRequest request3 = request1.withPageNo(3);
+        cache.put(request1, new Response());
+        cache.put(request2, new Response());
+        assertThat(cache.get(request1)).isNotNull();
+        cache.put(request3, new Response());
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.evictionCount()).isEqualTo(1L);
+        assertThat(cache.get(request2)).isNull();
+        assertThat(cache.get(request1)).isNotNull();
+        assertThat(cache.get(request3)).isNotNull();
+    }
+}
@@ -0,0 +1,72 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.web.client.RestClientException;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceResponseExtractorTest {
+
+    private static final String NAME = "response_getSolCalInfo_lunYear_lunMonth.xml";
+
+    @Test
+    void extractData_CollectsItems() throws Exception {
+        final Response response;
+        try (InputStream stream = Item.class.getResourceAsStream(NAME)) {
+            response = new LrsrCldInfoServiceResponseExtractor()
+                    .extractData(new MockClientHttpResponse(stream, HttpStatus.OK));
+        }
+        assertThat(response.getBody().getItems()).hasSize(10);
+        assertThat(response.getBody().getTotalCount()).isEqualTo(30);
+    }
+
+    @Test
+    void extractData_PassesItemsToConsumer() throws Exception {
+        final List<Item> items = new ArrayList<>();
+        final Response response;
+        try (InputStream stream = Item.class.getResourceAsStream(NAME)) {
+            response = new LrsrCldInfoServiceResponseExtractor(
+                    LrsrCldInfoServiceClient.UnsuccessfulResultException::new, items::add)
+                    .extractData(new MockClientHttpResponse(stream, HttpStatus.OK));
+        }
+        assertThat(items).hasSize(10);
+        assertThat(response.getBody().getItems()).isEmpty();
+        assertThat(response.getBody().getTotalCount()).isEqualTo(30);
+    }
+
+    @Test
+    void extractData_PassesValuesToSink() throws Exception {
+        final List<Long> solJds = new ArrayList<>();
+        final Response response;
+        try (InputStream stream = Item.class.getResourceAsStream(NAME)) {
+            response = new LrsrCldInfoServiceResponseExtractor(
+                    LrsrCldInfoServiceClient.UnsuccessfulResultException::new,
+                    (solYear, solMonth, solDay, lunYear, lunMonth, lunLeapmonth, lunDay, lunNday, solJd, lunSecha,
+                     lunWolgeon, lunIljin) -> solJds.add(solJd))
+                    .extractData(new MockClientHttpResponse(stream, HttpStatus.OK));
+        }
+        assertThat(solJds).hasSize(10).doesNotContain(0L);
+        assertThat(response.getBody().getItems()).isEmpty();
+        assertThat(response.getBody().getTotalCount()).isEqualTo(30);
+    }
+
+    @Test
+    void extractData_RestClientException_Malformed() {
+        final byte[] body = "<response><header>".getBytes(StandardCharsets.UTF_8);
+        assertThatThrownBy(() -> new LrsrCldInfoServiceResponseExtractor()
+                .extractData(new MockClientHttpResponse(body, HttpStatus.OK)))
+                .isInstanceOf(RestClientException.class);
+    }
+}
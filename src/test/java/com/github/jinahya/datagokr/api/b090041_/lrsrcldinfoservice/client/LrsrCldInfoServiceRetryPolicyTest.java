@@ -0,0 +1,83 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceRetryPolicyTest {
+
+    @Test
+    void isRetryableResultCode__() {
+        final LrsrCldInfoServiceRetryPolicy policy = new LrsrCldInfoServiceRetryPolicy();
+        assertThat(policy.isRetryableResultCode(Header.RESULT_CODE_SERVICETIME_OUT)).isTrue();
+        assertThat(policy.isRetryableResultCode(Header.RESULT_CODE_DB_ERROR)).isTrue();
+        assertThat(policy.isRetryableResultCode(Header.RESULT_CODE_SERVICE_KEY_IS_NOT_REGISTERED_ERROR)).isFalse();
+        assertThat(policy.isRetryableResultCode(Header.RESULT_CODE_INVALID_REQUEST_PARAMETER_ERROR)).isFalse();
+        assertThat(policy.isRetryableResultCode(
+                Header.RESULT_CODE_LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR)).isFalse();
+        assertThat(policy.isRetryableResultCode(null)).isFalse();
+    }
+
+    @CsvSource({"500,true", "502,true", "503,true", "504,true", "501,false", "429,true", "408,true", "400,false",
+                "401,false", "404,false"})
+    @ParameterizedTest
+    void isRetryableStatus__(final int statusCode, final boolean expected) {
+        assertThat(new LrsrCldInfoServiceRetryPolicy().isRetryableStatus(statusCode)).isEqualTo(expected);
+    }
+
+    @Test
+    void tryRetry_False_WhenMaxAttemptsReached() {
+        final LrsrCldInfoServiceRetryPolicy policy = new LrsrCldInfoServiceRetryPolicy(
+                3, Duration.ZERO, Duration.ZERO, 1.0d, 10);
+        assertThat(policy.tryRetry(1)).isTrue();
+        assertThat(policy.tryRetry(2)).isTrue();
+        assertThat(policy.tryRetry(3)).isFalse();
+        assertThat(policy.retryCount()).isEqualTo(2L);
+        assertThat(policy.exhaustedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void tryRetry_False_WhenBudgetExhausted() {
+        final LrsrCldInfoServiceRetryPolicy policy = new LrsrCldInfoServiceRetryPolicy(
+                Integer.MAX_VALUE, Duration.ZERO, Duration.ZERO, .5d, 2);
+        assertThat(policy.tryRetry(1)).isTrue();
+        assertThat(policy.tryRetry(1)).isTrue();
+        assertThat(policy.tryRetry(1)).isFalse();
+        policy.onExchange();
+        assertThat(policy.tryRetry(1)).isFalse();
+        policy.onExchange();
+        assertThat(policy.tryRetry(1)).isTrue();
+    }
+
+    @Test
+    void backoff_Exponential_Capped() {
+        final LrsrCldInfoServiceRetryPolicy policy = new LrsrCldInfoServiceRetryPolicy(
+                10, Duration.ofMillis(100L), Duration.ofMillis(500L), .2d, 10, () -> .5d);
+        assertThat(policy.backoff(1)).isEqualTo(Duration.ofMillis(50L).toNanos());
+        assertThat(policy.backoff(2)).isEqualTo(Duration.ofMillis(100L).toNanos());
+        assertThat(policy.backoff(3)).isEqualTo(Duration.ofMillis(200L).toNanos());
+        assertThat(policy.backoff(4)).isEqualTo(Duration.ofMillis(250L).toNanos());
+        assertThat(policy.backoff(64)).isEqualTo(Duration.ofMillis(250L).toNanos());
+    }
+
+    @Test
+    void new_IllegalArgumentException() {
+        assertThatThrownBy(() -> new LrsrCldInfoServiceRetryPolicy(0, Duration.ZERO, Duration.ZERO, .2d, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LrsrCldInfoServiceRetryPolicy(
+                1, Duration.ofSeconds(2L), Duration.ofSeconds(1L), .2d, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LrsrCldInfoServiceRetryPolicy(1, Duration.ZERO, Duration.ZERO, -.1d, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LrsrCldInfoServiceRetryPolicy(1, Duration.ZERO, Duration.ZERO, .2d, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
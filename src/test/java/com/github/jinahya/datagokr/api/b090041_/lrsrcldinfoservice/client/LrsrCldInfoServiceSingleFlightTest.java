@@ -0,0 +1,131 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceSingleFlightTest {
+
+    private static LrsrCldInfoServiceRequest request() {
+        return LrsrCldInfoServiceRequest.getLunCalInfo(Year.of(2021), Month.FEBRUARY, null, null);
+    }
+
+    @Test
+    void execute_Coalesces_ConcurrentRequests() throws Exception {
+        final LrsrCldInfoServiceSingleFlight singleFlight = new LrsrCldInfoServiceSingleFlight();
+        final LrsrCldInfoServiceRequest request = request();
+        final Response response = new Response();
+        final CountDownLatch latch = new CountDownLatch(1);
+        final AtomicInteger retrievals = new AtomicInteger();
+        final int callers = 8;
+        final ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            final List<Future<Response>> futures = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                futures.add(executor.submit(() -> singleFlight.execute(request, () -> {
+                    retrievals.incrementAndGet();
+                    try {
+                        latch.await();
+                    } catch (final InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                        throw new RuntimeException(ie);
+                    }
+                    return response;
+                })));
+            }
+            while (singleFlight.executedCount() + singleFlight.sharedCount() < callers) {
+                Thread.sleep(10L);
+            }
+            latch.countDown();
+            for (final Future<Response> future : futures) {
+                assertThat(future.get(10L, TimeUnit.SECONDS)).isSameAs(response);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(retrievals).hasValue(1);
+        assertThat(singleFlight.executedCount()).isEqualTo(1L);
+        assertThat(singleFlight.sharedCount()).isEqualTo(callers - 1L);
+    }
+
+    @Test
+    void execute_Propagates_Error() {
+        final LrsrCldInfoServiceSingleFlight singleFlight = new LrsrCldInfoServiceSingleFlight(1);
+        final LrsrCldInfoServiceRequest request = request();
+        assertThatThrownBy(() -> singleFlight.execute(request, () -> {
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+        // the failed request is not kept
+        final Response response = new Response();
+        assertThat(singleFlight.execute(request, () -> response)).isSameAs(response);
+        assertThat(singleFlight.executedCount()).isEqualTo(2L);
+    }
+
+    @Test
+    void share_Coalesces_ConcurrentSubscriptions() {
+        final LrsrCldInfoServiceSingleFlight singleFlight = new LrsrCldInfoServiceSingleFlight();
+        final LrsrCldInfoServiceRequest request = request();
+        final Response response = new Response();
+        final AtomicInteger retrievals = new AtomicInteger();
+        final Mono<Response> retrieval = Mono.fromCallable(() -> {
+            retrievals.incrementAndGet();
+            return response;
+        }).delaySubscription(Duration.ofMillis(100L));
+        final Tuple2<Response, Response> tuple = Mono.zip(singleFlight.share(request, () -> retrieval),
+                                                          singleFlight.share(request, () -> retrieval))
+                .block(Duration.ofSeconds(10L));
+        assertThat(tuple).isNotNull();
+        assertThat(tuple.getT1()).isSameAs(response);
+        assertThat(tuple.getT2()).isSameAs(response);
+        assertThat(retrievals).hasValue(1);
+        assertThat(singleFlight.sharedCount()).isEqualTo(1L);
+        // the completed request is not kept
+        assertThat(singleFlight.share(request, () -> retrieval).block(Duration.ofSeconds(10L))).isSameAs(response);
+        assertThat(retrievals).hasValue(2);
+    }
+
+    @Test
+    void share_Continues_WhenSomeSubscriberCancels() throws Exception {
+        final LrsrCldInfoServiceSingleFlight singleFlight = new LrsrCldInfoServiceSingleFlight();
+        final LrsrCldInfoServiceRequest request = request();
+        final Response response = new Response();
+        final Mono<Response> retrieval = Mono.just(response).delaySubscription(Duration.ofMillis(100L));
+        final Disposable cancelled = singleFlight.share(request, () -> retrieval).subscribe();
+        final Future<Response> remaining = singleFlight.share(request, () -> retrieval).toFuture();
+        cancelled.dispose();
+        assertThat(remaining.get(10L, TimeUnit.SECONDS)).isSameAs(response);
+        assertThat(singleFlight.executedCount()).isEqualTo(1L);
+    }
+
+    @Test
+    void share_Propagates_Error() {
+        final LrsrCldInfoServiceSingleFlight singleFlight = new LrsrCldInfoServiceSingleFlight();
+        final LrsrCldInfoServiceRequest request = request();
+        final Mono<Response> retrieval = Mono.<Response>error(new IllegalStateException("failed"))
+                .delaySubscription(Duration.ofMillis(100L));
+        final Mono<Response> first = singleFlight.share(request, () -> retrieval);
+        final Mono<Response> second = singleFlight.share(request, () -> retrieval);
+        assertThatThrownBy(() -> Mono.zip(first, second).block(Duration.ofSeconds(10L)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(singleFlight.executedCount()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,71 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceThreadsTest {
+
+    @Test
+    void fanOut_ReturnsResult() {
+        final List<Integer> result = LrsrCldInfoServiceThreads.fanOut(4, e -> IntStream.range(0, 16)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> i, e))
+                .collect(Collectors.toList())
+                .stream()
+                .map(CompletableFuture::join)
+                .collect(Collectors.toList()));
+        assertThat(result).containsExactlyElementsOf(IntStream.range(0, 16).boxed().collect(Collectors.toList()));
+    }
+
+    @Test
+    void fanOut_InterruptsRemainingTasks_WhenFailed() throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+        assertThatThrownBy(() -> LrsrCldInfoServiceThreads.fanOut(2, e -> {
+            e.execute(() -> {
+                started.countDown();
+                try {
+                    Thread.sleep(Long.MAX_VALUE);
+                } catch (final InterruptedException ie) {
+                    interrupted.countDown();
+                }
+            });
+            try {
+                started.await();
+            } catch (final InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            throw new IllegalStateException("failed");
+        })).isInstanceOf(IllegalStateException.class);
+        interrupted.await();
+    }
+
+    @Test
+    void fanOut_RejectsTasks_AfterReturned() {
+        final AtomicReference<Executor> executor = new AtomicReference<>();
+        LrsrCldInfoServiceThreads.fanOut(1, e -> {
+            executor.set(e);
+            return null;
+        });
+        assertThatThrownBy(() -> executor.get().execute(() -> {
+        })).isInstanceOf(RejectedExecutionException.class);
+    }
+
+    @Test
+    void fanOut_IllegalArgumentException_NotPositive() {
+        assertThatThrownBy(() -> LrsrCldInfoServiceThreads.fanOut(0, e -> null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
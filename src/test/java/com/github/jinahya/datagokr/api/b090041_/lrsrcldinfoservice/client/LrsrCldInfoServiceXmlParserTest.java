@@ -0,0 +1,179 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar.Ganzhi;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Header;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.stream.XMLInputFactory;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LrsrCldInfoServiceXmlParserTest {
+
+    private static final XMLInputFactory FACTORY = LrsrCldInfoServiceXmlParser.newInputFactory();
+
+    private static Response parse(final InputStream stream) throws Exception {
+        final LrsrCldInfoServiceXmlParser parser
+                = new LrsrCldInfoServiceXmlParser(LrsrCldInfoServiceClient.UnsuccessfulResultException::new);
+        final List<Item> items = new ArrayList<>();
+        parser.parse(FACTORY, stream, items::add);
+        return parser.response(items);
+    }
+
+    @ValueSource(strings = {
+            "response_getLunCalInfo_solYear_solMonth.xml",
+            "response_getLunCalInfo_solYear_solMonth_solDay.xml",
+            "response_getLunCalInfo_2020_05_23_leap_month.xml",
+            "response_getSolCalInfo_lunYear_lunMonth.xml",
+            "response_getSolCalInfo_lunYear_lunMonth_lunDay.xml"
+    })
+    @ParameterizedTest
+    void parse_EqualsToJaxb(final String name) throws Exception {
+        final Response expected;
+        try (InputStream stream = Item.class.getResourceAsStream(name)) {
+            expected = (Response) JAXBContext.newInstance(Response.class).createUnmarshaller().unmarshal(stream);
+        }
+        final Response actual;
+        try (InputStream stream = Item.class.getResourceAsStream(name)) {
+            actual = parse(stream);
+        }
+        assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void parse_BindsAllParts() throws Exception {
+        final Response response;
+        try (InputStream stream = Item.class.getResourceAsStream("response_getLunCalInfo_solYear_solMonth.xml")) {
+            response = parse(stream);
+        }
+        assertThat(response.getHeader().isResultCodeSuccess()).isTrue();
+        assertThat(response.getBody().getNumOfRows()).isEqualTo(10);
+        assertThat(response.getBody().getPageNo()).isEqualTo(1);
+        assertThat(response.getBody().getTotalCount()).isEqualTo(31);
+        assertThat(response.getBody().getItems()).hasSize(10);
+        final Item item = response.getBody().getItems().get(0);
+        assertThat(item.getLunYear()).isEqualTo(Year.of(2020));
+        assertThat(item.getLunMonth()).isEqualTo(Month.OCTOBER);
+        assertThat(item.getLunDay()).isEqualTo(17);
+        assertThat(item.getLunLeapmonth()).isFalse();
+        assertThat(item.getLunNday()).isEqualTo(30);
+        assertThat(item.getLunSecha()).isEqualTo("경자(庚子)");
+        assertThat(item.getLunWolgeon()).isEqualTo("정해(丁亥)");
+        assertThat(item.getLunIljin()).isEqualTo("무인(戊寅)");
+        assertThat(item.getSolYear()).isEqualTo(Year.of(2020));
+        assertThat(item.getSolMonth()).isEqualTo(Month.DECEMBER);
+        assertThat(item.getSolDay()).isEqualTo(1);
+        assertThat(item.getSolLeapyear()).isTrue();
+        assertThat(item.getSolWeek()).isEqualTo(DayOfWeek.TUESDAY);
+        assertThat(item.getSolJd()).isEqualTo(2459185L);
+    }
+
+    @ValueSource(strings = {
+            "response_getLunCalInfo_solYear_solMonth.xml",
+            "response_getLunCalInfo_2020_05_23_leap_month.xml",
+            "response_getSolCalInfo_lunYear_lunMonth.xml"
+    })
+    @ParameterizedTest
+    void parse_PassesValuesToSink_EqualsToItems(final String name) throws Exception {
+        final List<Item> expected;
+        try (InputStream stream = Item.class.getResourceAsStream(name)) {
+            expected = parse(stream).getBody().getItems();
+        }
+        final List<Item> actual = new ArrayList<>();
+        final LrsrCldInfoServiceXmlParser parser = new LrsrCldInfoServiceXmlParser(
+                LrsrCldInfoServiceClient.UnsuccessfulResultException::new,
+                (solYear, solMonth, solDay, lunYear, lunMonth, lunLeapmonth, lunDay, lunNday, solJd, lunSecha,
+                 lunWolgeon, lunIljin) -> {
+                    final Item item = new Item();
+                    item.setSolYear(Year.of(solYear));
+                    item.setSolMonth(Month.of(solMonth));
+                    item.setSolDay(solDay);
+                    item.setLunYear(Year.of(lunYear));
+                    item.setLunMonth(Month.of(lunMonth));
+                    item.setLunLeapmonth(lunLeapmonth);
+                    item.setLunDay(lunDay);
+                    item.setLunNday(lunNday);
+                    item.setSolJd(solJd);
+                    item.setLunSecha(Ganzhi.format(lunSecha));
+                    item.setLunWolgeon(Ganzhi.format(lunWolgeon));
+                    item.setLunIljin(Ganzhi.format(lunIljin));
+                    actual.add(item);
+                });
+        try (InputStream stream = Item.class.getResourceAsStream(name)) {
+            parser.parse(FACTORY, stream, i -> {
+                throw new AssertionError("item passed to the consumer");
+            });
+        }
+        assertThat(parser.items()).isEqualTo(expected.size());
+        assertThat(parser.response(null).getBody().getItems()).isEmpty();
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            final Item e = expected.get(i);
+            final Item a = actual.get(i);
+            assertThat(a.getSolYear()).isEqualTo(e.getSolYear());
+            assertThat(a.getSolMonth()).isEqualTo(e.getSolMonth());
+            assertThat(a.getSolDay()).isEqualTo(e.getSolDay());
+            assertThat(a.getLunYear()).isEqualTo(e.getLunYear());
+            assertThat(a.getLunMonth()).isEqualTo(e.getLunMonth());
+            assertThat(a.getLunLeapmonth()).isEqualTo(e.getLunLeapmonth());
+            assertThat(a.getLunDay()).isEqualTo(e.getLunDay());
+            assertThat(a.getLunNday()).isEqualTo(e.getLunNday());
+            assertThat(a.getSolJd()).isEqualTo(e.getSolJd());
+            assertThat(a.getLunSecha()).isEqualTo(e.getLunSecha());
+            assertThat(a.getLunWolgeon()).isEqualTo(e.getLunWolgeon());
+            assertThat(a.getLunIljin()).isEqualTo(e.getLunIljin());
+        }
+    }
+
+    @Test
+    void parse_IllegalArgumentException_InvalidValueToSink() {
+        final String xml = "<response><header><resultCode>00</resultCode><resultMsg>OK</resultMsg></header>"
+                           + "<body><items><item><lunIljin>invalid</lunIljin></item></items></body></response>";
+        assertThatThrownBy(() -> new LrsrCldInfoServiceXmlParser(
+                LrsrCldInfoServiceClient.UnsuccessfulResultException::new,
+                (solYear, solMonth, solDay, lunYear, lunMonth, lunLeapmonth, lunDay, lunNday, solJd, lunSecha,
+                 lunWolgeon, lunIljin) -> {
+                })
+                .parse(FACTORY, new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), i -> {
+                }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parse_FailsFast_UnsuccessfulResultCode() {
+        final String xml = "<response><header><resultCode>22</resultCode><resultMsg>LIMITED</resultMsg></header>"
+                           + "<body><items><item><lunYear>invalid</lunYear></item></items></body></response>";
+        final List<Item> items = new ArrayList<>();
+        assertThatThrownBy(() -> new LrsrCldInfoServiceXmlParser(LrsrCldInfoServiceClient.UnsuccessfulResultException::new)
+                .parse(FACTORY, new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8)), items::add))
+                .isInstanceOf(LrsrCldInfoServiceClient.UnsuccessfulResultException.class)
+                .satisfies(e -> assertThat(((LrsrCldInfoServiceClient.UnsuccessfulResultException) e).getHeader()
+                                                   .getResultCode())
+                        .isEqualTo(Header.RESULT_CODE_LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR));
+        assertThat(items).isEmpty();
+    }
+
+    @Test
+    void parse_IllegalArgumentException_InvalidValue() {
+        final String xml = "<response><header><resultCode>00</resultCode><resultMsg>OK</resultMsg></header>"
+                           + "<body><items><item><solJd>invalid</solJd></item></items></body></response>";
+        assertThatThrownBy(() -> parse(new ByteArrayInputStream(xml.getBytes(StandardCharsets.UTF_8))))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
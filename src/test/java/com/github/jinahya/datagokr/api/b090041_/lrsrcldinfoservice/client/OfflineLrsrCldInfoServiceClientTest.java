@@ -0,0 +1,79 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar.CalendarDataSamples;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Response;
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Responses;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.time.Month;
+import java.time.Year;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class OfflineLrsrCldInfoServiceClientTest {
+
+    private static OfflineLrsrCldInfoServiceClient client() {
+        return new OfflineLrsrCldInfoServiceClient(CalendarDataSamples.calendarData());
+    }
+
+    @Test
+    void getLunCalInfo_Paginated_() {
+        final OfflineLrsrCldInfoServiceClient client = client();
+        final Response first = client.getLunCalInfo(Year.of(2020), Month.FEBRUARY, null, null);
+        assertThat(Responses.isResultSuccessful(first)).isTrue();
+        assertThat(first.getBody().getTotalCount()).isEqualTo(29);
+        assertThat(first.getBody().getItems())
+                .hasSize(AbstractLrsrCldInfoServiceClient.QUERY_PARAM_VALUE_NUM_OF_ROWS_DEFAULT);
+        assertThat(Responses.isLastPage(first)).isFalse();
+        final Response last = client.getLunCalInfo(Year.of(2020), Month.FEBRUARY, null, 3);
+        assertThat(last.getBody().getItems()).hasSize(9);
+        assertThat(Responses.isLastPage(last)).isTrue();
+        final List<Item> items = client.getLunCalInfo(Year.of(2020), Month.FEBRUARY, (Integer) null);
+        assertThat(items).hasSize(29);
+    }
+
+    @Test
+    void getLunCalInfo_SingleDay_() {
+        final List<Item> items = client().getLunCalInfo(Year.of(2020), Month.FEBRUARY, 29);
+        assertThat(items).singleElement().satisfies(i -> {
+            assertThat(i.getSolDay()).isEqualTo(29);
+            assertThat(i.getLunMonth()).isSameAs(Month.FEBRUARY);
+            assertThat(i.getLunDay()).isEqualTo(7);
+        });
+    }
+
+    @Test
+    void getLunCalInfo_Empty_DayIsNotOfMonth() {
+        final OfflineLrsrCldInfoServiceClient client = new OfflineLrsrCldInfoServiceClient(
+                CalendarDataSamples.calendarData(CalendarDataSamples.itemsTo2021()));
+        final Response response = client.getLunCalInfo(Year.of(2021), Month.FEBRUARY, 29, null);
+        assertThat(Responses.isResultSuccessful(response)).isTrue();
+        assertThat(response.getBody().getTotalCount()).isZero();
+        assertThat(response.getBody().getItems()).isEmpty();
+        assertThat(client.getLunCalInfo(Year.of(2021), Month.FEBRUARY, 28)).hasSize(1);
+    }
+
+    @Test
+    void getSolCalInfo_LeapMonth_() {
+        final OfflineLrsrCldInfoServiceClient client = client();
+        final List<Item> month = client.getSolCalInfo(Year.of(2020), Month.APRIL, null);
+        assertThat(month).hasSize(30 + 29);
+        final List<Item> day = client.getSolCalInfo(Year.of(2020), Month.APRIL, 1);
+        assertThat(day).hasSize(2);
+        assertThat(day.get(0).getLunLeapmonth()).isFalse();
+        assertThat(day.get(1).getLunLeapmonth()).isTrue();
+    }
+
+    @Test
+    void getSpcifyLunCalInfo__() {
+        final List<Item> items = client().getSpcifyLunCalInfo(Year.of(2020), Year.of(2020), Month.MAY, 15, false);
+        assertThat(items).singleElement().satisfies(i -> {
+            assertThat(i.getSolYear()).isEqualTo(Year.of(2020));
+            assertThat(i.getLunDay()).isEqualTo(15);
+        });
+    }
+}
@@ -0,0 +1,125 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Generates a {@link CalendarData} dataset from the database harvested by {@code Sqlite_Calendar_IT}.
+ * <p>
+ * Usage: {@code CalendarDataGenerator <path/to/calendar.db> <path/to/calendar.dat>}
+ * <p>
+ * Leading and trailing lunar months which are not entirely harvested are excluded.
+ *
+ * @author Jin Kwon &lt;onacit_at_gmail.com&gt;
+ */
+@Slf4j
+public final class CalendarDataGenerator {
+
+    private static final String SELECT
+            = "SELECT c.solar_year, c.solar_month, c.solar_day_of_month"
+              + ", c.lunar_year, c.lunar_month, c.lunar_leap_month, c.lunar_day_of_month"
+              + ", gy.kore, gy.hans, gm.kore, gm.hans, gd.kore, gd.hans"
+              + " FROM calendar c"
+              + " JOIN ganzhi gy ON gy.id = c.ganzhi_year_id"
+              + " LEFT OUTER JOIN ganzhi gm ON gm.id = c.ganzhi_month_id"
+              + " JOIN ganzhi gd ON gd.id = c.ganzhi_day_id"
+              + " ORDER BY c.solar_year, c.solar_month, c.solar_day_of_month";
+
+    private static String ganzhi(final String kore, final String hans) {
+        return kore == null ? null : kore + '(' + hans + ')';
+    }
+
+    static List<Item> select(final Connection connection) throws SQLException {
+        final List<Item> items = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(SELECT);
+             ResultSet resultSet = statement.executeQuery()) {
+            while (resultSet.next()) {
+                int index = 0;
+                final Item item = new Item();
+                item.setSolarDate(LocalDate.of(resultSet.getInt(++index), resultSet.getInt(++index),
+                                               resultSet.getInt(++index)));
+                item.setLunYear(Year.of(resultSet.getInt(++index)));
+                item.setLunMonth(Month.of(resultSet.getInt(++index)));
+                item.setLunLeapmonth(resultSet.getInt(++index) != 0);
+                item.setLunDay(resultSet.getInt(++index));
+                item.setLunSecha(ganzhi(resultSet.getString(++index), resultSet.getString(++index)));
+                item.setLunWolgeon(ganzhi(resultSet.getString(++index), resultSet.getString(++index)));
+                item.setLunIljin(ganzhi(resultSet.getString(++index), resultSet.getString(++index)));
+                items.add(item);
+            }
+        }
+        return items;
+    }
+
+    /**
+     * Sets {@code lunNday} of each item and trims partial lunar months at both ends.
+     *
+     * @param items items of consecutive solar days.
+     * @return a list of items of whole lunar months.
+     */
+    static List<Item> complete(final List<Item> items) {
+        int first = 0;
+        while (first < items.size() && items.get(first).getLunDay() != 1) {
+            first++;
+        }
+        int last = items.size() - 1;
+        while (last >= first && (last + 1 >= items.size() || items.get(last + 1).getLunDay() != 1)) {
+            last--;
+        }
+        final List<Item> completed = new ArrayList<>(items.subList(first, last + 1));
+        for (int start = 0; start < completed.size(); ) {
+            int end = start + 1;
+            while (end < completed.size() && completed.get(end).getLunDay() != 1) {
+                end++;
+            }
+            for (int i = start; i < end; i++) {
+                completed.get(i).setLunNday(end - start);
+            }
+            start = end;
+        }
+        return completed;
+    }
+
+    public static void main(final String... args) throws SQLException, IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("usage: CalendarDataGenerator <calendar.db> <calendar.dat>");
+        }
+        final List<Item> items;
+        try (Connection connection = DriverManager.getConnection("jdbc:sqlite:" + args[0])) {
+            items = complete(select(connection));
+        }
+        if (items.isEmpty()) {
+            throw new IllegalStateException("no whole lunar month found in " + args[0]);
+        }
+        final Path path = Paths.get(args[1]);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (OutputStream stream = new BufferedOutputStream(Files.newOutputStream(path))) {
+            final int count = CalendarData.write(stream, items);
+            log.info("{} record(s) from {} to {} written to {}", count, items.get(0).getSolarDate(),
+                     items.get(items.size() - 1).getSolarDate(), path);
+        }
+    }
+
+    private CalendarDataGenerator() {
+        throw new AssertionError("instantiation is not allowed");
+    }
+}
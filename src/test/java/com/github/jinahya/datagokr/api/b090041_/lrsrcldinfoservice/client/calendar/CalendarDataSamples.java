@@ -0,0 +1,95 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Synthesizes items from the last month of the lunar year {@code 2019} to the last month of the lunar year {@code
+ * 2020}, which has a leap month after the fourth month.
+ */
+public final class CalendarDataSamples {
+
+    /**
+     * The solar date of the lunar date {@code 2019-12-01}.
+     */
+    public static final LocalDate FIRST = LocalDate.of(2019, 12, 26);
+
+    private static final int[][] MONTHS = {
+            // lunYear, lunMonth, leap, lunNday
+            {2019, 12, 0, 30},
+            {2020, 1, 0, 29},
+            {2020, 2, 0, 30}, {2020, 3, 0, 30}, {2020, 4, 0, 30}, {2020, 4, 1, 29}, {2020, 5, 0, 30}, {2020, 6, 0, 29},
+            {2020, 7, 0, 29}, {2020, 8, 0, 30}, {2020, 9, 0, 29}, {2020, 10, 0, 30}, {2020, 11, 0, 30}, {2020, 12, 0, 30}
+    };
+
+    public static List<Item> items() {
+        return items(MONTHS);
+    }
+
+    /**
+     * Synthesizes items of {@link #items()} followed by items of the first month of the lunar year {@code 2021}, which
+     * cover the whole February of {@code 2021}, a common year.
+     *
+     * @return a list of items.
+     */
+    public static List<Item> itemsTo2021() {
+        final int[][] months = Arrays.copyOf(MONTHS, MONTHS.length + 1);
+        months[MONTHS.length] = new int[] {2021, 1, 0, 29};
+        return items(months);
+    }
+
+    private static List<Item> items(final int[][] months) {
+        final List<Item> items = new ArrayList<>();
+        LocalDate date = FIRST;
+        int wolgeon = Ganzhi.parse("정축"); // of the last month of 2019
+        for (final int[] month : months) {
+            final boolean leap = month[2] == 1;
+            for (int d = 1; d <= month[3]; d++) {
+                final Item item = new Item();
+                item.setSolarDate(date);
+                item.setLunYear(Year.of(month[0]));
+                item.setLunMonth(Month.of(month[1]));
+                item.setLunLeapmonth(leap);
+                item.setLunDay(d);
+                item.setLunNday(month[3]);
+                item.setLunSecha(Ganzhi.format(Math.floorMod(month[0] - 4, Ganzhi.CYCLE)));
+                item.setLunWolgeon(leap ? null : Ganzhi.format(wolgeon));
+                item.setLunIljin(Ganzhi.format((int) Math.floorMod(item.getSolJd() + 49L, (long) Ganzhi.CYCLE)));
+                items.add(item);
+                date = date.plusDays(1L);
+            }
+            if (!leap) {
+                wolgeon = (wolgeon + 1) % Ganzhi.CYCLE;
+            }
+        }
+        return items;
+    }
+
+    public static CalendarData calendarData() {
+        return calendarData(items());
+    }
+
+    public static CalendarData calendarData(final List<Item> items) {
+        try {
+            final ByteArrayOutputStream output = new ByteArrayOutputStream();
+            CalendarData.write(output, items);
+            return CalendarData.read(new ByteArrayInputStream(output.toByteArray()));
+        } catch (final IOException ioe) {
+            throw new UncheckedIOException(ioe);
+        }
+    }
+
+    private CalendarDataSamples() {
+        throw new AssertionError("instantiation is not allowed");
+    }
+}
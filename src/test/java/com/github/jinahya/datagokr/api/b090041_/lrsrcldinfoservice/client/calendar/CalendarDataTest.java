@@ -0,0 +1,113 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.Month;
+import java.time.YearMonth;
+import java.util.List;
+
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar.CalendarDataSamples.FIRST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class CalendarDataTest {
+
+    @Test
+    void write_read_() throws IOException {
+        final List<Item> expected = CalendarDataSamples.items();
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final int count = CalendarData.write(output, expected);
+        assertThat(count).isEqualTo(expected.size());
+        assertThat(output.size()).isEqualTo(CalendarData.HEADER_LENGTH + CalendarData.RECORD_LENGTH * count
+                                            + CalendarData.LUNAR_SLOTS_PER_YEAR * Integer.BYTES * 2); // 2019, 2020
+        final CalendarData data = CalendarData.read(new ByteArrayInputStream(output.toByteArray()));
+        assertThat(data.count()).isEqualTo(count);
+        assertThat(data.first()).isEqualTo(FIRST);
+        assertThat(data.last()).isEqualTo(FIRST.plusDays(count - 1L));
+        assertThat(data.items(data.first(), data.last())).isEqualTo(expected);
+    }
+
+    @Test
+    void map__(@TempDir final Path tempDir) throws IOException {
+        final List<Item> expected = CalendarDataSamples.items();
+        final Path path = tempDir.resolve(CalendarData.RESOURCE_NAME);
+        try (OutputStream stream = Files.newOutputStream(path)) {
+            CalendarData.write(stream, expected);
+        }
+        final CalendarData data = CalendarData.map(path);
+        assertThat(data.count()).isEqualTo(expected.size());
+        assertThat(data.items(data.first(), data.last())).isEqualTo(expected);
+        assertThat(data.lunarItem(2020, 4, true, 29)).isEqualTo(expected.get(30 + 29 + 30 + 30 + 30 + 28));
+    }
+
+    @Test
+    void read_IOException_WrongMagic() {
+        assertThatThrownBy(() -> CalendarData.read(new ByteArrayInputStream(new byte[CalendarData.HEADER_LENGTH])))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void write_IllegalArgumentException_NotConsecutive() {
+        final List<Item> items = CalendarDataSamples.items();
+        items.remove(1);
+        assertThatThrownBy(() -> CalendarData.write(new ByteArrayOutputStream(), items))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void covers__() {
+        final CalendarData data = CalendarDataSamples.calendarData();
+        assertThat(data.covers(FIRST.minusDays(1L))).isFalse();
+        assertThat(data.covers(FIRST)).isTrue();
+        assertThat(data.covers(YearMonth.of(2019, Month.DECEMBER))).isFalse();
+        assertThat(data.covers(YearMonth.of(2020, Month.JANUARY))).isTrue();
+                assertThat(data.coversLunar(2020, 4, true)).isTrue();
+        assertThat(data.coversLunar(2020, 5, true)).isFalse();
+        assertThat(data.coversLunar(2020, 4)).isTrue();
+        assertThat(data.coversLunar(2020, 5)).isTrue();
+        assertThat(data.coversLunar(2020, 12)).isFalse(); // unknown whether a leap month follows
+        assertThat(data.coversLunar(2019, 12)).isTrue();
+        assertThat(data.coversLunar(2019, 11)).isFalse();
+    }
+
+    @Test
+    void item__() {
+        final CalendarData data = CalendarDataSamples.calendarData();
+        final Item item = data.item(LocalDate.of(2020, 1, 25));
+        assertThat(item).isNotNull();
+        assertThat(item.getLunYear().getValue()).isEqualTo(2020);
+        assertThat(item.getLunMonth()).isSameAs(Month.JANUARY);
+        assertThat(item.getLunDay()).isEqualTo(1);
+        assertThat(item.getLunLeapmonth()).isFalse();
+        assertThat(item.getGanzhiYearKore()).isEqualTo("경자");
+        assertThat(item.getGanzhiMonthKore()).isEqualTo("무인");
+        assertThat(item.getGanzhiDayKore()).isEqualTo("정묘");
+        assertThat(data.item(FIRST.minusDays(1L))).isNull();
+    }
+
+    @Test
+    void lunarItem__() {
+        final CalendarData data = CalendarDataSamples.calendarData();
+        final Item normal = data.lunarItem(2020, 4, false, 1);
+        final Item leap = data.lunarItem(2020, 4, true, 1);
+        assertThat(normal).isNotNull();
+        assertThat(leap).isNotNull();
+        assertThat(leap.getLunLeapmonth()).isTrue();
+        assertThat(leap.getLunWolgeon()).isNull();
+        assertThat(leap.getSolarDate()).isEqualTo(normal.getSolarDate().plusDays(30L));
+        assertThat(data.lunarItem(2020, 4, true, 30)).isNull();
+        assertThat(data.lunarItem(2020, 5, true, 1)).isNull();
+        assertThat(data.lunarItems(2020, 4, true)).hasSize(29);
+    }
+}
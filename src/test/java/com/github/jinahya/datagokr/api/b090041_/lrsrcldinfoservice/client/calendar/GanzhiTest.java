@@ -0,0 +1,48 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class GanzhiTest {
+
+    @Test
+    void format__() {
+        assertThat(Ganzhi.format(0)).isEqualTo("갑자(甲子)");
+        assertThat(Ganzhi.format(36)).isEqualTo("경자(庚子)");
+        assertThat(Ganzhi.format(59)).isEqualTo("계해(癸亥)");
+        assertThat(Ganzhi.format(Ganzhi.NONE)).isNull();
+    }
+
+    @Test
+    void format_IllegalArgumentException_OutOfRange() {
+        assertThatThrownBy(() -> Ganzhi.format(Ganzhi.CYCLE)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Ganzhi.format(-2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void parse__() {
+        for (int i = 0; i < Ganzhi.CYCLE; i++) {
+            assertThat(Ganzhi.parse(Ganzhi.format(i))).isEqualTo(i);
+        }
+        assertThat(Ganzhi.parse("경자")).isEqualTo(36);
+        assertThat(Ganzhi.parse(null)).isEqualTo(Ganzhi.NONE);
+        assertThat(Ganzhi.parse(" ")).isEqualTo(Ganzhi.NONE);
+    }
+
+    @Test
+    void parse_IllegalArgumentException_Invalid() {
+        assertThatThrownBy(() -> Ganzhi.parse("갑축")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> Ganzhi.parse("가나")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void index__() {
+        assertThat(Ganzhi.index('갑', '자')).isEqualTo(0);
+        assertThat(Ganzhi.index('경', '자')).isEqualTo(36);
+        assertThat(Ganzhi.index('계', '해')).isEqualTo(59);
+        assertThat(Ganzhi.index('갑', '축')).isEqualTo(Ganzhi.NONE);
+        assertThat(Ganzhi.index('가', '나')).isEqualTo(Ganzhi.NONE);
+    }
+}
@@ -0,0 +1,60 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar;
+
+import com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.Item;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.calendar.CalendarDataSamples.FIRST;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@Slf4j
+class LunarMonthIndexTest {
+
+    @Test
+    void of__() {
+        final List<Item> items = CalendarDataSamples.items();
+        final LunarMonthIndex index = LunarMonthIndex.of(items);
+        assertThat(index.size()).isEqualTo(14);
+        for (final Item expected : items) {
+            assertThat(index.item(expected.getSolarDate())).isEqualTo(expected);
+            assertThat(index.item(expected.getLunYear().getValue(), expected.getLunMonth().getValue(),
+                                  expected.getLunLeapmonth(), expected.getLunDay()))
+                    .isEqualTo(expected);
+        }
+        assertThat(index.item(FIRST.minusDays(1L))).isNull();
+        assertThat(index.item(items.get(items.size() - 1).getSolarDate().plusDays(1L))).isNull();
+        assertThat(index.item(2020, 4, true, 30)).isNull();
+        assertThat(index.item(2020, 5, true, 1)).isNull();
+        assertThat(index.solarDate(2020, 1, false, 1)).isEqualTo(LocalDate.of(2020, 1, 25));
+    }
+
+    @Test
+    void of_AnchorsOnly_() {
+        final List<Item> items = CalendarDataSamples.items();
+        final List<Item> anchors = new ArrayList<>();
+        for (final Item item : items) {
+            if (item.getLunDay() == 15) {
+                anchors.add(item);
+            }
+        }
+        Collections.reverse(anchors);
+        final LunarMonthIndex index = LunarMonthIndex.of(anchors);
+        assertThat(index.size()).isEqualTo(14);
+        for (final Item expected : items) {
+            assertThat(index.item(expected.getSolarDate())).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void of_IllegalArgumentException_Conflicting() {
+        final List<Item> items = CalendarDataSamples.items();
+        items.get(1).setLunMonth(items.get(1).getLunMonth().plus(1L));
+        assertThatThrownBy(() -> LunarMonthIndex.of(items)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
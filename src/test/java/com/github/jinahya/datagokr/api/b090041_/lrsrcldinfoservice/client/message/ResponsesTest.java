@@ -0,0 +1,43 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@Slf4j
+class ResponsesTest {
+
+    static Response response(final int pageNo, final int numOfRows, final int totalCount) {
+        final Body body = new Body();
+        body.setItems(new ArrayList<>());
+        body.setPageNo(pageNo);
+        body.setNumOfRows(numOfRows);
+        body.setTotalCount(totalCount);
+        final Response response = new Response();
+        response.setBody(body);
+        return response;
+    }
+
+    @CsvSource({
+            "1,10,0,1",
+            "1,10,1,1",
+            "1,10,10,1",
+            "1,10,11,2",
+            "1,10,31,4",
+            "2,10,31,4",
+            "1,0,31,1",
+            "5,10,31,5"
+    })
+    @ParameterizedTest
+    void lastPageNo__(final int pageNo, final int numOfRows, final int totalCount, final int expected) {
+        final Response response = response(pageNo, numOfRows, totalCount);
+        assertThat(Responses.lastPageNo(response)).isEqualTo(expected);
+        if (expected == pageNo && numOfRows > 0) {
+            assertThat(Responses.isLastPage(response)).isTrue();
+        }
+    }
+}
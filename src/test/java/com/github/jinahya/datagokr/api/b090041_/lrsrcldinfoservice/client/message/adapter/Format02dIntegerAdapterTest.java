@@ -0,0 +1,32 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.adapter;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class Format02dIntegerAdapterTest {
+
+    @Test
+    void format02d__() {
+        for (int i = -200; i < 200; i++) {
+            assertThat(Format02dIntegerAdapter.format02d(i)).isEqualTo(String.format("%1$02d", i));
+        }
+        assertThat(Format02dIntegerAdapter.format02d(1)).isSameAs(Format02dIntegerAdapter.format02d(1));
+    }
+
+    @Test
+    void marshal__() throws Exception {
+        final Format02dIntegerAdapter adapter = new Format02dIntegerAdapter();
+        assertThat(adapter.marshal(null)).isNull();
+        assertThat(adapter.marshal(1)).isEqualTo("01");
+        assertThat(adapter.marshal(31)).isEqualTo("31");
+    }
+
+    @Test
+    void unmarshal__() throws Exception {
+        final Format02dIntegerAdapter adapter = new Format02dIntegerAdapter();
+        assertThat(adapter.unmarshal(null)).isNull();
+        assertThat(adapter.unmarshal("01")).isEqualTo(1);
+        assertThat(adapter.unmarshal("31")).isEqualTo(31);
+    }
+}
@@ -0,0 +1,134 @@
+package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.adapter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.DayOfWeek;
+import java.time.Month;
+import java.time.Year;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the message adapters against what they used to do, i.e. {@link String#format(String, Object...)} and
+ * {@link java.time.format.DateTimeFormatter}s. Not a test; run with {@link #main(String[])} from the test classpath.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageAdaptersBenchmark {
+
+    public static void main(final String... args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(MessageAdaptersBenchmark.class.getSimpleName()).build()).run();
+    }
+
+    // ------------------------------------------------------------------------------------------------------------- 02d
+    @Benchmark
+    public String marshal02d_Formatter() {
+        return String.format("%1$02d", day);
+    }
+
+    @Benchmark
+    public String marshal02d_Table() throws Exception {
+        return format02dIntegerAdapter.marshal(day);
+    }
+
+    // -------------------------------------------------------------------------------------------------------------- MM
+    @Benchmark
+    public Month unmarshalMm_Formatter() {
+        return Month.from(MmMonthAdapter.MONTH_MM_FORMATTER.parse(mm.trim()));
+    }
+
+    @Benchmark
+    public Month unmarshalMm_Table() throws Exception {
+        return mmMonthAdapter.unmarshal(mm);
+    }
+
+    @Benchmark
+    public String marshalMm_Formatter() {
+        return MmMonthAdapter.MONTH_MM_FORMATTER.format(month);
+    }
+
+    @Benchmark
+    public String marshalMm_Table() throws Exception {
+        return mmMonthAdapter.marshal(month);
+    }
+
+    // ------------------------------------------------------------------------------------------------------------ uuuu
+    @Benchmark
+    public Year unmarshalUuuu_Formatter() {
+        return Year.from(UuuuYearAdapter.YEAR_UUUU_FORMATTER.parse(uuuu.trim()));
+    }
+
+    @Benchmark
+    public Year unmarshalUuuu_Table() throws Exception {
+        return uuuuYearAdapter.unmarshal(uuuu);
+    }
+
+    @Benchmark
+    public String marshalUuuu_Formatter() {
+        return UuuuYearAdapter.YEAR_UUUU_FORMATTER.format(year);
+    }
+
+    @Benchmark
+    public String marshalUuuu_Table() throws Exception {
+        return uuuuYearAdapter.marshal(year);
+    }
+
+    // --------------------------------------------------------------------------------------------------------- solWeek
+    @Benchmark
+    public DayOfWeek unmarshalSolWeek_Formatter() {
+        return DayOfWeek.from(SolWeekWeekAdapter.SINGLE_KOREAN_DAY_OF_WEEK_FORMATTER.parse(solWeek.trim()));
+    }
+
+    @Benchmark
+    public DayOfWeek unmarshalSolWeek_Table() throws Exception {
+        return solWeekWeekAdapter.unmarshal(solWeek);
+    }
+
+    @Benchmark
+    public String marshalSolWeek_Formatter() {
+        return SolWeekWeekAdapter.SINGLE_KOREAN_DAY_OF_WEEK_FORMATTER.format(dayOfWeek);
+    }
+
+    @Benchmark
+    public String marshalSolWeek_Table() throws Exception {
+        return solWeekWeekAdapter.marshal(dayOfWeek);
+    }
+
+    // ------------------------------------------------------------------------------------------------- instance fields
+    private final Format02dIntegerAdapter format02dIntegerAdapter = new Format02dIntegerAdapter();
+
+    private final MmMonthAdapter mmMonthAdapter = new MmMonthAdapter();
+
+    private final UuuuYearAdapter uuuuYearAdapter = new UuuuYearAdapter();
+
+    private final SolWeekWeekAdapter solWeekWeekAdapter = new SolWeekWeekAdapter();
+
+    // non-final, so that values are not constant-folded
+    private Integer day = 7;
+
+    private String mm = "12";
+
+    private Month month = Month.DECEMBER;
+
+    private String uuuu = "2020";
+
+    private Year year = Year.of(2020);
+
+    private String solWeek = "화";
+
+    private DayOfWeek dayOfWeek = DayOfWeek.TUESDAY;
+}
@@ -1,11 +1,14 @@
 package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.message.adapter;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
 
+import java.time.DateTimeException;
 import java.time.Month;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class MmMonthAdapterTest extends TemporalStringAdapterTest<MmMonthAdapter, Month> {
 
@@ -26,4 +29,17 @@ class MmMonthAdapterTest extends TemporalStringAdapterTest<MmMonthAdapter, Month
         final Month actual = adapterInstance().unmarshal(String.format("%1$02d", expected.getValue()));
         assertThat(actual).isNotNull().isSameAs(expected);
     }
-}
\ No newline at end of file
+
+    @Test
+    void unmarshal_Fallback_NotTwoDigits() throws Exception {
+        assertThat(adapterInstance().unmarshal(" 01 ")).isSameAs(Month.JANUARY);
+        assertThat(adapterInstance().unmarshal(null)).isNull();
+    }
+
+    @Test
+    void unmarshal_DateTimeException_Invalid() {
+        assertThatThrownBy(() -> adapterInstance().unmarshal("00")).isInstanceOf(DateTimeException.class);
+        assertThatThrownBy(() -> adapterInstance().unmarshal("13")).isInstanceOf(DateTimeException.class);
+        assertThatThrownBy(() -> adapterInstance().unmarshal("1")).isInstanceOf(DateTimeException.class);
+    }
+}
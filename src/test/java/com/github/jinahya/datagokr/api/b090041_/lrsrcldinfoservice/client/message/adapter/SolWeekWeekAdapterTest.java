@@ -3,9 +3,11 @@ package com.github.jinahya.datagokr.api.b090041_.lrsrcldinfoservice.client.messa
 import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 
+import java.time.DateTimeException;
 import java.time.DayOfWeek;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @Slf4j
 class SolWeekWeekAdapterTest extends TemporalStringAdapterTest<SolWeekWeekAdapter, DayOfWeek> {
@@ -35,4 +37,11 @@ class SolWeekWeekAdapterTest extends TemporalStringAdapterTest<SolWeekWeekAdapte
         assertThat(adapterInstance().unmarshal("토")).isNotNull().isSameAs(DayOfWeek.SATURDAY);
         assertThat(adapterInstance().unmarshal("일")).isNotNull().isSameAs(DayOfWeek.SUNDAY);
     }
-}
\ No newline at end of file
+
+    @Test
+    void unmarshal_Fallback_NotSingleCharacter() throws Exception {
+        assertThat(adapterInstance().unmarshal(" 월 ")).isSameAs(DayOfWeek.MONDAY);
+        assertThat(adapterInstance().unmarshal(null)).isNull();
+        assertThatThrownBy(() -> adapterInstance().unmarshal("가")).isInstanceOf(DateTimeException.class);
+    }
+}
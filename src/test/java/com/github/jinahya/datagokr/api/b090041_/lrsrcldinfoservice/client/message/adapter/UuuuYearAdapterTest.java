@@ -25,4 +25,25 @@ class UuuuYearAdapterTest extends TemporalStringAdapterTest<UuuuYearAdapter, Yea
         final Year actual = adapterInstance().unmarshal(expected.toString());
         assertThat(actual).isNotNull().isEqualTo(expected);
     }
-}
\ No newline at end of file
+
+    @Test
+    void unmarshal_Cached() throws Exception {
+        assertThat(adapterInstance().unmarshal("2020")).isSameAs(adapterInstance().unmarshal("2020"));
+        assertThat(adapterInstance().unmarshal(Integer.toString(UuuuYearAdapter.MIN_CACHED_YEAR)))
+                .isEqualTo(Year.of(UuuuYearAdapter.MIN_CACHED_YEAR));
+        assertThat(adapterInstance().unmarshal(Integer.toString(UuuuYearAdapter.MAX_CACHED_YEAR)))
+                .isEqualTo(Year.of(UuuuYearAdapter.MAX_CACHED_YEAR));
+    }
+
+    @Test
+    void marshalUnmarshal_NotCached() throws Exception {
+        for (final int value : new int[] {999, UuuuYearAdapter.MIN_CACHED_YEAR - 1, UuuuYearAdapter.MAX_CACHED_YEAR + 1,
+                                          10000}) {
+            final Year expected = Year.of(value);
+            final String marshalled = adapterInstance().marshal(expected);
+            assertThat(marshalled).isEqualTo(UuuuYearAdapter.YEAR_UUUU_FORMATTER.format(expected));
+            assertThat(adapterInstance().unmarshal(marshalled)).isEqualTo(expected);
+        }
+        assertThat(adapterInstance().marshal(Year.of(2020))).isEqualTo("2020");
+    }
+}